@@ -0,0 +1,227 @@
+package com.university.bookstore.api;
+
+import com.university.bookstore.model.Book;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * A growable array of book slots that hands out O(1) snapshots of itself.
+ *
+ * <p>Books are appended at the end and removed by emptying their slot, so a book keeps
+ * its slot until the array is compacted. {@link #snapshot(long)} shares the array with
+ * the snapshot and remembers that it did, and the next removal or compaction copies the
+ * array first (copy-on-write). Appends write past the end of every snapshot, so they
+ * never copy. Sharing snapshots can only be created here, so their arrays are never
+ * changed by anyone else.</p>
+ *
+ * <p>This class is not thread-safe: the store that owns it must lock around every call.
+ * A {@link #scan()} it already has can be read without the lock.</p>
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ *
+ * @see BookSnapshot
+ */
+public final class BookSlots {
+
+    private Book[] slots;
+    private int length;
+    private int size;
+    private boolean shared;
+
+    /**
+     * Creates an empty array.
+     *
+     * @param capacity the initial number of slots, at least 1
+     */
+    public BookSlots(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.slots = new Book[capacity];
+    }
+
+    /**
+     * Gets the number of slots in use, including the empty ones.
+     *
+     * @return the length
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * Gets the number of books, the slots that are not empty.
+     *
+     * @return the number of books
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the book in a slot.
+     *
+     * @param slot a slot below {@link #length()}
+     * @return the book, or null if the slot is empty
+     */
+    public Book get(int slot) {
+        return slots[slot];
+    }
+
+    /**
+     * Makes room for at least the given number of slots.
+     * O(n) time complexity if the array grows, O(1) otherwise
+     *
+     * @param capacity the number of slots needed
+     */
+    public void ensureCapacity(int capacity) {
+        if (capacity > slots.length) {
+            slots = Arrays.copyOf(slots, Math.max(capacity, slots.length * 2));
+            shared = false;
+        }
+    }
+
+    /**
+     * Puts a book in the slot after the last one.
+     * O(1) amortized time complexity - snapshots are never copied
+     *
+     * @param book the book, not null
+     * @return the slot of the book
+     */
+    public int append(Book book) {
+        ensureCapacity(length + 1);
+        slots[length] = book;
+        size++;
+        return length++;
+    }
+
+    /**
+     * Empties a slot, copying the array first if a snapshot still shares it.
+     * O(1) time complexity, O(n) for the first removal after a snapshot
+     *
+     * @param slot a slot below {@link #length()} that holds a book
+     */
+    public void clear(int slot) {
+        if (shared) {
+            slots = slots.clone();
+            shared = false;
+        }
+        slots[slot] = null;
+        size--;
+    }
+
+    /**
+     * Moves every book to the front of a new array, dropping the empty slots.
+     * O(n) time complexity
+     *
+     * @param capacity the minimum number of slots of the new array
+     * @param moved    called with every book and its new slot, in order
+     */
+    public void compact(int capacity, ObjIntConsumer<Book> moved) {
+        Book[] compacted = new Book[Math.max(capacity, size * 2)];
+        int next = 0;
+        for (int i = 0; i < length; i++) {
+            if (slots[i] != null) {
+                compacted[next] = slots[i];
+                moved.accept(slots[i], next);
+                next++;
+            }
+        }
+        slots = compacted;
+        length = next;
+        shared = false;
+    }
+
+    /**
+     * Takes an immutable view of the books without copying them, the next removal copies
+     * the array instead.
+     * O(1) constant time complexity
+     *
+     * @param version the version of the store, or -1 if it does not track versions
+     * @return the snapshot, in slot order
+     */
+    public BookSnapshot snapshot(long version) {
+        shared = true;
+        return new BookSnapshot(slots, length, size, version);
+    }
+
+    /**
+     * Copies the books into a new array.
+     * O(n) time complexity
+     *
+     * @return the books in slot order
+     */
+    public Book[] toArray() {
+        Book[] result = new Book[size];
+        int index = 0;
+        for (int i = 0; i < length; i++) {
+            if (slots[i] != null) {
+                result[index++] = slots[i];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets the current slots for a scan that runs without the lock, without sharing the
+     * array. Slots are only emptied in place, never refilled, so the scan sees every book
+     * present now that is not removed while it runs, and never a book added after it.
+     * O(1) constant time complexity
+     *
+     * @return the books in slot order, read one slot at a time
+     */
+    public Iterable<Book> scan() {
+        return new Scan(slots, length);
+    }
+
+    /**
+     * The books of a slot array up to a length, read one slot at a time so a slot emptied
+     * by a concurrent removal is skipped rather than returned as null
+     */
+    private static final class Scan implements Iterable<Book> {
+        private final Book[] slots;
+        private final int length;
+
+        private Scan(Book[] slots, int length) {
+            this.slots = slots;
+            this.length = length;
+        }
+
+        @Override
+        public Iterator<Book> iterator() {
+            return new Iterator<>() {
+                private int index;
+                private Book next = advance();
+
+                private Book advance() {
+                    while (index < length) {
+                        Book book = slots[index++];
+                        if (book != null) {
+                            return book;
+                        }
+                    }
+                    return null;
+                }
+
+                @Override
+                public boolean hasNext() {
+                    return next != null;
+                }
+
+                @Override
+                public Book next() {
+                    if (next == null) {
+                        throw new NoSuchElementException();
+                    }
+                    Book book = next;
+                    next = advance();
+                    return book;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.university.bookstore.api;
+
+import com.university.bookstore.model.Book;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * An immutable, point-in-time view of the books in a bookstore.
+ *
+ * <p>A snapshot keeps seeing the inventory exactly as it was when it was taken, no
+ * matter what is added or removed afterwards, so it can be iterated by any number of
+ * threads while writers keep changing the store. Books are returned in the order they
+ * were added to the store.</p>
+ *
+ * <p>A snapshot of a {@link BookSlots} array reads the shared array directly instead of
+ * copying it, and only {@link BookSlots} can create one, so the array is never changed
+ * afterwards. Empty slots (left by books removed before the snapshot was taken) are
+ * skipped while iterating.</p>
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ *
+ * @see BookstoreAPI#snapshot()
+ */
+public final class BookSnapshot implements Iterable<Book> {
+
+    private final Book[] slots;
+    private final int length;
+    private final int size;
+    private final long version;
+
+    /**
+     * Creates a view of the first {@code length} slots of an array that is never
+     * modified again below {@code length}, only called by {@link BookSlots} and
+     * {@link #copyOf(Book[])}.
+     *
+     * @param slots   the shared array, null entries are skipped
+     * @param length  the number of slots that belong to this snapshot
+     * @param size    the number of non-null slots below {@code length}
+     * @param version the version of the store when the snapshot was taken,
+     *                or -1 if the store does not track versions
+     */
+    BookSnapshot(Book[] slots, int length, int size, long version) {
+        if (slots == null || length < 0 || length > slots.length || size < 0 || size > length) {
+            throw new IllegalArgumentException("Invalid snapshot bounds");
+        }
+        this.slots = slots;
+        this.length = length;
+        this.size = size;
+        this.version = version;
+    }
+
+    /**
+     * Creates a snapshot that owns a copy of the given books.
+     * O(n) time complexity - copies the array once
+     *
+     * @param books the books of the snapshot (may be null, treated as empty)
+     * @return a snapshot of the books with a version of -1
+     */
+    public static BookSnapshot copyOf(Book[] books) {
+        if (books == null) {
+            return new BookSnapshot(new Book[0], 0, 0, -1);
+        }
+        Book[] copy = books.clone();
+        int size = 0;
+        for (Book b : copy) {
+            if (b != null) size++;
+        }
+        return new BookSnapshot(copy, copy.length, size, -1);
+    }
+
+    /**
+     * Gets the number of books in the snapshot.
+     *
+     * @return the number of books
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the snapshot has no books.
+     *
+     * @return true if the snapshot is empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Gets the version of the store when this snapshot was taken. Two snapshots of the
+     * same store with the same version hold the same books.
+     *
+     * @return the version, or -1 if the store does not track versions
+     */
+    public long version() {
+        return version;
+    }
+
+    /**
+     * Iterates the books of the snapshot in insertion order.
+     *
+     * @return an iterator that does not support removal
+     */
+    @Override
+    public Iterator<Book> iterator() {
+        return new Iterator<>() {
+            private int next = advance(0);
+
+            private int advance(int from) {
+                while (from < length && slots[from] == null) {
+                    from++;
+                }
+                return from;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return next < length;
+            }
+
+            @Override
+            public Book next() {
+                if (next >= length) {
+                    throw new NoSuchElementException();
+                }
+                Book book = slots[next];
+                next = advance(next + 1);
+                return book;
+            }
+        };
+    }
+
+    /**
+     * Streams the books of the snapshot in insertion order.
+     *
+     * @return a sequential stream over the snapshot
+     */
+    public Stream<Book> stream() {
+        Spliterator<Book> spliterator = Spliterators.spliterator(iterator(), size,
+                Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE);
+        return StreamSupport.stream(spliterator, false);
+    }
+
+    /**
+     * Copies the books of the snapshot into a new array.
+     * O(n) time complexity
+     *
+     * @return a new array holding the books in insertion order
+     */
+    public Book[] toArray() {
+        Book[] result = new Book[size];
+        int index = 0;
+        for (int i = 0; i < length; i++) {
+            if (slots[i] != null) {
+                result[index++] = slots[i];
+            }
+        }
+        return result;
+    }
+}
@@ -1,7 +1,12 @@
 package com.university.bookstore.api;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 import com.university.bookstore.model.Book;
+import com.university.bookstore.utils.BookStatistics;
+import com.university.bookstore.utils.SearchKeys;
+import com.university.bookstore.utils.TopK;
 /**
 *This code defines a contract for the API,
 * the API provides search capabilities, analytics, and export operations.
@@ -15,6 +20,51 @@ public interface BookstoreAPI {
     */
     boolean add(Book book);
     /**
+    *adds a batch of books to the bookstore inventory, rejecting the same books {@link #add(Book)} would
+    *reject, including later books of the batch that repeat an ISBN of an earlier one.
+    *The default adds the books one at a time, implementations whose add is not O(1) override it
+    *so that loading a batch stays linear in its size
+    *@param books the books to add, in order
+    *@return whether each book was added, by its position in the batch
+    *@throws IllegalArgumentException if the array is null
+    */
+    default BulkAddResult addAll(Book[] books) {
+        if (books == null) {
+            throw new IllegalArgumentException("Books cannot be null");
+        }
+        boolean[] accepted = new boolean[books.length];
+        for (int i = 0; i < books.length; i++) {
+            accepted[i] = add(books[i]);
+        }
+        return new BulkAddResult(accepted);
+    }
+    /**
+    *adds a batch of books to the bookstore inventory, in the iteration order of the collection
+    *@param books the books to add
+    *@return whether each book was added, by its position in the iteration order
+    *@throws IllegalArgumentException if the collection is null
+    *@see #addAll(Book[])
+    */
+    default BulkAddResult addAll(Collection<? extends Book> books) {
+        if (books == null) {
+            throw new IllegalArgumentException("Books cannot be null");
+        }
+        return addAll(books.toArray(new Book[0]));
+    }
+    /**
+    *adds a batch of books to the bookstore inventory, in the encounter order of the stream
+    *@param books the books to add, the stream is consumed
+    *@return whether each book was added, by its position in the encounter order
+    *@throws IllegalArgumentException if the stream is null
+    *@see #addAll(Book[])
+    */
+    default BulkAddResult addAll(Stream<? extends Book> books) {
+        if (books == null) {
+            throw new IllegalArgumentException("Books cannot be null");
+        }
+        return addAll(books.toArray(Book[]::new));
+    }
+    /**
     *will remove a book from the bookstore inventory using its ISBN
     *
     *@param isbn the ISBN of the book to remove
@@ -72,6 +122,56 @@ public interface BookstoreAPI {
     *@return the Book with the most recent publication year, or {@code null} if the inventory is empty
     */
     Book getMostRecent();
+    /**
+    *gets the k most expensive books in the inventory, the latest added first among equal prices,
+    *so the first one is {@link #getMostExpensive()}. The default selects them from {@link #stream()}
+    *with a bounded heap in O(n log k) time, stores with a price index read them from it
+    *@param k the number of books to return
+    *@return up to k books, most expensive first
+    *@throws IllegalArgumentException if k is negative
+    */
+    default List<Book> getMostExpensive(int k) {
+        return stream().collect(TopK.mostExpensive(k));
+    }
+    /**
+    *gets the k cheapest books in the inventory, the earliest added first among equal prices
+    *@param k the number of books to return
+    *@return up to k books, cheapest first
+    *@throws IllegalArgumentException if k is negative
+    *@see #getMostExpensive(int)
+    */
+    default List<Book> getCheapest(int k) {
+        return stream().collect(TopK.cheapest(k));
+    }
+    /**
+    *gets the k most recently published books in the inventory, the earliest added first among equal years,
+    *so the first one is {@link #getMostRecent()}
+    *@param k the number of books to return
+    *@return up to k books, newest first
+    *@throws IllegalArgumentException if k is negative
+    *@see #getMostExpensive(int)
+    */
+    default List<Book> getMostRecent(int k) {
+        return stream().collect(TopK.mostRecent(k));
+    }
+    /**
+    *gets the first k books of the inventory in title order, the earliest added first among equal titles
+    *@param k the number of books to return
+    *@return up to k books, in the order of {@link Book#compareTo(Book)}
+    *@throws IllegalArgumentException if k is negative
+    *@see #getMostExpensive(int)
+    */
+    default List<Book> getFirstByTitle(int k) {
+        return stream().collect(TopK.firstByTitle(k));
+    }
+    /**
+    *gathers the price and year statistics of the inventory in a single pass over {@link #stream()},
+    *instead of one pass per figure
+    *@return the statistics of every book in the inventory
+    */
+    default BookStatistics statistics() {
+        return stream().collect(BookStatistics.collector());
+    }
 
     // Export operations
     /**
@@ -84,5 +184,211 @@ public interface BookstoreAPI {
     *@return a list containing all Book objects
     */
     List<Book> getAllBooks();
+    /**
+    *Takes an immutable point-in-time view of the inventory that later adds and removes do not affect.
+    *The default copies {@link #snapshotArray()}, implementations that can share their storage
+    *override it to take the snapshot without copying
+    *@return a snapshot of all books in insertion order
+    */
+    default BookSnapshot snapshot() {
+        return BookSnapshot.copyOf(snapshotArray());
+    }
+
+    // Streaming queries
+    /**
+    *streams the books currently in the inventory in insertion order.
+    *The default streams a {@link #snapshot()}, implementations override it to stream their own storage
+    *without copying it, such streams are lazy and must be consumed before the inventory is modified
+    *@return a sequential stream of all books
+    */
+    default Stream<Book> stream() {
+        return snapshot().stream();
+    }
+    /**
+    *lazily streams the books that have titles matching the query given, in the order of {@link #findByTitle(String)}.
+    *Books are only matched as the stream is consumed, so a {@code limit}, {@code findFirst}, an
+    *iterator or {@link Page#forEach} callback that stops early also stops the search
+    *@param titleQuery the title or partial title to search for, case-insensitive
+    *@return a stream of matching books, empty if the query is null or blank
+    */
+    default Stream<Book> streamByTitle(String titleQuery) {
+        if (titleQuery == null || titleQuery.trim().isEmpty()) {
+            return Stream.empty();
+        }
+        String query = SearchKeys.normalize(titleQuery);
+        return stream().filter(book -> book.getTitleKey().contains(query));
+    }
+    /**
+    *lazily streams the books whose author matches the query given, in the order of {@link #findByAuthor(String)}
+    *@param authorQuery the author's name or part of their name, case-insensitive
+    *@return a stream of matching books, empty if the query is null or blank
+    */
+    default Stream<Book> streamByAuthor(String authorQuery) {
+        if (authorQuery == null || authorQuery.trim().isEmpty()) {
+            return Stream.empty();
+        }
+        String query = SearchKeys.normalize(authorQuery);
+        return stream().filter(book -> book.getAuthorKey().contains(query));
+    }
+    /**
+    *lazily streams the books in a certain price range, in the order of {@link #findByPriceRange(double, double)}
+    *@param minPrice the lowest price
+    *@param maxPrice the highest price
+    *@return a stream of books within the specified range
+    *@throws IllegalArgumentException if the range is invalid, as for {@link #findByPriceRange(double, double)}
+    */
+    default Stream<Book> streamByPriceRange(double minPrice, double maxPrice) {
+        if (minPrice > maxPrice) {
+            throw new IllegalArgumentException("Min cannot be greater than max");
+        }
+        if (minPrice < 0 || maxPrice <= 0) {
+            throw new IllegalArgumentException("Price is invalid");
+        }
+        return stream().filter(book -> book.getPrice() >= minPrice && book.getPrice() <= maxPrice);
+    }
+    /**
+    *lazily streams the books that were published during a specified year, in the order of {@link #findByYear(int)}
+    *@param year the publication year
+    *@return a stream of books published that year, empty if the year is invalid
+    */
+    default Stream<Book> streamByYear(int year) {
+        if (year <= 0 || year > 2025) {
+            return Stream.empty();
+        }
+        return stream().filter(book -> book.getYear() == year);
+    }
+    // Cardinality estimates
+    /**
+    *estimates how many books a title query has to examine, used by the query planner to pick the cheapest predicate.
+    *The default is {@link #size()}, since a store without a title index checks every book,
+    *implementations with an index return the size of the part of the index the query reads
+    *@param titleQuery the title or partial title to search for
+    *@return an upper bound on the number of books examined, and so on the number of matches
+    */
+    default int estimateByTitle(String titleQuery) {
+        return size();
+    }
+    /**
+    *estimates how many books an author query has to examine
+    *@param authorQuery the author's name or part of their name
+    *@return an upper bound on the number of books examined, {@link #size()} by default
+    *@see #estimateByTitle(String)
+    */
+    default int estimateByAuthor(String authorQuery) {
+        return size();
+    }
+    /**
+    *estimates how many books a price range query has to examine
+    *@param minPrice the lowest price
+    *@param maxPrice the highest price
+    *@return an upper bound on the number of books examined, {@link #size()} by default
+    *@see #estimateByTitle(String)
+    */
+    default int estimateByPriceRange(double minPrice, double maxPrice) {
+        return size();
+    }
+    /**
+    *estimates how many books a year query has to examine
+    *@param year the publication year
+    *@return an upper bound on the number of books examined, {@link #size()} by default
+    *@see #estimateByTitle(String)
+    */
+    default int estimateByYear(int year) {
+        return size();
+    }
+
+    // Paginated queries
+    /**
+    *gets one page of the books that have titles matching the query given
+    *@param titleQuery the title or partial title to search for, case-insensitive
+    *@param offset the number of matching books to skip
+    *@param limit the largest number of books on the page
+    *@return the page, empty if the query is null or blank
+    *@throws IllegalArgumentException if the offset is negative or the limit is not positive
+    */
+    default Page pageByTitle(String titleQuery, int offset, int limit) {
+        return Page.of(streamByTitle(titleQuery), offset, limit);
+    }
+    /**
+    *gets one page of the books that have titles matching the query given, in title order, that come after a cursor.
+    *Unlike an offset, the cursor stays valid while books are added and removed
+    *@param titleQuery the title or partial title to search for, case-insensitive
+    *@param after the last book of the previous page ({@link Page#last()}), or {@code null} for the first page
+    *@param limit the largest number of books on the page
+    *@return the page ordered by {@link Page#TITLE_ORDER}, empty if the query is null or blank
+    *@throws IllegalArgumentException if the limit is not positive
+    */
+    default Page pageByTitle(String titleQuery, Book after, int limit) {
+        return Page.after(streamByTitle(titleQuery), Page.TITLE_ORDER, after, limit);
+    }
+    /**
+    *gets one page of the books whose author matches the query given
+    *@param authorQuery the author's name or part of their name, case-insensitive
+    *@param offset the number of matching books to skip
+    *@param limit the largest number of books on the page
+    *@return the page, empty if the query is null or blank
+    *@throws IllegalArgumentException if the offset is negative or the limit is not positive
+    */
+    default Page pageByAuthor(String authorQuery, int offset, int limit) {
+        return Page.of(streamByAuthor(authorQuery), offset, limit);
+    }
+    /**
+    *gets one page of the books whose author matches the query given, in author order, that come after a cursor
+    *@param authorQuery the author's name or part of their name, case-insensitive
+    *@param after the last book of the previous page ({@link Page#last()}), or {@code null} for the first page
+    *@param limit the largest number of books on the page
+    *@return the page ordered by {@link Page#AUTHOR_ORDER}, empty if the query is null or blank
+    *@throws IllegalArgumentException if the limit is not positive
+    */
+    default Page pageByAuthor(String authorQuery, Book after, int limit) {
+        return Page.after(streamByAuthor(authorQuery), Page.AUTHOR_ORDER, after, limit);
+    }
+    /**
+    *gets one page of the books in a certain price range
+    *@param minPrice the lowest price
+    *@param maxPrice the highest price
+    *@param offset the number of matching books to skip
+    *@param limit the largest number of books on the page
+    *@return the page
+    *@throws IllegalArgumentException if the range or the page bounds are invalid
+    */
+    default Page pageByPriceRange(double minPrice, double maxPrice, int offset, int limit) {
+        return Page.of(streamByPriceRange(minPrice, maxPrice), offset, limit);
+    }
+    /**
+    *gets one page of the books in a certain price range, cheapest first, that come after a cursor.
+    *Unlike an offset, the cursor stays valid while books are added and removed
+    *@param minPrice the lowest price
+    *@param maxPrice the highest price
+    *@param after the last book of the previous page ({@link Page#last()}), or {@code null} for the first page
+    *@param limit the largest number of books on the page
+    *@return the page, ordered by {@link Page#PRICE_ORDER}
+    *@throws IllegalArgumentException if the range is invalid or the limit is not positive
+    */
+    default Page pageByPriceRange(double minPrice, double maxPrice, Book after, int limit) {
+        return Page.after(streamByPriceRange(minPrice, maxPrice), Page.PRICE_ORDER, after, limit);
+    }
+    /**
+    *gets one page of the books that were published during a specified year
+    *@param year the publication year
+    *@param offset the number of matching books to skip
+    *@param limit the largest number of books on the page
+    *@return the page, empty if the year is invalid
+    *@throws IllegalArgumentException if the offset is negative or the limit is not positive
+    */
+    default Page pageByYear(int year, int offset, int limit) {
+        return Page.of(streamByYear(year), offset, limit);
+    }
+    /**
+    *gets one page of the books that were published during a specified year, in ISBN order, that come after a cursor
+    *@param year the publication year
+    *@param after the last book of the previous page ({@link Page#last()}), or {@code null} for the first page
+    *@param limit the largest number of books on the page
+    *@return the page ordered by {@link Page#ISBN_ORDER}, empty if the year is invalid
+    *@throws IllegalArgumentException if the limit is not positive
+    */
+    default Page pageByYear(int year, Book after, int limit) {
+        return Page.after(streamByYear(year), Page.ISBN_ORDER, after, limit);
+    }
 
 }
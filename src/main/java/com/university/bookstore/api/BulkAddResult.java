@@ -0,0 +1,104 @@
+package com.university.bookstore.api;
+
+import java.util.Arrays;
+
+/**
+ * The outcome of a bulk load, whether each book of the batch was accepted.
+ *
+ * <p>Results are reported by position in the batch as it was given to
+ * {@link BookstoreAPI#addAll(com.university.bookstore.model.Book[])}, so the caller can
+ * look up why a line of a feed was not loaded. A book is rejected for the same reasons
+ * {@link BookstoreAPI#add(com.university.bookstore.model.Book)} rejects it: it is null,
+ * its ISBN is already in the inventory, or an earlier book of the same batch has the
+ * same ISBN.</p>
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ *
+ * @see BookstoreAPI#addAll(com.university.bookstore.model.Book[])
+ */
+public final class BulkAddResult {
+
+    private final boolean[] accepted;
+    private final int acceptedCount;
+
+    /**
+     * Creates a result from the outcome of every book of a batch.
+     *
+     * @param accepted true at the position of every accepted book, the result takes
+     *                 ownership of the array, so the caller must not modify it afterwards
+     */
+    public BulkAddResult(boolean[] accepted) {
+        if (accepted == null) {
+            throw new IllegalArgumentException("Outcomes cannot be null");
+        }
+        this.accepted = accepted;
+        int count = 0;
+        for (boolean a : accepted) {
+            if (a) {
+                count++;
+            }
+        }
+        this.acceptedCount = count;
+    }
+
+    /**
+     * Gets the number of books in the batch.
+     *
+     * @return the batch size
+     */
+    public int size() {
+        return accepted.length;
+    }
+
+    /**
+     * Checks whether the book at the given position of the batch was added.
+     *
+     * @param index the position in the batch
+     * @return true if the book was added to the inventory
+     * @throws IndexOutOfBoundsException if the position is outside the batch
+     */
+    public boolean isAccepted(int index) {
+        return accepted[index];
+    }
+
+    /**
+     * Gets the number of books that were added.
+     *
+     * @return the accepted count
+     */
+    public int acceptedCount() {
+        return acceptedCount;
+    }
+
+    /**
+     * Gets the number of books that were not added.
+     *
+     * @return the rejected count
+     */
+    public int rejectedCount() {
+        return accepted.length - acceptedCount;
+    }
+
+    /**
+     * Gets the positions of the books that were not added, in batch order.
+     *
+     * @return the rejected positions
+     */
+    public int[] rejectedIndexes() {
+        int[] rejected = new int[rejectedCount()];
+        int next = 0;
+        for (int i = 0; i < accepted.length; i++) {
+            if (!accepted[i]) {
+                rejected[next++] = i;
+            }
+        }
+        return rejected;
+    }
+
+    @Override
+    public String toString() {
+        return "BulkAddResult{accepted=" + acceptedCount + ", rejected=" + rejectedCount()
+                + ", rejectedIndexes=" + Arrays.toString(rejectedIndexes()) + "}";
+    }
+}
@@ -0,0 +1,285 @@
+package com.university.bookstore.api;
+
+import com.university.bookstore.model.Book;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * One page of the results of a query, with what is needed to fetch the next one.
+ *
+ * <p>Pages are taken from the lazy streams of {@link BookstoreAPI}, so a page never
+ * holds more than its own books. An offset page ({@link #of}) stops reading the stream
+ * one book past its end, which is how it knows whether there are more. A keyset page
+ * ({@link #after}) returns the books that come right after a cursor in a fixed order,
+ * keeping only the best {@code limit} candidates in a bounded heap while it reads, so
+ * its memory does not depend on the number of matches. The cursor is simply the last
+ * book of the previous page, and unlike an offset it stays valid when books before it
+ * are added or removed.</p>
+ *
+ * <p>All orders break ties on the ISBN, which is unique, so a cursor always names a
+ * single position and no book is skipped or repeated between pages.</p>
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ *
+ * @see BookstoreAPI#pageByTitle(String, int, int)
+ * @see BookstoreAPI#pageByTitle(String, Book, int)
+ */
+public final class Page {
+
+    /**
+     * Orders books by ISBN.
+     */
+    public static final Comparator<Book> ISBN_ORDER = Comparator.comparing(Book::getIsbn);
+
+    /**
+     * Orders books by price, then by ISBN.
+     */
+    public static final Comparator<Book> PRICE_ORDER =
+            Comparator.comparingDouble(Book::getPrice).thenComparing(ISBN_ORDER);
+
+    /**
+     * Orders books by title, then by ISBN.
+     */
+    public static final Comparator<Book> TITLE_ORDER =
+            Comparator.comparing(Book::getTitle).thenComparing(ISBN_ORDER);
+
+    /**
+     * Orders books by author, then by ISBN.
+     */
+    public static final Comparator<Book> AUTHOR_ORDER =
+            Comparator.comparing(Book::getAuthor).thenComparing(ISBN_ORDER);
+
+    /**
+     * Orders books by publication year, then by ISBN.
+     */
+    public static final Comparator<Book> YEAR_ORDER =
+            Comparator.comparingInt(Book::getYear).thenComparing(ISBN_ORDER);
+
+    private final List<Book> items;
+    private final int offset;
+    private final boolean hasMore;
+
+    private Page(List<Book> items, int offset, boolean hasMore) {
+        this.items = Collections.unmodifiableList(items);
+        this.offset = offset;
+        this.hasMore = hasMore;
+    }
+
+    /**
+     * Takes one page from a stream of results by offset. The stream is read lazily and
+     * closed, and no more than {@code offset + limit + 1} of its books are read.
+     *
+     * @param books  the results, in the order they are paged
+     * @param offset the number of books to skip
+     * @param limit  the largest number of books on the page
+     * @return the page
+     * @throws IllegalArgumentException if the stream is null, the offset is negative or the limit is not positive
+     */
+    public static Page of(Stream<Book> books, int offset, int limit) {
+        if (books == null) {
+            throw new IllegalArgumentException("Books cannot be null");
+        }
+        checkBounds(offset, limit);
+
+        List<Book> items = new ArrayList<>(initialCapacity(limit));
+        boolean hasMore = false;
+        try (Stream<Book> stream = books) {
+            Iterator<Book> iterator = stream.skip(offset).iterator();
+            while (iterator.hasNext()) {
+                Book book = iterator.next();
+                if (items.size() == limit) {
+                    hasMore = true;
+                    break;
+                }
+                items.add(book);
+            }
+        }
+        return new Page(items, offset, hasMore);
+    }
+
+    /**
+     * Takes one page from a stream of results by cursor: the {@code limit} smallest books
+     * in {@code order} that come after {@code cursor}. The stream is read to the end, in
+     * O(m log limit) time for m results, but only {@code limit} books are kept at a time.
+     *
+     * @param books  the results, in any order
+     * @param order  the order of the pages, it must break every tie
+     * @param cursor the last book of the previous page, or {@code null} for the first page
+     * @param limit  the largest number of books on the page
+     * @return the page, in {@code order}
+     * @throws IllegalArgumentException if the stream or order is null or the limit is not positive
+     */
+    public static Page after(Stream<Book> books, Comparator<Book> order, Book cursor, int limit) {
+        return after(books, order, null, cursor, limit);
+    }
+
+    /**
+     * Takes one page from a stream of results by cursor, like
+     * {@link #after(Stream, Comparator, Book, int)}, for a stream that is already sorted by
+     * a coarser order that {@code order} refines, such as price for {@link #PRICE_ORDER}.
+     * Reading stops as soon as a book sorts after the whole page in the coarser order.
+     *
+     * @param books    the results, sorted by {@code sortedBy}
+     * @param order    the order of the pages, it must break every tie
+     * @param sortedBy the order of the stream, consistent with {@code order}, or {@code null} if the stream is unsorted
+     * @param cursor   the last book of the previous page, or {@code null} for the first page
+     * @param limit    the largest number of books on the page
+     * @return the page, in {@code order}
+     * @throws IllegalArgumentException if the stream or order is null or the limit is not positive
+     */
+    public static Page after(Stream<Book> books, Comparator<Book> order, Comparator<Book> sortedBy,
+                             Book cursor, int limit) {
+        if (books == null || order == null) {
+            throw new IllegalArgumentException("Books and order cannot be null");
+        }
+        checkBounds(0, limit);
+
+        PriorityQueue<Book> best = new PriorityQueue<>(initialCapacity(limit), order.reversed());
+        boolean hasMore = false;
+        try (Stream<Book> stream = books) {
+            Iterator<Book> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                Book book = iterator.next();
+                if (cursor != null && order.compare(book, cursor) <= 0) {
+                    continue;
+                }
+                if (best.size() < limit) {
+                    best.add(book);
+                    continue;
+                }
+                hasMore = true;
+                if (sortedBy != null && sortedBy.compare(book, best.peek()) > 0) {
+                    break;
+                }
+                if (order.compare(book, best.peek()) < 0) {
+                    best.poll();
+                    best.add(book);
+                }
+            }
+        }
+
+        Book[] items = new Book[best.size()];
+        for (int i = items.length - 1; i >= 0; i--) {
+            items[i] = best.poll();
+        }
+        return new Page(Arrays.asList(items), 0, hasMore);
+    }
+
+    /**
+     * Passes the books of a stream to a callback, one at a time, until {@code limit} books
+     * have been passed or the stream ends. The stream is read lazily and closed.
+     *
+     * @param books  the books to pass
+     * @param limit  the largest number of books to pass
+     * @param action the callback
+     * @return the number of books passed to the callback
+     * @throws IllegalArgumentException if the stream or callback is null or the limit is negative
+     */
+    public static int forEach(Stream<Book> books, int limit, Consumer<? super Book> action) {
+        if (books == null || action == null) {
+            throw new IllegalArgumentException("Books and action cannot be null");
+        }
+        if (limit < 0) {
+            throw new IllegalArgumentException("Limit cannot be negative");
+        }
+        int count = 0;
+        try (Stream<Book> stream = books) {
+            Iterator<Book> iterator = stream.iterator();
+            while (count < limit && iterator.hasNext()) {
+                action.accept(iterator.next());
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static void checkBounds(int offset, int limit) {
+        if (offset < 0) {
+            throw new IllegalArgumentException("Offset cannot be negative");
+        }
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+    }
+
+    private static int initialCapacity(int limit) {
+        return Math.min(limit, 1024);
+    }
+
+    /**
+     * Gets the books on this page.
+     *
+     * @return an unmodifiable list of the books, in page order
+     */
+    public List<Book> items() {
+        return items;
+    }
+
+    /**
+     * Gets the number of books on this page.
+     *
+     * @return the page size, at most the requested limit
+     */
+    public int size() {
+        return items.size();
+    }
+
+    /**
+     * Checks whether this page holds no books.
+     *
+     * @return true if the page is empty
+     */
+    public boolean isEmpty() {
+        return items.isEmpty();
+    }
+
+    /**
+     * Gets the number of results skipped before this page, always 0 for a keyset page.
+     *
+     * @return the offset of the first book on this page
+     */
+    public int offset() {
+        return offset;
+    }
+
+    /**
+     * Gets the offset of the next page.
+     *
+     * @return the offset just past this page
+     */
+    public int nextOffset() {
+        return offset + items.size();
+    }
+
+    /**
+     * Checks whether there are results after this page.
+     *
+     * @return true if at least one more book matched
+     */
+    public boolean hasMore() {
+        return hasMore;
+    }
+
+    /**
+     * Gets the last book on this page, the cursor that fetches the next keyset page.
+     *
+     * @return the last book, or {@code null} if the page is empty
+     */
+    public Book last() {
+        return items.isEmpty() ? null : items.get(items.size() - 1);
+    }
+
+    @Override
+    public String toString() {
+        return "Page[offset=" + offset + ", size=" + items.size() + ", hasMore=" + hasMore + "]";
+    }
+}
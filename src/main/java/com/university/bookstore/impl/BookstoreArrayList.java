@@ -1,9 +1,14 @@
 package com.university.bookstore.impl;
 import com.university.bookstore.api.BookstoreAPI;
+import com.university.bookstore.api.BulkAddResult;
 import com.university.bookstore.model.Book;
+import com.university.bookstore.utils.SearchKeys;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * Bookstore API implemented using Java ArrayLists
@@ -22,7 +27,7 @@ import java.util.List;
  */
 
 public class BookstoreArrayList implements BookstoreAPI {
-    private final List<Book> books;
+    private final ArrayList<Book> books;
 
     /**
      * Create an empty bookstore
@@ -52,6 +57,37 @@ public class BookstoreArrayList implements BookstoreAPI {
         return books.add(book);
     }
 
+    /**
+     * Adds a batch of books to the bookstore, rejecting null books and ISBNs that
+     * already exist in the bookstore or earlier in the batch
+     * O(n + m) time complexity - the existing ISBNs are hashed once instead of being scanned per book
+     * @param newBooks, the books to add
+     * @return BulkAddResult, whether each book was added
+     */
+    @Override
+    public BulkAddResult addAll(Book[] newBooks) {
+        if (newBooks == null) {
+            throw new IllegalArgumentException("Books cannot be null");
+        }
+
+        Set<String> isbns = new HashSet<>((books.size() + newBooks.length) * 4 / 3 + 1);
+        for (Book currBook : books) {
+            isbns.add(currBook.getIsbn());
+        }
+
+        books.ensureCapacity(books.size() + newBooks.length);
+        boolean[] accepted = new boolean[newBooks.length];
+        for (int i = 0; i < newBooks.length; i++) {
+            Book book = newBooks[i];
+            if (book != null && isbns.add(book.getIsbn())) {
+                books.add(book);
+                accepted[i] = true;
+            }
+        }
+
+        return new BulkAddResult(accepted);
+    }
+
 
     /**
      * Searches for a book by the given ISBN code
@@ -106,11 +142,10 @@ public class BookstoreArrayList implements BookstoreAPI {
         }
 
         ArrayList<Book> bookList = new ArrayList<>();
-        title = title.trim().toLowerCase();
+        title = SearchKeys.normalize(title);
 
         for (Book currBook: books) {
-            String bookTitle = currBook.getTitle().trim().toLowerCase();
-            if (bookTitle.contains(title)) {
+            if (currBook.getTitleKey().contains(title)) {
                 bookList.add(currBook);
             }
         }
@@ -129,12 +164,12 @@ public class BookstoreArrayList implements BookstoreAPI {
             return null;
         }
 
-        author = author.trim().toLowerCase();
+        author = SearchKeys.normalize(author);
 
         ArrayList<Book> bookList = new ArrayList<>();
 
         for (Book currBook: books) {
-            if (currBook.getAuthor().toLowerCase().contains(author)) {
+            if (currBook.getAuthorKey().contains(author)) {
                 bookList.add(currBook);
             }
         }
@@ -252,6 +287,17 @@ public class BookstoreArrayList implements BookstoreAPI {
         return mostRecent;
     }
 
+    /**
+     * Streams the books of the bookstore without copying them
+     * O(1) time complexity to start - reads the list as the stream is consumed, so it must be
+     * consumed before the bookstore is modified
+     * @return Stream, the books in insertion order
+     */
+    @Override
+    public Stream<Book> stream() {
+        return this.books.stream();
+    }
+
     /**
      * Gets a defensive copy of the original bookstore as an array
      * O(n) time complexity - Has to loop over each book to copy over
@@ -0,0 +1,674 @@
+package com.university.bookstore.impl;
+import com.university.bookstore.api.BookstoreAPI;
+import com.university.bookstore.api.BulkAddResult;
+import com.university.bookstore.model.Book;
+import com.university.bookstore.utils.IsbnCodec;
+import com.university.bookstore.utils.LongIntHashMap;
+import com.university.bookstore.utils.SearchKeys;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Bookstore API implemented using columns of primitive arrays (struct of arrays)
+ *
+ * <p>Instead of one Book object per title, every field lives in its own array and a
+ * book is just a row number: prices in a {@code double[]}, years in a {@code short[]},
+ * ISBNs packed into a {@code long[]} by {@link IsbnCodec}, and titles and authors as ids into a shared string
+ * dictionary, so an author with a thousand titles is stored once. Numeric filters and
+ * aggregates become tight loops over one primitive array, and text queries are evaluated
+ * once per distinct string in the dictionary rather than once per book.</p>
+ *
+ * <p>Book objects are only created for the results that are returned, so two calls
+ * return equal, but not identical, books. Removing a book marks its row as empty and the
+ * columns are compacted once more than half of the rows are empty, which keeps the
+ * insertion order.</p>
+ *
+ * <p>Per book this costs 26 bytes of columns and about 25 bytes of ISBN index, plus the
+ * dictionary: every distinct string costs its String, its search key when normalizing
+ * changes it, and about 16 bytes of dictionary slots. Measured at one million books on a
+ * 64-bit JVM with compressed references, the store retains about 77 bytes per book for
+ * the benchmark catalog, whose titles and authors repeat, where the same Book objects
+ * retain 223 bytes. With a unique title per book it retains about 220 bytes against 364,
+ * most of it the title and its key. The ISBN index is a {@link LongIntHashMap} from the
+ * packed ISBN to the row, so looking a book up by ISBN neither allocates nor hashes a
+ * String.</p>
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ *
+ * @see BookstoreAPI
+ * @see Book
+ *
+ */
+
+public class BookstoreColumnar implements BookstoreAPI {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final long EMPTY = IsbnCodec.INVALID;
+
+    private long[] isbns;
+    private double[] prices;
+    private short[] years;
+    private int[] titleIds;
+    private int[] authorIds;
+    private int length;
+    private int size;
+
+    private final LongIntHashMap rowByIsbn;
+    private Dictionary titles;
+    private Dictionary authors;
+
+    /**
+     * Deduplicated string storage, every distinct string is kept once and referred to by id,
+     * along with its search key. Ids are found through an open-addressing table of ids
+     * probed linearly by the string's hash, so a distinct string costs two array slots and
+     * two table slots instead of a map entry and a boxed id. The key is the string itself
+     * when normalizing does not change it.
+     */
+    private static final class Dictionary {
+        private String[] strings = new String[INITIAL_CAPACITY];
+        private String[] keys = new String[INITIAL_CAPACITY];
+        private int[] table = new int[INITIAL_CAPACITY * 2];
+        private int size;
+
+        int idOf(String s) {
+            return idOf(s, null);
+        }
+
+        /**
+         * Gets the id of a string, adding it if it is new
+         * @param s, the string
+         * @param key, its search key, or null to normalize the string
+         * @return the id
+         */
+        int idOf(String s, String key) {
+            int mask = table.length - 1;
+            int slot = slot(s, mask);
+            for (int entry = table[slot]; entry != 0; entry = table[slot]) {
+                if (strings[entry - 1].equals(s)) {
+                    return entry - 1;
+                }
+                slot = (slot + 1) & mask;
+            }
+
+            int id = size++;
+            if (id == strings.length) {
+                strings = Arrays.copyOf(strings, id * 2);
+                keys = Arrays.copyOf(keys, id * 2);
+            }
+            if (key == null) {
+                key = SearchKeys.normalize(s);
+            }
+            strings[id] = s;
+            keys[id] = key.equals(s) ? s : key;
+            table[slot] = id + 1;
+            if (size * 2 > table.length) {
+                rehash(table.length * 2);
+            }
+            return id;
+        }
+
+        /**
+         * Spreads the hash of a string over the table, mixing its high bits into the low ones
+         */
+        private static int slot(String s, int mask) {
+            int h = s.hashCode() * 0x9E3779B9;
+            return (h ^ (h >>> 16)) & mask;
+        }
+
+        private void rehash(int capacity) {
+            int[] grown = new int[capacity];
+            int mask = capacity - 1;
+            for (int id = 0; id < size; id++) {
+                int slot = slot(strings[id], mask);
+                while (grown[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                grown[slot] = id + 1;
+            }
+            table = grown;
+        }
+
+        String get(int id) {
+            return strings[id];
+        }
+
+        String key(int id) {
+            return keys[id];
+        }
+
+        int size() {
+            return size;
+        }
+    }
+
+    /**
+     * Create an empty bookstore
+     */
+    public BookstoreColumnar() {
+        this.isbns = new long[INITIAL_CAPACITY];
+        this.prices = new double[INITIAL_CAPACITY];
+        this.years = new short[INITIAL_CAPACITY];
+        this.titleIds = new int[INITIAL_CAPACITY];
+        this.authorIds = new int[INITIAL_CAPACITY];
+        this.rowByIsbn = new LongIntHashMap();
+        this.titles = new Dictionary();
+        this.authors = new Dictionary();
+    }
+
+    /**
+     * Creates the Book object of a row
+     * @param row, a non-empty row
+     * @return a new Book holding the values of the row
+     */
+    private Book materialize(int row) {
+        int title = titleIds[row];
+        int author = authorIds[row];
+        return Book.withSearchKeys(IsbnCodec.decode(isbns[row]), titles.get(title), authors.get(author),
+                prices[row], years[row], titles.key(title), authors.key(author));
+    }
+
+    /**
+     * Adds a book to the bookstore, but checks if it is null or already
+     * exists by ISBN before adding
+     * O(1) amortized time complexity - a hash lookup, plus one write per column
+     * @param book, a book object
+     * @return false if null or already exists, true otherwise
+     */
+    public boolean add(Book book) {
+        if (book == null) {
+            return false;
+        }
+
+        long isbn = IsbnCodec.encode(book.getIsbn());
+        if (isbn == EMPTY || rowByIsbn.containsKey(isbn)) {
+            return false;
+        }
+
+        if (length == isbns.length) {
+            resize(isbns.length * 2);
+        }
+
+        isbns[length] = isbn;
+        prices[length] = book.getPrice();
+        years[length] = (short) book.getYear();
+        titleIds[length] = titles.idOf(book.getTitle());
+        authorIds[length] = authors.idOf(book.getAuthor());
+        rowByIsbn.put(isbn, length);
+        length++;
+        size++;
+        return true;
+    }
+
+    private void resize(int capacity) {
+        isbns = Arrays.copyOf(isbns, capacity);
+        prices = Arrays.copyOf(prices, capacity);
+        years = Arrays.copyOf(years, capacity);
+        titleIds = Arrays.copyOf(titleIds, capacity);
+        authorIds = Arrays.copyOf(authorIds, capacity);
+    }
+
+    /**
+     * Adds a batch of books to the bookstore, rejecting null books and ISBNs that
+     * already exist in the bookstore or earlier in the batch
+     * O(m) time complexity - the columns and the ISBN map are grown once for the whole batch
+     * @param newBooks, the books to add
+     * @return BulkAddResult, whether each book was added
+     */
+    @Override
+    public BulkAddResult addAll(Book[] newBooks) {
+        if (newBooks == null) {
+            throw new IllegalArgumentException("Books cannot be null");
+        }
+
+        int needed = length + newBooks.length;
+        if (needed > isbns.length) {
+            resize(Math.max(needed, isbns.length * 2));
+        }
+        rowByIsbn.ensureCapacity(rowByIsbn.size() + newBooks.length);
+
+        boolean[] accepted = new boolean[newBooks.length];
+        for (int i = 0; i < newBooks.length; i++) {
+            accepted[i] = add(newBooks[i]);
+        }
+
+        return new BulkAddResult(accepted);
+    }
+
+    /**
+     * Searches for a book by the given ISBN code
+     * O(1) time complexity - a single probe of the primitive ISBN map, then the row is turned into a Book
+     * @param isbn, a 10 or 13 length code
+     * @return Book, the book by the ISBN if found, otherwise null
+     */
+    public Book findByIsbn(String isbn) {
+        if (isbn == null || isbn.trim().isEmpty()) {
+            return null;
+        }
+
+        int row = rowByIsbn.get(IsbnCodec.encode(isbn));
+        return row == LongIntHashMap.MISSING ? null : materialize(row);
+    }
+
+    /**
+     * Removes a book from the bookstore when provided a ISBN
+     * O(1) amortized time complexity - marks the row as empty, compacting once half of the rows are empty
+     * @param isbn, a 10 or 13 length code
+     * @return boolean, true if a book with the ISBN is found, false otherwise
+     */
+    public boolean removeByIsbn(String isbn) {
+        if (isbn == null || isbn.trim().isEmpty()) {
+            return false;
+        }
+
+        int row = rowByIsbn.remove(IsbnCodec.encode(isbn));
+        if (row == LongIntHashMap.MISSING) {
+            return false;
+        }
+
+        isbns[row] = EMPTY;
+        size--;
+
+        if (length > INITIAL_CAPACITY && size < length / 2) {
+            compact();
+        }
+        return true;
+    }
+
+    /**
+     * Moves every non-empty row to the front of the columns and drops strings no row uses
+     * O(n) time complexity, amortized over the removals that emptied the rows
+     */
+    private void compact() {
+        Dictionary keptTitles = new Dictionary();
+        Dictionary keptAuthors = new Dictionary();
+        int next = 0;
+        for (int row = 0; row < length; row++) {
+            if (isbns[row] == EMPTY) {
+                continue;
+            }
+            isbns[next] = isbns[row];
+            prices[next] = prices[row];
+            years[next] = years[row];
+            titleIds[next] = keptTitles.idOf(titles.get(titleIds[row]), titles.key(titleIds[row]));
+            authorIds[next] = keptAuthors.idOf(authors.get(authorIds[row]), authors.key(authorIds[row]));
+            rowByIsbn.put(isbns[next], next);
+            next++;
+        }
+        Arrays.fill(isbns, next, length, EMPTY);
+        length = next;
+        titles = keptTitles;
+        authors = keptAuthors;
+        resize(Math.max(INITIAL_CAPACITY, size * 2));
+    }
+
+    /**
+     * Evaluates a substring query once per distinct string of a dictionary, against its search key
+     * @param dictionary, the strings to check
+     * @param query, the normalized query
+     * @return boolean[], true at the id of every string that contains the query
+     */
+    private static boolean[] matchDictionary(Dictionary dictionary, String query) {
+        boolean[] matches = new boolean[dictionary.size()];
+        for (int id = 0; id < matches.length; id++) {
+            matches[id] = dictionary.key(id).contains(query);
+        }
+        return matches;
+    }
+
+    /**
+     * Returns a list of books that has the provided title in its title name
+     * O(n + d) time complexity - the query is checked once per distinct title d, then the title ids are scanned
+     * @param title, the title of the book, case-insensitive and partial matching
+     * @return List, a list of books
+     */
+    public List<Book> findByTitle(String title) {
+        if (title == null || title.trim().isEmpty()) {
+            return null;
+        }
+
+        boolean[] matches = matchDictionary(titles, SearchKeys.normalize(title));
+        ArrayList<Book> bookList = new ArrayList<>();
+        for (int row = 0; row < length; row++) {
+            if (isbns[row] != EMPTY && matches[titleIds[row]]) {
+                bookList.add(materialize(row));
+            }
+        }
+
+        return bookList;
+    }
+
+    /**
+     * Searches through to find all books that contain the given author name
+     * O(n + d) time complexity - the query is checked once per distinct author d, then the author ids are scanned
+     * @param author, the author name, case-insensitive and partial matching
+     * @return List, a list of books that contains the author's name
+     */
+    public List<Book> findByAuthor(String author) {
+        if (author == null || author.trim().isEmpty()) {
+            return null;
+        }
+
+        boolean[] matches = matchDictionary(authors, SearchKeys.normalize(author));
+        ArrayList<Book> bookList = new ArrayList<>();
+        for (int row = 0; row < length; row++) {
+            if (isbns[row] != EMPTY && matches[authorIds[row]]) {
+                bookList.add(materialize(row));
+            }
+        }
+
+        return bookList;
+    }
+
+    /**
+     * Finds books within the given price range of min and max
+     * O(n) time complexity - a single pass over the price column
+     * @param min, the minimum price
+     * @param max, the maximum price
+     * @return List, a list of books between the min and max price range
+     */
+    public List<Book> findByPriceRange(double min, double max) {
+        if (min > max) {
+            throw new IllegalArgumentException("Min cannot be greater than max");
+        }
+
+        if (min < 0 || max <= 0) {
+            throw new IllegalArgumentException("Price is invalid");
+        }
+
+        ArrayList<Book> bookList = new ArrayList<>();
+        for (int row = 0; row < length; row++) {
+            double price = prices[row];
+            if (price >= min && price <= max && isbns[row] != EMPTY) {
+                bookList.add(materialize(row));
+            }
+        }
+
+        return bookList;
+    }
+
+    /**
+     * Finds books that were released on the provided year
+     * O(n) time complexity - a single pass over the year column
+     * @param year, the year the book was released on
+     * @return List, a list of books that were released on the given year
+     */
+    public List<Book> findByYear(int year) {
+        if (year <= 0 || year > 2025) {
+            return null;
+        }
+
+        ArrayList<Book> bookList = new ArrayList<>();
+        for (int row = 0; row < length; row++) {
+            if (years[row] == year && isbns[row] != EMPTY) {
+                bookList.add(materialize(row));
+            }
+        }
+
+        return bookList;
+    }
+
+    /**
+     * Streams the live rows that pass a filter, creating a Book only for the rows the stream returns.
+     * The columns are read as the stream is consumed, so it must be consumed before the bookstore is modified
+     * @param filter, the test applied to each live row
+     * @return Stream, the matching books in insertion order
+     */
+    private Stream<Book> streamRows(IntPredicate filter) {
+        return IntStream.range(0, length)
+                .filter(row -> isbns[row] != EMPTY && filter.test(row))
+                .mapToObj(this::materialize);
+    }
+
+    /**
+     * Evaluates a substring query against the search keys of a dictionary on first use,
+     * so a stream that stops early only checks the distinct strings of the rows it has read
+     * @param dictionary, the strings to check
+     * @param query, the normalized query
+     * @return IntPredicate, true for the id of every string that contains the query
+     */
+    private static IntPredicate lazyMatcher(Dictionary dictionary, String query) {
+        byte[] memo = new byte[dictionary.size()];
+        return id -> {
+            if (memo[id] == 0) {
+                memo[id] = dictionary.key(id).contains(query) ? (byte) 1 : (byte) 2;
+            }
+            return memo[id] == 1;
+        };
+    }
+
+    /**
+     * Streams the books of the bookstore, creating each Book as the stream reaches its row
+     * O(1) time complexity to start, then O(1) per row read
+     * @return Stream, the books in insertion order
+     */
+    @Override
+    public Stream<Book> stream() {
+        return streamRows(row -> true);
+    }
+
+    /**
+     * Streams the books that have the provided title in their title name
+     * O(1) time complexity to start - each distinct title is checked the first time a row refers to it
+     * @param title, the title of the book, case-insensitive and partial matching
+     * @return Stream, the matching books, empty if the title is null or blank
+     */
+    @Override
+    public Stream<Book> streamByTitle(String title) {
+        if (title == null || title.trim().isEmpty()) {
+            return Stream.empty();
+        }
+
+        IntPredicate matches = lazyMatcher(titles, SearchKeys.normalize(title));
+        return streamRows(row -> matches.test(titleIds[row]));
+    }
+
+    /**
+     * Streams the books that contain the given author name
+     * O(1) time complexity to start - each distinct author is checked the first time a row refers to it
+     * @param author, the author name, case-insensitive and partial matching
+     * @return Stream, the matching books, empty if the name is null or blank
+     */
+    @Override
+    public Stream<Book> streamByAuthor(String author) {
+        if (author == null || author.trim().isEmpty()) {
+            return Stream.empty();
+        }
+
+        IntPredicate matches = lazyMatcher(authors, SearchKeys.normalize(author));
+        return streamRows(row -> matches.test(authorIds[row]));
+    }
+
+    /**
+     * Streams the books within the given price range of min and max
+     * O(1) time complexity to start, then reads the price column as the stream is consumed
+     * @param min, the minimum price
+     * @param max, the maximum price
+     * @return Stream, the books between the min and max price range
+     */
+    @Override
+    public Stream<Book> streamByPriceRange(double min, double max) {
+        if (min > max) {
+            throw new IllegalArgumentException("Min cannot be greater than max");
+        }
+
+        if (min < 0 || max <= 0) {
+            throw new IllegalArgumentException("Price is invalid");
+        }
+
+        return streamRows(row -> prices[row] >= min && prices[row] <= max);
+    }
+
+    /**
+     * Streams the books that were released on the provided year
+     * O(1) time complexity to start, then reads the year column as the stream is consumed
+     * @param year, the year the book was released on
+     * @return Stream, the books released on the given year, empty if the year is invalid
+     */
+    @Override
+    public Stream<Book> streamByYear(int year) {
+        if (year <= 0 || year > 2025) {
+            return Stream.empty();
+        }
+
+        return streamRows(row -> years[row] == year);
+    }
+
+    /**
+     * Checks how many books are in the bookstore
+     * O(1) constant time complexity - only lookup needed, no searching
+     * @return the size of the bookstore
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Gets the inventory value of all the books inside the bookstore
+     * O(n) time complexity - a single pass over the price column
+     * @return inventoryValue, the value of all books combined
+     */
+    public double inventoryValue() {
+        double inventoryValue = 0;
+
+        for (int row = 0; row < length; row++) {
+            if (isbns[row] != EMPTY) {
+                inventoryValue += prices[row];
+            }
+        }
+
+        return inventoryValue;
+    }
+
+    /**
+     * Checks to see which is the most expensive book inside the bookstore
+     * O(n) time complexity - a single pass over the price column
+     * @return Book, the most expensive book
+     */
+    public Book getMostExpensive() {
+        int mostExpensive = -1;
+        double maxPrice = 0;
+
+        for (int row = 0; row < length; row++) {
+            if (prices[row] >= maxPrice && isbns[row] != EMPTY) {
+                maxPrice = prices[row];
+                mostExpensive = row;
+            }
+        }
+
+        return mostExpensive < 0 ? null : materialize(mostExpensive);
+    }
+
+    /**
+     * Gets the book that was released most recently
+     * O(n) time complexity - a single pass over the year column
+     * @return Book, the book that was released most recently
+     */
+    public Book getMostRecent() {
+        int mostRecent = -1;
+        int mostRecentYear = 0;
+
+        for (int row = 0; row < length; row++) {
+            if (years[row] > mostRecentYear && isbns[row] != EMPTY) {
+                mostRecent = row;
+                mostRecentYear = years[row];
+            }
+        }
+
+        return mostRecent < 0 ? null : materialize(mostRecent);
+    }
+
+    /**
+     * Gets the k most expensive books, the latest added first among equal prices
+     * O(n log k) time complexity - a bounded heap over the price column, only the k rows returned become books
+     * @param k, the number of books to return
+     * @return List, up to k books, most expensive first
+     */
+    @Override
+    public List<Book> getMostExpensive(int k) {
+        return topRows((a, b) -> prices[a] != prices[b]
+                ? Double.compare(prices[b], prices[a]) : Integer.compare(b, a), k);
+    }
+
+    /**
+     * Gets the k cheapest books, the earliest added first among equal prices
+     * O(n log k) time complexity - a bounded heap over the price column
+     * @param k, the number of books to return
+     * @return List, up to k books, cheapest first
+     */
+    @Override
+    public List<Book> getCheapest(int k) {
+        return topRows((a, b) -> prices[a] != prices[b]
+                ? Double.compare(prices[a], prices[b]) : Integer.compare(a, b), k);
+    }
+
+    /**
+     * Gets the k most recently released books, the earliest added first among equal years
+     * O(n log k) time complexity - a bounded heap over the year column
+     * @param k, the number of books to return
+     * @return List, up to k books, newest first
+     */
+    @Override
+    public List<Book> getMostRecent(int k) {
+        return topRows((a, b) -> years[a] != years[b]
+                ? Integer.compare(years[b], years[a]) : Integer.compare(a, b), k);
+    }
+
+    /**
+     * Gets the first k books in title order, the earliest added first among equal titles
+     * O(n log k) time complexity - a bounded heap over the title ids, comparing the shared dictionary strings
+     * @param k, the number of books to return
+     * @return List, up to k books, in title order
+     */
+    @Override
+    public List<Book> getFirstByTitle(int k) {
+        return topRows((a, b) -> {
+            int byTitle = titleIds[a] == titleIds[b] ? 0 : titles.get(titleIds[a]).compareTo(titles.get(titleIds[b]));
+            return byTitle != 0 ? byTitle : Integer.compare(a, b);
+        }, k);
+    }
+
+    /**
+     * Selects the first k live rows in an order and creates their books
+     * @param order, the order of the rows, broken by row number
+     * @param k, the number of books to return
+     * @return List, up to k books in order
+     */
+    private List<Book> topRows(TopRows.RowOrder order, int k) {
+        int[] rows = TopRows.select(length, row -> isbns[row] != EMPTY, order, k);
+        List<Book> bookList = new ArrayList<>(rows.length);
+        for (int row : rows) {
+            bookList.add(materialize(row));
+        }
+        return bookList;
+    }
+
+    /**
+     * Gets a copy of the bookstore as an array, creating a Book for every row
+     * O(n) time complexity - Has to loop over each row to create its book
+     * @return Book[], a copy of the original bookstore in array format
+     */
+    public Book[] snapshotArray() {
+        Book[] bookArray = new Book[size];
+        int index = 0;
+        for (int row = 0; row < length; row++) {
+            if (isbns[row] != EMPTY) {
+                bookArray[index++] = materialize(row);
+            }
+        }
+        return bookArray;
+    }
+
+    /**
+     * Gets a copy of the bookstore as a list, creating a Book for every row
+     * O(n) time complexity - Has to loop over each row to create its book
+     * @return List, a copy of the original bookstore in a list format
+     */
+    public List<Book> getAllBooks() {
+        return new ArrayList<>(Arrays.asList(snapshotArray()));
+    }
+}
@@ -0,0 +1,316 @@
+package com.university.bookstore.impl;
+import com.university.bookstore.api.BookstoreAPI;
+import com.university.bookstore.model.Book;
+import com.university.bookstore.utils.CompensatedSum;
+import com.university.bookstore.utils.SearchKeys;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Thread-safe Bookstore API implemented using concurrent maps
+ *
+ * <p>Books are stored in a ConcurrentHashMap keyed by ISBN. Reads of that map never
+ * lock, so findByIsbn is lock-free, and updates only lock the hash bin of their own
+ * ISBN, so adds and removes of different books run in parallel instead of queueing
+ * behind one global lock. The duplicate ISBN rule holds under races because the check
+ * and the insert happen in a single atomic {@code compute} on that bin.</p>
+ *
+ * <p>Insertion order is kept in a ConcurrentSkipListMap keyed by a sequence number
+ * handed out on every add, and is updated inside the same atomic step, so getAllBooks
+ * and snapshotArray return books in the order they were added. Queries iterate that map
+ * without locking; their results are weakly consistent, meaning they reflect every
+ * change completed before the query started and may or may not reflect changes made
+ * while it runs.</p>
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ *
+ * @see BookstoreAPI
+ * @see BookstoreArrayList
+ * @see Book
+ *
+ */
+
+public class BookstoreConcurrentHashMap implements BookstoreAPI {
+
+    /**
+     * A stored book together with its position in insertion order.
+     */
+    private static final class Entry {
+        private final Book book;
+        private final long sequence;
+
+        private Entry(Book book, long sequence) {
+            this.book = book;
+            this.sequence = sequence;
+        }
+    }
+
+    private final ConcurrentHashMap<String, Entry> books;
+    private final ConcurrentNavigableMap<Long, Book> order;
+    private final AtomicLong nextSequence;
+
+    /**
+     * Create an empty bookstore
+     */
+    public BookstoreConcurrentHashMap() {
+        this.books = new ConcurrentHashMap<>();
+        this.order = new ConcurrentSkipListMap<>();
+        this.nextSequence = new AtomicLong();
+    }
+
+    /**
+     * Adds a book to the bookstore, but checks if it is null or already
+     * exists by ISBN before adding, atomically with respect to other adds and removes
+     * O(log n) time complexity - a hash insert plus the insertion order update,
+     * only locking the hash bin of this ISBN
+     * @param book, a book object
+     * @return false if null or already exists, true otherwise
+     */
+    public boolean add(Book book) {
+        if (book == null) {
+            return false;
+        }
+
+        boolean[] added = new boolean[1];
+        books.compute(book.getIsbn(), (isbn, current) -> {
+            if (current != null) {
+                return current;
+            }
+            Entry entry = new Entry(book, nextSequence.getAndIncrement());
+            order.put(entry.sequence, book);
+            added[0] = true;
+            return entry;
+        });
+
+        return added[0];
+    }
+
+    /**
+     * Searches for a book by the given ISBN code
+     * O(1) time complexity - a single lock-free hash lookup
+     * @param isbn, a 10 or 13 length code
+     * @return Book, the book by the ISBN if found, otherwise null
+     */
+    public Book findByIsbn(String isbn) {
+        if (isbn == null || isbn.trim().isEmpty()) {
+            return null;
+        }
+
+        Entry entry = books.get(isbn);
+        return entry == null ? null : entry.book;
+    }
+
+    /**
+     * Removes a book from the bookstore when provided a ISBN
+     * O(log n) time complexity - a hash removal plus the insertion order update,
+     * only locking the hash bin of this ISBN
+     * @param isbn, a 10 or 13 length code
+     * @return boolean, true if a book with the ISBN is found, false otherwise
+     */
+    public boolean removeByIsbn(String isbn) {
+        if (isbn == null || isbn.trim().isEmpty()) {
+            return false;
+        }
+
+        boolean[] removed = new boolean[1];
+        books.computeIfPresent(isbn, (key, current) -> {
+            order.remove(current.sequence);
+            removed[0] = true;
+            return null;
+        });
+
+        return removed[0];
+    }
+
+    /**
+     * Returns a list of books that has the provided title in its title name
+     * O(n) time complexity - Has to check each book if it contains the given title
+     * @param title, the title of the book, case-insensitive and partial matching
+     * @return List, a list of books
+     */
+    public List<Book> findByTitle(String title) {
+        if (title == null || title.trim().isEmpty()) {
+            return null;
+        }
+
+        ArrayList<Book> bookList = new ArrayList<>();
+        title = SearchKeys.normalize(title);
+
+        for (Book currBook: order.values()) {
+            if (currBook.getTitleKey().contains(title)) {
+                bookList.add(currBook);
+            }
+        }
+
+        return bookList;
+    }
+
+    /**
+     * Searches through to find all books that contain the given author name
+     * O(n) time complexity - Has to search through each book to see if it contains the name
+     * @param author, the author name, case-insensitive and partial matching
+     * @return List, a list of books that contains the author's name
+     */
+    public List<Book> findByAuthor(String author) {
+        if (author == null || author.trim().isEmpty()) {
+            return null;
+        }
+
+        author = SearchKeys.normalize(author);
+
+        ArrayList<Book> bookList = new ArrayList<>();
+
+        for (Book currBook: order.values()) {
+            if (currBook.getAuthorKey().contains(author)) {
+                bookList.add(currBook);
+            }
+        }
+
+        return bookList;
+    }
+
+    /**
+     * Finds books within the given price range of min and max
+     * O(n) time complexity - Has to check each book to see if it is within that range
+     * @param min, the minimum price
+     * @param max, the maximum price
+     * @return List, a list of books between the min and max price range
+     */
+    public List<Book> findByPriceRange(double min, double max) {
+        if (min > max) {
+            throw new IllegalArgumentException("Min cannot be greater than max");
+        }
+
+        if (min < 0 || max <= 0) {
+            throw new IllegalArgumentException("Price is invalid");
+        }
+
+        ArrayList<Book> bookList = new ArrayList<>();
+
+        for (Book currBook: order.values()) {
+            if (currBook.getPrice() >= min && currBook.getPrice() <= max) {
+                bookList.add(currBook);
+            }
+        }
+
+        return bookList;
+    }
+
+    /**
+     * Finds books that were released on the provided year
+     * O(n) time complexity - Has to check all books if it were released on that year
+     * @param year, the year the book was released on
+     * @return List, a list of books that were released on the given year
+     */
+    public List<Book> findByYear(int year) {
+        if (year <= 0 || year > 2025) {
+            return null;
+        }
+
+        ArrayList<Book> bookList = new ArrayList<>();
+        for (Book currBook: order.values()) {
+            if (currBook.getYear() == year) {
+                bookList.add(currBook);
+            }
+        }
+
+        return bookList;
+    }
+
+    /**
+     * Checks how many books are in the bookstore
+     * O(1) constant time complexity - reads the counters of the hash map
+     * @return the size of the bookstore
+     */
+    public int size() {
+        return this.books.size();
+    }
+
+    /**
+     * Gets the inventory value of all the books inside the bookstore
+     * O(n) time complexity - sums the books present with a compensated sum, so the total
+     * does not drift however many adds and removes came before
+     * @return inventoryValue, the value of all books combined
+     */
+    public double inventoryValue() {
+        CompensatedSum inventoryValue = new CompensatedSum();
+        for (Entry entry : books.values()) {
+            inventoryValue.add(entry.book.getPrice());
+        }
+        return inventoryValue.value();
+    }
+
+    /**
+     * Checks to see which is the most expensive book inside the bookstore
+     * O(n) time complexity - Has to compare every book with its cost
+     * @return Book, the most expensive book
+     */
+    public Book getMostExpensive() {
+        Book mostExpensive = null;
+        double maxPrice = 0;
+
+        for (Book currBook: order.values()) {
+            if (currBook.getPrice() >= maxPrice) {
+                maxPrice = currBook.getPrice();
+                mostExpensive = currBook;
+            }
+        }
+
+        return mostExpensive;
+    }
+
+    /**
+     * Gets the book that was released most recently
+     * O(n) time complexity - Has to check and compare its release date
+     * @return Book, the book that was released most recently
+     */
+    public Book getMostRecent() {
+        Book mostRecent = null;
+        int mostRecentYear = 0;
+
+        for (Book currBook: order.values()) {
+            if (currBook.getYear() > mostRecentYear) {
+                mostRecent = currBook;
+                mostRecentYear = currBook.getYear();
+            }
+        }
+
+        return mostRecent;
+    }
+
+    /**
+     * Streams the books of the bookstore without copying them
+     * O(1) time complexity to start - the stream is weakly consistent, it never fails while other
+     * threads add or remove books and may or may not see their changes
+     * @return Stream, the books in insertion order
+     */
+    @Override
+    public Stream<Book> stream() {
+        return order.values().stream();
+    }
+
+    /**
+     * Gets a defensive copy of the original bookstore as an array
+     * O(n) time complexity - Has to loop over each book to copy over
+     * @return Book[], a copy of the original bookstore in array format
+     */
+    public Book[] snapshotArray() {
+        return this.order.values().toArray(new Book[0]);
+    }
+
+    /**
+     * Gets a defensive copy of the original bookstore as a list
+     * O(n) time complexity - Has to loop over each book to copy over
+     * @return List, a copy of the original bookstore in a list format
+     */
+    public List<Book> getAllBooks() {
+        return new ArrayList<>(this.order.values());
+    }
+}
@@ -0,0 +1,368 @@
+package com.university.bookstore.impl;
+import com.university.bookstore.api.BookSlots;
+import com.university.bookstore.api.BookSnapshot;
+import com.university.bookstore.api.BookstoreAPI;
+import com.university.bookstore.api.BulkAddResult;
+import com.university.bookstore.model.Book;
+import com.university.bookstore.utils.SearchKeys;
+import com.university.bookstore.utils.IsbnCodec;
+import com.university.bookstore.utils.LongIntHashMap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Bookstore API implemented using a copy-on-write array with versioned snapshots
+ *
+ * <p>Books are appended to a {@link BookSlots} array, and a primitive map keyed by the
+ * {@link IsbnCodec} code of the ISBN remembers the slot of every book. Removing a book empties its slot instead of shifting the array,
+ * and the array is compacted once more than half of its slots are empty.</p>
+ *
+ * <p>{@link #snapshot()} runs in O(1): the snapshot shares the current array and only
+ * remembers how many slots belong to it. Appends write past that point, so they never
+ * disturb an existing snapshot. The first removal after a snapshot copies the array
+ * before emptying the slot (copy-on-write), and later removals reuse that private copy
+ * until the next snapshot is taken. Snapshots can be iterated from any thread while
+ * writers keep going. The store itself is synchronized, so it is safe to share between
+ * threads as well.</p>
+ *
+ * <p>Queries and aggregates scan the current array without holding the lock, so they
+ * never block writers, and without marking it shared, so a removal after a query does
+ * not copy it. Slots are only ever emptied in place, never refilled, so a query sees
+ * every book present when it started that is not removed while it runs. Only snapshots
+ * handed to callers make the next removal copy the array.</p>
+ *
+ * <p>snapshotArray and getAllBooks copy the books under the lock, so like a snapshot they
+ * hold the inventory exactly as it was at one moment, and they return a defensive copy,
+ * as required by {@link BookstoreAPI}; callers that only read should use snapshot
+ * instead.</p>
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ *
+ * @see BookstoreAPI
+ * @see BookSnapshot
+ * @see Book
+ *
+ */
+
+public class BookstoreCopyOnWrite implements BookstoreAPI {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final BookSlots slots;
+    private long version;
+    private final LongIntHashMap slotByIsbn;
+
+    /**
+     * Create an empty bookstore
+     */
+    public BookstoreCopyOnWrite() {
+        this.slots = new BookSlots(INITIAL_CAPACITY);
+        this.slotByIsbn = new LongIntHashMap();
+    }
+
+    /**
+     * Adds a book to the bookstore, but checks if it is null or already
+     * exists by ISBN before adding
+     * O(1) amortized time complexity - a hash lookup and an append, existing snapshots are never copied
+     * @param book, a book object
+     * @return false if null or already exists, true otherwise
+     */
+    public synchronized boolean add(Book book) {
+        if (book == null) {
+            return false;
+        }
+
+        long isbn = IsbnCodec.encode(book.getIsbn());
+        if (slotByIsbn.containsKey(isbn)) {
+            return false;
+        }
+
+        slotByIsbn.put(isbn, slots.append(book));
+        version++;
+        return true;
+    }
+
+    /**
+     * Adds a batch of books to the bookstore, rejecting null books and ISBNs that
+     * already exist in the bookstore or earlier in the batch
+     * O(m) time complexity - the slots and the ISBN map are grown once for the whole batch
+     * @param newBooks, the books to add
+     * @return BulkAddResult, whether each book was added
+     */
+    @Override
+    public synchronized BulkAddResult addAll(Book[] newBooks) {
+        if (newBooks == null) {
+            throw new IllegalArgumentException("Books cannot be null");
+        }
+
+        slots.ensureCapacity(slots.length() + newBooks.length);
+        slotByIsbn.ensureCapacity(slotByIsbn.size() + newBooks.length);
+
+        boolean[] accepted = new boolean[newBooks.length];
+        for (int i = 0; i < newBooks.length; i++) {
+            accepted[i] = add(newBooks[i]);
+        }
+
+        return new BulkAddResult(accepted);
+    }
+
+    /**
+     * Searches for a book by the given ISBN code
+     * O(1) time complexity - a single hash lookup
+     * @param isbn, a 10 or 13 length code
+     * @return Book, the book by the ISBN if found, otherwise null
+     */
+    public synchronized Book findByIsbn(String isbn) {
+        if (isbn == null || isbn.trim().isEmpty()) {
+            return null;
+        }
+
+        int slot = slotByIsbn.get(IsbnCodec.encode(isbn));
+        return slot == LongIntHashMap.MISSING ? null : slots.get(slot);
+    }
+
+    /**
+     * Removes a book from the bookstore when provided a ISBN
+     * O(1) amortized time complexity - empties the slot, copying the array first only if a
+     * snapshot still shares it
+     * @param isbn, a 10 or 13 length code
+     * @return boolean, true if a book with the ISBN is found, false otherwise
+     */
+    public synchronized boolean removeByIsbn(String isbn) {
+        if (isbn == null || isbn.trim().isEmpty()) {
+            return false;
+        }
+
+        int slot = slotByIsbn.remove(IsbnCodec.encode(isbn));
+        if (slot == LongIntHashMap.MISSING) {
+            return false;
+        }
+
+        slots.clear(slot);
+        version++;
+
+        if (slots.length() > INITIAL_CAPACITY && slots.size() < slots.length() / 2) {
+            // amortized over the removals that emptied the slots
+            slots.compact(INITIAL_CAPACITY, (book, next) -> slotByIsbn.put(IsbnCodec.encode(book.getIsbn()), next));
+        }
+        return true;
+    }
+
+    /**
+     * Takes an immutable view of the current inventory without copying it
+     * O(1) constant time complexity - the view shares the slot array
+     * @return BookSnapshot, the books in insertion order at this version
+     */
+    public synchronized BookSnapshot snapshot() {
+        return slots.snapshot(version);
+    }
+
+    /**
+     * Gets the slots to scan for a query, without marking the array shared
+     * O(1) constant time complexity
+     * @return Iterable, the books present now, minus the ones removed while it is read
+     */
+    private synchronized Iterable<Book> scan() {
+        return slots.scan();
+    }
+
+    /**
+     * Streams the current books for the queries and aggregates built on streams, without
+     * marking the array shared
+     * O(1) time complexity to start, then each slot is read as the stream is consumed
+     * @return Stream, the books in insertion order, minus the ones removed while it is read
+     */
+    @Override
+    public Stream<Book> stream() {
+        return StreamSupport.stream(scan().spliterator(), false);
+    }
+
+    /**
+     * Gets the number of adds and removes applied to the bookstore so far
+     * O(1) constant time complexity
+     * @return the current version
+     */
+    public synchronized long version() {
+        return version;
+    }
+
+    /**
+     * Returns a list of books that has the provided title in its title name
+     * O(n) time complexity - Has to check each book if it contains the given title
+     * @param title, the title of the book, case-insensitive and partial matching
+     * @return List, a list of books
+     */
+    public List<Book> findByTitle(String title) {
+        if (title == null || title.trim().isEmpty()) {
+            return null;
+        }
+
+        ArrayList<Book> bookList = new ArrayList<>();
+        title = SearchKeys.normalize(title);
+
+        for (Book currBook: scan()) {
+            if (currBook.getTitleKey().contains(title)) {
+                bookList.add(currBook);
+            }
+        }
+
+        return bookList;
+    }
+
+    /**
+     * Searches through to find all books that contain the given author name
+     * O(n) time complexity - Has to search through each book to see if it contains the name
+     * @param author, the author name, case-insensitive and partial matching
+     * @return List, a list of books that contains the author's name
+     */
+    public List<Book> findByAuthor(String author) {
+        if (author == null || author.trim().isEmpty()) {
+            return null;
+        }
+
+        author = SearchKeys.normalize(author);
+
+        ArrayList<Book> bookList = new ArrayList<>();
+
+        for (Book currBook: scan()) {
+            if (currBook.getAuthorKey().contains(author)) {
+                bookList.add(currBook);
+            }
+        }
+
+        return bookList;
+    }
+
+    /**
+     * Finds books within the given price range of min and max
+     * O(n) time complexity - Has to check each book to see if it is within that range
+     * @param min, the minimum price
+     * @param max, the maximum price
+     * @return List, a list of books between the min and max price range
+     */
+    public List<Book> findByPriceRange(double min, double max) {
+        if (min > max) {
+            throw new IllegalArgumentException("Min cannot be greater than max");
+        }
+
+        if (min < 0 || max <= 0) {
+            throw new IllegalArgumentException("Price is invalid");
+        }
+
+        ArrayList<Book> bookList = new ArrayList<>();
+
+        for (Book currBook: scan()) {
+            if (currBook.getPrice() >= min && currBook.getPrice() <= max) {
+                bookList.add(currBook);
+            }
+        }
+
+        return bookList;
+    }
+
+    /**
+     * Finds books that were released on the provided year
+     * O(n) time complexity - Has to check all books if it were released on that year
+     * @param year, the year the book was released on
+     * @return List, a list of books that were released on the given year
+     */
+    public List<Book> findByYear(int year) {
+        if (year <= 0 || year > 2025) {
+            return null;
+        }
+
+        ArrayList<Book> bookList = new ArrayList<>();
+        for (Book currBook: scan()) {
+            if (currBook.getYear() == year) {
+                bookList.add(currBook);
+            }
+        }
+
+        return bookList;
+    }
+
+    /**
+     * Checks how many books are in the bookstore
+     * O(1) constant time complexity - only lookup needed, no searching
+     * @return the size of the bookstore
+     */
+    public synchronized int size() {
+        return slots.size();
+    }
+
+    /**
+     * Gets the inventory value of all the books inside the bookstore
+     * O(n) time complexity - Has to go through all books to add its value to the total
+     * @return inventoryValue, the value of all books combined
+     */
+    public double inventoryValue() {
+        double inventoryValue = 0;
+
+        for (Book currBook: scan()) {
+            inventoryValue += currBook.getPrice();
+        }
+
+        return inventoryValue;
+    }
+
+    /**
+     * Checks to see which is the most expensive book inside the bookstore
+     * O(n) time complexity - Has to compare every book with its cost
+     * @return Book, the most expensive book
+     */
+    public Book getMostExpensive() {
+        Book mostExpensive = null;
+        double maxPrice = 0;
+
+        for (Book currBook: scan()) {
+            if (currBook.getPrice() >= maxPrice) {
+                maxPrice = currBook.getPrice();
+                mostExpensive = currBook;
+            }
+        }
+
+        return mostExpensive;
+    }
+
+    /**
+     * Gets the book that was released most recently
+     * O(n) time complexity - Has to check and compare its release date
+     * @return Book, the book that was released most recently
+     */
+    public Book getMostRecent() {
+        Book mostRecent = null;
+        int mostRecentYear = 0;
+
+        for (Book currBook: scan()) {
+            if (currBook.getYear() > mostRecentYear) {
+                mostRecent = currBook;
+                mostRecentYear = currBook.getYear();
+            }
+        }
+
+        return mostRecent;
+    }
+
+    /**
+     * Gets a defensive copy of the original bookstore as an array, copied under the lock
+     * so it holds the books of a single moment
+     * O(n) time complexity - Has to loop over each book to copy over
+     * @return Book[], a copy of the original bookstore in array format
+     */
+    public synchronized Book[] snapshotArray() {
+        return slots.toArray();
+    }
+
+    /**
+     * Gets a defensive copy of the original bookstore as a list, copied under the lock
+     * O(n) time complexity - Has to loop over each book to copy over
+     * @return List, a copy of the original bookstore in a list format
+     */
+    public List<Book> getAllBooks() {
+        return new ArrayList<>(Arrays.asList(snapshotArray()));
+    }
+}
@@ -0,0 +1,567 @@
+package com.university.bookstore.impl;
+import com.university.bookstore.api.BookstoreAPI;
+import com.university.bookstore.api.BulkAddResult;
+import com.university.bookstore.api.Page;
+import com.university.bookstore.index.AuthorIndex;
+import com.university.bookstore.index.PriceIndex;
+import com.university.bookstore.index.TitleIndex;
+import com.university.bookstore.index.YearIndex;
+import com.university.bookstore.model.Book;
+import com.university.bookstore.utils.CompensatedSum;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Bookstore API implemented using an ISBN keyed hash index
+ *
+ * <p>This class stores books in a LinkedHashMap keyed by ISBN, so adding, finding
+ * and removing a book by its ISBN runs in amortized O(1) instead of scanning the whole
+ * inventory. The map keeps insertion order, so getAllBooks and snapshotArray return
+ * books in the same order as {@link BookstoreArrayList}. Duplicate ISBNs are denied and
+ * a defensive copy is returned so the original data is not affected</p>
+ *
+ * <p>Secondary indexes are kept up to date on every add and remove so queries only
+ * touch the books they return:</p>
+ * <ul>
+ *   <li>{@link AuthorIndex} answers findByAuthor and countByAuthor from token postings</li>
+ *   <li>{@link PriceIndex} answers findByPriceRange and getMostExpensive</li>
+ *   <li>{@link TitleIndex} answers findByTitle from trigram postings</li>
+ *   <li>{@link YearIndex} answers findByYear, findByDecade, countBeforeYear and getMostRecent</li>
+ * </ul>
+ *
+ * <p>The inventory value, most expensive and most recent book are kept as running
+ * aggregates, so reading them is O(1). The value uses {@link CompensatedSum} so it does
+ * not drift over millions of adds and removes, and removing the current most expensive
+ * or most recent book falls back to its index instead of rescanning the inventory.</p>
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ *
+ * @see BookstoreAPI
+ * @see BookstoreArrayList
+ * @see Book
+ *
+ */
+
+public class BookstoreHashMap implements BookstoreAPI {
+    private Map<String, Book> books;
+    private int presized;
+    private final TitleIndex titleIndex;
+    private final AuthorIndex authorIndex;
+    private final PriceIndex priceIndex;
+    private final YearIndex yearIndex;
+    private final CompensatedSum inventoryValue;
+    private Book mostExpensive;
+    private Book mostRecent;
+
+    /**
+     * Create an empty bookstore
+     */
+    public BookstoreHashMap() {
+        this(0);
+    }
+
+    /**
+     * Create an empty bookstore that holds the given number of books without rehashing
+     * @param expectedSize, the number of books expected
+     */
+    public BookstoreHashMap(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size cannot be negative");
+        }
+        this.books = new LinkedHashMap<>(capacityFor(expectedSize));
+        this.presized = expectedSize;
+        this.titleIndex = new TitleIndex();
+        this.authorIndex = new AuthorIndex();
+        this.priceIndex = new PriceIndex();
+        this.yearIndex = new YearIndex();
+        this.inventoryValue = new CompensatedSum();
+    }
+
+    /**
+     * Gets the hash map capacity that holds the given number of books without rehashing
+     */
+    private static int capacityFor(long size) {
+        return Math.max(16, (int) Math.min(1 << 30, size * 4 / 3 + 1));
+    }
+
+    /**
+     * Adds a book to the bookstore, but checks if it is null or already
+     * exists by ISBN before adding
+     * O(log n) time complexity - a single hash lookup and insert, plus the index updates
+     * @param book, a book object
+     * @return false if null or already exists, true otherwise
+     */
+    public boolean add(Book book) {
+        if (book == null) {
+            return false;
+        }
+
+        if (books.putIfAbsent(book.getIsbn(), book) != null) {
+            return false;
+        }
+
+        index(book);
+        return true;
+    }
+
+    /**
+     * Adds a batch of books to the bookstore, rejecting null books and ISBNs that
+     * already exist in the bookstore or earlier in the batch
+     * O(m log n) time complexity - the map is presized once for a batch larger than the
+     * inventory, one pass stores and deduplicates the batch, then every index is built
+     * for the accepted books at once: postings are grouped per trigram and token, prices
+     * are inserted in sorted order and the histograms are updated once per bucket
+     * @param newBooks, the books to add
+     * @return BulkAddResult, whether each book was added
+     */
+    @Override
+    public BulkAddResult addAll(Book[] newBooks) {
+        if (newBooks == null) {
+            throw new IllegalArgumentException("Books cannot be null");
+        }
+
+        long needed = (long) books.size() + newBooks.length;
+        if (newBooks.length > books.size() && needed > presized) {
+            // copying the smaller inventory once is cheaper than rehashing during the batch
+            Map<String, Book> grown = new LinkedHashMap<>(capacityFor(needed));
+            grown.putAll(books);
+            books = grown;
+            presized = (int) Math.min(Integer.MAX_VALUE, needed);
+        }
+
+        boolean[] accepted = new boolean[newBooks.length];
+        List<Book> added = new ArrayList<>();
+        for (int i = 0; i < newBooks.length; i++) {
+            Book book = newBooks[i];
+            accepted[i] = book != null && books.putIfAbsent(book.getIsbn(), book) == null;
+            if (accepted[i]) {
+                added.add(book);
+            }
+        }
+
+        titleIndex.addAll(added);
+        authorIndex.addAll(added);
+        priceIndex.addAll(added);
+        yearIndex.addAll(added);
+        for (Book book : added) {
+            aggregate(book);
+        }
+
+        return new BulkAddResult(accepted);
+    }
+
+    /**
+     * Searches for a book by the given ISBN code
+     * O(1) time complexity - a single hash lookup
+     * @param isbn, a 10 or 13 length code
+     * @return Book, the book by the ISBN if found, otherwise null
+     */
+    public Book findByIsbn(String isbn) {
+        if (isbn == null || isbn.trim().isEmpty()) {
+            return null;
+        }
+
+        return books.get(isbn);
+    }
+
+    /**
+     * Removes a book from the bookstore when provided a ISBN
+     * O(log n) time complexity - a single hash removal, plus the index updates
+     * @param isbn, a 10 or 13 length code
+     * @return boolean, true if a book with the ISBN is found, false otherwise
+     */
+    public boolean removeByIsbn(String isbn) {
+        if (isbn == null || isbn.trim().isEmpty()) {
+            return false;
+        }
+
+        Book removed = books.remove(isbn);
+        if (removed == null) {
+            return false;
+        }
+
+        unindex(removed);
+        return true;
+    }
+
+    /**
+     * Adds a newly stored book to every index and running aggregate
+     * @param book, the book that was just stored
+     */
+    private void index(Book book) {
+        titleIndex.add(book);
+        authorIndex.add(book);
+        priceIndex.add(book);
+        yearIndex.add(book);
+        aggregate(book);
+    }
+
+    /**
+     * Adds a newly stored and indexed book to the running aggregates
+     * @param book, the book that was just stored
+     */
+    private void aggregate(Book book) {
+        inventoryValue.add(book.getPrice());
+        double maxPrice = mostExpensive == null ? 0 : mostExpensive.getPrice();
+        if (book.getPrice() >= maxPrice) {
+            mostExpensive = book;
+        }
+        if (mostRecent == null || book.getYear() > mostRecent.getYear()) {
+            mostRecent = book;
+        }
+    }
+
+    /**
+     * Removes a book that is no longer stored from every index and running aggregate
+     * @param book, the book that was just removed
+     */
+    private void unindex(Book book) {
+        titleIndex.remove(book);
+        authorIndex.remove(book);
+        priceIndex.remove(book);
+        yearIndex.remove(book);
+
+        if (books.isEmpty()) {
+            inventoryValue.reset();
+        } else {
+            inventoryValue.add(-book.getPrice());
+        }
+        if (book == mostExpensive) {
+            mostExpensive = priceIndex.max();
+        }
+        if (book == mostRecent) {
+            mostRecent = yearIndex.mostRecent();
+        }
+    }
+
+    /**
+     * Returns a list of books that has the provided title in its title name
+     * O(c) time complexity - only the candidates sharing every trigram of the title are checked,
+     * titles shorter than three characters fall back to a scan of the cached lower case titles
+     * @param title, the title of the book, case-insensitive and partial matching
+     * @return List, a list of books
+     */
+    public List<Book> findByTitle(String title) {
+        if (title == null || title.trim().isEmpty()) {
+            return null;
+        }
+
+        return titleIndex.search(title);
+    }
+
+    /**
+     * Finds all books whose author name contains the given name
+     * O(c log t) time complexity - only the books posted under the t name tokens containing the query are checked
+     * @param author, the author name, case-insensitive and partial matching
+     * @return List, a list of books that contains the author's name
+     */
+    public List<Book> findByAuthor(String author) {
+        if (author == null || author.trim().isEmpty()) {
+            return null;
+        }
+
+        return authorIndex.search(author);
+    }
+
+    /**
+     * Counts the books written by exactly the given author, case-sensitive
+     * O(k) time complexity - only the books posted under that name are checked
+     * @param author, the author's full name
+     * @return the number of books by the author, 0 if null or none
+     */
+    public int countByAuthor(String author) {
+        return authorIndex.countByAuthor(author);
+    }
+
+    /**
+     * Finds books within the given price range of min and max
+     * O(log n + k) time complexity - walks only the matching part of the price index
+     * @param min, the minimum price
+     * @param max, the maximum price
+     * @return List, a list of books between the min and max price range, ordered by price
+     */
+    public List<Book> findByPriceRange(double min, double max) {
+        if (min > max) {
+            throw new IllegalArgumentException("Min cannot be greater than max");
+        }
+
+        if (min < 0 || max <= 0) {
+            throw new IllegalArgumentException("Price is invalid");
+        }
+
+        return priceIndex.range(min, max);
+    }
+
+    /**
+     * Finds books that were released on the provided year
+     * O(k) time complexity - returns the bucket of that year from the year index
+     * @param year, the year the book was released on
+     * @return List, a list of books that were released on the given year
+     */
+    public List<Book> findByYear(int year) {
+        if (year <= 0 || year > 2025) {
+            return null;
+        }
+
+        return yearIndex.findByYear(year);
+    }
+
+    /**
+     * Streams the books whose title contains the given title, reading the title index
+     * lazily so a page or a limit stops early
+     * O(p) time complexity to start, p being the number of trigrams of the title, then each
+     * candidate of the smallest posting set is checked when it is read
+     * @param title, the title of the book, case-insensitive and partial matching
+     * @return Stream, the matching books in insertion order, empty if the title is null or blank
+     */
+    @Override
+    public Stream<Book> streamByTitle(String title) {
+        if (title == null || title.trim().isEmpty()) {
+            return Stream.empty();
+        }
+
+        return titleIndex.stream(title);
+    }
+
+    /**
+     * Streams the books whose author name contains the given name, reading the author index
+     * lazily so a page or a limit stops early
+     * O(t log t) time complexity to start, t being the number of matching tokens, then O(log t) per book read
+     * @param author, the author name, case-insensitive and partial matching
+     * @return Stream, the matching books in insertion order, empty if the name is null or blank
+     */
+    @Override
+    public Stream<Book> streamByAuthor(String author) {
+        if (author == null || author.trim().isEmpty()) {
+            return Stream.empty();
+        }
+
+        return authorIndex.stream(author);
+    }
+
+    /**
+     * Streams the books within the given price range straight from the price index
+     * O(log n) time complexity to start, then O(1) per book read
+     * @param min, the minimum price
+     * @param max, the maximum price
+     * @return Stream, the books between the min and max price ordered by price
+     */
+    @Override
+    public Stream<Book> streamByPriceRange(double min, double max) {
+        if (min > max) {
+            throw new IllegalArgumentException("Min cannot be greater than max");
+        }
+
+        if (min < 0 || max <= 0) {
+            throw new IllegalArgumentException("Price is invalid");
+        }
+
+        return priceIndex.stream(min, max);
+    }
+
+    /**
+     * Gets the page of books within the given price range that comes after a cursor, cheapest first.
+     * The price index is already sorted by price, so the walk starts at the price of the cursor
+     * and stops at the first price past the page
+     * O(log n + k log k) time complexity - k being the page size plus the books that share the cursor's price
+     * @param min, the minimum price
+     * @param max, the maximum price
+     * @param after, the last book of the previous page, or null for the first page
+     * @param limit, the largest number of books on the page
+     * @return Page, the books ordered by price then ISBN
+     */
+    @Override
+    public Page pageByPriceRange(double min, double max, Book after, int limit) {
+        Stream<Book> candidates = streamByPriceRange(min, max);
+        if (after != null && after.getPrice() > min) {
+            candidates = priceIndex.stream(after.getPrice(), max);
+        }
+
+        return Page.after(candidates, Page.PRICE_ORDER, Comparator.comparingDouble(Book::getPrice), after, limit);
+    }
+
+    /**
+     * Streams the books that were released on the provided year straight from its bucket of the year index
+     * O(1) time complexity to start, then O(1) per book read
+     * @param year, the year the book was released on
+     * @return Stream, the books released on the given year, empty if the year is invalid
+     */
+    @Override
+    public Stream<Book> streamByYear(int year) {
+        if (year <= 0 || year > 2025) {
+            return Stream.empty();
+        }
+
+        return yearIndex.stream(year);
+    }
+
+    /**
+     * Estimates how many books a title query checks, from the trigram posting sizes
+     * O(p) time complexity - p being the number of trigrams of the query
+     * @param title, the title of the book
+     * @return the size of the smallest posting set of the query, or the bookstore size for queries under three characters
+     */
+    @Override
+    public int estimateByTitle(String title) {
+        return titleIndex.estimate(title);
+    }
+
+    /**
+     * Estimates how many books an author query checks, from the token posting sizes
+     * O(t) time complexity - t being the number of name tokens that contain the query's first word
+     * @param author, the author name
+     * @return the number of books posted under the matching tokens
+     */
+    @Override
+    public int estimateByAuthor(String author) {
+        return authorIndex.estimate(author);
+    }
+
+    /**
+     * Estimates how many books a price range query reads, from the price histogram
+     * O(log B) time complexity - B being the number of histogram buckets
+     * @param min, the minimum price
+     * @param max, the maximum price
+     * @return the number of books in the price buckets the range touches
+     */
+    @Override
+    public int estimateByPriceRange(double min, double max) {
+        return priceIndex.estimate(min, max);
+    }
+
+    /**
+     * Counts the books a year query reads, the size of its bucket
+     * O(log Y) time complexity - a range sum over the year buckets
+     * @param year, the year the book was released on
+     * @return the number of books released on the given year
+     */
+    @Override
+    public int estimateByYear(int year) {
+        return yearIndex.countBetween(year, year);
+    }
+
+    /**
+     * Finds books that were released in the ten years starting at the given year
+     * O(k) time complexity - concatenates at most ten buckets of the year index
+     * @param decade, the starting year of the decade (e.g., 1990 for 1990–1999)
+     * @return List, a list of books released in that decade, ordered by year
+     */
+    public List<Book> findByDecade(int decade) {
+        return yearIndex.findByDecade(decade);
+    }
+
+    /**
+     * Counts the books that were released before the given year
+     * O(log Y) time complexity - a prefix sum over the year buckets, Y being the number of valid years
+     * @param yearCutoff, the cutoff year
+     * @return the number of books released before the cutoff year
+     */
+    public int countBeforeYear(int yearCutoff) {
+        return yearIndex.countBeforeYear(yearCutoff);
+    }
+
+    /**
+     * Checks how many books are in the bookstore
+     * O(1) constant time complexity - only lookup needed, no searching
+     * @return the size of the bookstore
+     */
+    public int size() {
+        return this.books.size();
+    }
+
+    /**
+     * Gets the inventory value of all the books inside the bookstore
+     * O(1) constant time complexity - reads the running compensated sum
+     * @return inventoryValue, the value of all books combined
+     */
+    public double inventoryValue() {
+        return inventoryValue.value();
+    }
+
+    /**
+     * Checks to see which is the most expensive book inside the bookstore,
+     * the latest added book wins when prices tie
+     * O(1) constant time complexity - reads the running maximum
+     * @return Book, the most expensive book
+     */
+    public Book getMostExpensive() {
+        return mostExpensive;
+    }
+
+    /**
+     * Gets the book that was released most recently, the earliest added book wins when years tie
+     * O(1) constant time complexity - reads the running maximum
+     * @return Book, the book that was released most recently
+     */
+    public Book getMostRecent() {
+        return mostRecent;
+    }
+
+    /**
+     * Gets the k most expensive books, the latest added first among equal prices
+     * O(log n + k) time complexity - reads the end of the price index
+     * @param k, the number of books to return
+     * @return List, up to k books, most expensive first
+     */
+    @Override
+    public List<Book> getMostExpensive(int k) {
+        return priceIndex.highest(k);
+    }
+
+    /**
+     * Gets the k cheapest books, the earliest added first among equal prices
+     * O(log n + k) time complexity - reads the start of the price index
+     * @param k, the number of books to return
+     * @return List, up to k books, cheapest first
+     */
+    @Override
+    public List<Book> getCheapest(int k) {
+        return priceIndex.lowest(k);
+    }
+
+    /**
+     * Gets the k most recently released books, the earliest added first among equal years
+     * O(Y + k) time complexity - reads the year buckets from the newest down
+     * @param k, the number of books to return
+     * @return List, up to k books, newest first
+     */
+    @Override
+    public List<Book> getMostRecent(int k) {
+        return yearIndex.mostRecent(k);
+    }
+
+    /**
+     * Streams the books of the bookstore without copying them
+     * O(1) time complexity to start - reads the map as the stream is consumed, so it must be
+     * consumed before the bookstore is modified
+     * @return Stream, the books in insertion order
+     */
+    @Override
+    public Stream<Book> stream() {
+        return this.books.values().stream();
+    }
+
+    /**
+     * Gets a defensive copy of the original bookstore as an array
+     * O(n) time complexity - Has to loop over each book to copy over
+     * @return Book[], a copy of the original bookstore in array format
+     */
+    public Book[] snapshotArray() {
+        return this.books.values().toArray(new Book[0]);
+    }
+
+    /**
+     * Gets a defensive copy of the original bookstore as a list
+     * O(n) time complexity - Has to loop over each book to copy over
+     * @return List, a copy of the original bookstore in a list format
+     */
+    public List<Book> getAllBooks() {
+        return new ArrayList<>(this.books.values());
+    }
+}
@@ -0,0 +1,610 @@
+package com.university.bookstore.impl;
+import com.university.bookstore.api.BookSnapshot;
+import com.university.bookstore.api.BookstoreAPI;
+import com.university.bookstore.api.BulkAddResult;
+import com.university.bookstore.io.BinarySnapshotReader;
+import com.university.bookstore.io.BinarySnapshotWriter;
+import com.university.bookstore.io.BookJournal;
+import com.university.bookstore.model.Book;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Durable Bookstore API that journals every add and remove before applying it to another store
+ *
+ * <p>This class wraps any {@link BookstoreAPI} and keeps it in a directory as a binary
+ * snapshot plus a {@link BookJournal} of the changes made since that snapshot. Every add
+ * or remove the wrapped store accepts is appended to the journal, and the call only
+ * returns once its record is on disk, so a crash never loses an acknowledged change.
+ * Rejected changes (duplicates, unknown ISBNs, books the wrapped store refuses) are not
+ * journaled, so replay never meets a change that was not applied.</p>
+ *
+ * <p>Concurrent writers share fsyncs through the journal's group commit: each writer
+ * appends and applies its change under this store's lock, then waits for the disk outside
+ * of it, where one fsync covers every writer waiting at that moment. A commit window
+ * makes the flushing thread wait a little longer to gather more writers, trading latency
+ * for throughput. Because changes are applied before their fsync completes, a concurrent
+ * reader can see a change shortly before the writer is told it is durable.</p>
+ *
+ * <p>Opening a directory recovers the store: the latest snapshot is loaded and the journal
+ * written after it is replayed. {@link #compact()} writes a new snapshot of the current
+ * inventory and starts an empty journal, so the journal does not grow forever. Snapshots
+ * and journals carry a generation number in their file name, and files of older
+ * generations are only deleted once the new snapshot is complete and the directory entry
+ * of the new generation is on disk, so a crash during compaction recovers from whichever
+ * generation was complete.</p>
+ *
+ * <p>Every call to the wrapped store is made under this store's lock, so the wrapped
+ * store does not need to be thread-safe. Journal failures are thrown as an
+ * {@link UncheckedIOException}, since the {@link BookstoreAPI} methods cannot throw
+ * IOException. Once a journal write has failed, the changes waiting for it are in memory
+ * but not on disk, so the store is failed: every later call, read or write, throws
+ * instead of showing or adding to changes the journal can no longer keep. Reopening the
+ * directory recovers the acknowledged changes.</p>
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ *
+ * @see BookstoreAPI
+ * @see BookJournal
+ * @see BinarySnapshotWriter
+ *
+ */
+
+public class BookstoreJournaled implements BookstoreAPI, Closeable {
+    private static final Pattern FILE_NAME = Pattern.compile("(snapshot|journal)-(\\d+)\\.(bin|log)");
+
+    private final BookstoreAPI delegate;
+    private final Path directory;
+    private final long commitWindowNanos;
+    private BookJournal journal;
+    private long generation;
+
+    /**
+     * Opens a durable bookstore that flushes as soon as a change is made
+     * @param delegate, the empty store that holds the books in memory
+     * @param directory, the directory of the snapshot and journal, created if missing
+     * @throws IOException if the directory cannot be read or recovered
+     */
+    public BookstoreJournaled(BookstoreAPI delegate, Path directory) throws IOException {
+        this(delegate, directory, 0);
+    }
+
+    /**
+     * Opens a durable bookstore, recovering the books saved in the directory
+     * @param delegate, the empty store that holds the books in memory
+     * @param directory, the directory of the snapshot and journal, created if missing
+     * @param commitWindowNanos, how long a flush waits for more changes before its fsync, 0 for none
+     * @throws IOException if the directory cannot be read or recovered
+     */
+    public BookstoreJournaled(BookstoreAPI delegate, Path directory, long commitWindowNanos) throws IOException {
+        if (delegate == null || directory == null) {
+            throw new IllegalArgumentException("Store and directory cannot be null");
+        }
+        if (delegate.size() != 0) {
+            throw new IllegalArgumentException("Store must be empty");
+        }
+        this.delegate = delegate;
+        this.directory = directory;
+        this.commitWindowNanos = commitWindowNanos;
+
+        Files.createDirectories(directory);
+        generation = latestGeneration();
+        Path snapshot = snapshotFile(generation);
+        if (Files.exists(snapshot)) {
+            new BinarySnapshotReader().load(snapshot, delegate);
+        }
+        BookJournal.replay(journalFile(generation), delegate);
+        journal = BookJournal.open(journalFile(generation), commitWindowNanos);
+        syncDirectory();
+        deleteOlderGenerations();
+    }
+
+    private Path snapshotFile(long gen) {
+        return directory.resolve("snapshot-" + gen + ".bin");
+    }
+
+    private Path journalFile(long gen) {
+        return directory.resolve("journal-" + gen + ".log");
+    }
+
+    private long latestGeneration() throws IOException {
+        long latest = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                Matcher m = FILE_NAME.matcher(file.getFileName().toString());
+                if (m.matches()) {
+                    latest = Math.max(latest, Long.parseLong(m.group(2)));
+                }
+            }
+        }
+        return latest;
+    }
+
+    /**
+     * Forces the directory entries of the current generation to disk, so deleting the
+     * previous generation cannot leave a crash with neither. Directories cannot be opened
+     * on Windows, where the file system orders these updates itself.
+     */
+    private void syncDirectory() throws IOException {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (AccessDeniedException e) {
+            // Windows
+        }
+    }
+
+    private void deleteOlderGenerations() throws IOException {
+        List<Path> old = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                Matcher m = FILE_NAME.matcher(file.getFileName().toString());
+                if (m.matches() && Long.parseLong(m.group(2)) < generation) {
+                    old.add(file);
+                }
+            }
+        }
+        for (Path file : old) {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * Checks that the journal has not failed, called under the lock by every method
+     */
+    private void checkJournal() {
+        try {
+            journal.ensureWritable();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void sync(BookJournal target, long sequence) {
+        try {
+            target.sync(sequence);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Adds a book to the bookstore, journaling it once the wrapped store accepts it, and
+     * returns once the journal record is on disk
+     * O(a) time complexity - the add of the wrapped store, plus a shared fsync
+     * @param book, a book object
+     * @return false if null, already exists or refused by the wrapped store, true otherwise
+     * @throws UncheckedIOException if the journal had already failed, in which case the book
+     * is not added, or if its record cannot be written, in which case the store is failed
+     * @throws IllegalArgumentException if the book is too large to journal, in which case it is not added
+     */
+    public boolean add(Book book) {
+        if (book == null) {
+            return false;
+        }
+
+        BookJournal target;
+        long sequence;
+        synchronized (this) {
+            checkJournal();
+            if (delegate.findByIsbn(book.getIsbn()) != null || !delegate.add(book)) {
+                return false;
+            }
+            try {
+                sequence = journal.appendAdd(book);
+            } catch (RuntimeException e) {
+                delegate.removeByIsbn(book.getIsbn());
+                throw e;
+            }
+            target = journal;
+        }
+        sync(target, sequence);
+        return true;
+    }
+
+    /**
+     * Adds a batch of books, journaling the ones the wrapped store accepts, and returns once
+     * all of their records are on disk with a single wait for the journal
+     * O(m + a) time complexity - the bulk add of the wrapped store, plus a shared fsync
+     * @param newBooks, the books to add
+     * @return BulkAddResult, whether each book was added
+     * @throws UncheckedIOException if the journal had already failed, in which case no book
+     * is added, or if the records cannot be written, in which case the store is failed
+     * @throws IllegalArgumentException if a book is too large to journal, in which case it
+     * and the books after it are not added
+     */
+    @Override
+    public BulkAddResult addAll(Book[] newBooks) {
+        if (newBooks == null) {
+            throw new IllegalArgumentException("Books cannot be null");
+        }
+
+        boolean[] accepted = new boolean[newBooks.length];
+        BookJournal target;
+        long sequence = 0;
+        synchronized (this) {
+            checkJournal();
+            Set<String> batch = new HashSet<>();
+            List<Book> candidates = new ArrayList<>();
+            int[] positions = new int[newBooks.length];
+            for (int i = 0; i < newBooks.length; i++) {
+                Book book = newBooks[i];
+                if (book != null && batch.add(book.getIsbn()) && delegate.findByIsbn(book.getIsbn()) == null) {
+                    positions[candidates.size()] = i;
+                    candidates.add(book);
+                }
+            }
+            BulkAddResult added = delegate.addAll(candidates);
+            for (int j = 0; j < candidates.size(); j++) {
+                if (!added.isAccepted(j)) {
+                    continue;
+                }
+                try {
+                    sequence = journal.appendAdd(candidates.get(j));
+                } catch (RuntimeException e) {
+                    for (int k = j; k < candidates.size(); k++) {
+                        if (added.isAccepted(k)) {
+                            delegate.removeByIsbn(candidates.get(k).getIsbn());
+                        }
+                    }
+                    throw e;
+                }
+                accepted[positions[j]] = true;
+            }
+            target = journal;
+        }
+        if (sequence > 0) {
+            sync(target, sequence);
+        }
+        return new BulkAddResult(accepted);
+    }
+
+    /**
+     * Removes a book from the bookstore, journaling it once the wrapped store has removed
+     * it, and returns once the journal record is on disk
+     * O(r) time complexity - the remove of the wrapped store, plus a shared fsync
+     * @param isbn, a 10 or 13 length code
+     * @return boolean, true if a book with the ISBN is found and removed, false otherwise
+     * @throws UncheckedIOException if the journal had already failed, in which case the book
+     * is not removed, or if its record cannot be written, in which case the store is failed
+     */
+    public boolean removeByIsbn(String isbn) {
+        if (isbn == null || isbn.trim().isEmpty()) {
+            return false;
+        }
+
+        BookJournal target;
+        long sequence;
+        synchronized (this) {
+            checkJournal();
+            Book book = delegate.findByIsbn(isbn);
+            if (book == null || !delegate.removeByIsbn(isbn)) {
+                return false;
+            }
+            try {
+                sequence = journal.appendRemove(book.getIsbn());
+            } catch (RuntimeException e) {
+                delegate.add(book);
+                throw e;
+            }
+            target = journal;
+        }
+        sync(target, sequence);
+        return true;
+    }
+
+    /**
+     * Writes a snapshot of the current inventory and starts a new, empty journal, then
+     * deletes the previous snapshot and journal
+     * O(n) time complexity - writes every book once, writers wait while it runs
+     * @throws IOException if the snapshot or the new journal cannot be written
+     */
+    public synchronized void compact() throws IOException {
+        journal.syncAll();
+        long next = generation + 1;
+        new BinarySnapshotWriter().write(delegate.snapshotArray(), snapshotFile(next));
+        BookJournal fresh = BookJournal.open(journalFile(next), commitWindowNanos);
+        BookJournal old = journal;
+        journal = fresh;
+        generation = next;
+        old.close();
+        syncDirectory();
+        deleteOlderGenerations();
+    }
+
+    /**
+     * Gets the size of the current journal, to decide when to compact
+     * @return the size in bytes
+     * @throws IOException if the size cannot be read
+     */
+    public synchronized long journalSize() throws IOException {
+        return journal.size();
+    }
+
+    /**
+     * Gets the number of fsyncs the current journal has made, each may cover many changes
+     * @return the fsync count
+     */
+    public synchronized long syncCount() {
+        return journal.syncCount();
+    }
+
+    /**
+     * Writes every pending journal record to disk and closes the journal
+     * @throws IOException if the journal cannot be written
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        journal.close();
+    }
+
+    /**
+     * Searches the wrapped store for a book by the given ISBN code
+     * @param isbn, a 10 or 13 length code
+     * @return Book, the book by the ISBN if found, otherwise null
+     */
+    public synchronized Book findByIsbn(String isbn) {
+        checkJournal();
+        return delegate.findByIsbn(isbn);
+    }
+
+    /**
+     * Searches the wrapped store for books that have the provided title in their title name
+     * @param title, the title of the book, case-insensitive and partial matching
+     * @return List, a list of books
+     */
+    public synchronized List<Book> findByTitle(String title) {
+        checkJournal();
+        return delegate.findByTitle(title);
+    }
+
+    /**
+     * Searches the wrapped store for books that contain the given author name
+     * @param author, the author name
+     * @return List, a list of books that contains the author's name
+     */
+    public synchronized List<Book> findByAuthor(String author) {
+        checkJournal();
+        return delegate.findByAuthor(author);
+    }
+
+    /**
+     * Finds books in the wrapped store within the given price range of min and max
+     * @param min, the minimum price
+     * @param max, the maximum price
+     * @return List, a list of books between the min and max price range
+     */
+    public synchronized List<Book> findByPriceRange(double min, double max) {
+        checkJournal();
+        return delegate.findByPriceRange(min, max);
+    }
+
+    /**
+     * Finds books in the wrapped store that were released on the provided year
+     * @param year, the year the book was released on
+     * @return List, a list of books that were released on the given year
+     */
+    public synchronized List<Book> findByYear(int year) {
+        checkJournal();
+        return delegate.findByYear(year);
+    }
+
+    /**
+     * Streams the books of the wrapped store that have the provided title in their title name.
+     * The matches are collected under the lock, since a lazy stream would read the wrapped
+     * store after the lock is released
+     * @param title, the title of the book, case-insensitive and partial matching
+     * @return Stream, the matching books, empty if the title is null or blank
+     */
+    @Override
+    public synchronized Stream<Book> streamByTitle(String title) {
+        checkJournal();
+        return streamOf(delegate.findByTitle(title));
+    }
+
+    /**
+     * Streams the books of the wrapped store that contain the given author name, collected under the lock
+     * @param author, the author name
+     * @return Stream, the matching books, empty if the name is null or blank
+     */
+    @Override
+    public synchronized Stream<Book> streamByAuthor(String author) {
+        checkJournal();
+        return streamOf(delegate.findByAuthor(author));
+    }
+
+    /**
+     * Streams the books of the wrapped store within the given price range, collected under the lock
+     * @param min, the minimum price
+     * @param max, the maximum price
+     * @return Stream, the books between the min and max price range
+     */
+    @Override
+    public synchronized Stream<Book> streamByPriceRange(double min, double max) {
+        checkJournal();
+        return streamOf(delegate.findByPriceRange(min, max));
+    }
+
+    /**
+     * Streams the books of the wrapped store that were released on the provided year, collected under the lock
+     * @param year, the year the book was released on
+     * @return Stream, the books released on the given year, empty if the year is invalid
+     */
+    @Override
+    public synchronized Stream<Book> streamByYear(int year) {
+        checkJournal();
+        return streamOf(delegate.findByYear(year));
+    }
+
+    /**
+     * Estimates how many books a title query checks in the wrapped store
+     * @param title, the title of the book
+     * @return the estimate of the wrapped store
+     */
+    @Override
+    public synchronized int estimateByTitle(String title) {
+        checkJournal();
+        return delegate.estimateByTitle(title);
+    }
+
+    /**
+     * Estimates how many books an author query checks in the wrapped store
+     * @param author, the author name
+     * @return the estimate of the wrapped store
+     */
+    @Override
+    public synchronized int estimateByAuthor(String author) {
+        checkJournal();
+        return delegate.estimateByAuthor(author);
+    }
+
+    /**
+     * Estimates how many books a price range query reads in the wrapped store
+     * @param min, the minimum price
+     * @param max, the maximum price
+     * @return the estimate of the wrapped store
+     */
+    @Override
+    public synchronized int estimateByPriceRange(double min, double max) {
+        checkJournal();
+        return delegate.estimateByPriceRange(min, max);
+    }
+
+    /**
+     * Estimates how many books a year query reads in the wrapped store
+     * @param year, the year the book was released on
+     * @return the estimate of the wrapped store
+     */
+    @Override
+    public synchronized int estimateByYear(int year) {
+        checkJournal();
+        return delegate.estimateByYear(year);
+    }
+
+    private static Stream<Book> streamOf(List<Book> books) {
+        return books == null ? Stream.empty() : books.stream();
+    }
+
+    /**
+     * Checks how many books are in the bookstore
+     * @return the size of the bookstore
+     */
+    public synchronized int size() {
+        checkJournal();
+        return delegate.size();
+    }
+
+    /**
+     * Gets the inventory value of all the books inside the bookstore
+     * @return inventoryValue, the value of all books combined
+     */
+    public synchronized double inventoryValue() {
+        checkJournal();
+        return delegate.inventoryValue();
+    }
+
+    /**
+     * Checks to see which is the most expensive book inside the bookstore
+     * @return Book, the most expensive book
+     */
+    public synchronized Book getMostExpensive() {
+        checkJournal();
+        return delegate.getMostExpensive();
+    }
+
+    /**
+     * Gets the book that was released most recently
+     * @return Book, the book that was released most recently
+     */
+    public synchronized Book getMostRecent() {
+        checkJournal();
+        return delegate.getMostRecent();
+    }
+
+    /**
+     * Gets the k most expensive books, the latest added first among equal prices
+     * @param k, the number of books to return
+     * @return List, up to k books, most expensive first
+     */
+    @Override
+    public synchronized List<Book> getMostExpensive(int k) {
+        checkJournal();
+        return delegate.getMostExpensive(k);
+    }
+
+    /**
+     * Gets the k cheapest books, the earliest added first among equal prices
+     * @param k, the number of books to return
+     * @return List, up to k books, cheapest first
+     */
+    @Override
+    public synchronized List<Book> getCheapest(int k) {
+        checkJournal();
+        return delegate.getCheapest(k);
+    }
+
+    /**
+     * Gets the k most recently released books, the earliest added first among equal years
+     * @param k, the number of books to return
+     * @return List, up to k books, newest first
+     */
+    @Override
+    public synchronized List<Book> getMostRecent(int k) {
+        checkJournal();
+        return delegate.getMostRecent(k);
+    }
+
+    /**
+     * Gets the first k books in title order, the earliest added first among equal titles
+     * @param k, the number of books to return
+     * @return List, up to k books, in title order
+     */
+    @Override
+    public synchronized List<Book> getFirstByTitle(int k) {
+        checkJournal();
+        return delegate.getFirstByTitle(k);
+    }
+
+    /**
+     * Gets a defensive copy of the bookstore as an array
+     * @return Book[], a copy of the bookstore in array format
+     */
+    public synchronized Book[] snapshotArray() {
+        checkJournal();
+        return delegate.snapshotArray();
+    }
+
+    /**
+     * Gets a defensive copy of the bookstore as a list
+     * @return List, a copy of the bookstore in a list format
+     */
+    public synchronized List<Book> getAllBooks() {
+        checkJournal();
+        return delegate.getAllBooks();
+    }
+
+    /**
+     * Takes an immutable view of the current inventory of the wrapped store
+     * @return BookSnapshot, the books in insertion order
+     */
+    @Override
+    public synchronized BookSnapshot snapshot() {
+        checkJournal();
+        return delegate.snapshot();
+    }
+}
@@ -0,0 +1,827 @@
+package com.university.bookstore.impl;
+import com.university.bookstore.api.BookstoreAPI;
+import com.university.bookstore.api.BulkAddResult;
+import com.university.bookstore.model.Book;
+import com.university.bookstore.utils.IsbnCodec;
+import com.university.bookstore.utils.SearchKeys;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Bookstore API implemented using off-heap memory (direct ByteBuffers)
+ *
+ * <p>Books are kept outside of the Java heap, so the garbage collector never has to
+ * trace or copy them, no matter how large the inventory grows. Each book is a fixed
+ * size slot of {@value #SLOT_SIZE} bytes holding its packed ISBN, price, year and the
+ * positions of its title and author in a separate string area, where strings are stored
+ * as a length followed by their UTF-8 bytes and by their search key. Slots and strings live in direct buffer
+ * pages that are allocated as the inventory grows.</p>
+ *
+ * <p>The ISBN index is an open-addressing hash table, also off-heap, that maps the packed
+ * ISBN to the number of its slot. The heap only holds the page lists and a few counters,
+ * so heap use stays about the same from a thousand books to tens of millions. Book
+ * objects are only created for the results that are returned, so two calls return
+ * equal, but not identical, books.</p>
+ *
+ * <p>Numeric queries and aggregates read the slots in place. Text queries match the stored
+ * keys in place and never decode a string: an ASCII string is its own key, folded to lower
+ * case while it is compared, and any other string is stored with its normalized key,
+ * computed once when the book is added. Removing a book marks its slot as empty, and the slots and strings are
+ * compacted once more than half of the slots are empty.</p>
+ *
+ * <p>Instances are not thread-safe. A single store holds at most about 50 million books,
+ * limited by the 2 GB size of the ISBN table's buffer.</p>
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ *
+ * @see BookstoreAPI
+ * @see Book
+ *
+ */
+
+public class BookstoreOffHeap implements BookstoreAPI {
+    private static final int SLOT_SIZE = 40;
+    private static final int ISBN = 0;
+    private static final int PRICE = 8;
+    private static final int TITLE = 16;
+    private static final int AUTHOR = 24;
+    private static final int YEAR = 32;
+
+    private static final int SLOTS_PER_PAGE_BITS = 16;
+    private static final int SLOTS_PER_PAGE = 1 << SLOTS_PER_PAGE_BITS;
+    private static final int STRING_PAGE_BITS = 22;
+    private static final int STRING_PAGE_SIZE = 1 << STRING_PAGE_BITS;
+
+    private List<ByteBuffer> slotPages;
+    private List<ByteBuffer> stringPages;
+    private int stringPosition;
+    private IsbnTable rowByIsbn;
+    private int length;
+    private int size;
+    private byte[] scratch = new byte[256];
+
+    /**
+     * Off-heap open-addressing hash table from a packed ISBN to a slot number, with
+     * linear probing and backward-shift removal. Each bucket is the key (8 bytes) followed
+     * by the slot number (4 bytes), a key of 0 marks an empty bucket.
+     */
+    private static final class IsbnTable {
+        private static final int BUCKET = 12;
+        private static final int MAX_BUCKETS = Integer.MAX_VALUE / BUCKET;
+
+        private ByteBuffer table;
+        private int mask;
+        private int count;
+
+        IsbnTable(int buckets) {
+            table = ByteBuffer.allocateDirect(buckets * BUCKET);
+            mask = buckets - 1;
+        }
+
+        private static int hash(long key, int mask) {
+            long h = key;
+            h ^= h >>> 33;
+            h *= 0xff51afd7ed558ccdL;
+            h ^= h >>> 33;
+            h *= 0xc4ceb9fe1a85ec53L;
+            h ^= h >>> 33;
+            return (int) h & mask;
+        }
+
+        private long key(int bucket) {
+            return table.getLong(bucket * BUCKET);
+        }
+
+        int get(long key) {
+            for (int i = hash(key, mask); ; i = (i + 1) & mask) {
+                long k = key(i);
+                if (k == key) {
+                    return table.getInt(i * BUCKET + 8);
+                }
+                if (k == 0) {
+                    return -1;
+                }
+            }
+        }
+
+        void put(long key, int row) {
+            int i = hash(key, mask);
+            while (key(i) != 0 && key(i) != key) {
+                i = (i + 1) & mask;
+            }
+            if (key(i) == 0) {
+                count++;
+            }
+            table.putLong(i * BUCKET, key).putInt(i * BUCKET + 8, row);
+            if (count * 2L > mask + 1) {
+                rehash((mask + 1) * 2);
+            }
+        }
+
+        int remove(long key) {
+            int i = hash(key, mask);
+            while (key(i) != key) {
+                if (key(i) == 0) {
+                    return -1;
+                }
+                i = (i + 1) & mask;
+            }
+            int row = table.getInt(i * BUCKET + 8);
+            count--;
+            int gap = i;
+            for (int j = (gap + 1) & mask; key(j) != 0; j = (j + 1) & mask) {
+                int home = hash(key(j), mask);
+                if (((j - home) & mask) >= ((j - gap) & mask)) {
+                    table.putLong(gap * BUCKET, key(j)).putInt(gap * BUCKET + 8, table.getInt(j * BUCKET + 8));
+                    gap = j;
+                }
+            }
+            table.putLong(gap * BUCKET, 0L);
+            return row;
+        }
+
+        void ensureCapacity(int expected) {
+            int buckets = mask + 1;
+            while (expected * 2L > buckets) {
+                buckets *= 2;
+            }
+            if (buckets != mask + 1) {
+                rehash(buckets);
+            }
+        }
+
+        private void rehash(int buckets) {
+            if (buckets > MAX_BUCKETS) {
+                throw new IllegalStateException("Too many books for one off-heap store");
+            }
+            ByteBuffer old = table;
+            int oldBuckets = mask + 1;
+            table = ByteBuffer.allocateDirect(buckets * BUCKET);
+            mask = buckets - 1;
+            for (int b = 0; b < oldBuckets; b++) {
+                long key = old.getLong(b * BUCKET);
+                if (key != 0) {
+                    int i = hash(key, mask);
+                    while (key(i) != 0) {
+                        i = (i + 1) & mask;
+                    }
+                    table.putLong(i * BUCKET, key).putInt(i * BUCKET + 8, old.getInt(b * BUCKET + 8));
+                }
+            }
+        }
+
+        long bytes() {
+            return table.capacity();
+        }
+    }
+
+    /**
+     * Create an empty bookstore
+     */
+    public BookstoreOffHeap() {
+        this.slotPages = new ArrayList<>();
+        this.stringPages = new ArrayList<>();
+        this.stringPosition = STRING_PAGE_SIZE;
+        this.rowByIsbn = new IsbnTable(1024);
+    }
+
+    private ByteBuffer page(int row) {
+        return slotPages.get(row >>> SLOTS_PER_PAGE_BITS);
+    }
+
+    private static int offset(int row) {
+        return (row & (SLOTS_PER_PAGE - 1)) * SLOT_SIZE;
+    }
+
+    private long isbnAt(int row) {
+        return page(row).getLong(offset(row) + ISBN);
+    }
+
+    private double priceAt(int row) {
+        return page(row).getDouble(offset(row) + PRICE);
+    }
+
+    private int yearAt(int row) {
+        return page(row).getInt(offset(row) + YEAR);
+    }
+
+    /**
+     * Appends a string to the string area, followed by the length and UTF-8 bytes of its
+     * search key, or by -1 if the string is ASCII and is its own key.
+     * @return the position of the string, its page number in the high bits
+     */
+    private long putString(String s) {
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        byte[] key = bytes.length == s.length() ? null : SearchKeys.normalize(s).getBytes(StandardCharsets.UTF_8);
+        int needed = 2 * Integer.BYTES + bytes.length + (key == null ? 0 : key.length);
+        ByteBuffer page;
+        if (stringPages.isEmpty() || stringPosition + needed > stringPages.get(stringPages.size() - 1).capacity()) {
+            page = ByteBuffer.allocateDirect(Math.max(STRING_PAGE_SIZE, needed));
+            stringPages.add(page);
+            stringPosition = 0;
+        } else {
+            page = stringPages.get(stringPages.size() - 1);
+        }
+        long position = ((long) (stringPages.size() - 1) << 32) | stringPosition;
+        page.putInt(stringPosition, bytes.length);
+        page.put(stringPosition + Integer.BYTES, bytes);
+        int keyStart = stringPosition + Integer.BYTES + bytes.length;
+        page.putInt(keyStart, key == null ? -1 : key.length);
+        if (key != null) {
+            page.put(keyStart + Integer.BYTES, key);
+        }
+        stringPosition += needed;
+        return position;
+    }
+
+    private String getString(long position) {
+        return readString(stringPages, position);
+    }
+
+    private String readString(List<ByteBuffer> pages, long position) {
+        ByteBuffer page = pages.get((int) (position >>> 32));
+        int start = (int) position;
+        int len = page.getInt(start);
+        if (scratch.length < len) {
+            scratch = new byte[Math.max(len, scratch.length * 2)];
+        }
+        page.get(start + Integer.BYTES, scratch, 0, len);
+        return new String(scratch, 0, len, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads the stored search key of the string at the given position.
+     * @return the key, or null if the string is ASCII and its key is cheap to compute
+     */
+    private String getKey(long position) {
+        ByteBuffer page = stringPages.get((int) (position >>> 32));
+        int keyStart = (int) position + Integer.BYTES + page.getInt((int) position);
+        int keyLen = page.getInt(keyStart);
+        if (keyLen < 0) {
+            return null;
+        }
+        if (scratch.length < keyLen) {
+            scratch = new byte[Math.max(keyLen, scratch.length * 2)];
+        }
+        page.get(keyStart + Integer.BYTES, scratch, 0, keyLen);
+        return new String(scratch, 0, keyLen, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Checks whether the search key of the string at the given position contains the query,
+     * comparing the bytes in place.
+     * @param query, the UTF-8 bytes of the normalized query
+     */
+    private boolean stringContains(long position, byte[] query) {
+        ByteBuffer page = stringPages.get((int) (position >>> 32));
+        int start = (int) position + Integer.BYTES;
+        int len = page.getInt((int) position);
+        int keyLen = page.getInt(start + len);
+        if (keyLen < 0) {
+            return asciiContains(page, start, len, query);
+        }
+        return bytesContain(page, start + len + Integer.BYTES, keyLen, query);
+    }
+
+    /**
+     * Checks whether ASCII bytes, folded to lower case, contain the query.
+     */
+    private static boolean asciiContains(ByteBuffer page, int start, int len, byte[] query) {
+        outer:
+        for (int i = start; i <= start + len - query.length; i++) {
+            for (int j = 0; j < query.length; j++) {
+                byte b = page.get(i + j);
+                if (b >= 'A' && b <= 'Z') {
+                    b += 'a' - 'A';
+                }
+                if (b != query[j]) {
+                    continue outer;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether UTF-8 bytes contain the query, which for valid UTF-8 is the same as
+     * the decoded string containing the decoded query.
+     */
+    private static boolean bytesContain(ByteBuffer page, int start, int len, byte[] query) {
+        outer:
+        for (int i = start; i <= start + len - query.length; i++) {
+            for (int j = 0; j < query.length; j++) {
+                if (page.get(i + j) != query[j]) {
+                    continue outer;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private static byte[] queryBytes(String query) {
+        return SearchKeys.normalize(query).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Creates the Book object of a slot
+     * @param row, a non-empty slot
+     * @return a new Book holding the values of the slot
+     */
+    private Book materialize(int row) {
+        ByteBuffer page = page(row);
+        int offset = offset(row);
+        long title = page.getLong(offset + TITLE);
+        long author = page.getLong(offset + AUTHOR);
+        return Book.withSearchKeys(IsbnCodec.decode(page.getLong(offset + ISBN)), getString(title), getString(author),
+                page.getDouble(offset + PRICE), page.getInt(offset + YEAR), getKey(title), getKey(author));
+    }
+
+    /**
+     * Adds a book to the bookstore, but checks if it is null or already
+     * exists by ISBN before adding
+     * O(1) amortized time complexity - a probe of the ISBN table, then the slot and strings are written
+     * @param book, a book object
+     * @return false if null or already exists, true otherwise
+     */
+    public boolean add(Book book) {
+        if (book == null) {
+            return false;
+        }
+
+        long isbn = IsbnCodec.encode(book.getIsbn());
+        if (isbn == IsbnCodec.INVALID || rowByIsbn.get(isbn) >= 0) {
+            return false;
+        }
+
+        write(length, isbn, book.getPrice(), book.getYear(), putString(book.getTitle()), putString(book.getAuthor()));
+        rowByIsbn.put(isbn, length);
+        length++;
+        size++;
+        return true;
+    }
+
+    private void write(int row, long isbn, double price, int year, long title, long author) {
+        if (row >>> SLOTS_PER_PAGE_BITS == slotPages.size()) {
+            slotPages.add(ByteBuffer.allocateDirect(SLOTS_PER_PAGE * SLOT_SIZE));
+        }
+        ByteBuffer page = page(row);
+        int offset = offset(row);
+        page.putLong(offset + ISBN, isbn)
+                .putDouble(offset + PRICE, price)
+                .putLong(offset + TITLE, title)
+                .putLong(offset + AUTHOR, author)
+                .putInt(offset + YEAR, year);
+    }
+
+    /**
+     * Adds a batch of books to the bookstore, rejecting null books and ISBNs that
+     * already exist in the bookstore or earlier in the batch
+     * O(m) time complexity - the ISBN table is grown once for the whole batch
+     * @param newBooks, the books to add
+     * @return BulkAddResult, whether each book was added
+     */
+    @Override
+    public BulkAddResult addAll(Book[] newBooks) {
+        if (newBooks == null) {
+            throw new IllegalArgumentException("Books cannot be null");
+        }
+
+        rowByIsbn.ensureCapacity(size + newBooks.length);
+        boolean[] accepted = new boolean[newBooks.length];
+        for (int i = 0; i < newBooks.length; i++) {
+            accepted[i] = add(newBooks[i]);
+        }
+
+        return new BulkAddResult(accepted);
+    }
+
+    /**
+     * Searches for a book by the given ISBN code
+     * O(1) time complexity - a probe of the ISBN table, then the slot is turned into a Book
+     * @param isbn, a 10 or 13 length code
+     * @return Book, the book by the ISBN if found, otherwise null
+     */
+    public Book findByIsbn(String isbn) {
+        if (isbn == null || isbn.trim().isEmpty()) {
+            return null;
+        }
+
+        long code = IsbnCodec.encode(isbn);
+        int row = code == IsbnCodec.INVALID ? -1 : rowByIsbn.get(code);
+        return row < 0 ? null : materialize(row);
+    }
+
+    /**
+     * Removes a book from the bookstore when provided a ISBN
+     * O(1) amortized time complexity - empties the slot, compacting once half of the slots are empty
+     * @param isbn, a 10 or 13 length code
+     * @return boolean, true if a book with the ISBN is found, false otherwise
+     */
+    public boolean removeByIsbn(String isbn) {
+        if (isbn == null || isbn.trim().isEmpty()) {
+            return false;
+        }
+
+        long code = IsbnCodec.encode(isbn);
+        int row = code == IsbnCodec.INVALID ? -1 : rowByIsbn.remove(code);
+        if (row < 0) {
+            return false;
+        }
+
+        page(row).putLong(offset(row) + ISBN, IsbnCodec.INVALID);
+        size--;
+
+        if (length > SLOTS_PER_PAGE && size < length / 2) {
+            compact();
+        }
+        return true;
+    }
+
+    /**
+     * Copies every non-empty slot and its strings into new pages, freeing the space of
+     * removed books once the old pages are collected
+     * O(n) time complexity, amortized over the removals that emptied the slots
+     */
+    private void compact() {
+        List<ByteBuffer> oldSlots = slotPages;
+        List<ByteBuffer> oldStrings = stringPages;
+        int oldLength = length;
+        slotPages = new ArrayList<>();
+        stringPages = new ArrayList<>();
+        stringPosition = STRING_PAGE_SIZE;
+        length = 0;
+
+        for (int row = 0; row < oldLength; row++) {
+            ByteBuffer page = oldSlots.get(row >>> SLOTS_PER_PAGE_BITS);
+            int offset = offset(row);
+            long isbn = page.getLong(offset + ISBN);
+            if (isbn == IsbnCodec.INVALID) {
+                continue;
+            }
+            String title = readString(oldStrings, page.getLong(offset + TITLE));
+            String author = readString(oldStrings, page.getLong(offset + AUTHOR));
+            write(length, isbn, page.getDouble(offset + PRICE), page.getInt(offset + YEAR),
+                    putString(title), putString(author));
+            rowByIsbn.put(isbn, length);
+            length++;
+        }
+    }
+
+    /**
+     * Gets the number of bytes of off-heap memory held by the slots, strings and ISBN table
+     * O(p) time complexity for p pages
+     * @return the off-heap size in bytes
+     */
+    public long offHeapBytes() {
+        long bytes = rowByIsbn.bytes();
+        for (ByteBuffer page : slotPages) {
+            bytes += page.capacity();
+        }
+        for (ByteBuffer page : stringPages) {
+            bytes += page.capacity();
+        }
+        return bytes;
+    }
+
+    /**
+     * Returns a list of books that has the provided title in its title name
+     * O(n) time complexity - Has to check each title, ASCII titles are matched in place
+     * @param title, the title of the book, case-insensitive and partial matching
+     * @return List, a list of books
+     */
+    public List<Book> findByTitle(String title) {
+        if (title == null || title.trim().isEmpty()) {
+            return null;
+        }
+
+        byte[] query = queryBytes(title);
+        ArrayList<Book> bookList = new ArrayList<>();
+        for (int row = 0; row < length; row++) {
+            if (isbnAt(row) != IsbnCodec.INVALID && stringContains(page(row).getLong(offset(row) + TITLE), query)) {
+                bookList.add(materialize(row));
+            }
+        }
+
+        return bookList;
+    }
+
+    /**
+     * Searches through to find all books that contain the given author name
+     * O(n) time complexity - Has to check each author, ASCII names are matched in place
+     * @param author, the author name, case-insensitive and partial matching
+     * @return List, a list of books that contains the author's name
+     */
+    public List<Book> findByAuthor(String author) {
+        if (author == null || author.trim().isEmpty()) {
+            return null;
+        }
+
+        byte[] query = queryBytes(author);
+        ArrayList<Book> bookList = new ArrayList<>();
+        for (int row = 0; row < length; row++) {
+            if (isbnAt(row) != IsbnCodec.INVALID && stringContains(page(row).getLong(offset(row) + AUTHOR), query)) {
+                bookList.add(materialize(row));
+            }
+        }
+
+        return bookList;
+    }
+
+    /**
+     * Finds books within the given price range of min and max
+     * O(n) time complexity - a single pass over the slots, reading prices in place
+     * @param min, the minimum price
+     * @param max, the maximum price
+     * @return List, a list of books between the min and max price range
+     */
+    public List<Book> findByPriceRange(double min, double max) {
+        if (min > max) {
+            throw new IllegalArgumentException("Min cannot be greater than max");
+        }
+
+        if (min < 0 || max <= 0) {
+            throw new IllegalArgumentException("Price is invalid");
+        }
+
+        ArrayList<Book> bookList = new ArrayList<>();
+        for (int row = 0; row < length; row++) {
+            double price = priceAt(row);
+            if (price >= min && price <= max && isbnAt(row) != IsbnCodec.INVALID) {
+                bookList.add(materialize(row));
+            }
+        }
+
+        return bookList;
+    }
+
+    /**
+     * Finds books that were released on the provided year
+     * O(n) time complexity - a single pass over the slots, reading years in place
+     * @param year, the year the book was released on
+     * @return List, a list of books that were released on the given year
+     */
+    public List<Book> findByYear(int year) {
+        if (year <= 0 || year > 2025) {
+            return null;
+        }
+
+        ArrayList<Book> bookList = new ArrayList<>();
+        for (int row = 0; row < length; row++) {
+            if (yearAt(row) == year && isbnAt(row) != IsbnCodec.INVALID) {
+                bookList.add(materialize(row));
+            }
+        }
+
+        return bookList;
+    }
+
+    /**
+     * Streams the live slots that pass a filter, creating a Book only for the slots the stream returns.
+     * The slots are read as the stream is consumed, so it must be consumed before the bookstore is modified
+     * @param filter, the test applied to each live slot
+     * @return Stream, the matching books in insertion order
+     */
+    private Stream<Book> streamRows(IntPredicate filter) {
+        return IntStream.range(0, length)
+                .filter(row -> isbnAt(row) != IsbnCodec.INVALID && filter.test(row))
+                .mapToObj(this::materialize);
+    }
+
+    /**
+     * Streams the books of the bookstore, creating each Book as the stream reaches its slot
+     * O(1) time complexity to start, then O(1) per slot read
+     * @return Stream, the books in insertion order
+     */
+    @Override
+    public Stream<Book> stream() {
+        return streamRows(row -> true);
+    }
+
+    /**
+     * Streams the books that have the provided title in their title name
+     * O(1) time complexity to start - ASCII titles are matched in place as the stream is consumed
+     * @param title, the title of the book, case-insensitive and partial matching
+     * @return Stream, the matching books, empty if the title is null or blank
+     */
+    @Override
+    public Stream<Book> streamByTitle(String title) {
+        if (title == null || title.trim().isEmpty()) {
+            return Stream.empty();
+        }
+
+        byte[] query = queryBytes(title);
+        return streamRows(row -> stringContains(page(row).getLong(offset(row) + TITLE), query));
+    }
+
+    /**
+     * Streams the books that contain the given author name
+     * O(1) time complexity to start - ASCII names are matched in place as the stream is consumed
+     * @param author, the author name, case-insensitive and partial matching
+     * @return Stream, the matching books, empty if the name is null or blank
+     */
+    @Override
+    public Stream<Book> streamByAuthor(String author) {
+        if (author == null || author.trim().isEmpty()) {
+            return Stream.empty();
+        }
+
+        byte[] query = queryBytes(author);
+        return streamRows(row -> stringContains(page(row).getLong(offset(row) + AUTHOR), query));
+    }
+
+    /**
+     * Streams the books within the given price range of min and max
+     * O(1) time complexity to start, then reads prices in place as the stream is consumed
+     * @param min, the minimum price
+     * @param max, the maximum price
+     * @return Stream, the books between the min and max price range
+     */
+    @Override
+    public Stream<Book> streamByPriceRange(double min, double max) {
+        if (min > max) {
+            throw new IllegalArgumentException("Min cannot be greater than max");
+        }
+
+        if (min < 0 || max <= 0) {
+            throw new IllegalArgumentException("Price is invalid");
+        }
+
+        return streamRows(row -> {
+            double price = priceAt(row);
+            return price >= min && price <= max;
+        });
+    }
+
+    /**
+     * Streams the books that were released on the provided year
+     * O(1) time complexity to start, then reads years in place as the stream is consumed
+     * @param year, the year the book was released on
+     * @return Stream, the books released on the given year, empty if the year is invalid
+     */
+    @Override
+    public Stream<Book> streamByYear(int year) {
+        if (year <= 0 || year > 2025) {
+            return Stream.empty();
+        }
+
+        return streamRows(row -> yearAt(row) == year);
+    }
+
+    /**
+     * Checks how many books are in the bookstore
+     * O(1) constant time complexity - only lookup needed, no searching
+     * @return the size of the bookstore
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Gets the inventory value of all the books inside the bookstore
+     * O(n) time complexity - a single pass over the slots, reading prices in place
+     * @return inventoryValue, the value of all books combined
+     */
+    public double inventoryValue() {
+        double inventoryValue = 0;
+
+        for (int row = 0; row < length; row++) {
+            if (isbnAt(row) != IsbnCodec.INVALID) {
+                inventoryValue += priceAt(row);
+            }
+        }
+
+        return inventoryValue;
+    }
+
+    /**
+     * Checks to see which is the most expensive book inside the bookstore
+     * O(n) time complexity - a single pass over the slots, reading prices in place
+     * @return Book, the most expensive book
+     */
+    public Book getMostExpensive() {
+        int mostExpensive = -1;
+        double maxPrice = 0;
+
+        for (int row = 0; row < length; row++) {
+            double price = priceAt(row);
+            if (price >= maxPrice && isbnAt(row) != IsbnCodec.INVALID) {
+                maxPrice = price;
+                mostExpensive = row;
+            }
+        }
+
+        return mostExpensive < 0 ? null : materialize(mostExpensive);
+    }
+
+    /**
+     * Gets the book that was released most recently
+     * O(n) time complexity - a single pass over the slots, reading years in place
+     * @return Book, the book that was released most recently
+     */
+    public Book getMostRecent() {
+        int mostRecent = -1;
+        int mostRecentYear = 0;
+
+        for (int row = 0; row < length; row++) {
+            int year = yearAt(row);
+            if (year > mostRecentYear && isbnAt(row) != IsbnCodec.INVALID) {
+                mostRecent = row;
+                mostRecentYear = year;
+            }
+        }
+
+        return mostRecent < 0 ? null : materialize(mostRecent);
+    }
+
+    /**
+     * Gets the k most expensive books, the latest added first among equal prices
+     * O(n log k) time complexity - a bounded heap over the slots, reading prices in place
+     * @param k, the number of books to return
+     * @return List, up to k books, most expensive first
+     */
+    @Override
+    public List<Book> getMostExpensive(int k) {
+        return topRows((a, b) -> {
+            int byPrice = Double.compare(priceAt(b), priceAt(a));
+            return byPrice != 0 ? byPrice : Integer.compare(b, a);
+        }, k);
+    }
+
+    /**
+     * Gets the k cheapest books, the earliest added first among equal prices
+     * O(n log k) time complexity - a bounded heap over the slots, reading prices in place
+     * @param k, the number of books to return
+     * @return List, up to k books, cheapest first
+     */
+    @Override
+    public List<Book> getCheapest(int k) {
+        return topRows((a, b) -> {
+            int byPrice = Double.compare(priceAt(a), priceAt(b));
+            return byPrice != 0 ? byPrice : Integer.compare(a, b);
+        }, k);
+    }
+
+    /**
+     * Gets the k most recently released books, the earliest added first among equal years
+     * O(n log k) time complexity - a bounded heap over the slots, reading years in place
+     * @param k, the number of books to return
+     * @return List, up to k books, newest first
+     */
+    @Override
+    public List<Book> getMostRecent(int k) {
+        return topRows((a, b) -> {
+            int byYear = Integer.compare(yearAt(b), yearAt(a));
+            return byYear != 0 ? byYear : Integer.compare(a, b);
+        }, k);
+    }
+
+    /**
+     * Selects the first k live slots in an order and creates their books
+     * @param order, the order of the slots, broken by slot number
+     * @param k, the number of books to return
+     * @return List, up to k books in order
+     */
+    private List<Book> topRows(TopRows.RowOrder order, int k) {
+        int[] rows = TopRows.select(length, row -> isbnAt(row) != IsbnCodec.INVALID, order, k);
+        List<Book> bookList = new ArrayList<>(rows.length);
+        for (int row : rows) {
+            bookList.add(materialize(row));
+        }
+        return bookList;
+    }
+
+    /**
+     * Gets a copy of the bookstore as an array, creating a Book for every slot
+     * O(n) time complexity - Has to loop over each slot to create its book
+     * @return Book[], a copy of the original bookstore in array format
+     */
+    public Book[] snapshotArray() {
+        Book[] bookArray = new Book[size];
+        int index = 0;
+        for (int row = 0; row < length; row++) {
+            if (isbnAt(row) != IsbnCodec.INVALID) {
+                bookArray[index++] = materialize(row);
+            }
+        }
+        return bookArray;
+    }
+
+    /**
+     * Gets a copy of the bookstore as a list, creating a Book for every slot
+     * O(n) time complexity - Has to loop over each slot to create its book
+     * @return List, a copy of the original bookstore in a list format
+     */
+    public List<Book> getAllBooks() {
+        return new ArrayList<>(Arrays.asList(snapshotArray()));
+    }
+}
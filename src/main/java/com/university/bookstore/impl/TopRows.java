@@ -0,0 +1,101 @@
+package com.university.bookstore.impl;
+
+import java.util.function.IntPredicate;
+
+/**
+ * Bounded-heap selection of the best rows of a column store, so a top-k query compares
+ * primitive columns and only creates Book objects for the {@code k} rows it returns.
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ */
+final class TopRows {
+
+    /**
+     * Orders two rows, it must break every tie so the selection is deterministic.
+     */
+    @FunctionalInterface
+    interface RowOrder {
+        int compare(int a, int b);
+    }
+
+    private TopRows() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Selects the first {@code k} live rows in an order.
+     * O(n log k) time complexity and O(k) memory
+     * @param length, the number of rows to scan
+     * @param live, true for the rows that hold a book
+     * @param order, the order of the rows
+     * @param k, the number of rows to select
+     * @return int[], up to k rows in order
+     */
+    static int[] select(int length, IntPredicate live, RowOrder order, int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("K cannot be negative");
+        }
+        int[] heap = new int[Math.min(k, length)];
+        int size = 0;
+        for (int row = 0; row < length && heap.length > 0; row++) {
+            if (!live.test(row)) {
+                continue;
+            }
+            if (size < heap.length) {
+                heap[size] = row;
+                siftUp(heap, size++, order);
+            } else if (order.compare(row, heap[0]) < 0) {
+                heap[0] = row;
+                siftDown(heap, size, order);
+            }
+        }
+
+        int[] sorted = new int[size];
+        for (int i = size - 1; i >= 0; i--) {
+            sorted[i] = heap[0];
+            heap[0] = heap[i];
+            siftDown(heap, i, order);
+        }
+        return sorted;
+    }
+
+    /**
+     * Moves a row up until its parent sorts after it, keeping the worst row at the root.
+     */
+    private static void siftUp(int[] heap, int index, RowOrder order) {
+        int row = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (order.compare(heap[parent], row) >= 0) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = row;
+    }
+
+    /**
+     * Moves the root down until both children sort before it.
+     */
+    private static void siftDown(int[] heap, int size, RowOrder order) {
+        int index = 0;
+        int row = heap[0];
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && order.compare(heap[child + 1], heap[child]) > 0) {
+                child++;
+            }
+            if (order.compare(row, heap[child]) >= 0) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = row;
+    }
+}
@@ -0,0 +1,361 @@
+package com.university.bookstore.index;
+
+import com.university.bookstore.model.Book;
+import com.university.bookstore.utils.SearchKeys;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Inverted index of books by author.
+ *
+ * <p>Every author name is normalized once, when the book is added, and posted twice:
+ * under the whole normalized name, and under each of its words (tokens). Looking up
+ * "books by X" reads the posting set of the whole name, and counting the books of an
+ * author only checks that set.</p>
+ *
+ * <p>Partial names match anywhere in the name, like the other stores: "smi", "mith" and
+ * "jane sm" all find "Jane Smith". Every suffix of every distinct token is kept in a
+ * sorted map, so the tokens that contain the first word of the query are the range of
+ * suffixes starting with it, and the union of their posting sets is the candidate set.
+ * The suffix map grows with the number of distinct tokens, not with the number of books.
+ * Candidates of queries with more than one word are verified against the full name, and
+ * queries without any letter or digit fall back to a scan of the indexed books. Matches
+ * can be streamed lazily, merging the posting sets in insertion order.</p>
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class AuthorIndex {
+
+    /**
+     * An indexed book together with its normalized author name and insertion sequence.
+     */
+    private static final class Entry {
+        private final Book book;
+        private final String key;
+        private final long sequence;
+
+        private Entry(Book book, String key, long sequence) {
+            this.book = book;
+            this.key = key;
+            this.sequence = sequence;
+        }
+    }
+
+    private final Map<String, Entry> entries = new LinkedHashMap<>();
+    private final Map<String, Set<Entry>> names = new HashMap<>();
+    private final Map<String, Set<Entry>> tokens = new HashMap<>();
+    private final NavigableMap<String, Set<String>> suffixes = new TreeMap<>();
+    private long nextSequence;
+
+    /**
+     * Adds a book to the index.
+     * O(w log t) time complexity, w being the number of words in the author name and t
+     * the number of distinct token suffixes
+     *
+     * @param book the book to index, ignored if null or its ISBN is already indexed
+     */
+    public void add(Book book) {
+        if (book == null || entries.containsKey(book.getIsbn())) {
+            return;
+        }
+        Entry entry = new Entry(book, book.getAuthorKey(), nextSequence++);
+        entries.put(book.getIsbn(), entry);
+        names.computeIfAbsent(entry.key, k -> new LinkedHashSet<>()).add(entry);
+        for (String token : SearchKeys.tokens(entry.key)) {
+            Set<Entry> posting = tokens.get(token);
+            if (posting == null) {
+                posting = new LinkedHashSet<>();
+                tokens.put(token, posting);
+                for (int i = 0; i < token.length(); i++) {
+                    suffixes.computeIfAbsent(token.substring(i), k -> new HashSet<>()).add(token);
+                }
+            }
+            posting.add(entry);
+        }
+    }
+
+    /**
+     * Adds a batch of books to the index, grouping the postings of the batch by name and
+     * by token first so every posting set is looked up and grown once per batch instead of
+     * once per book, and the suffixes of a new token are added once.
+     * O(W log t) time complexity, W being the total number of words in the author names
+     *
+     * @param books the books to index, null books and ISBNs already indexed are ignored
+     */
+    public void addAll(List<Book> books) {
+        Map<String, List<Entry>> batchNames = new HashMap<>();
+        Map<String, List<Entry>> batchTokens = new HashMap<>();
+        for (Book book : books) {
+            if (book == null || entries.containsKey(book.getIsbn())) {
+                continue;
+            }
+            Entry entry = new Entry(book, book.getAuthorKey(), nextSequence++);
+            entries.put(book.getIsbn(), entry);
+            batchNames.computeIfAbsent(entry.key, k -> new ArrayList<>()).add(entry);
+            for (String token : SearchKeys.tokens(entry.key)) {
+                batchTokens.computeIfAbsent(token, k -> new ArrayList<>()).add(entry);
+            }
+        }
+        for (Map.Entry<String, List<Entry>> name : batchNames.entrySet()) {
+            names.computeIfAbsent(name.getKey(), k -> new LinkedHashSet<>()).addAll(name.getValue());
+        }
+        for (Map.Entry<String, List<Entry>> token : batchTokens.entrySet()) {
+            Set<Entry> posting = tokens.get(token.getKey());
+            if (posting == null) {
+                tokens.put(token.getKey(), new LinkedHashSet<>(token.getValue()));
+                for (int i = 0; i < token.getKey().length(); i++) {
+                    suffixes.computeIfAbsent(token.getKey().substring(i), k -> new HashSet<>()).add(token.getKey());
+                }
+            } else {
+                posting.addAll(token.getValue());
+            }
+        }
+    }
+
+    /**
+     * Removes a book from the index.
+     * O(w log t) time complexity
+     *
+     * @param book the book to remove (may be null)
+     */
+    public void remove(Book book) {
+        if (book == null) {
+            return;
+        }
+        Entry entry = entries.remove(book.getIsbn());
+        if (entry == null) {
+            return;
+        }
+        unpost(names, entry.key, entry);
+        for (String token : SearchKeys.tokens(entry.key)) {
+            if (unpost(tokens, token, entry)) {
+                for (int i = 0; i < token.length(); i++) {
+                    unpost(suffixes, token.substring(i), token);
+                }
+            }
+        }
+    }
+
+    /**
+     * Finds every book whose author name contains the query.
+     * O(c log t) time complexity, c being the number of books posted under the t tokens
+     * that contain the first word of the query
+     *
+     * @param query the author's name or any part of it, case-insensitive
+     * @return the matching books in insertion order, empty if none or the query is blank
+     */
+    public List<Book> search(String query) {
+        return stream(query).collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    /**
+     * Streams every book whose author name contains the query, reading the posting sets
+     * as the stream is consumed. The posting sets are each in insertion order, so they are
+     * merged by sequence and no book is read before it is needed.
+     * O(t log t) time complexity to start, t being the number of distinct tokens that
+     * contain the first word of the query, then O(log t) per book read
+     *
+     * @param query the author's name or any part of it, case-insensitive
+     * @return the matching books in insertion order, empty if none or the query is blank
+     */
+    public Stream<Book> stream(String query) {
+        String key = SearchKeys.normalize(query);
+        if (key.isEmpty()) {
+            return Stream.empty();
+        }
+
+        List<String> words = SearchKeys.tokens(key);
+        if (words.isEmpty()) {
+            return entries.values().stream().filter(e -> e.key.contains(key)).map(e -> e.book);
+        }
+
+        PriorityQueue<Cursor> cursors = new PriorityQueue<>();
+        for (Set<Entry> posting : postingsContaining(words.get(0))) {
+            Cursor cursor = new Cursor(posting.iterator());
+            if (cursor.advance()) {
+                cursors.add(cursor);
+            }
+        }
+        Spliterator<Entry> merged = new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE,
+                Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL) {
+            private long last = -1;
+
+            @Override
+            public boolean tryAdvance(Consumer<? super Entry> action) {
+                while (!cursors.isEmpty()) {
+                    Cursor cursor = cursors.poll();
+                    Entry entry = cursor.head;
+                    if (cursor.advance()) {
+                        cursors.add(cursor);
+                    }
+                    // a book posted under several matching tokens comes out once per token, in a row
+                    if (entry.sequence != last) {
+                        last = entry.sequence;
+                        action.accept(entry);
+                        return true;
+                    }
+                }
+                return false;
+            }
+        };
+
+        Stream<Entry> matches = StreamSupport.stream(merged, false);
+        if (!key.equals(words.get(0))) {
+            matches = matches.filter(e -> e.key.contains(key));
+        }
+        return matches.map(e -> e.book);
+    }
+
+    /**
+     * A position in a posting set, ordered by the sequence of the entry it is on.
+     */
+    private static final class Cursor implements Comparable<Cursor> {
+        private final Iterator<Entry> entries;
+        private Entry head;
+
+        private Cursor(Iterator<Entry> entries) {
+            this.entries = entries;
+        }
+
+        private boolean advance() {
+            head = entries.hasNext() ? entries.next() : null;
+            return head != null;
+        }
+
+        @Override
+        public int compareTo(Cursor other) {
+            return Long.compare(head.sequence, other.head.sequence);
+        }
+    }
+
+    /**
+     * Finds every book written by the given author, ignoring case.
+     * O(k) time complexity - reads the posting set of the whole name
+     *
+     * @param author the full author name
+     * @return the books by that author in insertion order, empty if none
+     */
+    public List<Book> findByName(String author) {
+        List<Book> result = new ArrayList<>();
+        Set<Entry> posting = names.get(SearchKeys.normalize(author));
+        if (posting != null) {
+            for (Entry entry : posting) {
+                result.add(entry.book);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Counts the books whose author is exactly the given name, the same comparison
+     * as {@link com.university.bookstore.utils.BookArrayUtils#countByAuthor}.
+     * O(k) time complexity, k being the number of books by that name ignoring case
+     *
+     * @param author the author's name (may be null)
+     * @return the number of books by the specified author, or 0 if {@code author} is null
+     */
+    public int countByAuthor(String author) {
+        if (author == null) {
+            return 0;
+        }
+        Set<Entry> posting = names.get(SearchKeys.normalize(author));
+        if (posting == null) {
+            return 0;
+        }
+        int count = 0;
+        for (Entry entry : posting) {
+            if (author.equals(entry.book.getAuthor())) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Estimates how many books {@link #search(String)} has to check for a query, an upper
+     * bound on the number of matches. It reads the posting set sizes only.
+     * O(t) time complexity, t being the number of distinct tokens that contain the first word of the query
+     *
+     * @param query the author's name or any part of it
+     * @return the number of books posted under those tokens, at most the index size
+     */
+    public int estimate(String query) {
+        String key = SearchKeys.normalize(query);
+        if (key.isEmpty()) {
+            return 0;
+        }
+        List<String> words = SearchKeys.tokens(key);
+        if (words.isEmpty()) {
+            return entries.size();
+        }
+
+        long count = 0;
+        for (Set<Entry> posting : postingsContaining(words.get(0))) {
+            count += posting.size();
+            if (count >= entries.size()) {
+                return entries.size();
+            }
+        }
+        return (int) count;
+    }
+
+    /**
+     * Gets the number of books in the index.
+     *
+     * @return the number of indexed books
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Gets the posting sets of the distinct tokens that contain a word, from the suffixes
+     * that start with it.
+     */
+    private List<Set<Entry>> postingsContaining(String word) {
+        Set<String> matching = new HashSet<>();
+        for (Set<String> owners : suffixes.subMap(word, true, word + Character.MAX_VALUE, false).values()) {
+            matching.addAll(owners);
+        }
+        List<Set<Entry>> postings = new ArrayList<>(matching.size());
+        for (String token : matching) {
+            postings.add(tokens.get(token));
+        }
+        return postings;
+    }
+
+    /**
+     * Removes a value from the set posted under a key, dropping the set once it is empty.
+     *
+     * @return true if the key was dropped
+     */
+    private static <T> boolean unpost(Map<String, Set<T>> map, String key, T value) {
+        Set<T> posting = map.get(key);
+        if (posting != null) {
+            posting.remove(value);
+            if (posting.isEmpty()) {
+                map.remove(key);
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,265 @@
+package com.university.bookstore.index;
+
+import com.university.bookstore.model.Book;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * Sorted index of books by price.
+ *
+ * <p>Books are kept in a red-black tree ordered by price, with ties ordered by the
+ * sequence in which they were added. Range queries walk only the matching part of
+ * the tree, so they cost O(log n + k) where k is the number of matches.</p>
+ *
+ * <p>Because ties are ordered by insertion, the last entry of the tree is the book
+ * that a linear scan using {@code price >= maxPrice} would return: the most
+ * recently added book among those sharing the highest price.</p>
+ *
+ * <p>A Fenwick tree over whole-unit price buckets keeps a histogram of the prices, so
+ * the number of books in a range can be estimated in O(log B) without walking the
+ * tree. Prices of {@value #HISTOGRAM_BUCKETS} and above share one overflow bucket.</p>
+ *
+ * <p>Prices are compared the way {@code >=} and {@code <=} compare them, so
+ * {@code -0.0} is treated as {@code 0.0}, and a NaN price, which never satisfies
+ * a price comparison, is never indexed.</p>
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class PriceIndex {
+
+    /**
+     * The number of whole-unit buckets of the price histogram, before the overflow bucket.
+     */
+    public static final int HISTOGRAM_BUCKETS = 4096;
+
+    /**
+     * Position of a book in the tree, its price followed by its insertion sequence.
+     */
+    private static final class Key implements Comparable<Key> {
+        private final double price;
+        private final long sequence;
+
+        private Key(double price, long sequence) {
+            this.price = price;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public int compareTo(Key o) {
+            int cmp = Double.compare(this.price, o.price);
+            return cmp != 0 ? cmp : Long.compare(this.sequence, o.sequence);
+        }
+    }
+
+    private final NavigableMap<Key, Book> tree = new TreeMap<>();
+    private final Map<String, Key> keys = new HashMap<>();
+    private long nextSequence;
+    private final int[] histogram = new int[HISTOGRAM_BUCKETS + 2];
+
+    /**
+     * Adds a book to the index.
+     * O(log n) time complexity
+     *
+     * @param book the book to index, ignored if null, priced NaN or its ISBN is already indexed
+     */
+    public void add(Book book) {
+        if (book == null || Double.isNaN(book.getPrice()) || keys.containsKey(book.getIsbn())) {
+            return;
+        }
+        Key key = new Key(book.getPrice() + 0.0, nextSequence++);
+        keys.put(book.getIsbn(), key);
+        tree.put(key, book);
+        update(bucket(key.price), 1);
+    }
+
+    /**
+     * Adds a batch of books to the index. The batch is sorted by price and inserted in
+     * that order, so consecutive inserts walk the same path of the tree, and the histogram
+     * is updated once per bucket the batch touches instead of once per book.
+     * O(m log n) time complexity, with m log m for the sort
+     *
+     * @param books the books to index, in insertion order; null books, NaN prices and
+     *              ISBNs already indexed are ignored
+     */
+    public void addAll(List<Book> books) {
+        List<Map.Entry<Key, Book>> batch = new ArrayList<>(books.size());
+        int[] counts = new int[HISTOGRAM_BUCKETS + 1];
+        for (Book book : books) {
+            if (book == null || Double.isNaN(book.getPrice()) || keys.containsKey(book.getIsbn())) {
+                continue;
+            }
+            Key key = new Key(book.getPrice() + 0.0, nextSequence++);
+            keys.put(book.getIsbn(), key);
+            batch.add(Map.entry(key, book));
+            counts[bucket(key.price)]++;
+        }
+        batch.sort(Map.Entry.comparingByKey());
+        for (Map.Entry<Key, Book> entry : batch) {
+            tree.put(entry.getKey(), entry.getValue());
+        }
+        for (int slot = 0; slot < counts.length; slot++) {
+            if (counts[slot] != 0) {
+                update(slot, counts[slot]);
+            }
+        }
+    }
+
+    /**
+     * Removes a book from the index.
+     * O(log n) time complexity
+     *
+     * @param book the book to remove (may be null)
+     */
+    public void remove(Book book) {
+        if (book == null) {
+            return;
+        }
+        Key key = keys.remove(book.getIsbn());
+        if (key != null) {
+            tree.remove(key);
+            update(bucket(key.price), -1);
+        }
+    }
+
+    /**
+     * Finds every book priced between {@code min} and {@code max}, both inclusive.
+     * O(log n + k) time complexity
+     *
+     * @param min the lowest price
+     * @param max the highest price
+     * @return the matching books ordered by price, then by insertion order
+     */
+    public List<Book> range(double min, double max) {
+        if (min > max) {
+            return new ArrayList<>();
+        }
+        Key low = new Key(min + 0.0, Long.MIN_VALUE);
+        Key high = new Key(max + 0.0, Long.MAX_VALUE);
+        return new ArrayList<>(tree.subMap(low, true, high, true).values());
+    }
+
+    /**
+     * Streams every book priced between {@code min} and {@code max}, both inclusive, without copying them.
+     * O(log n) time complexity to start, then O(1) per book read
+     *
+     * <p>The stream reads the index as it is consumed, so it must be consumed before
+     * the index is modified.</p>
+     *
+     * @param min the lowest price
+     * @param max the highest price
+     * @return the matching books ordered by price, then by insertion order
+     */
+    public Stream<Book> stream(double min, double max) {
+        if (min > max) {
+            return Stream.empty();
+        }
+        Key low = new Key(min + 0.0, Long.MIN_VALUE);
+        Key high = new Key(max + 0.0, Long.MAX_VALUE);
+        return tree.subMap(low, true, high, true).values().stream();
+    }
+
+    /**
+     * Gets the most expensive book, the latest added one when prices tie.
+     * O(log n) time complexity
+     *
+     * @return the most expensive book, or {@code null} if the index is empty
+     */
+    public Book max() {
+        Map.Entry<Key, Book> last = tree.lastEntry();
+        return last == null ? null : last.getValue();
+    }
+
+    /**
+     * Gets the most expensive books, the latest added first among equal prices.
+     * O(log n + k) time complexity - walks the end of the tree
+     *
+     * @param k the number of books to return
+     * @return up to {@code k} books, most expensive first
+     * @throws IllegalArgumentException if {@code k} is negative
+     */
+    public List<Book> highest(int k) {
+        return first(tree.descendingMap().values(), k);
+    }
+
+    /**
+     * Gets the cheapest books, the earliest added first among equal prices.
+     * O(log n + k) time complexity - walks the start of the tree
+     *
+     * @param k the number of books to return
+     * @return up to {@code k} books, cheapest first
+     * @throws IllegalArgumentException if {@code k} is negative
+     */
+    public List<Book> lowest(int k) {
+        return first(tree.values(), k);
+    }
+
+    private static List<Book> first(Iterable<Book> books, int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("K cannot be negative");
+        }
+        List<Book> result = new ArrayList<>(Math.min(k, 1024));
+        for (Book book : books) {
+            if (result.size() == k) {
+                break;
+            }
+            result.add(book);
+        }
+        return result;
+    }
+
+    /**
+     * Estimates the number of books priced between {@code min} and {@code max} from the
+     * price histogram, an upper bound that counts every bucket the range touches.
+     * O(log B) time complexity, B being the number of histogram buckets
+     *
+     * @param min the lowest price
+     * @param max the highest price
+     * @return the number of books in the buckets that overlap the range
+     */
+    public int estimate(double min, double max) {
+        if (!(min <= max) || max < 0) {
+            return 0;
+        }
+        return prefix(bucket(max) + 1) - prefix(bucket(Math.max(min, 0)));
+    }
+
+    /**
+     * Gets the number of books in the index.
+     *
+     * @return the number of indexed books
+     */
+    public int size() {
+        return keys.size();
+    }
+
+    private static int bucket(double price) {
+        return price >= HISTOGRAM_BUCKETS ? HISTOGRAM_BUCKETS : (int) price;
+    }
+
+    /**
+     * Adds {@code delta} to the count of histogram bucket {@code slot} in the Fenwick tree.
+     */
+    private void update(int slot, int delta) {
+        for (int i = slot + 1; i < histogram.length; i += i & -i) {
+            histogram[i] += delta;
+        }
+    }
+
+    /**
+     * Sums the counts of the first {@code slots} histogram buckets.
+     */
+    private int prefix(int slots) {
+        int sum = 0;
+        for (int i = slots; i > 0; i -= i & -i) {
+            sum += histogram[i];
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,236 @@
+package com.university.bookstore.index;
+
+import com.university.bookstore.model.Book;
+import com.university.bookstore.utils.SearchKeys;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Trigram inverted index for substring searches over book titles.
+ *
+ * <p>Every title is normalized once, when the book is added, and split into its
+ * overlapping three character sequences (trigrams). Each trigram maps to a posting
+ * set of the books whose title contains it. A query of three or more characters
+ * can only match books that contain every one of its trigrams, so the search starts
+ * from the smallest posting set, keeps the candidates found in all the others, and
+ * only then verifies each candidate with a substring check.</p>
+ *
+ * <p>Queries of one or two characters have no trigram, so they fall back to a scan
+ * over the cached normalized titles. That scan still avoids normalizing every title
+ * again on each query.</p>
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class TitleIndex {
+
+    /**
+     * The length of the sequences stored in the index.
+     */
+    public static final int GRAM = 3;
+
+    /**
+     * An indexed book together with its normalized title.
+     */
+    private static final class Entry {
+        private final Book book;
+        private final String key;
+
+        private Entry(Book book, String key) {
+            this.book = book;
+            this.key = key;
+        }
+    }
+
+    private final Map<String, Entry> entries = new LinkedHashMap<>();
+    private final Map<String, Set<Entry>> postings = new HashMap<>();
+
+    /**
+     * Adds a book to the index.
+     * O(t) time complexity, t being the length of the title
+     *
+     * @param book the book to index, ignored if null or its ISBN is already indexed
+     */
+    public void add(Book book) {
+        if (book == null || entries.containsKey(book.getIsbn())) {
+            return;
+        }
+        Entry entry = new Entry(book, book.getTitleKey());
+        entries.put(book.getIsbn(), entry);
+        for (String gram : grams(entry.key)) {
+            postings.computeIfAbsent(gram, g -> new LinkedHashSet<>()).add(entry);
+        }
+    }
+
+    /**
+     * Adds a batch of books to the index, grouping the postings of the batch by trigram
+     * first so every posting set is looked up and grown once per batch instead of once
+     * per book.
+     * O(T) time complexity, T being the total length of the titles
+     *
+     * @param books the books to index, null books and ISBNs already indexed are ignored
+     */
+    public void addAll(List<Book> books) {
+        Map<String, List<Entry>> batch = new HashMap<>();
+        for (Book book : books) {
+            if (book == null || entries.containsKey(book.getIsbn())) {
+                continue;
+            }
+            Entry entry = new Entry(book, book.getTitleKey());
+            entries.put(book.getIsbn(), entry);
+            for (String gram : grams(entry.key)) {
+                batch.computeIfAbsent(gram, g -> new ArrayList<>()).add(entry);
+            }
+        }
+        for (Map.Entry<String, List<Entry>> gram : batch.entrySet()) {
+            Set<Entry> posting = postings.get(gram.getKey());
+            if (posting == null) {
+                postings.put(gram.getKey(), new LinkedHashSet<>(gram.getValue()));
+            } else {
+                posting.addAll(gram.getValue());
+            }
+        }
+    }
+
+    /**
+     * Removes a book from the index.
+     * O(t) time complexity, t being the length of the title
+     *
+     * @param book the book to remove (may be null)
+     */
+    public void remove(Book book) {
+        if (book == null) {
+            return;
+        }
+        Entry entry = entries.remove(book.getIsbn());
+        if (entry == null) {
+            return;
+        }
+        for (String gram : grams(entry.key)) {
+            Set<Entry> posting = postings.get(gram);
+            if (posting != null) {
+                posting.remove(entry);
+                if (posting.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    /**
+     * Finds every book whose normalized title contains the normalized query.
+     * O(p + c) time complexity, p being the number of query trigrams and c the size of
+     * the smallest posting set, or O(n) for queries shorter than {@value #GRAM} characters
+     *
+     * @param query the title or partial title to search for
+     * @return the matching books in insertion order, empty if none or the query is blank
+     */
+    public List<Book> search(String query) {
+        return stream(query).collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    /**
+     * Streams every book whose normalized title contains the normalized query, checking
+     * the candidates of the smallest posting set as the stream is consumed.
+     * O(p) time complexity to start, then each candidate is checked when it is read
+     *
+     * <p>The stream reads the index as it is consumed, so it must be consumed before
+     * the index is modified.</p>
+     *
+     * @param query the title or partial title to search for
+     * @return the matching books in insertion order, empty if none or the query is blank
+     */
+    public Stream<Book> stream(String query) {
+        String key = SearchKeys.normalize(query);
+        if (key.isEmpty()) {
+            return Stream.empty();
+        }
+
+        if (key.length() < GRAM) {
+            return entries.values().stream().filter(e -> e.key.contains(key)).map(e -> e.book);
+        }
+
+        Set<String> grams = grams(key);
+        List<Set<Entry>> lists = new ArrayList<>(grams.size());
+        for (String gram : grams) {
+            Set<Entry> posting = postings.get(gram);
+            if (posting == null) {
+                return Stream.empty();
+            }
+            lists.add(posting);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+
+        return lists.get(0).stream().filter(e -> inAll(e, lists) && e.key.contains(key)).map(e -> e.book);
+    }
+
+    /**
+     * Estimates how many books {@link #search(String)} has to check for a query, an upper
+     * bound on the number of matches. It reads the posting set sizes only.
+     * O(p) time complexity, p being the number of query trigrams
+     *
+     * @param query the title or partial title to search for
+     * @return the size of the smallest posting set of the query, or the index size for
+     *         queries shorter than {@value #GRAM} characters
+     */
+    public int estimate(String query) {
+        String key = SearchKeys.normalize(query);
+        if (key.isEmpty()) {
+            return 0;
+        }
+        if (key.length() < GRAM) {
+            return entries.size();
+        }
+
+        int smallest = entries.size();
+        for (String gram : grams(key)) {
+            Set<Entry> posting = postings.get(gram);
+            if (posting == null) {
+                return 0;
+            }
+            smallest = Math.min(smallest, posting.size());
+        }
+        return smallest;
+    }
+
+    /**
+     * Gets the number of books in the index.
+     *
+     * @return the number of indexed books
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    private static boolean inAll(Entry entry, List<Set<Entry>> lists) {
+        for (int i = 1; i < lists.size(); i++) {
+            if (!lists.get(i).contains(entry)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Splits a normalized key into its distinct trigrams.
+     */
+    private static Set<String> grams(String key) {
+        if (key.length() < GRAM) {
+            return new LinkedHashSet<>();
+        }
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM <= key.length(); i++) {
+            grams.add(key.substring(i, i + GRAM));
+        }
+        return grams;
+    }
+}
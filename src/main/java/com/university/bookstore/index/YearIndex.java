@@ -0,0 +1,295 @@
+package com.university.bookstore.index;
+
+import com.university.bookstore.model.Book;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Bucketed index of books by publication year.
+ *
+ * <p>{@link Book#isValidYear(int)} only accepts years from {@value #MIN_YEAR} to
+ * {@value #MAX_YEAR}, so the index keeps one bucket per year in a list indexed by year. Each
+ * bucket keeps its books in insertion order, and a Fenwick (binary indexed) tree over
+ * the bucket sizes answers "how many books before year X" in O(log Y), where Y is the
+ * number of years, without touching the books themselves.</p>
+ *
+ * <p>Buckets are keyed by ISBN, so removing a book is O(1) and never leaves stale
+ * entries behind for later queries.</p>
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class YearIndex {
+
+    /**
+     * The earliest year accepted by {@link Book}, the invention of the printing press.
+     */
+    public static final int MIN_YEAR = 1450;
+
+    /**
+     * The latest year accepted by {@link Book}, the current year plus one for pre-orders.
+     */
+    public static final int MAX_YEAR = 2026;
+
+    private static final int YEARS = MAX_YEAR - MIN_YEAR + 1;
+
+    private final List<Map<String, Book>> buckets = new ArrayList<>(YEARS);
+    private final int[] fenwick = new int[YEARS + 1];
+    private int size;
+    private int maxYear = MIN_YEAR - 1;
+
+    /**
+     * Create an empty index
+     */
+    public YearIndex() {
+        for (int i = 0; i < YEARS; i++) {
+            buckets.add(null);
+        }
+    }
+
+    /**
+     * Adds a book to the bucket of its publication year.
+     * O(log Y) time complexity
+     *
+     * @param book the book to index, ignored if null or its ISBN is already indexed
+     */
+    public void add(Book book) {
+        if (book == null || !inRange(book.getYear())) {
+            return;
+        }
+        int slot = book.getYear() - MIN_YEAR;
+        Map<String, Book> bucket = buckets.get(slot);
+        if (bucket == null) {
+            bucket = new LinkedHashMap<>();
+            buckets.set(slot, bucket);
+        }
+        if (bucket.putIfAbsent(book.getIsbn(), book) != null) {
+            return;
+        }
+        update(slot, 1);
+        size++;
+        if (book.getYear() > maxYear) {
+            maxYear = book.getYear();
+        }
+    }
+
+    /**
+     * Adds a batch of books to the buckets of their publication years, updating the
+     * Fenwick tree once per year the batch touches instead of once per book.
+     * O(m + Y log Y) time complexity
+     *
+     * @param books the books to index, null books and ISBNs already indexed are ignored
+     */
+    public void addAll(List<Book> books) {
+        int[] counts = new int[YEARS];
+        for (Book book : books) {
+            if (book == null || !inRange(book.getYear())) {
+                continue;
+            }
+            int slot = book.getYear() - MIN_YEAR;
+            Map<String, Book> bucket = buckets.get(slot);
+            if (bucket == null) {
+                bucket = new LinkedHashMap<>();
+                buckets.set(slot, bucket);
+            }
+            if (bucket.putIfAbsent(book.getIsbn(), book) == null) {
+                counts[slot]++;
+            }
+        }
+        for (int slot = 0; slot < YEARS; slot++) {
+            if (counts[slot] != 0) {
+                update(slot, counts[slot]);
+                size += counts[slot];
+                maxYear = Math.max(maxYear, slot + MIN_YEAR);
+            }
+        }
+    }
+
+    /**
+     * Removes a book from the bucket of its publication year.
+     * O(log Y) time complexity, the newest year is only searched again when its bucket empties
+     *
+     * @param book the book to remove (may be null)
+     */
+    public void remove(Book book) {
+        if (book == null || !inRange(book.getYear())) {
+            return;
+        }
+        int slot = book.getYear() - MIN_YEAR;
+        Map<String, Book> bucket = buckets.get(slot);
+        if (bucket == null || bucket.remove(book.getIsbn()) == null) {
+            return;
+        }
+        update(slot, -1);
+        size--;
+        while (maxYear >= MIN_YEAR && isEmpty(maxYear)) {
+            maxYear--;
+        }
+    }
+
+    /**
+     * Finds every book published in the given year.
+     * O(k) time complexity - copies the bucket of that year
+     *
+     * @param year the publication year
+     * @return the books published that year in insertion order, empty if none
+     */
+    public List<Book> findByYear(int year) {
+        if (!inRange(year) || isEmpty(year)) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(buckets.get(year - MIN_YEAR).values());
+    }
+
+    /**
+     * Streams every book published in the given year without copying the bucket.
+     * O(1) time complexity to start, then O(1) per book read
+     *
+     * <p>The stream reads the bucket as it is consumed, so it must be consumed before
+     * the index is modified.</p>
+     *
+     * @param year the publication year
+     * @return the books published that year in insertion order, empty if none
+     */
+    public Stream<Book> stream(int year) {
+        if (!inRange(year) || isEmpty(year)) {
+            return Stream.empty();
+        }
+        return buckets.get(year - MIN_YEAR).values().stream();
+    }
+
+    /**
+     * Finds every book published in the ten years starting at {@code decade}.
+     * O(k) time complexity - concatenates at most ten buckets
+     *
+     * @param decade the starting year of the decade (e.g., 1990 for 1990–1999)
+     * @return the matching books ordered by year, then by insertion order
+     */
+    public List<Book> findByDecade(int decade) {
+        if (decade > MAX_YEAR) {
+            return new ArrayList<>();
+        }
+        List<Book> result = new ArrayList<>(countBetween(decade, decade + 9));
+        for (int year = Math.max(decade, MIN_YEAR); year <= Math.min(decade + 9, MAX_YEAR); year++) {
+            if (!isEmpty(year)) {
+                result.addAll(buckets.get(year - MIN_YEAR).values());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Counts the books published strictly before the cutoff year.
+     * O(log Y) time complexity - a prefix sum over the bucket sizes
+     *
+     * @param yearCutoff the cutoff year
+     * @return the number of books published before {@code yearCutoff}
+     */
+    public int countBeforeYear(int yearCutoff) {
+        if (yearCutoff <= MIN_YEAR) {
+            return 0;
+        }
+        if (yearCutoff > MAX_YEAR) {
+            return size;
+        }
+        return prefix(yearCutoff - MIN_YEAR);
+    }
+
+    /**
+     * Counts the books published between two years, both inclusive.
+     * O(log Y) time complexity
+     *
+     * @param fromYear the first year
+     * @param toYear   the last year
+     * @return the number of books published from {@code fromYear} to {@code toYear}
+     */
+    public int countBetween(int fromYear, int toYear) {
+        if (fromYear > toYear) {
+            return 0;
+        }
+        int upTo = toYear >= MAX_YEAR ? size : countBeforeYear(toYear + 1);
+        return upTo - countBeforeYear(fromYear);
+    }
+
+    /**
+     * Gets the most recently published book, the first added one when years tie.
+     * O(1) time complexity - reads the first book of the newest non-empty bucket
+     *
+     * @return the most recent book, or {@code null} if the index is empty
+     */
+    public Book mostRecent() {
+        if (maxYear < MIN_YEAR) {
+            return null;
+        }
+        return buckets.get(maxYear - MIN_YEAR).values().iterator().next();
+    }
+
+    /**
+     * Gets the most recently published books, the first added first among equal years.
+     * O(Y + k) time complexity - reads the buckets from the newest year down
+     *
+     * @param k the number of books to return
+     * @return up to {@code k} books, newest first
+     * @throws IllegalArgumentException if {@code k} is negative
+     */
+    public List<Book> mostRecent(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("K cannot be negative");
+        }
+        List<Book> result = new ArrayList<>(Math.min(k, size));
+        for (int year = maxYear; year >= MIN_YEAR && result.size() < k; year--) {
+            if (isEmpty(year)) {
+                continue;
+            }
+            for (Book book : buckets.get(year - MIN_YEAR).values()) {
+                if (result.size() == k) {
+                    break;
+                }
+                result.add(book);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets the number of books in the index.
+     *
+     * @return the number of indexed books
+     */
+    public int size() {
+        return size;
+    }
+
+    private static boolean inRange(int year) {
+        return year >= MIN_YEAR && year <= MAX_YEAR;
+    }
+
+    private boolean isEmpty(int year) {
+        Map<String, Book> bucket = buckets.get(year - MIN_YEAR);
+        return bucket == null || bucket.isEmpty();
+    }
+
+    /**
+     * Adds {@code delta} to the count of bucket {@code slot} in the Fenwick tree.
+     */
+    private void update(int slot, int delta) {
+        for (int i = slot + 1; i <= YEARS; i += i & -i) {
+            fenwick[i] += delta;
+        }
+    }
+
+    /**
+     * Sums the counts of the first {@code slots} buckets.
+     */
+    private int prefix(int slots) {
+        int sum = 0;
+        for (int i = slots; i > 0; i -= i & -i) {
+            sum += fenwick[i];
+        }
+        return sum;
+    }
+}
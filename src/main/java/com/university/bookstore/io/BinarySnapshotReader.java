@@ -0,0 +1,166 @@
+package com.university.bookstore.io;
+
+import com.university.bookstore.api.BookstoreAPI;
+import com.university.bookstore.model.Book;
+import com.university.bookstore.utils.IsbnCodec;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.stream.IntStream;
+import java.util.zip.CRC32;
+
+/**
+ * Reads a snapshot written by {@link BinarySnapshotWriter} back into books or a store.
+ *
+ * <p>The file is memory-mapped and its header and checksum are verified before anything
+ * is decoded, so a truncated or corrupted snapshot is rejected with an IOException
+ * instead of loading a partial inventory. The fixed-width columns are read in place
+ * from the mapping, every author is decoded once from the dictionary and shared by
+ * all of its books, and only the titles are decoded per book. Title offsets are found
+ * in one quick pass over their length prefixes, after which the books are decoded in
+ * parallel.</p>
+ *
+ * <p>{@link #load(Path, BookstoreAPI)} hands the decoded books to the store in a single
+ * {@link BookstoreAPI#addAll(Book[])} call, so stores that build indexes build them
+ * once at the end rather than once per book.</p>
+ *
+ * <p>Snapshots are limited to 2 GB, the size of a single mapping, which is well over
+ * ten million books.</p>
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ *
+ * @see BinarySnapshotWriter
+ */
+public final class BinarySnapshotReader {
+
+    /**
+     * Reads every book of a snapshot, in the order they were written.
+     *
+     * @param file the snapshot file
+     * @return the books
+     * @throws IOException if the file cannot be read, or is not a valid snapshot
+     */
+    public Book[] read(Path file) throws IOException {
+        if (file == null) {
+            throw new IllegalArgumentException("File cannot be null");
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < BinarySnapshotWriter.HEADER_SIZE) {
+                throw new IOException("Not a book snapshot: " + file);
+            }
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Snapshot larger than 2 GB: " + file);
+            }
+            MappedByteBuffer map = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            return decode(map, file);
+        }
+    }
+
+    /**
+     * Reads every book of a snapshot into a store.
+     *
+     * @param file  the snapshot file
+     * @param store the store to fill, usually empty
+     * @param <T>   the type of the store
+     * @return the store
+     * @throws IOException if the file cannot be read, or is not a valid snapshot
+     */
+    public <T extends BookstoreAPI> T load(Path file, T store) throws IOException {
+        if (store == null) {
+            throw new IllegalArgumentException("Store cannot be null");
+        }
+        store.addAll(read(file));
+        return store;
+    }
+
+    private static Book[] decode(ByteBuffer map, Path file) throws IOException {
+        int header = BinarySnapshotWriter.HEADER_SIZE;
+        if (map.getInt(0) != BinarySnapshotWriter.MAGIC) {
+            throw new IOException("Not a book snapshot: " + file);
+        }
+        int version = map.getInt(4);
+        if (version != BinarySnapshotWriter.FORMAT_VERSION) {
+            throw new IOException("Unsupported snapshot version " + version + ": " + file);
+        }
+        int count = map.getInt(8);
+        int authorCount = map.getInt(12);
+        long payloadLength = map.getLong(16);
+        long checksum = map.getLong(24);
+        if (count < 0 || authorCount < 0 || payloadLength != map.limit() - header) {
+            throw new IOException("Truncated snapshot: " + file);
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(map.slice(header, (int) payloadLength));
+        if (crc.getValue() != checksum) {
+            throw new IOException("Snapshot checksum mismatch: " + file);
+        }
+
+        long fixedWidth = (long) count * (Long.BYTES + Double.BYTES + Short.BYTES + Integer.BYTES);
+        if (fixedWidth > payloadLength) {
+            throw new IOException("Truncated snapshot: " + file);
+        }
+        int isbns = header;
+        int prices = isbns + count * Long.BYTES;
+        int years = prices + count * Double.BYTES;
+        int authorIds = years + count * Short.BYTES;
+
+        try {
+            int position = authorIds + count * Integer.BYTES;
+            byte[] scratch = new byte[256];
+            String[] authors = new String[authorCount];
+            for (int i = 0; i < authorCount; i++) {
+                int length = map.getInt(position);
+                scratch = fill(map, position + Integer.BYTES, length, scratch);
+                authors[i] = new String(scratch, 0, length, StandardCharsets.UTF_8);
+                position += Integer.BYTES + length;
+            }
+
+            int[] titles = new int[count];
+            for (int i = 0; i < count; i++) {
+                titles[i] = position;
+                int length = map.getInt(position);
+                if (length < 0) {
+                    throw new IndexOutOfBoundsException("Negative string length");
+                }
+                position += Integer.BYTES + length;
+            }
+            if (position != map.limit()) {
+                throw new IOException("Trailing bytes in snapshot: " + file);
+            }
+
+            Book[] books = new Book[count];
+            IntStream.range(0, count).parallel().forEach(i -> {
+                int length = map.getInt(titles[i]);
+                byte[] title = new byte[length];
+                map.get(titles[i] + Integer.BYTES, title);
+                books[i] = new Book(IsbnCodec.decode(map.getLong(isbns + i * Long.BYTES)),
+                        new String(title, StandardCharsets.UTF_8),
+                        authors[map.getInt(authorIds + i * Integer.BYTES)],
+                        map.getDouble(prices + i * Double.BYTES), map.getShort(years + i * Short.BYTES));
+            });
+            return books;
+        } catch (IndexOutOfBoundsException | IllegalArgumentException e) {
+            throw new IOException("Corrupted snapshot: " + file, e);
+        }
+    }
+
+    private static byte[] fill(ByteBuffer map, int position, int length, byte[] scratch) {
+        if (length < 0) {
+            throw new IndexOutOfBoundsException("Negative string length");
+        }
+        if (scratch.length < length) {
+            scratch = new byte[Math.max(length, scratch.length * 2)];
+        }
+        map.get(position, scratch, 0, length);
+        return scratch;
+    }
+}
@@ -0,0 +1,173 @@
+package com.university.bookstore.io;
+
+import com.university.bookstore.api.BookstoreAPI;
+import com.university.bookstore.model.Book;
+import com.university.bookstore.utils.IsbnCodec;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Writes the books of a bookstore to a compact binary snapshot file.
+ *
+ * <p>The file starts with a fixed {@value #HEADER_SIZE} byte header, followed by the
+ * payload. All numbers are big-endian.</p>
+ * <pre>
+ * header   magic "BKSN" (int), format version (int), book count (int), author count (int),
+ *          payload length (long), CRC32 of the payload (long)
+ * payload  ISBNs      long[count], packed by {@link IsbnCodec}
+ *          prices     double[count]
+ *          years      short[count]
+ *          authors    int[count], ids into the author dictionary
+ *          dictionary author count times (int byte length, UTF-8 bytes)
+ *          titles     count times (int byte length, UTF-8 bytes)
+ * </pre>
+ *
+ * <p>The fixed-width columns come first so they stay 8-byte aligned, and every author is
+ * written once however many books it has. The snapshot is written to a temporary file
+ * next to the target and then moved over it, so a crash while writing never leaves a
+ * half written snapshot behind.</p>
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ *
+ * @see BinarySnapshotReader
+ */
+public final class BinarySnapshotWriter {
+
+    /**
+     * The first four bytes of every snapshot, "BKSN".
+     */
+    public static final int MAGIC = 0x424B534E;
+
+    /**
+     * The format version written by this class.
+     */
+    public static final int FORMAT_VERSION = 1;
+
+    /**
+     * The size of the header in bytes.
+     */
+    public static final int HEADER_SIZE = 32;
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /**
+     * Writes a snapshot of every book in a store.
+     *
+     * @param store the store to save
+     * @param file  the snapshot file, replaced if it exists
+     * @throws IOException if the file cannot be written
+     */
+    public void write(BookstoreAPI store, Path file) throws IOException {
+        if (store == null) {
+            throw new IllegalArgumentException("Store cannot be null");
+        }
+        write(store.snapshotArray(), file);
+    }
+
+    /**
+     * Writes a snapshot of the given books, in array order, skipping null entries.
+     *
+     * @param books the books to save, such as the output of snapshotArray
+     * @param file  the snapshot file, replaced if it exists
+     * @throws IOException if the file cannot be written
+     */
+    public void write(Book[] books, Path file) throws IOException {
+        if (books == null || file == null) {
+            throw new IllegalArgumentException("Books and file cannot be null");
+        }
+
+        int count = 0;
+        for (Book book : books) {
+            if (book != null) {
+                count++;
+            }
+        }
+
+        Map<String, Integer> authorIds = new HashMap<>();
+        int[] authors = new int[count];
+        int row = 0;
+        for (Book book : books) {
+            if (book != null) {
+                Integer id = authorIds.putIfAbsent(book.getAuthor(), authorIds.size());
+                authors[row++] = id == null ? authorIds.size() - 1 : id;
+            }
+        }
+        String[] dictionary = new String[authorIds.size()];
+        for (Map.Entry<String, Integer> entry : authorIds.entrySet()) {
+            dictionary[entry.getValue()] = entry.getKey();
+        }
+
+        Path parent = file.toAbsolutePath().getParent();
+        Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                channel.position(HEADER_SIZE);
+                CRC32 crc = new CRC32();
+                CheckedOutputStream checked = new CheckedOutputStream(
+                        new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE), crc);
+                DataOutputStream out = new DataOutputStream(checked);
+
+                for (Book book : books) {
+                    if (book != null) {
+                        out.writeLong(IsbnCodec.encode(book.getIsbn()));
+                    }
+                }
+                for (Book book : books) {
+                    if (book != null) {
+                        out.writeDouble(book.getPrice());
+                    }
+                }
+                for (Book book : books) {
+                    if (book != null) {
+                        out.writeShort(book.getYear());
+                    }
+                }
+                for (int author : authors) {
+                    out.writeInt(author);
+                }
+                for (String author : dictionary) {
+                    writeString(out, author);
+                }
+                for (Book book : books) {
+                    if (book != null) {
+                        writeString(out, book.getTitle());
+                    }
+                }
+                out.flush();
+
+                ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+                header.putInt(MAGIC).putInt(FORMAT_VERSION).putInt(count).putInt(dictionary.length)
+                        .putLong(channel.position() - HEADER_SIZE).putLong(crc.getValue());
+                header.flip();
+                while (header.hasRemaining()) {
+                    channel.write(header, header.position());
+                }
+                channel.force(true);
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String s) throws IOException {
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+}
@@ -0,0 +1,463 @@
+package com.university.bookstore.io;
+
+import com.university.bookstore.api.BookstoreAPI;
+import com.university.bookstore.model.Book;
+import com.university.bookstore.utils.IsbnCodec;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only binary journal of the adds and removes applied to a bookstore.
+ *
+ * <p>The file starts with an 8 byte header, magic "BKJR" and the format version, followed
+ * by one record per mutation:</p>
+ * <pre>
+ * record  body length (int), CRC32 of the body (int), body
+ * add     type 1 (byte), ISBN code (long), price (double), year (short),
+ *         title and author as (int byte length, UTF-8 bytes)
+ * remove  type 2 (byte), ISBN code (long)
+ * </pre>
+ *
+ * <p>Appending only copies the record into a memory buffer and returns its sequence
+ * number. {@link #sync(long)} then blocks until that record is on disk, using group
+ * commit: the first waiting thread becomes the leader, optionally waits
+ * {@code commitWindowNanos} for more records to arrive, then writes everything buffered
+ * so far with a single write and a single fsync, and wakes every thread whose record it
+ * covered. Threads that call sync while a flush is running wait for the next one, which
+ * again covers all of them, so N concurrent writers share one fsync instead of paying
+ * for N.</p>
+ *
+ * <p>{@link #replay(Path, BookstoreAPI)} applies a journal to a store on startup. A record
+ * cut short or corrupted by a crash can only be the last one, since records are only
+ * acknowledged once they and everything before them are on disk, so replay stops at the
+ * first record with a bad length or checksum and truncates the file there. An intact
+ * record that cannot be applied is not a crash artifact, so replay fails instead and
+ * leaves the file as it is.</p>
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ *
+ * @see com.university.bookstore.impl.BookstoreJournaled
+ */
+public final class BookJournal implements Closeable {
+
+    /**
+     * The first four bytes of every journal, "BKJR".
+     */
+    public static final int MAGIC = 0x424B4A52;
+
+    /**
+     * The format version written by this class.
+     */
+    public static final int FORMAT_VERSION = 1;
+
+    private static final int HEADER_SIZE = 8;
+    private static final byte ADD = 1;
+    private static final byte REMOVE = 2;
+    private static final int MAX_RECORD = 1 << 24;
+
+    private final FileChannel channel;
+    private final long commitWindowNanos;
+
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private ByteBuffer active = ByteBuffer.allocate(1 << 16);
+    private long appended;
+
+    private final ReentrantLock syncLock = new ReentrantLock();
+    private final Condition flushed = syncLock.newCondition();
+    private ByteBuffer spare = ByteBuffer.allocate(1 << 16);
+    private long durable;
+    private boolean flushing;
+    private IOException failure;
+    private long syncs;
+
+    private BookJournal(FileChannel channel, long commitWindowNanos) {
+        this.channel = channel;
+        this.commitWindowNanos = commitWindowNanos;
+    }
+
+    /**
+     * Opens a journal for appending, creating it if it does not exist. Existing records
+     * should be replayed first, since a torn record at the end would hide every record
+     * appended after it.
+     *
+     * @param file              the journal file
+     * @param commitWindowNanos how long a flush leader waits for more records before
+     *                          writing, 0 to write immediately
+     * @return the open journal
+     * @throws IOException if the file cannot be opened or is not a journal
+     */
+    public static BookJournal open(Path file, long commitWindowNanos) throws IOException {
+        if (commitWindowNanos < 0) {
+            throw new IllegalArgumentException("Commit window cannot be negative");
+        }
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            if (channel.size() < HEADER_SIZE) {
+                ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC).putInt(FORMAT_VERSION);
+                header.flip();
+                channel.truncate(0);
+                while (header.hasRemaining()) {
+                    channel.write(header, header.position());
+                }
+                channel.force(true);
+            } else {
+                checkHeader(channel, file);
+            }
+            channel.position(channel.size());
+            return new BookJournal(channel, commitWindowNanos);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private static void checkHeader(FileChannel channel, Path file) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        while (header.hasRemaining() && channel.read(header, header.position()) > 0) {
+            // read the whole header
+        }
+        if (header.getInt(0) != MAGIC) {
+            throw new IOException("Not a book journal: " + file);
+        }
+        if (header.getInt(4) != FORMAT_VERSION) {
+            throw new IOException("Unsupported journal version " + header.getInt(4) + ": " + file);
+        }
+    }
+
+    /**
+     * Applies every intact record of a journal to a store, in order, and truncates a torn
+     * record left at the end by a crash. Only a bad length or checksum is treated as torn.
+     *
+     * @param file  the journal file, nothing is done if it does not exist
+     * @param store the store to apply the records to
+     * @return the number of records applied
+     * @throws IOException if the file cannot be read or is not a journal, or if an intact
+     *                     record cannot be applied, in which case the file is not changed
+     */
+    public static long replay(Path file, BookstoreAPI store) throws IOException {
+        if (!Files.exists(file)) {
+            return 0;
+        }
+
+        long records = 0;
+        long valid = HEADER_SIZE;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            if (channel.size() < HEADER_SIZE) {
+                return 0;
+            }
+            checkHeader(channel, file);
+            channel.position(HEADER_SIZE);
+            DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel), 1 << 16));
+            CRC32 crc = new CRC32();
+            byte[] body = new byte[256];
+            while (true) {
+                int length;
+                int checksum;
+                try {
+                    length = in.readInt();
+                    checksum = in.readInt();
+                    if (length <= 0 || length > MAX_RECORD) {
+                        break;
+                    }
+                    if (body.length < length) {
+                        body = new byte[Math.max(length, body.length * 2)];
+                    }
+                    in.readFully(body, 0, length);
+                } catch (EOFException e) {
+                    break;
+                }
+                crc.reset();
+                crc.update(body, 0, length);
+                if ((int) crc.getValue() != checksum) {
+                    break;
+                }
+                try {
+                    apply(ByteBuffer.wrap(body, 0, length), store);
+                } catch (RuntimeException e) {
+                    throw new IOException("Journal record " + (records + 1) + " at offset " + valid
+                            + " cannot be applied: " + file, e);
+                }
+                valid += 2L * Integer.BYTES + length;
+                records++;
+            }
+            if (valid < channel.size()) {
+                channel.truncate(valid);
+                channel.force(true);
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Applies one intact record to a store.
+     *
+     * @throws RuntimeException if the record is of an unknown type, holds invalid values,
+     *                          or the store fails to apply it
+     */
+    private static void apply(ByteBuffer body, BookstoreAPI store) {
+        byte type = body.get();
+        long isbn = body.getLong();
+        if (type == REMOVE) {
+            store.removeByIsbn(IsbnCodec.decode(isbn));
+            return;
+        }
+        if (type != ADD) {
+            throw new IllegalArgumentException("Unknown record type " + type);
+        }
+        double price = body.getDouble();
+        short year = body.getShort();
+        String title = readString(body);
+        String author = readString(body);
+        store.add(new Book(IsbnCodec.decode(isbn), title, author, price, year));
+    }
+
+    private static String readString(ByteBuffer body) {
+        int length = body.getInt();
+        String s = new String(body.array(), body.arrayOffset() + body.position(), length, StandardCharsets.UTF_8);
+        body.position(body.position() + length);
+        return s;
+    }
+
+    /**
+     * Buffers an add record.
+     *
+     * @param book the book that was added
+     * @return the sequence number of the record, to pass to {@link #sync(long)}
+     */
+    public long appendAdd(Book book) {
+        byte[] title = book.getTitle().getBytes(StandardCharsets.UTF_8);
+        byte[] author = book.getAuthor().getBytes(StandardCharsets.UTF_8);
+        int length = 1 + Long.BYTES + Double.BYTES + Short.BYTES + 2 * Integer.BYTES + title.length + author.length;
+
+        appendLock.lock();
+        try {
+            int start = reserve(length);
+            active.put(ADD).putLong(IsbnCodec.encode(book.getIsbn())).putDouble(book.getPrice())
+                    .putShort((short) book.getYear())
+                    .putInt(title.length).put(title)
+                    .putInt(author.length).put(author);
+            return finish(start, length);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * Buffers a remove record.
+     *
+     * @param isbn the ISBN of the book that was removed
+     * @return the sequence number of the record, to pass to {@link #sync(long)}
+     */
+    public long appendRemove(String isbn) {
+        int length = 1 + Long.BYTES;
+
+        appendLock.lock();
+        try {
+            int start = reserve(length);
+            active.put(REMOVE).putLong(IsbnCodec.encode(isbn));
+            return finish(start, length);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * Makes room for a record in the active buffer and skips its length and checksum.
+     *
+     * @return the position of the record in the buffer
+     */
+    private int reserve(int length) {
+        if (length > MAX_RECORD) {
+            throw new IllegalArgumentException("Record too large: " + length);
+        }
+        int needed = 2 * Integer.BYTES + length;
+        if (active.remaining() < needed) {
+            ByteBuffer grown = ByteBuffer.allocate(Math.max(active.capacity() * 2, active.position() + needed));
+            active.flip();
+            grown.put(active);
+            active = grown;
+        }
+        int start = active.position();
+        active.position(start + 2 * Integer.BYTES);
+        return start;
+    }
+
+    /**
+     * Fills in the length and checksum of the record that was just written.
+     */
+    private long finish(int start, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(active.array(), start + 2 * Integer.BYTES, length);
+        active.putInt(start, length).putInt(start + Integer.BYTES, (int) crc.getValue());
+        return ++appended;
+    }
+
+    /**
+     * Checks that no write of this journal has failed, so a change is only made while it
+     * can still be journaled.
+     *
+     * @throws IOException if a write failed, every later sync fails too
+     */
+    public void ensureWritable() throws IOException {
+        syncLock.lock();
+        try {
+            if (failure != null) {
+                throw new IOException("Journal write failed", failure);
+            }
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    /**
+     * Blocks until the record with the given sequence number, and every record before it,
+     * is on disk.
+     *
+     * @param sequence a sequence number returned by an append
+     * @throws IOException if the journal could not be written, every later sync fails too
+     */
+    public void sync(long sequence) throws IOException {
+        syncLock.lock();
+        try {
+            while (durable < sequence) {
+                if (failure != null) {
+                    throw new IOException("Journal write failed", failure);
+                }
+                if (flushing) {
+                    flushed.awaitUninterruptibly();
+                    continue;
+                }
+
+                flushing = true;
+                syncLock.unlock();
+                long written = -1;
+                IOException error = null;
+                try {
+                    if (commitWindowNanos > 0) {
+                        LockSupport.parkNanos(commitWindowNanos);
+                    }
+                    written = flush();
+                } catch (IOException e) {
+                    error = e;
+                } finally {
+                    syncLock.lock();
+                    flushing = false;
+                }
+                if (error != null) {
+                    failure = error;
+                } else {
+                    durable = Math.max(durable, written);
+                    syncs++;
+                }
+                flushed.signalAll();
+            }
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    /**
+     * Writes everything appended so far with one write and one fsync, only ever called by
+     * the single flush leader.
+     *
+     * @return the sequence number of the last record written
+     */
+    private long flush() throws IOException {
+        ByteBuffer pending;
+        long last;
+        appendLock.lock();
+        try {
+            pending = active;
+            active = spare;
+            last = appended;
+        } finally {
+            appendLock.unlock();
+        }
+
+        pending.flip();
+        while (pending.hasRemaining()) {
+            channel.write(pending);
+        }
+        channel.force(false);
+        pending.clear();
+        spare = pending;
+        return last;
+    }
+
+    /**
+     * Blocks until every record appended so far is on disk.
+     *
+     * @throws IOException if the journal could not be written
+     */
+    public void syncAll() throws IOException {
+        long last;
+        appendLock.lock();
+        try {
+            last = appended;
+        } finally {
+            appendLock.unlock();
+        }
+        sync(last);
+    }
+
+    /**
+     * Gets the number of fsyncs made so far, each of which may have covered many records.
+     *
+     * @return the fsync count
+     */
+    public long syncCount() {
+        syncLock.lock();
+        try {
+            return syncs;
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    /**
+     * Gets the size of the journal file, including records not yet written.
+     *
+     * @return the size in bytes
+     * @throws IOException if the size cannot be read
+     */
+    public long size() throws IOException {
+        appendLock.lock();
+        try {
+            return channel.size() + active.position();
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * Writes every buffered record to disk and closes the file.
+     *
+     * @throws IOException if the journal could not be written
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            syncAll();
+        } finally {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,636 @@
+package com.university.bookstore.io;
+
+import com.university.bookstore.api.BookstoreAPI;
+import com.university.bookstore.api.BulkAddResult;
+import com.university.bookstore.model.Book;
+import com.university.bookstore.model.BookFactory;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Loads a catalog from a CSV file into a bookstore.
+ *
+ * <p>Every line holds one book as {@code isbn,title,author,price,year}, in UTF-8. Fields
+ * may be quoted with {@code "}, and a quote inside a quoted field is written twice, so
+ * titles can contain commas. Prices are plain decimals such as {@code 12.99}, without a
+ * sign or an exponent. A first line whose first field is {@code isbn} is treated as a
+ * header and skipped, and blank lines are ignored. A record cannot span lines.</p>
+ *
+ * <p>The file is memory-mapped through a {@link FileChannel} and parsed straight from the
+ * mapped bytes. Field boundaries are found in place, the ISBN digits are validated in
+ * place with the same rules as {@link Book} (10 to 13 digits, hyphens ignored), and the
+ * price and year are parsed from the bytes without creating a String. Only the Strings a
+ * Book keeps, its ISBN, title and author, are created. An importer given a
+ * {@link BookFactory} creates the books through it, so equal authors end up as one shared
+ * String, and equal titles and repeated rows too when the factory is set up for it.</p>
+ *
+ * <p>The file is cut into chunks of about {@code chunkSize} bytes, each ending at a line
+ * boundary, so files larger than a single mapping (2 GB) can be loaded, and chunks are
+ * parsed in parallel on {@code parallelism} threads. Parsed chunks are handed to the store
+ * in file order, {@code batchSize} books per {@link BookstoreAPI#addAll(java.util.Collection)}
+ * call, always from the calling thread, so the store does not need to be thread-safe and
+ * the insertion order matches the file. At most two chunks per thread are parsed ahead of
+ * the store, which bounds the memory used.</p>
+ *
+ * <p>A row that cannot be parsed, or that {@link Book} rejects, is counted and reported
+ * with its line number in the {@link ImportReport} and the import carries on. Only I/O
+ * errors stop it.</p>
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ *
+ * @see ImportReport
+ * @see BookstoreAPI#addAll(java.util.Collection)
+ */
+public final class CsvCatalogImporter {
+
+    /**
+     * The default number of books handed to the store at once.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 10_000;
+
+    /**
+     * The default chunk size in bytes.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 64 << 20;
+
+    private static final int FIELDS = 5;
+    private static final int ISBN = 0;
+    private static final int TITLE = 1;
+    private static final int AUTHOR = 2;
+    private static final int PRICE = 3;
+    private static final int YEAR = 4;
+
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9,
+            1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18
+    };
+
+    private final int batchSize;
+    private final int chunkSize;
+    private final int parallelism;
+    private final BookFactory factory;
+
+    /**
+     * Creates an importer with the default batch and chunk sizes, using every core.
+     */
+    public CsvCatalogImporter() {
+        this(DEFAULT_BATCH_SIZE, DEFAULT_CHUNK_SIZE, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates an importer.
+     *
+     * @param batchSize   the number of books handed to the store at once
+     * @param chunkSize   the approximate number of bytes parsed by one task
+     * @param parallelism the number of threads parsing chunks, 1 parses on the calling thread
+     * @throws IllegalArgumentException if any value is not positive
+     */
+    public CsvCatalogImporter(int batchSize, int chunkSize, int parallelism) {
+        this(batchSize, chunkSize, parallelism, null);
+    }
+
+    /**
+     * Creates an importer that creates its books through a factory, shared by the parsing threads.
+     *
+     * @param batchSize   the number of books handed to the store at once
+     * @param chunkSize   the approximate number of bytes parsed by one task
+     * @param parallelism the number of threads parsing chunks, 1 parses on the calling thread
+     * @param factory     the factory that creates the books, or null to create them directly
+     * @throws IllegalArgumentException if any value is not positive
+     */
+    public CsvCatalogImporter(int batchSize, int chunkSize, int parallelism, BookFactory factory) {
+        if (batchSize <= 0 || chunkSize <= 0 || parallelism <= 0) {
+            throw new IllegalArgumentException("Batch size, chunk size and parallelism must be positive");
+        }
+        this.batchSize = batchSize;
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism;
+        this.factory = factory;
+    }
+
+    /**
+     * Loads every well-formed row of a CSV file into a store.
+     *
+     * @param file  the CSV file
+     * @param store the store to load, only used from the calling thread
+     * @return the counts and errors of the import
+     * @throws IOException if the file cannot be read, or a single line is longer than 2 GB
+     */
+    public ImportReport importFile(Path file, BookstoreAPI store) throws IOException {
+        if (file == null || store == null) {
+            throw new IllegalArgumentException("File and store cannot be null");
+        }
+
+        ImportReport report = new ImportReport();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long[] bounds = split(channel);
+            int chunks = bounds.length - 1;
+            long linesBefore = 0;
+
+            if (parallelism == 1 || chunks == 1) {
+                for (int i = 0; i < chunks; i++) {
+                    Chunk chunk = parse(channel, bounds[i], bounds[i + 1], i == 0);
+                    linesBefore = load(chunk, store, report, linesBefore);
+                }
+                return report;
+            }
+
+            ExecutorService pool = Executors.newFixedThreadPool(Math.min(parallelism, chunks));
+            try {
+                Deque<Future<Chunk>> inFlight = new ArrayDeque<>();
+                int next = 0;
+                while (next < chunks && inFlight.size() < parallelism * 2) {
+                    inFlight.add(submit(pool, channel, bounds, next++));
+                }
+                while (!inFlight.isEmpty()) {
+                    Chunk chunk = await(inFlight.poll());
+                    if (next < chunks) {
+                        inFlight.add(submit(pool, channel, bounds, next++));
+                    }
+                    linesBefore = load(chunk, store, report, linesBefore);
+                }
+            } finally {
+                pool.shutdownNow();
+            }
+        }
+        return report;
+    }
+
+    private Future<Chunk> submit(ExecutorService pool, FileChannel channel, long[] bounds, int index) {
+        return pool.submit(() -> parse(channel, bounds[index], bounds[index + 1], index == 0));
+    }
+
+    private static Chunk await(Future<Chunk> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Import interrupted");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) cause).getCause();
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    /**
+     * Hands the books of a parsed chunk to the store in batches and records its errors.
+     *
+     * @return the number of lines read so far, including this chunk
+     */
+    private long load(Chunk chunk, BookstoreAPI store, ImportReport report, long linesBefore) {
+        for (ImportReport.RowError error : chunk.errors) {
+            report.addError(linesBefore + error.line(), error.message());
+        }
+        report.addUnrecordedErrors(chunk.malformed - chunk.errors.size());
+        report.addRows(chunk.rows);
+
+        List<Book> books = chunk.books;
+        for (int from = 0; from < books.size(); from += batchSize) {
+            BulkAddResult result = store.addAll(books.subList(from, Math.min(books.size(), from + batchSize)));
+            report.addImported(result.acceptedCount());
+            report.addDuplicates(result.rejectedCount());
+        }
+        return linesBefore + chunk.lines;
+    }
+
+    /**
+     * Cuts the file into chunks of about chunkSize bytes, each ending just after a newline.
+     *
+     * @return the chunk boundaries, starting at 0 and ending at the file size
+     */
+    private long[] split(FileChannel channel) throws IOException {
+        long size = channel.size();
+        List<Long> bounds = new ArrayList<>();
+        bounds.add(0L);
+
+        ByteBuffer probe = ByteBuffer.allocate(8192);
+        long start = 0;
+        while (size - start > chunkSize) {
+            long newline = -1;
+            long position = start + chunkSize - 1;
+            while (newline < 0 && position < size) {
+                probe.clear();
+                int read = channel.read(probe, position);
+                if (read <= 0) {
+                    break;
+                }
+                for (int i = 0; i < read; i++) {
+                    if (probe.get(i) == '\n') {
+                        newline = position + i;
+                        break;
+                    }
+                }
+                position += read;
+            }
+            if (newline < 0) {
+                break;
+            }
+            checkChunk(start, newline + 1);
+            start = newline + 1;
+            bounds.add(start);
+        }
+        checkChunk(start, size);
+        bounds.add(size);
+
+        long[] result = new long[bounds.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = bounds.get(i);
+        }
+        return result;
+    }
+
+    private static void checkChunk(long start, long end) throws IOException {
+        if (end - start > Integer.MAX_VALUE) {
+            throw new IOException("Line starting after byte " + start + " is longer than 2 GB");
+        }
+    }
+
+    private Chunk parse(FileChannel channel, long start, long end, boolean first) throws IOException {
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+        return new Parser(buffer, first, factory).run();
+    }
+
+    /**
+     * The books and errors of one parsed chunk, line numbers are relative to the chunk.
+     */
+    private static final class Chunk {
+        private final List<Book> books = new ArrayList<>();
+        private final List<ImportReport.RowError> errors = new ArrayList<>();
+        private long malformed;
+        private long rows;
+        private long lines;
+    }
+
+    /**
+     * Parses the rows of one mapped chunk, one instance per chunk and thread.
+     */
+    private static final class Parser {
+        private final ByteBuffer buffer;
+        private final int limit;
+        private final boolean first;
+        private final BookFactory factory;
+        private final int[] starts = new int[FIELDS];
+        private final int[] ends = new int[FIELDS];
+        private final boolean[] quoted = new boolean[FIELDS];
+        private final char[] isbnDigits = new char[13];
+        private byte[] scratch = new byte[256];
+        private final Chunk chunk = new Chunk();
+
+        private String error;
+        private int fieldCount;
+
+        Parser(ByteBuffer buffer, boolean first, BookFactory factory) {
+            this.buffer = buffer;
+            this.limit = buffer.limit();
+            this.first = first;
+            this.factory = factory;
+        }
+
+        Chunk run() {
+            int position = 0;
+            while (position < limit) {
+                chunk.lines++;
+                int lineEnd = splitFields(position);
+                boolean blank = fieldCount == 1 && !quoted[0] && isBlank(starts[0], ends[0]);
+                boolean header = first && chunk.lines == 1 && isHeader();
+                if (!blank && !header) {
+                    chunk.rows++;
+                    Book book = error == null ? toBook() : null;
+                    if (book != null) {
+                        chunk.books.add(book);
+                    } else {
+                        chunk.malformed++;
+                        if (chunk.errors.size() < ImportReport.MAX_ERRORS) {
+                            chunk.errors.add(new ImportReport.RowError(chunk.lines, error));
+                        }
+                    }
+                }
+                position = lineEnd + 1;
+            }
+            return chunk;
+        }
+
+        /**
+         * Finds the fields of the line starting at the given position.
+         *
+         * @return the position of the newline ending the line, or the chunk limit
+         */
+        private int splitFields(int position) {
+            error = null;
+            fieldCount = 0;
+            int i = position;
+            while (true) {
+                int start;
+                int end;
+                boolean isQuoted = i < limit && buffer.get(i) == '"';
+                if (isQuoted) {
+                    start = ++i;
+                    while (i < limit && buffer.get(i) != '\n') {
+                        if (buffer.get(i) == '"') {
+                            if (i + 1 < limit && buffer.get(i + 1) == '"') {
+                                i += 2;
+                                continue;
+                            }
+                            break;
+                        }
+                        i++;
+                    }
+                    if (i >= limit || buffer.get(i) != '"') {
+                        error = "Unterminated quoted field";
+                        return i;
+                    }
+                    end = i++;
+                    while (i < limit && isSpace(buffer.get(i))) {
+                        i++;
+                    }
+                    if (i < limit && buffer.get(i) != ',' && buffer.get(i) != '\n') {
+                        error = "Unexpected character after quoted field";
+                        return skipLine(i);
+                    }
+                } else {
+                    start = i;
+                    while (i < limit && buffer.get(i) != ',' && buffer.get(i) != '\n') {
+                        i++;
+                    }
+                    end = i;
+                    if ((i >= limit || buffer.get(i) == '\n') && end > start && buffer.get(end - 1) == '\r') {
+                        end--;
+                    }
+                }
+
+                if (fieldCount < FIELDS) {
+                    starts[fieldCount] = start;
+                    ends[fieldCount] = end;
+                    quoted[fieldCount] = isQuoted;
+                }
+                fieldCount++;
+
+                if (i < limit && buffer.get(i) == ',') {
+                    i++;
+                    continue;
+                }
+                if (fieldCount != FIELDS) {
+                    error = "Expected " + FIELDS + " fields but found " + fieldCount;
+                }
+                return i;
+            }
+        }
+
+        private int skipLine(int i) {
+            while (i < limit && buffer.get(i) != '\n') {
+                i++;
+            }
+            return i;
+        }
+
+        private static boolean isSpace(byte b) {
+            return b == ' ' || b == '\t' || b == '\r';
+        }
+
+        private boolean isBlank(int start, int end) {
+            for (int i = start; i < end; i++) {
+                if (!isSpace(buffer.get(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean isHeader() {
+            if (fieldCount < 1) {
+                return false;
+            }
+            int start = starts[0];
+            int end = ends[0];
+            while (start < end && isSpace(buffer.get(start))) {
+                start++;
+            }
+            while (end > start && isSpace(buffer.get(end - 1))) {
+                end--;
+            }
+            if (end - start != 4) {
+                return false;
+            }
+            String word = "isbn";
+            for (int i = 0; i < 4; i++) {
+                if (Character.toLowerCase((char) buffer.get(start + i)) != word.charAt(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Turns the fields of the current line into a book, or sets the error.
+         */
+        private Book toBook() {
+            String isbn = isbn(starts[ISBN], ends[ISBN]);
+            if (isbn == null) {
+                return null;
+            }
+            double price = price(starts[PRICE], ends[PRICE]);
+            if (Double.isNaN(price)) {
+                error = "Invalid price";
+                return null;
+            }
+            int year = year(starts[YEAR], ends[YEAR]);
+            if (year < 0) {
+                error = "Invalid year";
+                return null;
+            }
+            try {
+                return factory == null ? new Book(isbn, text(TITLE), text(AUTHOR), price, year)
+                        : factory.create(isbn, text(TITLE), text(AUTHOR), price, year);
+            } catch (IllegalArgumentException | NullPointerException e) {
+                error = e.getMessage();
+                return null;
+            }
+        }
+
+        /**
+         * Validates the ISBN digits in place the way Book does: hyphens are ignored,
+         * spaces are only allowed at the ends of the field, and 10 to 13 digits must remain.
+         *
+         * @return the ISBN digits, or null with the error set
+         */
+        private String isbn(int start, int end) {
+            while (start < end && isIsbnPadding(buffer.get(start))) {
+                start++;
+            }
+            while (end > start && isIsbnPadding(buffer.get(end - 1))) {
+                end--;
+            }
+            int length = 0;
+            boolean onlyDigits = true;
+            for (int i = start; i < end; i++) {
+                byte b = buffer.get(i);
+                if (b == '-' || (b & 0xC0) == 0x80) {
+                    // hyphens are dropped, UTF-8 continuation bytes belong to the previous character
+                    continue;
+                }
+                if (b >= '0' && b <= '9') {
+                    if (length < isbnDigits.length) {
+                        isbnDigits[length] = (char) b;
+                    }
+                } else {
+                    onlyDigits = false;
+                }
+                length++;
+            }
+            if (length < 10 || length > 13) {
+                error = "Invalid length for ISBN";
+                return null;
+            }
+            if (!onlyDigits) {
+                error = "Invalid characters for ISBN";
+                return null;
+            }
+            return new String(isbnDigits, 0, length);
+        }
+
+        /**
+         * Checks for the bytes Book strips from the ends of an ISBN, hyphens and the
+         * characters String.trim removes.
+         */
+        private static boolean isIsbnPadding(byte b) {
+            return b == '-' || (b >= 0 && b <= ' ');
+        }
+
+        /**
+         * Parses a plain decimal price such as {@code 12.99} straight from the bytes: digits,
+         * optionally followed by a dot and more digits. Anything else, such as a sign, an
+         * exponent or a Java literal suffix, is not a price. The digits are read into a long
+         * and divided by a power of ten, which is correctly rounded while the digits fit in
+         * 53 bits; longer prices are rounded by Double.parseDouble.
+         *
+         * @return the price, or NaN if it is not a plain decimal
+         */
+        private double price(int start, int end) {
+            while (start < end && isSpace(buffer.get(start))) {
+                start++;
+            }
+            while (end > start && isSpace(buffer.get(end - 1))) {
+                end--;
+            }
+            long mantissa = 0;
+            int digits = 0;
+            int fraction = -1;
+            for (int i = start; i < end; i++) {
+                byte b = buffer.get(i);
+                if (b >= '0' && b <= '9') {
+                    if (digits < 16) {
+                        mantissa = mantissa * 10 + (b - '0');
+                    }
+                    digits++;
+                    if (fraction >= 0) {
+                        fraction++;
+                    }
+                } else if (b == '.' && fraction < 0 && digits > 0) {
+                    fraction = 0;
+                } else {
+                    return Double.NaN;
+                }
+            }
+            if (digits == 0 || fraction == 0) {
+                return Double.NaN;
+            }
+            if (digits > 15) {
+                return parseLong(start, end);
+            }
+            return fraction < 0 ? mantissa : mantissa / POWERS_OF_TEN[fraction];
+        }
+
+        /**
+         * Parses a plain decimal with too many digits for the fast path.
+         */
+        private double parseLong(int start, int end) {
+            double value = Double.parseDouble(new String(copy(start, end), 0, end - start,
+                    StandardCharsets.US_ASCII));
+            return Double.isInfinite(value) ? Double.NaN : value;
+        }
+
+        /**
+         * Parses a year of up to 9 digits straight from the bytes.
+         *
+         * @return the year, or -1 if it is not a whole number
+         */
+        private int year(int start, int end) {
+            while (start < end && isSpace(buffer.get(start))) {
+                start++;
+            }
+            while (end > start && isSpace(buffer.get(end - 1))) {
+                end--;
+            }
+            if (start == end || end - start > 9) {
+                return -1;
+            }
+            int year = 0;
+            for (int i = start; i < end; i++) {
+                byte b = buffer.get(i);
+                if (b < '0' || b > '9') {
+                    return -1;
+                }
+                year = year * 10 + (b - '0');
+            }
+            return year;
+        }
+
+        /**
+         * Decodes a text field as UTF-8, collapsing doubled quotes of a quoted field.
+         */
+        private String text(int field) {
+            int start = starts[field];
+            int end = ends[field];
+            byte[] bytes = copy(start, end);
+            int length = 0;
+            if (quoted[field]) {
+                for (int i = 0; i < end - start; i++) {
+                    bytes[length++] = bytes[i];
+                    if (bytes[i] == '"') {
+                        i++;
+                    }
+                }
+            } else {
+                length = end - start;
+            }
+            return new String(bytes, 0, length, StandardCharsets.UTF_8);
+        }
+
+        /**
+         * Copies the bytes of a field into the reusable scratch array.
+         */
+        private byte[] copy(int start, int end) {
+            if (scratch.length < end - start) {
+                scratch = new byte[Math.max(end - start, scratch.length * 2)];
+            }
+            buffer.get(start, scratch, 0, end - start);
+            return scratch;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.university.bookstore.io;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Summary of a catalog import: how many rows were read, loaded, rejected as duplicates,
+ * or skipped as malformed, and why.
+ *
+ * <p>Only the first {@link #MAX_ERRORS} malformed rows are kept with their line number
+ * and reason, so a feed that is broken from top to bottom cannot exhaust memory, but
+ * {@link #malformed()} always counts every one of them.</p>
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ *
+ * @see CsvCatalogImporter
+ */
+public final class ImportReport {
+
+    /**
+     * The number of malformed rows whose details are kept.
+     */
+    public static final int MAX_ERRORS = 1000;
+
+    /**
+     * A row that could not be turned into a book.
+     */
+    public static final class RowError {
+        private final long line;
+        private final String message;
+
+        /**
+         * Creates a row error.
+         *
+         * @param line    the 1-based line number of the row in the file
+         * @param message why the row was skipped
+         */
+        public RowError(long line, String message) {
+            this.line = line;
+            this.message = message;
+        }
+
+        /**
+         * Gets the line number of the row.
+         *
+         * @return the 1-based line number
+         */
+        public long line() {
+            return line;
+        }
+
+        /**
+         * Gets the reason the row was skipped.
+         *
+         * @return the reason
+         */
+        public String message() {
+            return message;
+        }
+
+        @Override
+        public String toString() {
+            return "line " + line + ": " + message;
+        }
+    }
+
+    private long rows;
+    private long imported;
+    private long duplicates;
+    private long malformed;
+    private final List<RowError> errors = new ArrayList<>();
+
+    void addRows(long count) {
+        rows += count;
+    }
+
+    void addImported(long count) {
+        imported += count;
+    }
+
+    void addDuplicates(long count) {
+        duplicates += count;
+    }
+
+    void addError(long line, String message) {
+        malformed++;
+        if (errors.size() < MAX_ERRORS) {
+            errors.add(new RowError(line, message));
+        }
+    }
+
+    void addUnrecordedErrors(long count) {
+        malformed += count;
+    }
+
+    /**
+     * Gets the number of non-empty data rows read, header excluded.
+     *
+     * @return the row count
+     */
+    public long rows() {
+        return rows;
+    }
+
+    /**
+     * Gets the number of books added to the store.
+     *
+     * @return the imported count
+     */
+    public long imported() {
+        return imported;
+    }
+
+    /**
+     * Gets the number of well-formed rows the store rejected, because their ISBN was
+     * already in the store or earlier in the file.
+     *
+     * @return the duplicate count
+     */
+    public long duplicates() {
+        return duplicates;
+    }
+
+    /**
+     * Gets the number of rows skipped because they could not be parsed into a book.
+     *
+     * @return the malformed count
+     */
+    public long malformed() {
+        return malformed;
+    }
+
+    /**
+     * Gets the first {@link #MAX_ERRORS} malformed rows, in file order.
+     *
+     * @return an unmodifiable list of row errors
+     */
+    public List<RowError> errors() {
+        return Collections.unmodifiableList(errors);
+    }
+
+    @Override
+    public String toString() {
+        return "ImportReport{rows=" + rows + ", imported=" + imported + ", duplicates=" + duplicates
+                + ", malformed=" + malformed + "}";
+    }
+}
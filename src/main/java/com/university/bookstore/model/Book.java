@@ -1,5 +1,6 @@
 package com.university.bookstore.model;
 
+import com.university.bookstore.utils.SearchKeys;
 
 /**
  * Represents a book in the bookstore inventory.
@@ -38,6 +39,15 @@ public final class Book implements  Comparable<Book>{
      */
     private final int year;
 
+    /**
+     * The normalized title used by text searches.
+     */
+    private final String titleKey;
+
+    /**
+     * The normalized author used by text searches.
+     */
+    private final String authorKey;
 
     /**
      * Constructor of the Book class, every parameter is validated upon creation.
@@ -48,32 +58,68 @@ public final class Book implements  Comparable<Book>{
      * @param year the year the book was published
      */
     public Book(String isbn, String title, String author, double price, int year) {
+        this(isbn, title, author, price, year, null, null);
+    }
+
+    /**
+     * Constructor used by {@link BookFactory}, with search keys shared between books.
+     * @param titleKey the normalized title, as {@link SearchKeys#normalize(String)} returns it, null to compute it
+     * @param authorKey the normalized author, as {@link SearchKeys#normalize(String)} returns it, null to compute it
+     */
+    Book(String isbn, String title, String author, double price, int year, String titleKey, String authorKey) {
         this.isbn = isValidISBN(isbn);
         this.title = isValidString(title);
         this.author = isValidString(author);
         this.price = isValidPrice(price);
         this.year = isValidYear(year);
+        this.titleKey = titleKey != null ? titleKey : SearchKeys.normalize(this.title);
+        this.authorKey = authorKey != null ? authorKey : SearchKeys.normalize(this.author);
+    }
+
+    /**
+     * Creates a book whose search keys are already known, for stores that keep the keys
+     * of the texts they hold and rebuild books from them, so reading a result does not
+     * normalize its title and author again. Every field is validated as by the constructor.
+     * @param isbn a 10 or 13 length ISBN code
+     * @param title the title of the book
+     * @param author name of the author of the book
+     * @param price price of the book
+     * @param year the year the book was published
+     * @param titleKey the normalized title, as {@link SearchKeys#normalize(String)} returns it, null to compute it
+     * @param authorKey the normalized author, as {@link SearchKeys#normalize(String)} returns it, null to compute it
+     * @return the new book
+     */
+    public static Book withSearchKeys(String isbn, String title, String author, double price, int year,
+                                      String titleKey, String authorKey) {
+        return new Book(isbn, title, author, price, year, titleKey, authorKey);
     }
 
     /**
      * Checks if the isbn provided is valid.
      * – Must be non-null and non-blank (not empty or just whitespace)
      * – Must be exactly 13 digits (modern books) or 10 digits (older books)
+     * – Digits must be the ASCII digits 0 to 9
+     * An ISBN that is already canonical, 10 to 13 ASCII digits, is returned as is
+     * after a single scan, without creating a new String.
      * @param isbn a 10 or 13 length ISBN code
      * @return the validated, properly trimmed ISBN
      */
-    private String isValidISBN(String isbn){
+    static String isValidISBN(String isbn){
         if(isbn == null){
             throw new NullPointerException("ISBN is either empty or null");
         }
 
+        if(isCanonicalISBN(isbn)){
+            return isbn;
+        }
+
         String trimmed = isbn.replace("-","").trim();
 
         if(trimmed.length() > 13 || trimmed.length() < 10){
             throw new IllegalArgumentException("Invalid length for ISBN");
         }
 
-        if(!this.onlyDigits(trimmed)){
+        if(!onlyDigits(trimmed)){
             throw new IllegalArgumentException("Invalid characters for ISBN");
         }
 
@@ -81,15 +127,37 @@ public final class Book implements  Comparable<Book>{
     }
 
     /**
-     * Checks if the string contains only integers
+     * Checks if the isbn is already in canonical form, 10 to 13 ASCII digits
+     * with no hyphens or spaces
+     * @param isbn a non-null ISBN code
+     * @return a boolean
+     */
+    private static boolean isCanonicalISBN(String isbn) {
+        int length = isbn.length();
+        if (length < 10 || length > 13) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = isbn.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks if the string contains only the ASCII digits 0 to 9, the only digits
+     * an ISBN is written with and the only ones {@code IsbnCodec} can encode
      * @param s a string for testing whether it contains only integers
      * @return a boolean
      */
-    private boolean onlyDigits(String s) {
+    private static boolean onlyDigits(String s) {
 
         for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
 
-            if (!Character.isDigit(s.charAt(i))) {
+            if (c < '0' || c > '9') {
 
                 return false;
             }
@@ -170,6 +238,26 @@ public final class Book implements  Comparable<Book>{
         return author;
     }
 
+    /**
+     * Returns the title normalized for searching, see {@link SearchKeys#normalize(String)}.
+     * The key is computed once, when the book is created, so text queries compare
+     * against it without allocating.
+     *
+     * @return the normalized title
+     */
+    public String getTitleKey() {
+        return titleKey;
+    }
+
+    /**
+     * Returns the author normalized for searching, see {@link #getTitleKey()}.
+     *
+     * @return the normalized author
+     */
+    public String getAuthorKey() {
+        return authorKey;
+    }
+
     /**
      * Returns the price of the book.
      *
@@ -201,13 +289,22 @@ public final class Book implements  Comparable<Book>{
     }
 
     /**
-     * Checks if this book is equal to another book based on hash code.
+     * Checks if this book is equal to another book based on ISBN.
+     * Stores that keep books in columns rebuild Book objects on demand,
+     * so two instances with the same ISBN must compare equal.
      *
-     * @param o the other Book to compare to
-     * @return true if the hash codes are equal, false otherwise
+     * @param o the other object to compare to
+     * @return true if {@code o} is a Book with the same ISBN, false otherwise
      */
-    public boolean equals(Book o) {
-        return this.hashCode() == o.hashCode();
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Book)) {
+            return false;
+        }
+        return this.isbn.equals(((Book) o).isbn);
     }
 
     /**
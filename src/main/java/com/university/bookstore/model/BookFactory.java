@@ -0,0 +1,191 @@
+package com.university.bookstore.model;
+
+import com.university.bookstore.utils.SearchKeys;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Creates books that share their strings, for loading large catalogs.
+ *
+ * <p>A catalog of millions of books by a few hundred thousand authors holds the same
+ * author text over and over, one String per book. The factory interns the author of
+ * every book it creates, so equal texts are kept once and every book refers to the same
+ * instance, and the copies made while reading a feed become garbage right away. The
+ * search keys of the interned texts are computed once per distinct text and shared as
+ * well. Two options are off by default: interning titles as well, and keeping the last
+ * book created for every ISBN, so a feed that repeats an entry gets the book it already
+ * has instead of a new one.</p>
+ *
+ * <p>Validation takes the fast path of {@link Book}: an ISBN that is already 10 to 13
+ * ASCII digits and a title or author with nothing to trim are checked in one scan each
+ * and used as they are, so a canonical entry only allocates the Book, and nothing when it
+ * hits the cache.</p>
+ *
+ * <p>The tables hold every distinct string and book until {@link #clear()}, so a factory
+ * is meant to live as long as a load, or as long as the store it fills. Interning every
+ * title only pays off when titles repeat, across editions or feeds, and caching books only
+ * when rows repeat, since each entry costs table space for the life of the factory. The
+ * factory is thread-safe, and can be shared by the threads that parse one feed.</p>
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ *
+ * @see Book
+ */
+public final class BookFactory {
+
+    private final Map<String, String> strings = new ConcurrentHashMap<>();
+    private final Map<String, String> keys = new ConcurrentHashMap<>();
+    private final Map<String, Book> books;
+    private final boolean internTitles;
+
+    /**
+     * Creates a factory that interns authors only and does not cache books.
+     */
+    public BookFactory() {
+        this(false, false);
+    }
+
+    /**
+     * Creates a factory.
+     *
+     * @param internTitles whether titles are interned as well as authors
+     * @param cacheBooks   whether the last book of every ISBN is kept and reused
+     */
+    public BookFactory(boolean internTitles, boolean cacheBooks) {
+        this.internTitles = internTitles;
+        this.books = cacheBooks ? new ConcurrentHashMap<>() : null;
+    }
+
+    /**
+     * Creates a book, or returns the cached book with the same ISBN if all its fields are equal.
+     * Validation is the same as {@link Book#Book(String, String, String, double, int)}.
+     *
+     * @param isbn   a 10 or 13 length ISBN code
+     * @param title  the title of the book
+     * @param author name of the author of the book
+     * @param price  price of the book
+     * @param year   the year the book was published
+     * @return a book whose title and author are shared with the other books of this factory
+     * @throws NullPointerException     if the ISBN, title or author is null
+     * @throws IllegalArgumentException if a field is invalid
+     */
+    public Book create(String isbn, String title, String author, double price, int year) {
+        String canonicalIsbn = Book.isValidISBN(isbn);
+        if (books != null) {
+            Book cached = books.get(canonicalIsbn);
+            if (matches(cached, title, author, price, year)) {
+                return cached;
+            }
+        }
+        Book book = share(canonicalIsbn, title, author, price, year);
+        if (books != null) {
+            books.put(canonicalIsbn, book);
+        }
+        return book;
+    }
+
+    /**
+     * Gets the equivalent of a book that shares its strings with the other books of this factory.
+     *
+     * @param book the book (may be null)
+     * @return the cached book if it is equal in every field, otherwise a copy with
+     *         interned strings and search keys, null for null
+     */
+    public Book intern(Book book) {
+        if (book == null) {
+            return null;
+        }
+        if (books != null) {
+            Book cached = books.get(book.getIsbn());
+            if (matches(cached, book.getTitle(), book.getAuthor(), book.getPrice(), book.getYear())) {
+                return cached;
+            }
+        }
+        Book shared = share(book.getIsbn(), book.getTitle(), book.getAuthor(), book.getPrice(), book.getYear());
+        if (books != null) {
+            books.put(book.getIsbn(), shared);
+        }
+        return shared;
+    }
+
+    /**
+     * Creates a book from interned strings, with their shared search keys.
+     */
+    private Book share(String isbn, String title, String author, double price, int year) {
+        if (title == null || author == null) {
+            return new Book(isbn, title, author, price, year);
+        }
+        String sharedAuthor = intern(author);
+        if (!internTitles) {
+            return new Book(isbn, title, sharedAuthor, price, year, null, keyOf(sharedAuthor));
+        }
+        String sharedTitle = intern(title);
+        return new Book(isbn, sharedTitle, sharedAuthor, price, year, keyOf(sharedTitle), keyOf(sharedAuthor));
+    }
+
+    /**
+     * Gets the shared search key of an interned string.
+     */
+    private String keyOf(String shared) {
+        return keys.computeIfAbsent(shared, SearchKeys::normalize);
+    }
+
+    /**
+     * Checks whether a cached book has the given fields, comparing the texts as Book trims them.
+     */
+    private static boolean matches(Book cached, String title, String author, double price, int year) {
+        return cached != null && title != null && author != null
+                && cached.getPrice() == price && cached.getYear() == year
+                && cached.getTitle().equals(title.trim()) && cached.getAuthor().equals(author.trim());
+    }
+
+    /**
+     * Gets the shared instance of a string, trimmed as {@link Book} trims titles and authors.
+     *
+     * @param text the string (may be null)
+     * @return the first equal string given to this factory, null for null
+     */
+    public String intern(String text) {
+        if (text == null) {
+            return null;
+        }
+        String trimmed = text.trim();
+        String shared = strings.get(trimmed);
+        if (shared != null) {
+            return shared;
+        }
+        shared = strings.putIfAbsent(trimmed, trimmed);
+        return shared == null ? trimmed : shared;
+    }
+
+    /**
+     * Gets the number of distinct strings interned.
+     *
+     * @return the size of the string table
+     */
+    public int internedStrings() {
+        return strings.size();
+    }
+
+    /**
+     * Gets the number of books cached by ISBN.
+     *
+     * @return the size of the book cache, 0 if books are not cached
+     */
+    public int cachedBooks() {
+        return books == null ? 0 : books.size();
+    }
+
+    /**
+     * Forgets every interned string and cached book. Books already created keep their strings.
+     */
+    public void clear() {
+        strings.clear();
+        keys.clear();
+        if (books != null) {
+            books.clear();
+        }
+    }
+}
@@ -0,0 +1,539 @@
+package com.university.bookstore.query;
+
+import com.university.bookstore.api.BookstoreAPI;
+import com.university.bookstore.model.Book;
+import com.university.bookstore.utils.SearchKeys;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * A query over books that combines title, author, price range and year predicates
+ * with AND and OR.
+ *
+ * <p>Queries are immutable trees built from the static factories, for example
+ * {@code BookQuery.and(BookQuery.author("smith"), BookQuery.or(BookQuery.year(2014), BookQuery.year(2015)))},
+ * or with a {@link Builder} for the common case of a conjunction. They are executed by a
+ * {@link QueryEngine}, which asks every predicate for its cardinality estimate and reads
+ * only the candidates of the cheapest one.</p>
+ *
+ * <p>The predicates match the same way on every store, so a plan never changes the
+ * result: titles and authors contain the query ignoring case and accents, prices are in
+ * a closed range and years are equal. A null or blank
+ * text, or a year {@link BookstoreAPI#findByYear(int)} rejects, matches nothing.</p>
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ *
+ * @see QueryEngine
+ */
+public abstract class BookQuery {
+
+    BookQuery() {
+    }
+
+    /**
+     * Creates a predicate on the title.
+     *
+     * @param query the title or partial title, case-insensitive
+     * @return the predicate
+     */
+    public static BookQuery title(String query) {
+        return new Title(query);
+    }
+
+    /**
+     * Creates a predicate on the author.
+     *
+     * @param query the author's name or any part of it, case-insensitive
+     * @return the predicate
+     */
+    public static BookQuery author(String query) {
+        return new Author(query);
+    }
+
+    /**
+     * Creates a predicate on the price, both bounds inclusive.
+     *
+     * @param min the lowest price
+     * @param max the highest price
+     * @return the predicate
+     * @throws IllegalArgumentException if the range is invalid, as for {@link BookstoreAPI#findByPriceRange(double, double)}
+     */
+    public static BookQuery priceBetween(double min, double max) {
+        if (min > max) {
+            throw new IllegalArgumentException("Min cannot be greater than max");
+        }
+        if (min < 0 || max <= 0) {
+            throw new IllegalArgumentException("Price is invalid");
+        }
+        return new Price(min, max);
+    }
+
+    /**
+     * Creates a predicate on the publication year.
+     *
+     * @param year the publication year
+     * @return the predicate
+     */
+    public static BookQuery year(int year) {
+        return new Year(year);
+    }
+
+    /**
+     * Creates the conjunction of queries, matching the books that match all of them.
+     *
+     * @param queries the queries to combine, at least one
+     * @return the conjunction
+     * @throws IllegalArgumentException if there are no queries or one is null
+     */
+    public static BookQuery and(BookQuery... queries) {
+        return new And(children(queries));
+    }
+
+    /**
+     * Creates the disjunction of queries, matching the books that match any of them.
+     *
+     * @param queries the queries to combine, at least one
+     * @return the disjunction
+     * @throws IllegalArgumentException if there are no queries or one is null
+     */
+    public static BookQuery or(BookQuery... queries) {
+        return new Or(children(queries));
+    }
+
+    /**
+     * Starts a conjunction of predicates.
+     *
+     * @return an empty builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Checks whether a book matches this query.
+     *
+     * @param book the book to check
+     * @return true if the book matches
+     */
+    public abstract boolean matches(Book book);
+
+    /**
+     * Estimates how many books reading the candidates of this query costs on a store.
+     */
+    abstract long estimate(BookstoreAPI store);
+
+    /**
+     * Streams a superset of the books that match this query, without duplicates.
+     */
+    abstract Stream<Book> candidates(BookstoreAPI store);
+
+    /**
+     * Describes the plan of this query on a store, with the estimate of every node.
+     */
+    abstract String explain(BookstoreAPI store);
+
+    private static List<BookQuery> children(BookQuery[] queries) {
+        if (queries == null || queries.length == 0) {
+            throw new IllegalArgumentException("Queries cannot be empty");
+        }
+        for (BookQuery query : queries) {
+            if (query == null) {
+                throw new IllegalArgumentException("Queries cannot be null");
+            }
+        }
+        return Collections.unmodifiableList(new ArrayList<>(Arrays.asList(queries)));
+    }
+
+    private static String join(String operator, List<BookQuery> children) {
+        StringBuilder sb = new StringBuilder(operator).append('(');
+        for (int i = 0; i < children.size(); i++) {
+            sb.append(i == 0 ? "" : ", ").append(children.get(i));
+        }
+        return sb.append(')').toString();
+    }
+
+    /**
+     * Builds a conjunction of predicates, one call per predicate.
+     */
+    public static final class Builder {
+        private final List<BookQuery> predicates = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Adds a predicate on the title.
+         *
+         * @param query the title or partial title, case-insensitive
+         * @return this builder
+         */
+        public Builder title(String query) {
+            predicates.add(BookQuery.title(query));
+            return this;
+        }
+
+        /**
+         * Adds a predicate on the author.
+         *
+         * @param query the author's name or any part of it, case-insensitive
+         * @return this builder
+         */
+        public Builder author(String query) {
+            predicates.add(BookQuery.author(query));
+            return this;
+        }
+
+        /**
+         * Adds a predicate on the price, both bounds inclusive.
+         *
+         * @param min the lowest price
+         * @param max the highest price
+         * @return this builder
+         * @throws IllegalArgumentException if the range is invalid
+         */
+        public Builder priceBetween(double min, double max) {
+            predicates.add(BookQuery.priceBetween(min, max));
+            return this;
+        }
+
+        /**
+         * Adds a predicate on the publication year.
+         *
+         * @param year the publication year
+         * @return this builder
+         */
+        public Builder year(int year) {
+            predicates.add(BookQuery.year(year));
+            return this;
+        }
+
+        /**
+         * Adds any query, such as a disjunction.
+         *
+         * @param query the query
+         * @return this builder
+         */
+        public Builder where(BookQuery query) {
+            if (query == null) {
+                throw new IllegalArgumentException("Query cannot be null");
+            }
+            predicates.add(query);
+            return this;
+        }
+
+        /**
+         * Builds the conjunction of the predicates added so far.
+         *
+         * @return the query
+         * @throws IllegalStateException if no predicate was added
+         */
+        public BookQuery build() {
+            if (predicates.isEmpty()) {
+                throw new IllegalStateException("Query has no predicates");
+            }
+            return predicates.size() == 1 ? predicates.get(0) : new And(new ArrayList<>(predicates));
+        }
+    }
+
+    /**
+     * Titles that contain the query, ignoring case. Drives from the title index when the
+     * store has one, otherwise from a lazy scan.
+     */
+    private static final class Title extends BookQuery {
+        private final String query;
+        private final String key;
+
+        private Title(String query) {
+            this.query = query;
+            this.key = SearchKeys.normalize(query);
+        }
+
+        @Override
+        public boolean matches(Book book) {
+            return !key.isEmpty() && book.getTitleKey().contains(key);
+        }
+
+        @Override
+        long estimate(BookstoreAPI store) {
+            return key.isEmpty() ? 0 : store.estimateByTitle(query);
+        }
+
+        @Override
+        Stream<Book> candidates(BookstoreAPI store) {
+            if (key.isEmpty()) {
+                return Stream.empty();
+            }
+            return store.streamByTitle(query);
+        }
+
+        @Override
+        String explain(BookstoreAPI store) {
+            return "title(\"" + key + "\")~" + estimate(store);
+        }
+
+        @Override
+        public String toString() {
+            return "title(\"" + key + "\")";
+        }
+    }
+
+    /**
+     * Authors that contain the query, ignoring case. Drives from
+     * the author index when the store has one, otherwise from a lazy scan.
+     */
+    private static final class Author extends BookQuery {
+        private final String query;
+        private final String key;
+
+        private Author(String query) {
+            this.query = query;
+            this.key = SearchKeys.normalize(query);
+        }
+
+        @Override
+        public boolean matches(Book book) {
+            return !key.isEmpty() && book.getAuthorKey().contains(key);
+        }
+
+        @Override
+        long estimate(BookstoreAPI store) {
+            return key.isEmpty() ? 0 : store.estimateByAuthor(query);
+        }
+
+        @Override
+        Stream<Book> candidates(BookstoreAPI store) {
+            if (key.isEmpty()) {
+                return Stream.empty();
+            }
+            return store.streamByAuthor(query);
+        }
+
+        @Override
+        String explain(BookstoreAPI store) {
+            return "author(\"" + key + "\")~" + estimate(store);
+        }
+
+        @Override
+        public String toString() {
+            return "author(\"" + key + "\")";
+        }
+    }
+
+    /**
+     * Prices in a closed range.
+     */
+    private static final class Price extends BookQuery {
+        private final double min;
+        private final double max;
+
+        private Price(double min, double max) {
+            this.min = min;
+            this.max = max;
+        }
+
+        @Override
+        public boolean matches(Book book) {
+            return book.getPrice() >= min && book.getPrice() <= max;
+        }
+
+        @Override
+        long estimate(BookstoreAPI store) {
+            return store.estimateByPriceRange(min, max);
+        }
+
+        @Override
+        Stream<Book> candidates(BookstoreAPI store) {
+            return store.streamByPriceRange(min, max);
+        }
+
+        @Override
+        String explain(BookstoreAPI store) {
+            return this + "~" + estimate(store);
+        }
+
+        @Override
+        public String toString() {
+            return "price(" + min + ".." + max + ")";
+        }
+    }
+
+    /**
+     * Years equal to a given year.
+     */
+    private static final class Year extends BookQuery {
+        private final int year;
+
+        private Year(int year) {
+            this.year = year;
+        }
+
+        private boolean valid() {
+            return year > 0 && year <= 2025;
+        }
+
+        @Override
+        public boolean matches(Book book) {
+            return valid() && book.getYear() == year;
+        }
+
+        @Override
+        long estimate(BookstoreAPI store) {
+            return valid() ? store.estimateByYear(year) : 0;
+        }
+
+        @Override
+        Stream<Book> candidates(BookstoreAPI store) {
+            return store.streamByYear(year);
+        }
+
+        @Override
+        String explain(BookstoreAPI store) {
+            return this + "~" + estimate(store);
+        }
+
+        @Override
+        public String toString() {
+            return "year(" + year + ")";
+        }
+    }
+
+    /**
+     * Books that match every child. Only the child with the lowest estimate is read, the
+     * others are checked on its candidates.
+     */
+    private static final class And extends BookQuery {
+        private final List<BookQuery> children;
+
+        private And(List<BookQuery> children) {
+            this.children = children;
+        }
+
+        private BookQuery driver(BookstoreAPI store) {
+            BookQuery best = null;
+            long bestEstimate = Long.MAX_VALUE;
+            for (BookQuery child : children) {
+                long estimate = child.estimate(store);
+                if (estimate < bestEstimate) {
+                    best = child;
+                    bestEstimate = estimate;
+                }
+            }
+            return best;
+        }
+
+        @Override
+        public boolean matches(Book book) {
+            for (BookQuery child : children) {
+                if (!child.matches(book)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        long estimate(BookstoreAPI store) {
+            long smallest = Long.MAX_VALUE;
+            for (BookQuery child : children) {
+                smallest = Math.min(smallest, child.estimate(store));
+            }
+            return smallest;
+        }
+
+        @Override
+        Stream<Book> candidates(BookstoreAPI store) {
+            return driver(store).candidates(store);
+        }
+
+        @Override
+        String explain(BookstoreAPI store) {
+            BookQuery driver = driver(store);
+            StringBuilder sb = new StringBuilder("and(drive ").append(driver.explain(store));
+            for (BookQuery child : children) {
+                if (child != driver) {
+                    sb.append(", check ").append(child);
+                }
+            }
+            return sb.append(")").toString();
+        }
+
+        @Override
+        public String toString() {
+            return join("and", children);
+        }
+    }
+
+    /**
+     * Books that match any child. The candidates of every child are read and merged,
+     * unless together they cost more than one scan of the store.
+     */
+    private static final class Or extends BookQuery {
+        private final List<BookQuery> children;
+
+        private Or(List<BookQuery> children) {
+            this.children = children;
+        }
+
+        @Override
+        public boolean matches(Book book) {
+            for (BookQuery child : children) {
+                if (child.matches(book)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        long estimate(BookstoreAPI store) {
+            long sum = 0;
+            for (BookQuery child : children) {
+                sum += child.estimate(store);
+            }
+            return Math.min(sum, store.size());
+        }
+
+        private boolean scans(BookstoreAPI store) {
+            long sum = 0;
+            for (BookQuery child : children) {
+                sum += child.estimate(store);
+            }
+            return sum >= store.size();
+        }
+
+        @Override
+        Stream<Book> candidates(BookstoreAPI store) {
+            if (children.size() > 1 && scans(store)) {
+                return store.stream();
+            }
+            Set<String> seen = new HashSet<>();
+            return children.stream()
+                    .flatMap(child -> child.candidates(store))
+                    .filter(book -> seen.add(book.getIsbn()));
+        }
+
+        @Override
+        String explain(BookstoreAPI store) {
+            if (children.size() > 1 && scans(store)) {
+                return "or(scan~" + store.size() + ", check " + this + ")";
+            }
+            StringBuilder sb = new StringBuilder("or(");
+            for (int i = 0; i < children.size(); i++) {
+                sb.append(i == 0 ? "" : ", ").append(children.get(i).explain(store));
+            }
+            return sb.append(")").toString();
+        }
+
+        @Override
+        public String toString() {
+            return join("or", children);
+        }
+    }
+}
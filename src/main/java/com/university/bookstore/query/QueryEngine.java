@@ -0,0 +1,119 @@
+package com.university.bookstore.query;
+
+import com.university.bookstore.api.BookstoreAPI;
+import com.university.bookstore.api.Page;
+import com.university.bookstore.model.Book;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Runs {@link BookQuery} trees against a bookstore, planning each query from the
+ * cardinality estimates of the store.
+ *
+ * <p>Every predicate asks the store how many books it would read
+ * ({@link BookstoreAPI#estimateByTitle(String)} and friends). Stores with indexes answer
+ * from their posting sets, histogram and year buckets, other stores answer with their
+ * size since they scan anyway. A conjunction is driven by its child with the lowest
+ * estimate and the other children are only checked on those candidates, so a complex
+ * query costs about as much as its most selective predicate rather than the sum of all
+ * of them. A disjunction merges the candidates of its children, unless together they
+ * would read more books than a single scan.</p>
+ *
+ * <p>Results come in the order of the driving predicate, the insertion order for most
+ * stores and the price order when a {@link com.university.bookstore.impl.BookstoreHashMap}
+ * is driven by a price range. The candidates are read lazily, so
+ * {@link #page(BookQuery, int, int)} and a limited {@link #stream(BookQuery)} stop once they
+ * have enough books.</p>
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ *
+ * @see BookQuery
+ */
+public final class QueryEngine {
+
+    private final BookstoreAPI store;
+
+    /**
+     * Creates an engine over a bookstore.
+     *
+     * @param store the bookstore to query
+     * @throws IllegalArgumentException if the store is null
+     */
+    public QueryEngine(BookstoreAPI store) {
+        if (store == null) {
+            throw new IllegalArgumentException("Store cannot be null");
+        }
+        this.store = store;
+    }
+
+    /**
+     * Lazily streams the books that match a query. Like the streams of the store, it must be
+     * consumed before the store is modified.
+     *
+     * @param query the query
+     * @return the matching books, each once
+     * @throws IllegalArgumentException if the query is null
+     */
+    public Stream<Book> stream(BookQuery query) {
+        if (query == null) {
+            throw new IllegalArgumentException("Query cannot be null");
+        }
+        return query.candidates(store).filter(query::matches);
+    }
+
+    /**
+     * Finds every book that matches a query.
+     *
+     * @param query the query
+     * @return the matching books, each once
+     * @throws IllegalArgumentException if the query is null
+     */
+    public List<Book> execute(BookQuery query) {
+        return stream(query).collect(Collectors.toList());
+    }
+
+    /**
+     * Gets one page of the books that match a query.
+     *
+     * @param query  the query
+     * @param offset the number of matching books to skip
+     * @param limit  the largest number of books on the page
+     * @return the page
+     * @throws IllegalArgumentException if the query is null, the offset is negative or the limit is not positive
+     */
+    public Page page(BookQuery query, int offset, int limit) {
+        return Page.of(stream(query), offset, limit);
+    }
+
+    /**
+     * Estimates how many books running a query reads.
+     *
+     * @param query the query
+     * @return the estimated number of candidates
+     * @throws IllegalArgumentException if the query is null
+     */
+    public long estimate(BookQuery query) {
+        if (query == null) {
+            throw new IllegalArgumentException("Query cannot be null");
+        }
+        return query.estimate(store);
+    }
+
+    /**
+     * Describes how a query would run: the predicate that drives each conjunction and
+     * the estimate of every predicate that is read, written as {@code predicate~estimate}.
+     *
+     * @param query the query
+     * @return the plan, for example {@code and(drive year(2015)~12, check title("war"))}
+     * @throws IllegalArgumentException if the query is null
+     */
+    public String explain(BookQuery query) {
+        if (query == null) {
+            throw new IllegalArgumentException("Query cannot be null");
+        }
+        return query.explain(store);
+    }
+}
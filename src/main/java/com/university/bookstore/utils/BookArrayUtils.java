@@ -1,7 +1,15 @@
 package com.university.bookstore.utils;
 
 import com.university.bookstore.model.Book;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Set;
 
 /**
  * Utility class for array-based book operations.
@@ -18,6 +26,37 @@ import java.util.Arrays;
  */
 public final class BookArrayUtils {
 
+    /**
+     * Orders books by ISBN.
+     */
+    private static final Comparator<Book> ISBN_ORDER = Comparator.comparing(Book::getIsbn);
+
+    /**
+     * Arrays shorter than this are sorted with a comparator, the primitive-key sorts
+     * only pay off once their setup is amortized.
+     */
+    private static final int PRIMITIVE_SORT_THRESHOLD = 64;
+
+    /**
+     * Orders books by price, null books last.
+     */
+    private static final Comparator<Book> PRICE_NULLS_LAST = (b1, b2) -> {
+        if (b1 == null && b2 == null) return 0;
+        if (b1 == null) return 1;
+        if (b2 == null) return -1;
+        return Double.compare(b1.getPrice(), b2.getPrice());
+    };
+
+    /**
+     * Orders books by year, null books last.
+     */
+    private static final Comparator<Book> YEAR_NULLS_LAST = (b1, b2) -> {
+        if (b1 == null && b2 == null) return 0;
+        if (b1 == null) return 1;
+        if (b2 == null) return -1;
+        return Integer.compare(b1.getYear(), b2.getYear());
+    };
+
     /**
      * Private constructor to prevent instantiation of this utility class.
      *
@@ -115,16 +154,34 @@ public final class BookArrayUtils {
      * Null values are placed at the end.
      * <p>The input array is modified in place.</p>
      *
+     * <p>The prices are read once into primitive keys that order like
+     * {@link Double#compare(double, double)}, and the keys are radix sorted a byte at a time,
+     * skipping the bytes every key shares, together with the positions of their books. The
+     * books are then moved once, to their final places. This is O(n) time and stable, so
+     * books of equal price keep their order. Short arrays use a comparator sort.</p>
+     *
      * @param books the array of books (may be null)
      */
     public static void sortByPrice(Book[] books) {
         if (books == null) return;
-        Arrays.sort(books, (b1, b2) -> {
-            if (b1 == null && b2 == null) return 0;
-            if (b1 == null) return 1;
-            if (b2 == null) return -1;
-            return Double.compare(b1.getPrice(), b2.getPrice());
-        });
+        if (books.length < PRIMITIVE_SORT_THRESHOLD) {
+            Arrays.sort(books, PRICE_NULLS_LAST);
+            return;
+        }
+
+        long[] keys = new long[books.length];
+        int[] rows = new int[books.length];
+        for (int i = 0; i < books.length; i++) {
+            keys[i] = priceKey(books[i]);
+            rows[i] = i;
+        }
+        radixSort(keys, rows, 0, books.length, new long[books.length], new int[books.length]);
+
+        Book[] sorted = new Book[books.length];
+        for (int i = 0; i < books.length; i++) {
+            sorted[i] = books[rows[i]];
+        }
+        System.arraycopy(sorted, 0, books, 0, books.length);
     }
 
     /**
@@ -132,16 +189,123 @@ public final class BookArrayUtils {
      * Null values are placed at the end.
      * <p>The input array is modified in place.</p>
      *
+     * <p>Years are bounded by {@link Book#isValidYear(int)}, so this is a counting sort: one
+     * pass counts the books of every year between the earliest and the latest, and a second
+     * moves each book once, straight to its place. This is O(n + Y) time for Y years and
+     * stable, so books of the same year keep their order. Short arrays use a comparator sort.</p>
+     *
      * @param books the array of books (may be null)
      */
     public static void sortByYear(Book[] books) {
         if (books == null) return;
-        Arrays.sort(books, (b1, b2) -> {
-            if (b1 == null && b2 == null) return 0;
-            if (b1 == null) return 1;
-            if (b2 == null) return -1;
-            return Integer.compare(b1.getYear(), b2.getYear());
-        });
+        if (books.length < PRIMITIVE_SORT_THRESHOLD) {
+            Arrays.sort(books, YEAR_NULLS_LAST);
+            return;
+        }
+
+        int[] years = new int[books.length];
+        int minYear = Integer.MAX_VALUE;
+        int maxYear = Integer.MIN_VALUE;
+        for (int i = 0; i < books.length; i++) {
+            if (books[i] != null) {
+                years[i] = books[i].getYear();
+                minYear = Math.min(minYear, years[i]);
+                maxYear = Math.max(maxYear, years[i]);
+            }
+        }
+        if (minYear > maxYear) return;
+
+        int[] starts = new int[maxYear - minYear + 2];
+        for (int i = 0; i < books.length; i++) {
+            if (books[i] != null) starts[years[i] - minYear + 1]++;
+        }
+        for (int y = 1; y < starts.length; y++) {
+            starts[y] += starts[y - 1];
+        }
+
+        Book[] sorted = new Book[books.length];
+        for (int i = 0; i < books.length; i++) {
+            if (books[i] != null) sorted[starts[years[i] - minYear]++] = books[i];
+        }
+        System.arraycopy(sorted, 0, books, 0, books.length);
+    }
+
+    /**
+     * Gets the sort key of a book's price: a long that orders like
+     * {@link Double#compare(double, double)} on the price, with null books last.
+     *
+     * @param book the book (may be null)
+     * @return the key, {@link Long#MAX_VALUE} for null
+     */
+    static long priceKey(Book book) {
+        if (book == null) return Long.MAX_VALUE;
+        long bits = Double.doubleToLongBits(book.getPrice());
+        return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+    }
+
+    /**
+     * Gets the sort key of a book's year, with null books last.
+     *
+     * @param book the book (may be null)
+     * @return the key, {@link Long#MAX_VALUE} for null
+     */
+    static long yearKey(Book book) {
+        return book == null ? Long.MAX_VALUE : book.getYear();
+    }
+
+    /**
+     * Stable LSD radix sort of a range of keys, moving each row number along with its key.
+     * Bytes that are the same in every key of the range are skipped, so keys with a small
+     * range such as years take two passes.
+     *
+     * @param keys      the keys, sorted in place
+     * @param rows      the row of each key, moved with it
+     * @param from      the first index, inclusive
+     * @param to        the last index, exclusive
+     * @param keyBuffer scratch space of at least {@code to} entries
+     * @param rowBuffer scratch space of at least {@code to} entries
+     */
+    static void radixSort(long[] keys, int[] rows, int from, int to, long[] keyBuffer, int[] rowBuffer) {
+        if (to - from < 2) return;
+        long[] sourceKeys = keys;
+        int[] sourceRows = rows;
+        long[] targetKeys = keyBuffer;
+        int[] targetRows = rowBuffer;
+        int[] starts = new int[257];
+
+        for (int shift = 0; shift < 64; shift += 8) {
+            Arrays.fill(starts, 0);
+            for (int i = from; i < to; i++) {
+                starts[digit(sourceKeys[i], shift) + 1]++;
+            }
+            if (starts[digit(sourceKeys[from], shift) + 1] == to - from) continue;
+            for (int d = 1; d < starts.length; d++) {
+                starts[d] += starts[d - 1];
+            }
+            for (int i = from; i < to; i++) {
+                int index = from + starts[digit(sourceKeys[i], shift)]++;
+                targetKeys[index] = sourceKeys[i];
+                targetRows[index] = sourceRows[i];
+            }
+            long[] swapKeys = sourceKeys;
+            sourceKeys = targetKeys;
+            targetKeys = swapKeys;
+            int[] swapRows = sourceRows;
+            sourceRows = targetRows;
+            targetRows = swapRows;
+        }
+
+        if (sourceKeys != keys) {
+            System.arraycopy(sourceKeys, from, keys, from, to - from);
+            System.arraycopy(sourceRows, from, rows, from, to - from);
+        }
+    }
+
+    /**
+     * Gets one byte of a key, with the sign bit flipped so signed keys sort as unsigned.
+     */
+    private static int digit(long key, int shift) {
+        return (int) (((key ^ Long.MIN_VALUE) >>> shift) & 0xFF);
     }
 
     /**
@@ -200,7 +364,12 @@ public final class BookArrayUtils {
 
     /**
      * Removes duplicate books from an array, based on ISBN equality.
-     * Only the first occurrence of each ISBN is kept.
+     * Only the first occurrence of each ISBN is kept, and the kept books
+     * stay in their original order.
+     *
+     * <p>Runs in O(n) expected time: every ISBN is looked up once in a primitive
+     * hash table keyed by its {@link IsbnCodec} code. An ISBN without a code is
+     * looked up by its text instead, so no two distinct ISBNs are ever merged.</p>
      *
      * @param books the array of books (may be null)
      * @return a new array containing only unique books,
@@ -209,27 +378,184 @@ public final class BookArrayUtils {
     public static Book[] removeDuplicates(Book[] books) {
         if (books == null) return new Book[0];
 
+        LongIntHashMap seen = new LongIntHashMap(books.length);
+        Set<String> seenWithoutCode = null;
         Book[] temp = new Book[books.length];
         int count = 0;
 
         for (Book b : books) {
             if (b == null) continue;
+            long isbn = IsbnCodec.encode(b.getIsbn());
+            boolean first;
+            if (isbn == IsbnCodec.INVALID) {
+                if (seenWithoutCode == null) seenWithoutCode = new HashSet<>();
+                first = seenWithoutCode.add(b.getIsbn());
+            } else {
+                first = seen.put(isbn, count) == LongIntHashMap.MISSING;
+            }
+            if (first) {
+                temp[count++] = b;
+            }
+        }
+
+        return Arrays.copyOf(temp, count);
+    }
+
+    /**
+     * Removes duplicate books from an array by sorting, based on ISBN equality.
+     * Only the first occurrence of each ISBN is kept, but unlike
+     * {@link #removeDuplicates(Book[])} the result is sorted by ISBN.
+     *
+     * <p>Runs in O(n log n) time with a stable sort of one copy and no hash table, and
+     * its result is a valid input of {@link #mergeUnique(Book[][])}.</p>
+     *
+     * @param books the array of books (may be null)
+     * @return a new array containing only unique books, sorted by ISBN,
+     *         or an empty array if {@code books} is null
+     */
+    public static Book[] removeDuplicatesSorted(Book[] books) {
+        if (books == null) return new Book[0];
+
+        Book[] sorted = Arrays.stream(books).filter(b -> b != null).toArray(Book[]::new);
+        Arrays.sort(sorted, ISBN_ORDER);
+
+        int count = 0;
+        for (Book b : sorted) {
+            if (count == 0 || !b.getIsbn().equals(sorted[count - 1].getIsbn())) {
+                sorted[count++] = b;
+            }
+        }
+        return Arrays.copyOf(sorted, count);
+    }
+
+    /**
+     * Merges arrays that are each sorted by ISBN into one array sorted by ISBN,
+     * without duplicates. When an ISBN appears more than once, the occurrence in
+     * the earliest array wins, and within an array the first one.
+     *
+     * @param sortedArrays the arrays to merge, each sorted by ISBN (the arrays and their elements may be null)
+     * @return a new array containing the unique books of all arrays, sorted by ISBN
+     * @throws IllegalArgumentException if an array is not sorted by ISBN
+     * @see #mergeUnique(List)
+     */
+    public static Book[] mergeUnique(Book[]... sortedArrays) {
+        if (sortedArrays == null) return new Book[0];
+
+        List<Iterator<Book>> inputs = new ArrayList<>(sortedArrays.length);
+        int total = 0;
+        for (Book[] array : sortedArrays) {
+            if (array != null) {
+                inputs.add(Arrays.asList(array).iterator());
+                total += array.length;
+            } else {
+                inputs.add(null);
+            }
+        }
+
+        Book[] merged = new Book[total];
+        int count = 0;
+        for (Iterator<Book> it = mergeUnique(inputs); it.hasNext(); ) {
+            merged[count++] = it.next();
+        }
+        return Arrays.copyOf(merged, count);
+    }
 
-            boolean duplicate = false;
-            for (int i = 0; i < count; i++) {
-                if (b.getIsbn().equals(temp[i].getIsbn())) {
-                    duplicate = true;
-                    break;
+    /**
+     * Merges k inputs that are each sorted by ISBN into one sorted output without
+     * duplicates, reading the inputs lazily. When an ISBN appears more than once,
+     * the occurrence in the earliest input wins, and within an input the first one.
+     *
+     * <p>Only the current book of every input is held, in a heap, so merging m books
+     * costs O(m log k) time and O(k) memory and the output can be written out as it
+     * is produced, however large the inputs.</p>
+     *
+     * @param sortedInputs the inputs to merge, each sorted by ISBN (the inputs and their elements may be null)
+     * @return an iterator over the unique books of all inputs, sorted by ISBN;
+     *         it throws {@link IllegalArgumentException} when it reaches a book that
+     *         sorts before the previous book of the same input
+     */
+    public static Iterator<Book> mergeUnique(List<? extends Iterator<? extends Book>> sortedInputs) {
+        return new MergeIterator(sortedInputs == null ? List.of() : sortedInputs);
+    }
+
+    /**
+     * The current book of one input of a k-way merge.
+     */
+    private static final class Cursor {
+        private final Iterator<? extends Book> input;
+        private final int index;
+        private Book head;
+
+        private Cursor(Iterator<? extends Book> input, int index) {
+            this.input = input;
+            this.index = index;
+        }
+
+        /**
+         * Moves to the next non-null book of the input.
+         *
+         * @return true if there is one
+         * @throws IllegalArgumentException if it sorts before the current book
+         */
+        private boolean advance() {
+            Book previous = head;
+            head = null;
+            while (head == null && input.hasNext()) {
+                head = input.next();
+            }
+            if (head != null && previous != null && ISBN_ORDER.compare(head, previous) < 0) {
+                throw new IllegalArgumentException("Input " + index + " is not sorted by ISBN");
+            }
+            return head != null;
+        }
+    }
+
+    /**
+     * Lazy k-way merge, the cursor with the smallest ISBN, then the earliest input, at the root.
+     */
+    private static final class MergeIterator implements Iterator<Book> {
+        private final PriorityQueue<Cursor> cursors;
+        private Book last;
+
+        private MergeIterator(List<? extends Iterator<? extends Book>> inputs) {
+            Comparator<Cursor> order = Comparator.<Cursor, Book>comparing(c -> c.head, ISBN_ORDER)
+                    .thenComparingInt(c -> c.index);
+            cursors = new PriorityQueue<>(Math.max(1, inputs.size()), order);
+            for (int i = 0; i < inputs.size(); i++) {
+                Iterator<? extends Book> input = inputs.get(i);
+                if (input == null) continue;
+                Cursor cursor = new Cursor(input, i);
+                if (cursor.advance()) {
+                    cursors.add(cursor);
                 }
             }
+        }
 
-            if (!duplicate) {
-                temp[count++] = b;
+        @Override
+        public boolean hasNext() {
+            while (!cursors.isEmpty() && last != null
+                    && cursors.peek().head.getIsbn().equals(last.getIsbn())) {
+                pop();
             }
+            return !cursors.isEmpty();
         }
 
-        Book[] result = new Book[count];
-        for (int i = 0; i < count; i++) result[i] = temp[i];
-        return result;
+        @Override
+        public Book next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            last = pop();
+            return last;
+        }
+
+        private Book pop() {
+            Cursor cursor = cursors.poll();
+            Book book = cursor.head;
+            if (cursor.advance()) {
+                cursors.add(cursor);
+            }
+            return book;
+        }
     }
 }
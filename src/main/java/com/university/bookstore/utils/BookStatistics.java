@@ -0,0 +1,334 @@
+package com.university.bookstore.utils;
+
+import com.university.bookstore.model.Book;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.stream.Collector;
+
+/**
+ * Price and year statistics of a collection of books, gathered in a single pass.
+ *
+ * <p>A report that needs the count, the inventory value, the average, spread and range
+ * of prices, the range of years and how many books were published in each decade would
+ * otherwise scan the catalog once per figure. This class takes every book once, in
+ * O(1) time, and keeps O(Y) state where Y is the number of distinct publication years
+ * (a count per year, from which the decade counts and {@link #countBeforeYear(int)}
+ * are read).</p>
+ *
+ * <p>Like {@link java.util.DoubleSummaryStatistics} it is a mutable accumulator: partial
+ * statistics of consecutive parts of the input can be combined with
+ * {@link #combine(BookStatistics)}, so the same statistics come out of a sequential
+ * scan, a parallel stream through {@link #collector()}, or a fork/join reduction such as
+ * {@link ParallelBookArrayUtils#statistics(Book[])}. The price sum is compensated like
+ * {@link CompensatedSum} and the variance is updated with Welford's method, and both
+ * combine without losing precision.</p>
+ *
+ * <p>The books it reports follow the single-book queries: the most expensive is the
+ * last of equal prices, the most recent and the oldest are the first of equal years.
+ * Null books are skipped. Instances are not thread-safe.</p>
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public final class BookStatistics implements Consumer<Book> {
+
+    /**
+     * The earliest year a {@link Book} accepts, the first slot of the year counts.
+     */
+    private static final int FIRST_YEAR = 1450;
+
+    private long count;
+    private final CompensatedSum priceSum = new CompensatedSum();
+    private double priceMean;
+    private double priceSquaredDeviations;
+    private double minPrice = Double.POSITIVE_INFINITY;
+    private double maxPrice = Double.NEGATIVE_INFINITY;
+    private long[] yearCounts = new long[0];
+    private Book mostExpensive;
+    private Book mostRecent;
+    private Book oldest;
+
+    /**
+     * Creates empty statistics.
+     */
+    public BookStatistics() {
+    }
+
+    /**
+     * Gathers the statistics of an array in one pass.
+     *
+     * @param books the books (may be null, null elements are skipped)
+     * @return the statistics of the books
+     */
+    public static BookStatistics of(Book[] books) {
+        BookStatistics statistics = new BookStatistics();
+        statistics.acceptAll(books, 0, books == null ? 0 : books.length);
+        return statistics;
+    }
+
+    /**
+     * Gathers the statistics of a stream, sequential or parallel, for
+     * {@code store.stream().collect(BookStatistics.collector())}.
+     *
+     * @return a collector of the statistics of the books of a stream
+     */
+    public static Collector<Book, ?, BookStatistics> collector() {
+        return Collector.of(BookStatistics::new, BookStatistics::accept, BookStatistics::combine,
+                Collector.Characteristics.IDENTITY_FINISH);
+    }
+
+    /**
+     * Adds a book to the statistics.
+     *
+     * @param book the book (ignored if null)
+     */
+    @Override
+    public void accept(Book book) {
+        if (book == null) {
+            return;
+        }
+        double price = book.getPrice();
+        count++;
+        priceSum.add(price);
+        double delta = price - priceMean;
+        priceMean += delta / count;
+        priceSquaredDeviations += delta * (price - priceMean);
+        minPrice = Math.min(minPrice, price);
+        maxPrice = Math.max(maxPrice, price);
+
+        int year = book.getYear();
+        countYear(year, 1);
+        if (mostExpensive == null || price >= mostExpensive.getPrice()) {
+            mostExpensive = book;
+        }
+        if (mostRecent == null || year > mostRecent.getYear()) {
+            mostRecent = book;
+        }
+        if (oldest == null || year < oldest.getYear()) {
+            oldest = book;
+        }
+    }
+
+    /**
+     * Adds a range of an array to the statistics.
+     *
+     * @param books the books (may be null, null elements are skipped)
+     * @param from  the first index, inclusive
+     * @param to    the last index, exclusive
+     * @return these statistics
+     */
+    public BookStatistics acceptAll(Book[] books, int from, int to) {
+        if (books != null) {
+            for (int i = from; i < to; i++) {
+                accept(books[i]);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Adds the statistics of the books that come after the ones already added, so the
+     * result is the same as if those books had been added one at a time.
+     *
+     * @param later the statistics of the following books (ignored if null)
+     * @return these statistics
+     */
+    public BookStatistics combine(BookStatistics later) {
+        if (later == null || later.count == 0) {
+            return this;
+        }
+        long total = count + later.count;
+        double delta = later.priceMean - priceMean;
+        priceSquaredDeviations += later.priceSquaredDeviations + delta * delta * ((double) count * later.count / total);
+        priceMean += delta * later.count / total;
+        count = total;
+        priceSum.add(later.priceSum);
+        minPrice = Math.min(minPrice, later.minPrice);
+        maxPrice = Math.max(maxPrice, later.maxPrice);
+
+        for (int i = 0; i < later.yearCounts.length; i++) {
+            if (later.yearCounts[i] != 0) {
+                countYear(FIRST_YEAR + i, later.yearCounts[i]);
+            }
+        }
+        if (mostExpensive == null || later.mostExpensive.getPrice() >= mostExpensive.getPrice()) {
+            mostExpensive = later.mostExpensive;
+        }
+        if (mostRecent == null || later.mostRecent.getYear() > mostRecent.getYear()) {
+            mostRecent = later.mostRecent;
+        }
+        if (oldest == null || later.oldest.getYear() < oldest.getYear()) {
+            oldest = later.oldest;
+        }
+        return this;
+    }
+
+    private void countYear(int year, long books) {
+        int slot = Math.max(0, year - FIRST_YEAR);
+        if (slot >= yearCounts.length) {
+            yearCounts = Arrays.copyOf(yearCounts, Math.max(slot + 1, yearCounts.length * 2));
+        }
+        yearCounts[slot] += books;
+    }
+
+    /**
+     * Gets the number of books.
+     *
+     * @return the number of non-null books added
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Gets the sum of the prices, the inventory value of the books.
+     *
+     * @return the compensated sum of the prices, 0 if there are no books
+     */
+    public double getPriceSum() {
+        return priceSum.value();
+    }
+
+    /**
+     * Gets the average price, as {@link BookArrayUtils#averagePrice(Book[])}.
+     *
+     * @return the mean price, 0 if there are no books
+     */
+    public double getAveragePrice() {
+        return count == 0 ? 0.0 : priceSum.value() / count;
+    }
+
+    /**
+     * Gets the population variance of the prices.
+     *
+     * @return the mean squared deviation from the average price, 0 if there are no books
+     */
+    public double getPriceVariance() {
+        return count == 0 ? 0.0 : priceSquaredDeviations / count;
+    }
+
+    /**
+     * Gets the population standard deviation of the prices.
+     *
+     * @return the square root of {@link #getPriceVariance()}
+     */
+    public double getPriceStandardDeviation() {
+        return Math.sqrt(getPriceVariance());
+    }
+
+    /**
+     * Gets the lowest price.
+     *
+     * @return the lowest price, 0 if there are no books
+     */
+    public double getMinPrice() {
+        return count == 0 ? 0.0 : minPrice;
+    }
+
+    /**
+     * Gets the highest price.
+     *
+     * @return the highest price, 0 if there are no books
+     */
+    public double getMaxPrice() {
+        return count == 0 ? 0.0 : maxPrice;
+    }
+
+    /**
+     * Gets the earliest publication year.
+     *
+     * @return the earliest year, 0 if there are no books
+     */
+    public int getMinYear() {
+        return oldest == null ? 0 : oldest.getYear();
+    }
+
+    /**
+     * Gets the latest publication year.
+     *
+     * @return the latest year, 0 if there are no books
+     */
+    public int getMaxYear() {
+        return mostRecent == null ? 0 : mostRecent.getYear();
+    }
+
+    /**
+     * Counts the books published before a year, as {@link BookArrayUtils#countBeforeYear(Book[], int)}.
+     * O(Y) time complexity - adds up the year counts
+     *
+     * @param yearCutoff the cutoff year
+     * @return the number of books published before {@code yearCutoff}
+     */
+    public long countBeforeYear(int yearCutoff) {
+        long books = 0;
+        int end = Math.min(yearCounts.length, Math.max(0, yearCutoff - FIRST_YEAR));
+        for (int i = 0; i < end; i++) {
+            books += yearCounts[i];
+        }
+        return books;
+    }
+
+    /**
+     * Counts the books published in a decade, as {@link BookArrayUtils#filterByDecade(Book[], int)}.
+     *
+     * @param decade the first year of the decade, e.g. 1990
+     * @return the number of books published from {@code decade} to {@code decade + 9}
+     */
+    public long countInDecade(int decade) {
+        return countBeforeYear(decade + 10) - countBeforeYear(decade);
+    }
+
+    /**
+     * Gets the number of books published in each decade that has any.
+     *
+     * @return an unmodifiable map from the first year of each decade to its number of books, in decade order
+     */
+    public SortedMap<Integer, Long> getDecadeCounts() {
+        SortedMap<Integer, Long> decades = new TreeMap<>();
+        for (int i = 0; i < yearCounts.length; i++) {
+            if (yearCounts[i] != 0) {
+                int year = FIRST_YEAR + i;
+                decades.merge(year - Math.floorMod(year, 10), yearCounts[i], Long::sum);
+            }
+        }
+        return Collections.unmodifiableSortedMap(decades);
+    }
+
+    /**
+     * Gets the most expensive book, the last one among equal prices.
+     *
+     * @return the most expensive book, or null if there are no books
+     */
+    public Book getMostExpensive() {
+        return mostExpensive;
+    }
+
+    /**
+     * Gets the most recently published book, the first one among equal years.
+     *
+     * @return the most recent book, or null if there are no books
+     */
+    public Book getMostRecent() {
+        return mostRecent;
+    }
+
+    /**
+     * Gets the earliest published book, the first one among equal years.
+     *
+     * @return the oldest book, or null if there are no books
+     */
+    public Book getOldest() {
+        return oldest;
+    }
+
+    @Override
+    public String toString() {
+        return "BookStatistics[count=" + count + ", priceSum=" + getPriceSum() + ", averagePrice=" + getAveragePrice()
+                + ", minPrice=" + getMinPrice() + ", maxPrice=" + getMaxPrice()
+                + ", years=" + getMinYear() + "-" + getMaxYear() + "]";
+    }
+}
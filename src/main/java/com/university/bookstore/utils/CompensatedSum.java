@@ -0,0 +1,64 @@
+package com.university.bookstore.utils;
+
+/**
+ * Running sum of doubles using compensated (Kahan-Babuska / Neumaier) summation.
+ *
+ * <p>A plain {@code sum += value} loses the low order bits of every value that is
+ * much smaller than the sum, and the error keeps growing over millions of additions
+ * and subtractions. This class keeps those lost bits in a separate compensation term
+ * and adds them back when the sum is read, so the result stays within a few ulps of
+ * the exact sum no matter how many updates are made.</p>
+ *
+ * <p>Instances are mutable and not thread-safe.</p>
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public final class CompensatedSum {
+
+    private double sum;
+    private double compensation;
+
+    /**
+     * Adds a value to the sum.
+     *
+     * @param value the value to add, use a negative value to subtract
+     */
+    public void add(double value) {
+        double next = sum + value;
+        if (Math.abs(sum) >= Math.abs(value)) {
+            compensation += (sum - next) + value;
+        } else {
+            compensation += (value - next) + sum;
+        }
+        sum = next;
+    }
+
+    /**
+     * Adds every value of another sum to this one.
+     *
+     * @param other the sum to merge into this one (may be null)
+     */
+    public void add(CompensatedSum other) {
+        if (other == null) return;
+        add(other.sum);
+        add(other.compensation);
+    }
+
+    /**
+     * Resets the sum to exactly zero.
+     */
+    public void reset() {
+        sum = 0.0;
+        compensation = 0.0;
+    }
+
+    /**
+     * Gets the compensated value of the sum.
+     *
+     * @return the sum of every value added so far
+     */
+    public double value() {
+        return sum + compensation;
+    }
+}
@@ -0,0 +1,239 @@
+package com.university.bookstore.utils;
+
+import java.util.Arrays;
+
+/**
+ * Hash map from primitive long keys to primitive int values, using open addressing.
+ *
+ * <p>Keys and values live in two parallel arrays and collisions are resolved by linear
+ * probing, so a lookup is a few reads of adjacent array slots and allocates nothing,
+ * unlike a {@code HashMap<Long, Integer>} which boxes both the key and the value and
+ * allocates an entry per mapping. Removal shifts the following entries of the probe
+ * sequence back instead of leaving tombstones, so lookups stay short after many
+ * removals.</p>
+ *
+ * <p>The key {@code 0} is reserved to mark empty slots and cannot be stored, which suits
+ * {@link IsbnCodec} codes since no valid code is zero. Lookups of a missing key return
+ * {@link #MISSING}.</p>
+ *
+ * <p>Instances are mutable and not thread-safe.</p>
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public final class LongIntHashMap {
+
+    /**
+     * The value returned for a key that is not in the map.
+     */
+    public static final int MISSING = -1;
+
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] keys;
+    private int[] values;
+    private int mask;
+    private int size;
+
+    /**
+     * Creates an empty map.
+     */
+    public LongIntHashMap() {
+        this(MIN_CAPACITY / 2);
+    }
+
+    /**
+     * Creates an empty map that holds the given number of keys without resizing.
+     *
+     * @param expectedSize the number of keys expected
+     */
+    public LongIntHashMap(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size cannot be negative");
+        }
+        allocate(capacityFor(expectedSize));
+    }
+
+    private static int capacityFor(int size) {
+        long capacity = Long.highestOneBit(Math.max(MIN_CAPACITY, (long) size * 2) - 1) << 1;
+        if (capacity > 1 << 30) {
+            throw new IllegalArgumentException("Too many keys: " + size);
+        }
+        return (int) capacity;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    /**
+     * Spreads the bits of the key so that nearby keys, such as consecutive ISBNs, land in
+     * different slots (the finalizer of MurmurHash3).
+     */
+    private static int slot(long key, int mask) {
+        long h = key;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return (int) h & mask;
+    }
+
+    private static void checkKey(long key) {
+        if (key == 0) {
+            throw new IllegalArgumentException("The key 0 is reserved");
+        }
+    }
+
+    /**
+     * Gets the value of a key.
+     *
+     * @param key the key
+     * @return the value, or {@link #MISSING} if the key is not in the map
+     */
+    public int get(long key) {
+        if (key == 0) {
+            return MISSING;
+        }
+        for (int i = slot(key, mask); ; i = (i + 1) & mask) {
+            long k = keys[i];
+            if (k == key) {
+                return values[i];
+            }
+            if (k == 0) {
+                return MISSING;
+            }
+        }
+    }
+
+    /**
+     * Checks if a key is in the map.
+     *
+     * @param key the key
+     * @return true if the map holds the key
+     */
+    public boolean containsKey(long key) {
+        return get(key) != MISSING;
+    }
+
+    /**
+     * Maps a key to a value, replacing any previous value.
+     *
+     * @param key   the key, not 0
+     * @param value the value, not {@link #MISSING}
+     * @return the previous value, or {@link #MISSING} if the key was not in the map
+     * @throws IllegalArgumentException if the key is 0 or the value is {@link #MISSING}
+     */
+    public int put(long key, int value) {
+        checkKey(key);
+        if (value == MISSING) {
+            throw new IllegalArgumentException("The value " + MISSING + " is reserved");
+        }
+        int i = slot(key, mask);
+        for (long k = keys[i]; k != 0; k = keys[i]) {
+            if (k == key) {
+                int previous = values[i];
+                values[i] = value;
+                return previous;
+            }
+            i = (i + 1) & mask;
+        }
+        keys[i] = key;
+        values[i] = value;
+        if (++size * 2 > keys.length) {
+            rehash(keys.length * 2);
+        }
+        return MISSING;
+    }
+
+    /**
+     * Removes a key from the map.
+     *
+     * @param key the key
+     * @return the value the key had, or {@link #MISSING} if it was not in the map
+     */
+    public int remove(long key) {
+        if (key == 0) {
+            return MISSING;
+        }
+        int i = slot(key, mask);
+        for (long k = keys[i]; k != key; k = keys[i]) {
+            if (k == 0) {
+                return MISSING;
+            }
+            i = (i + 1) & mask;
+        }
+        int removed = values[i];
+        size--;
+
+        // Shift back every following entry whose home slot is not between the gap and itself
+        int gap = i;
+        for (int j = (gap + 1) & mask; keys[j] != 0; j = (j + 1) & mask) {
+            int home = slot(keys[j], mask);
+            if (((j - home) & mask) >= ((j - gap) & mask)) {
+                keys[gap] = keys[j];
+                values[gap] = values[j];
+                gap = j;
+            }
+        }
+        keys[gap] = 0;
+        return removed;
+    }
+
+    /**
+     * Grows the map so it holds the given number of keys without resizing again.
+     *
+     * @param expectedSize the number of keys expected
+     */
+    public void ensureCapacity(int expectedSize) {
+        if (expectedSize * 2L > keys.length) {
+            rehash(capacityFor(expectedSize));
+        }
+    }
+
+    /**
+     * Removes every key, keeping the current capacity.
+     */
+    public void clear() {
+        Arrays.fill(keys, 0L);
+        size = 0;
+    }
+
+    /**
+     * Gets the number of keys in the map.
+     *
+     * @return the number of keys
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the map is empty.
+     *
+     * @return true if the map holds no keys
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            long key = oldKeys[i];
+            if (key != 0) {
+                int j = slot(key, mask);
+                while (keys[j] != 0) {
+                    j = (j + 1) & mask;
+                }
+                keys[j] = key;
+                values[j] = oldValues[i];
+            }
+        }
+    }
+}
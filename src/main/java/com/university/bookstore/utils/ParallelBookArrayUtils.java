@@ -0,0 +1,575 @@
+package com.university.bookstore.utils;
+
+import com.university.bookstore.model.Book;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+/**
+ * Fork/join versions of the scanning operations of {@link BookArrayUtils}, for large
+ * arrays such as the snapshots of a whole catalog.
+ *
+ * <p>Every method returns what its {@link BookArrayUtils} counterpart returns, with the
+ * same handling of null arrays and null elements. The array is split into ranges that are
+ * processed as fork/join tasks, and the result of each range is combined with its
+ * neighbour's in array order, so filters keep the order of the input and
+ * {@link #findOldest(Book[])} returns the same book as a sequential scan.</p>
+ *
+ * <p>The filters read the array once: each range collects its matches into its own
+ * buffer, and once the total is known the buffers are copied into the result in parallel
+ * at their offsets. Arrays shorter than {@value #SEQUENTIAL_THRESHOLD} are handed to
+ * {@link BookArrayUtils}, since splitting them costs more than it saves.</p>
+ *
+ * <p>The sorts radix sort the primitive keys of each range with
+ * {@link BookArrayUtils}'s sort, then merge neighbouring ranges in parallel, and move
+ * every book once at the end. Like the sequential sorts they are stable.</p>
+ *
+ * <p>The methods run in the common {@link ForkJoinPool} unless a pool is given, and can
+ * be called from inside another fork/join task.</p>
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ *
+ * @see BookArrayUtils
+ */
+public final class ParallelBookArrayUtils {
+
+    /**
+     * Arrays shorter than this are processed sequentially, and no task processes fewer
+     * books than this.
+     */
+    public static final int SEQUENTIAL_THRESHOLD = 1 << 13;
+
+    private static final int TASKS_PER_THREAD = 4;
+
+    private ParallelBookArrayUtils() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Counts the number of books published before a given cutoff year.
+     *
+     * @param books      the array of books (may be null)
+     * @param yearCutoff the cutoff year
+     * @return the number of books published before {@code yearCutoff}, or 0 if {@code books} is null
+     * @see BookArrayUtils#countBeforeYear(Book[], int)
+     */
+    public static int countBeforeYear(Book[] books, int yearCutoff) {
+        return countBeforeYear(books, yearCutoff, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Counts the number of books published before a given cutoff year, in the given pool.
+     *
+     * @param books      the array of books (may be null)
+     * @param yearCutoff the cutoff year
+     * @param pool       the pool to run the tasks in
+     * @return the number of books published before {@code yearCutoff}, or 0 if {@code books} is null
+     */
+    public static int countBeforeYear(Book[] books, int yearCutoff, ForkJoinPool pool) {
+        if (books == null || books.length < SEQUENTIAL_THRESHOLD) {
+            return BookArrayUtils.countBeforeYear(books, yearCutoff);
+        }
+        return count(books, b -> b.getYear() < yearCutoff, pool);
+    }
+
+    /**
+     * Counts the number of books written by a specific author.
+     *
+     * @param books  the array of books (may be null)
+     * @param author the author's name
+     * @return the number of books by the specified author, or 0 if {@code books} or {@code author} is null
+     * @see BookArrayUtils#countByAuthor(Book[], String)
+     */
+    public static int countByAuthor(Book[] books, String author) {
+        return countByAuthor(books, author, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Counts the number of books written by a specific author, in the given pool.
+     *
+     * @param books  the array of books (may be null)
+     * @param author the author's name
+     * @param pool   the pool to run the tasks in
+     * @return the number of books by the specified author, or 0 if {@code books} or {@code author} is null
+     */
+    public static int countByAuthor(Book[] books, String author, ForkJoinPool pool) {
+        if (books == null || author == null || books.length < SEQUENTIAL_THRESHOLD) {
+            return BookArrayUtils.countByAuthor(books, author);
+        }
+        return count(books, b -> author.equals(b.getAuthor()), pool);
+    }
+
+    /**
+     * Filters books with a price less than or equal to the specified maximum, keeping their order.
+     *
+     * @param books    the array of books (may be null)
+     * @param maxPrice the maximum allowed price
+     * @return a new array of books with price at most {@code maxPrice}, or an empty array if {@code books} is null
+     * @see BookArrayUtils#filterPriceAtMost(Book[], double)
+     */
+    public static Book[] filterPriceAtMost(Book[] books, double maxPrice) {
+        return filterPriceAtMost(books, maxPrice, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Filters books with a price less than or equal to the specified maximum, in the given pool.
+     *
+     * @param books    the array of books (may be null)
+     * @param maxPrice the maximum allowed price
+     * @param pool     the pool to run the tasks in
+     * @return a new array of books with price at most {@code maxPrice}, or an empty array if {@code books} is null
+     */
+    public static Book[] filterPriceAtMost(Book[] books, double maxPrice, ForkJoinPool pool) {
+        if (books == null || books.length < SEQUENTIAL_THRESHOLD) {
+            return BookArrayUtils.filterPriceAtMost(books, maxPrice);
+        }
+        return filter(books, b -> b.getPrice() <= maxPrice, pool);
+    }
+
+    /**
+     * Filters books published in a specific decade, keeping their order.
+     *
+     * @param books  the array of books (may be null)
+     * @param decade the starting year of the decade (e.g., 1990 for 1990–1999)
+     * @return a new array of books published in the given decade, or an empty array if {@code books} is null
+     * @see BookArrayUtils#filterByDecade(Book[], int)
+     */
+    public static Book[] filterByDecade(Book[] books, int decade) {
+        return filterByDecade(books, decade, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Filters books published in a specific decade, in the given pool.
+     *
+     * @param books  the array of books (may be null)
+     * @param decade the starting year of the decade (e.g., 1990 for 1990–1999)
+     * @param pool   the pool to run the tasks in
+     * @return a new array of books published in the given decade, or an empty array if {@code books} is null
+     */
+    public static Book[] filterByDecade(Book[] books, int decade, ForkJoinPool pool) {
+        if (books == null || books.length < SEQUENTIAL_THRESHOLD) {
+            return BookArrayUtils.filterByDecade(books, decade);
+        }
+        return filter(books, b -> b.getYear() >= decade && b.getYear() <= decade + 9, pool);
+    }
+
+    /**
+     * Calculates the average price of all non-null books in the array. Each task sums its
+     * range with a {@link CompensatedSum}, so the result may differ from the sequential
+     * one in the last bits, towards the exact average.
+     *
+     * @param books the array of books (may be null)
+     * @return the average price, or 0.0 if {@code books} is null or contains no non-null entries
+     * @see BookArrayUtils#averagePrice(Book[])
+     */
+    public static double averagePrice(Book[] books) {
+        return averagePrice(books, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Calculates the average price of all non-null books in the array, in the given pool.
+     *
+     * @param books the array of books (may be null)
+     * @param pool  the pool to run the tasks in
+     * @return the average price, or 0.0 if {@code books} is null or contains no non-null entries
+     */
+    public static double averagePrice(Book[] books, ForkJoinPool pool) {
+        if (books == null || books.length < SEQUENTIAL_THRESHOLD) {
+            return BookArrayUtils.averagePrice(books);
+        }
+        PriceTotal total = pool.invoke(new Reduce<>(books, 0, books.length, leafSize(books, pool),
+                (array, from, to) -> {
+                    PriceTotal range = new PriceTotal();
+                    for (int i = from; i < to; i++) {
+                        Book b = array[i];
+                        if (b != null) {
+                            range.sum.add(b.getPrice());
+                            range.count++;
+                        }
+                    }
+                    return range;
+                },
+                (left, right) -> {
+                    left.sum.add(right.sum);
+                    left.count += right.count;
+                    return left;
+                }));
+        return total.count == 0 ? 0.0 : total.sum.value() / total.count;
+    }
+
+    /**
+     * Finds the oldest (earliest published) non-null book in the array, the first one in
+     * array order when years tie.
+     *
+     * @param books the array of books (may be null)
+     * @return the oldest book, or {@code null} if {@code books} is null or contains only null entries
+     * @see BookArrayUtils#findOldest(Book[])
+     */
+    public static Book findOldest(Book[] books) {
+        return findOldest(books, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Finds the oldest (earliest published) non-null book in the array, in the given pool.
+     *
+     * @param books the array of books (may be null)
+     * @param pool  the pool to run the tasks in
+     * @return the oldest book, or {@code null} if {@code books} is null or contains only null entries
+     */
+    public static Book findOldest(Book[] books, ForkJoinPool pool) {
+        if (books == null || books.length < SEQUENTIAL_THRESHOLD) {
+            return BookArrayUtils.findOldest(books);
+        }
+        return pool.invoke(new Reduce<>(books, 0, books.length, leafSize(books, pool),
+                ParallelBookArrayUtils::oldestIn,
+                (left, right) -> right != null && (left == null || right.getYear() < left.getYear()) ? right : left));
+    }
+
+    private static Book oldestIn(Book[] books, int from, int to) {
+        Book oldest = null;
+        for (int i = from; i < to; i++) {
+            Book b = books[i];
+            if (b != null && (oldest == null || b.getYear() < oldest.getYear())) {
+                oldest = b;
+            }
+        }
+        return oldest;
+    }
+
+    /**
+     * Gathers the price and year statistics of the array in one parallel pass.
+     *
+     * @param books the array of books (may be null)
+     * @return the statistics of the non-null books, the same as {@link BookStatistics#of(Book[])}
+     */
+    public static BookStatistics statistics(Book[] books) {
+        return statistics(books, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Gathers the price and year statistics of the array in one parallel pass, in the given pool.
+     * Each range is gathered on its own and the partial statistics are combined in array order.
+     *
+     * @param books the array of books (may be null)
+     * @param pool  the pool to run the tasks in
+     * @return the statistics of the non-null books
+     */
+    public static BookStatistics statistics(Book[] books, ForkJoinPool pool) {
+        if (books == null || books.length < SEQUENTIAL_THRESHOLD) {
+            return BookStatistics.of(books);
+        }
+        return pool.invoke(new Reduce<>(books, 0, books.length, leafSize(books, pool),
+                (array, from, to) -> new BookStatistics().acceptAll(array, from, to),
+                BookStatistics::combine));
+    }
+
+    /**
+     * Sorts the array of books by price in ascending order, null values at the end, in
+     * the common pool. The sort is stable, so the result is the same as
+     * {@link BookArrayUtils#sortByPrice(Book[])}.
+     *
+     * @param books the array of books (may be null)
+     * @see BookArrayUtils#sortByPrice(Book[])
+     */
+    public static void sortByPrice(Book[] books) {
+        sortByPrice(books, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Sorts the array of books by price in ascending order, in the given pool.
+     *
+     * @param books the array of books (may be null)
+     * @param pool  the pool to run the tasks in
+     */
+    public static void sortByPrice(Book[] books, ForkJoinPool pool) {
+        if (books == null || books.length < SEQUENTIAL_THRESHOLD) {
+            BookArrayUtils.sortByPrice(books);
+            return;
+        }
+        sort(books, BookArrayUtils::priceKey, pool);
+    }
+
+    /**
+     * Sorts the array of books by year in ascending order, null values at the end, in
+     * the common pool. The sort is stable, so the result is the same as
+     * {@link BookArrayUtils#sortByYear(Book[])}.
+     *
+     * @param books the array of books (may be null)
+     * @see BookArrayUtils#sortByYear(Book[])
+     */
+    public static void sortByYear(Book[] books) {
+        sortByYear(books, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Sorts the array of books by year in ascending order, in the given pool.
+     *
+     * @param books the array of books (may be null)
+     * @param pool  the pool to run the tasks in
+     */
+    public static void sortByYear(Book[] books, ForkJoinPool pool) {
+        if (books == null || books.length < SEQUENTIAL_THRESHOLD) {
+            BookArrayUtils.sortByYear(books);
+            return;
+        }
+        sort(books, BookArrayUtils::yearKey, pool);
+    }
+
+    /**
+     * Sorts by primitive key: every range reads its keys and radix sorts them with their
+     * positions, neighbouring ranges are merged, left first on ties, and the books are
+     * then moved once to their places.
+     */
+    private static void sort(Book[] books, ToLongFunction<Book> key, ForkJoinPool pool) {
+        int n = books.length;
+        long[] keys = new long[n];
+        int[] rows = new int[n];
+        int leafSize = leafSize(books, pool);
+        pool.invoke(new Sort(books, key, keys, rows, new long[n], new int[n], 0, n, leafSize));
+
+        Book[] sorted = new Book[n];
+        pool.invoke(new Permute(books, rows, sorted, 0, n, leafSize));
+        System.arraycopy(sorted, 0, books, 0, n);
+    }
+
+    private static int count(Book[] books, Predicate<Book> test, ForkJoinPool pool) {
+        return pool.invoke(new Reduce<>(books, 0, books.length, leafSize(books, pool),
+                (array, from, to) -> {
+                    int count = 0;
+                    for (int i = from; i < to; i++) {
+                        Book b = array[i];
+                        if (b != null && test.test(b)) {
+                            count++;
+                        }
+                    }
+                    return count;
+                },
+                Integer::sum));
+    }
+
+    private static Book[] filter(Book[] books, Predicate<Book> test, ForkJoinPool pool) {
+        Segment matches = pool.invoke(new Reduce<>(books, 0, books.length, leafSize(books, pool),
+                (array, from, to) -> {
+                    Book[] buffer = new Book[16];
+                    int count = 0;
+                    for (int i = from; i < to; i++) {
+                        Book b = array[i];
+                        if (b != null && test.test(b)) {
+                            if (count == buffer.length) {
+                                buffer = Arrays.copyOf(buffer, Math.min(to - from, count * 2));
+                            }
+                            buffer[count++] = b;
+                        }
+                    }
+                    return new Segment(buffer, count);
+                },
+                Segment::new));
+        Book[] result = new Book[matches.count];
+        pool.invoke(new Copy(matches, result, 0));
+        return result;
+    }
+
+    /**
+     * Splits the arrays so that every worker gets a few tasks to balance the load, but no
+     * task is smaller than the threshold.
+     */
+    private static int leafSize(Book[] books, ForkJoinPool pool) {
+        return Math.max(SEQUENTIAL_THRESHOLD, books.length / (pool.getParallelism() * TASKS_PER_THREAD));
+    }
+
+    /**
+     * Computes the result of a range of the array.
+     */
+    @FunctionalInterface
+    private interface RangeFunction<R> {
+        R apply(Book[] books, int from, int to);
+    }
+
+    /**
+     * Splits a range in halves until it is small enough, then combines the results of the
+     * halves left to right.
+     */
+    private static final class Reduce<R> extends RecursiveTask<R> {
+        private final Book[] books;
+        private final int from;
+        private final int to;
+        private final int leafSize;
+        private final RangeFunction<R> leaf;
+        private final BinaryOperator<R> combine;
+
+        private Reduce(Book[] books, int from, int to, int leafSize, RangeFunction<R> leaf, BinaryOperator<R> combine) {
+            this.books = books;
+            this.from = from;
+            this.to = to;
+            this.leafSize = leafSize;
+            this.leaf = leaf;
+            this.combine = combine;
+        }
+
+        @Override
+        protected R compute() {
+            if (to - from <= leafSize) {
+                return leaf.apply(books, from, to);
+            }
+            int mid = (from + to) >>> 1;
+            Reduce<R> left = new Reduce<>(books, from, mid, leafSize, leaf, combine);
+            left.fork();
+            R right = new Reduce<>(books, mid, to, leafSize, leaf, combine).compute();
+            return combine.apply(left.join(), right);
+        }
+    }
+
+    /**
+     * The matches of a range, either the buffer of one task or the two halves of a split.
+     */
+    private static final class Segment {
+        private final Book[] buffer;
+        private final Segment left;
+        private final Segment right;
+        private final int count;
+
+        private Segment(Book[] buffer, int count) {
+            this.buffer = buffer;
+            this.left = null;
+            this.right = null;
+            this.count = count;
+        }
+
+        private Segment(Segment left, Segment right) {
+            this.buffer = null;
+            this.left = left;
+            this.right = right;
+            this.count = left.count + right.count;
+        }
+    }
+
+    /**
+     * Copies the buffers of a segment into the result, starting at its offset.
+     */
+    private static final class Copy extends RecursiveAction {
+        private final Segment segment;
+        private final Book[] result;
+        private final int offset;
+
+        private Copy(Segment segment, Book[] result, int offset) {
+            this.segment = segment;
+            this.result = result;
+            this.offset = offset;
+        }
+
+        @Override
+        protected void compute() {
+            if (segment.buffer != null) {
+                System.arraycopy(segment.buffer, 0, result, offset, segment.count);
+                return;
+            }
+            invokeAll(new Copy(segment.left, result, offset),
+                    new Copy(segment.right, result, offset + segment.left.count));
+        }
+    }
+
+    /**
+     * Sorts a range of keys with their rows, radix sorting small ranges and merging halves.
+     */
+    private static final class Sort extends RecursiveAction {
+        private final Book[] books;
+        private final ToLongFunction<Book> key;
+        private final long[] keys;
+        private final int[] rows;
+        private final long[] keyBuffer;
+        private final int[] rowBuffer;
+        private final int from;
+        private final int to;
+        private final int leafSize;
+
+        private Sort(Book[] books, ToLongFunction<Book> key, long[] keys, int[] rows,
+                     long[] keyBuffer, int[] rowBuffer, int from, int to, int leafSize) {
+            this.books = books;
+            this.key = key;
+            this.keys = keys;
+            this.rows = rows;
+            this.keyBuffer = keyBuffer;
+            this.rowBuffer = rowBuffer;
+            this.from = from;
+            this.to = to;
+            this.leafSize = leafSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= leafSize) {
+                for (int i = from; i < to; i++) {
+                    keys[i] = key.applyAsLong(books[i]);
+                    rows[i] = i;
+                }
+                BookArrayUtils.radixSort(keys, rows, from, to, keyBuffer, rowBuffer);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new Sort(books, key, keys, rows, keyBuffer, rowBuffer, from, mid, leafSize),
+                    new Sort(books, key, keys, rows, keyBuffer, rowBuffer, mid, to, leafSize));
+
+            int left = from;
+            int right = mid;
+            for (int i = from; i < to; i++) {
+                if (right == to || (left < mid && keys[left] <= keys[right])) {
+                    keyBuffer[i] = keys[left];
+                    rowBuffer[i] = rows[left++];
+                } else {
+                    keyBuffer[i] = keys[right];
+                    rowBuffer[i] = rows[right++];
+                }
+            }
+            System.arraycopy(keyBuffer, from, keys, from, to - from);
+            System.arraycopy(rowBuffer, from, rows, from, to - from);
+        }
+    }
+
+    /**
+     * Moves every book to its sorted place, {@code sorted[i] = books[rows[i]]}.
+     */
+    private static final class Permute extends RecursiveAction {
+        private final Book[] books;
+        private final int[] rows;
+        private final Book[] sorted;
+        private final int from;
+        private final int to;
+        private final int leafSize;
+
+        private Permute(Book[] books, int[] rows, Book[] sorted, int from, int to, int leafSize) {
+            this.books = books;
+            this.rows = rows;
+            this.sorted = sorted;
+            this.from = from;
+            this.to = to;
+            this.leafSize = leafSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= leafSize) {
+                for (int i = from; i < to; i++) {
+                    sorted[i] = books[rows[i]];
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new Permute(books, rows, sorted, from, mid, leafSize),
+                    new Permute(books, rows, sorted, mid, to, leafSize));
+        }
+    }
+
+    /**
+     * The running total of the prices of a range.
+     */
+    private static final class PriceTotal {
+        private final CompensatedSum sum = new CompensatedSum();
+        private long count;
+    }
+}
@@ -0,0 +1,97 @@
+package com.university.bookstore.utils;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Utility class for building the normalized keys used by text searches.
+ * Titles, authors and queries are normalized the same way, so a query matches
+ * a book when the normalized query is found in the normalized text.
+ *
+ * <p>Normalization is the same in every locale and follows the way people type a
+ * query: the text is decomposed with Unicode NFKD, its accents and other combining
+ * marks are dropped, and it is case-folded, so "Gabriel García Márquez" is found by
+ * "garcia" and "Straße" by "STRASSE". Text that is already plain lower case ASCII is
+ * returned as is, and other ASCII text is only lower-cased.</p>
+ *
+ * <p>Keys are meant to be computed once per stored text, see {@code Book#getTitleKey()},
+ * and compared with {@link String#contains(CharSequence)}, which does not allocate.</p>
+ *
+ * <p>All methods are static; the class cannot be instantiated.</p>
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public final class SearchKeys {
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     *
+     * @throws UnsupportedOperationException always, since this class
+     *                                       should not be instantiated
+     */
+    private SearchKeys() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Normalizes text for searching: trims it, decomposes it with NFKD, strips the
+     * combining marks and folds its case.
+     *
+     * @param text the text to normalize (may be null)
+     * @return the normalized key, or an empty string if {@code text} is null
+     */
+    public static String normalize(String text) {
+        if (text == null) return "";
+        String trimmed = text.trim();
+
+        boolean ascii = true;
+        boolean lowerCase = true;
+        for (int i = 0; i < trimmed.length() && ascii; i++) {
+            char c = trimmed.charAt(i);
+            ascii = c < 0x80;
+            lowerCase &= c < 'A' || c > 'Z';
+        }
+        if (ascii) {
+            return lowerCase ? trimmed : trimmed.toLowerCase(Locale.ROOT);
+        }
+
+        String decomposed = Normalizer.normalize(trimmed, Normalizer.Form.NFKD);
+        StringBuilder stripped = new StringBuilder(decomposed.length());
+        for (int i = 0; i < decomposed.length(); ) {
+            int codePoint = decomposed.codePointAt(i);
+            i += Character.charCount(codePoint);
+            int type = Character.getType(codePoint);
+            if (type != Character.NON_SPACING_MARK && type != Character.COMBINING_SPACING_MARK
+                    && type != Character.ENCLOSING_MARK) {
+                stripped.appendCodePoint(codePoint);
+            }
+        }
+        return stripped.toString().toUpperCase(Locale.ROOT).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Splits a normalized key into its words, breaking on every character that is
+     * neither a letter nor a digit.
+     *
+     * @param key the normalized key (may be null)
+     * @return the words of the key in order, empty if there are none
+     */
+    public static List<String> tokens(String key) {
+        List<String> tokens = new ArrayList<>();
+        if (key == null) return tokens;
+        int start = -1;
+        for (int i = 0; i <= key.length(); i++) {
+            boolean word = i < key.length() && Character.isLetterOrDigit(key.charAt(i));
+            if (word && start < 0) {
+                start = i;
+            } else if (!word && start >= 0) {
+                tokens.add(key.substring(start, i));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,258 @@
+package com.university.bookstore.utils;
+
+import com.university.bookstore.model.Book;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.stream.Collector;
+
+/**
+ * Bounded-heap selection of the first {@code k} books in an order, without sorting the
+ * whole input.
+ *
+ * <p>The books are read once and the best {@code k} seen so far are kept in a heap whose
+ * root is the worst of them, so a new book costs one comparison when it does not make the
+ * cut and O(log k) when it does. Selecting from n books costs O(n log k) time and O(k)
+ * memory, against O(n log n) time and O(n) memory for sorting a copy.</p>
+ *
+ * <p>Ties follow the single-book queries of {@code BookstoreAPI}: among books of the same
+ * price, the most expensive ones list the latest read first, as getMostExpensive returns
+ * the last one, and every other order lists the earliest read first, as getMostRecent
+ * returns the first one. Null books are skipped, like in {@link BookArrayUtils}.</p>
+ *
+ * <p>The same selection is available as a {@link Collector}, for streams such as
+ * {@code Arrays.stream(books).collect(TopK.mostExpensive(50))}. It keeps the encounter
+ * order of ties on parallel streams too.</p>
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public final class TopK {
+
+    /**
+     * Highest price first.
+     */
+    public static final Comparator<Book> PRICE_DESCENDING = Comparator.comparingDouble(Book::getPrice).reversed();
+
+    /**
+     * Lowest price first.
+     */
+    public static final Comparator<Book> PRICE_ASCENDING = Comparator.comparingDouble(Book::getPrice);
+
+    /**
+     * Latest publication year first.
+     */
+    public static final Comparator<Book> YEAR_DESCENDING = Comparator.comparingInt(Book::getYear).reversed();
+
+    /**
+     * Alphabetical title order, as {@link Book#compareTo(Book)}.
+     */
+    public static final Comparator<Book> TITLE_ASCENDING = Comparator.naturalOrder();
+
+    private TopK() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Selects the most expensive books, the latest one first among equal prices.
+     *
+     * @param books the books to select from (may be null, null elements are skipped)
+     * @param k     the number of books to select
+     * @return up to {@code k} books, most expensive first
+     * @throws IllegalArgumentException if {@code k} is negative
+     */
+    public static List<Book> mostExpensive(Book[] books, int k) {
+        return select(books, PRICE_DESCENDING, true, k);
+    }
+
+    /**
+     * Selects the cheapest books, the earliest one first among equal prices.
+     *
+     * @param books the books to select from (may be null, null elements are skipped)
+     * @param k     the number of books to select
+     * @return up to {@code k} books, cheapest first
+     * @throws IllegalArgumentException if {@code k} is negative
+     */
+    public static List<Book> cheapest(Book[] books, int k) {
+        return select(books, PRICE_ASCENDING, false, k);
+    }
+
+    /**
+     * Selects the most recently published books, the earliest one first among equal years.
+     *
+     * @param books the books to select from (may be null, null elements are skipped)
+     * @param k     the number of books to select
+     * @return up to {@code k} books, newest first
+     * @throws IllegalArgumentException if {@code k} is negative
+     */
+    public static List<Book> mostRecent(Book[] books, int k) {
+        return select(books, YEAR_DESCENDING, false, k);
+    }
+
+    /**
+     * Selects the first books in title order, the earliest one first among equal titles.
+     *
+     * @param books the books to select from (may be null, null elements are skipped)
+     * @param k     the number of books to select
+     * @return up to {@code k} books, in title order
+     * @throws IllegalArgumentException if {@code k} is negative
+     */
+    public static List<Book> firstByTitle(Book[] books, int k) {
+        return select(books, TITLE_ASCENDING, false, k);
+    }
+
+    /**
+     * Selects the first books of an array in any order.
+     *
+     * @param books       the books to select from (may be null, null elements are skipped)
+     * @param order       the order to select by
+     * @param latestFirst whether ties list the book read last first
+     * @param k           the number of books to select
+     * @return up to {@code k} books, in {@code order}
+     * @throws IllegalArgumentException if the order is null or {@code k} is negative
+     */
+    public static List<Book> select(Book[] books, Comparator<? super Book> order, boolean latestFirst, int k) {
+        Heap heap = new Heap(order, latestFirst, k);
+        if (books != null) {
+            for (Book book : books) {
+                heap.offer(book);
+            }
+        }
+        return heap.toList();
+    }
+
+    /**
+     * Collects the {@code k} most expensive books of a stream.
+     *
+     * @param k the number of books to select
+     * @return a collector of up to {@code k} books, most expensive first
+     * @throws IllegalArgumentException if {@code k} is negative
+     */
+    public static Collector<Book, ?, List<Book>> mostExpensive(int k) {
+        return collector(PRICE_DESCENDING, true, k);
+    }
+
+    /**
+     * Collects the {@code k} cheapest books of a stream.
+     *
+     * @param k the number of books to select
+     * @return a collector of up to {@code k} books, cheapest first
+     * @throws IllegalArgumentException if {@code k} is negative
+     */
+    public static Collector<Book, ?, List<Book>> cheapest(int k) {
+        return collector(PRICE_ASCENDING, false, k);
+    }
+
+    /**
+     * Collects the {@code k} most recently published books of a stream.
+     *
+     * @param k the number of books to select
+     * @return a collector of up to {@code k} books, newest first
+     * @throws IllegalArgumentException if {@code k} is negative
+     */
+    public static Collector<Book, ?, List<Book>> mostRecent(int k) {
+        return collector(YEAR_DESCENDING, false, k);
+    }
+
+    /**
+     * Collects the first {@code k} books of a stream in title order.
+     *
+     * @param k the number of books to select
+     * @return a collector of up to {@code k} books, in title order
+     * @throws IllegalArgumentException if {@code k} is negative
+     */
+    public static Collector<Book, ?, List<Book>> firstByTitle(int k) {
+        return collector(TITLE_ASCENDING, false, k);
+    }
+
+    /**
+     * Collects the first {@code k} books of a stream in any order.
+     *
+     * @param order       the order to select by
+     * @param latestFirst whether ties list the book encountered last first
+     * @param k           the number of books to select
+     * @return a collector of up to {@code k} books, in {@code order}
+     * @throws IllegalArgumentException if the order is null or {@code k} is negative
+     */
+    public static Collector<Book, ?, List<Book>> collector(Comparator<? super Book> order, boolean latestFirst, int k) {
+        check(order, k);
+        return Collector.of(() -> new Heap(order, latestFirst, k), Heap::offer, Heap::merge, Heap::toList);
+    }
+
+    private static void check(Comparator<? super Book> order, int k) {
+        if (order == null) {
+            throw new IllegalArgumentException("Order cannot be null");
+        }
+        if (k < 0) {
+            throw new IllegalArgumentException("K cannot be negative");
+        }
+    }
+
+    /**
+     * A book with the position it was read at, which breaks ties.
+     */
+    private static final class Entry {
+        private final Book book;
+        private long sequence;
+
+        private Entry(Book book, long sequence) {
+            this.book = book;
+            this.sequence = sequence;
+        }
+    }
+
+    /**
+     * The best {@code k} books read so far, the worst of them at the root.
+     */
+    private static final class Heap {
+        private final Comparator<Entry> order;
+        private final PriorityQueue<Entry> entries;
+        private final int k;
+        private long read;
+
+        private Heap(Comparator<? super Book> order, boolean latestFirst, int k) {
+            check(order, k);
+            Comparator<Entry> ties = Comparator.comparingLong(e -> e.sequence);
+            this.order = Comparator.<Entry, Book>comparing(e -> e.book, order)
+                    .thenComparing(latestFirst ? ties.reversed() : ties);
+            this.entries = new PriorityQueue<>(Math.max(1, Math.min(k, 1024)), this.order.reversed());
+            this.k = k;
+        }
+
+        private void offer(Book book) {
+            if (book == null) {
+                return;
+            }
+            add(new Entry(book, read++));
+        }
+
+        private void add(Entry entry) {
+            if (entries.size() < k) {
+                entries.add(entry);
+            } else if (k > 0 && order.compare(entry, entries.peek()) < 0) {
+                entries.poll();
+                entries.add(entry);
+            }
+        }
+
+        private Heap merge(Heap later) {
+            for (Entry entry : later.entries) {
+                entry.sequence += read;
+                add(entry);
+            }
+            read += later.read;
+            return this;
+        }
+
+        private List<Book> toList() {
+            Book[] sorted = new Book[entries.size()];
+            for (int i = sorted.length - 1; i >= 0; i--) {
+                sorted[i] = entries.poll().book;
+            }
+            return new ArrayList<>(Arrays.asList(sorted));
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.university.bookstore.api;
+
+import com.university.bookstore.model.Book;
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class PageTest {
+
+    private static Stream<Book> books() {
+        return Stream.iterate(0L, i -> i + 1)
+                .map(i -> new Book(String.valueOf(9780000000000L + i), "Title " + i, "Author", i / 3, 2000));
+    }
+
+    @Test
+    @Order(1)
+    void testOffsetPageStopsEarly() {
+        Page page = Page.of(books(), 10, 5);
+
+        assertEquals(5, page.size());
+        assertTrue(page.hasMore());
+        assertEquals(10, page.offset());
+        assertEquals(15, page.nextOffset());
+        assertEquals("Title 14", page.last().getTitle());
+        assertThrows(UnsupportedOperationException.class, () -> page.items().add(page.last()));
+    }
+
+    @Test
+    @Order(2)
+    void testLastPage() {
+        Page page = Page.of(books().limit(12), 10, 5);
+
+        assertEquals(2, page.size());
+        assertFalse(page.hasMore());
+        assertTrue(Page.of(books().limit(3), 3, 5).isEmpty());
+        assertNull(Page.of(Stream.empty(), 0, 5).last());
+    }
+
+    @Test
+    @Order(3)
+    void testKeysetPageOfUnsortedStream() {
+        List<Book> shuffled = new ArrayList<>(books().limit(50).toList());
+        Collections.shuffle(shuffled, new Random(7));
+
+        List<Book> walked = new ArrayList<>();
+        Page page = Page.after(shuffled.stream(), Page.ISBN_ORDER, null, 7);
+        walked.addAll(page.items());
+        while (page.hasMore()) {
+            page = Page.after(shuffled.stream(), Page.ISBN_ORDER, page.last(), 7);
+            walked.addAll(page.items());
+        }
+
+        assertEquals(books().limit(50).toList(), walked);
+    }
+
+    @Test
+    @Order(4)
+    void testKeysetPageOfSortedStreamStopsEarly() {
+        Comparator<Book> byPrice = Comparator.comparingDouble(Book::getPrice);
+        Page first = Page.after(books(), Page.PRICE_ORDER, byPrice, null, 4);
+        Page second = Page.after(books(), Page.PRICE_ORDER, byPrice, first.last(), 4);
+
+        assertEquals(books().limit(4).toList(), first.items());
+        assertTrue(first.hasMore());
+        assertEquals(books().skip(4).limit(4).toList(), second.items());
+    }
+
+    @Test
+    @Order(5)
+    void testForEachStopsAtLimit() {
+        List<Book> seen = new ArrayList<>();
+
+        assertEquals(3, Page.forEach(books(), 3, seen::add));
+        assertEquals(books().limit(3).toList(), seen);
+        assertEquals(2, Page.forEach(books().limit(2), 10, seen::add));
+        assertEquals(0, Page.forEach(books(), 0, seen::add));
+    }
+
+    @Test
+    @Order(6)
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> Page.of(null, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> Page.of(books(), -1, 1));
+        assertThrows(IllegalArgumentException.class, () -> Page.of(books(), 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> Page.after(books(), null, null, 1));
+        assertThrows(IllegalArgumentException.class, () -> Page.after(books(), Page.ISBN_ORDER, null, 0));
+        assertThrows(IllegalArgumentException.class, () -> Page.forEach(books(), -1, book -> { }));
+    }
+}
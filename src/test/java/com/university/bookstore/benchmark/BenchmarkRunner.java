@@ -0,0 +1,29 @@
+package com.university.bookstore.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the JMH benchmarks with the GC profiler attached, so every report includes the
+ * allocation rate next to throughput and average time.
+ *
+ * <p>Accepts the usual JMH command line, for example a benchmark name pattern followed by
+ * {@code -p catalogSize=1000}. Started by {@code mvn -Pbenchmark test-compile exec:exec}.</p>
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
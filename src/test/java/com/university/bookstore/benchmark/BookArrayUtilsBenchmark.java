@@ -0,0 +1,202 @@
+package com.university.bookstore.benchmark;
+
+import com.university.bookstore.model.Book;
+import com.university.bookstore.utils.BookArrayUtils;
+import com.university.bookstore.utils.ParallelBookArrayUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks of every {@link BookArrayUtils} method.
+ *
+ * <p>The input is a generated catalog of {@code catalogSize} books, the same kind of
+ * array snapshotArray returns. The sorting benchmarks sort a fresh copy on every
+ * invocation, so their numbers include one array copy.</p>
+ *
+ * <p>The deduplication benchmarks run on their own {@code dedupSize} input, in which every
+ * book appears about twice, and mergeUnique merges it after splitting it into eight
+ * sorted feeds.</p>
+ *
+ * <p>The {@code parallel*} benchmarks run the {@link ParallelBookArrayUtils} versions in
+ * the common pool, compare them with their sequential counterparts to see how the scans
+ * scale with the number of cores.</p>
+ *
+ * <p>Run with {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args="BookArrayUtilsBenchmark"}.</p>
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BookArrayUtilsBenchmark {
+
+    /**
+     * Input of every method except removeDuplicates.
+     */
+    @State(Scope.Benchmark)
+    public static class CatalogState {
+
+        @Param({"1000", "100000", "1000000", "10000000"})
+        public int catalogSize;
+
+        private Book[] books;
+        private Book[] half;
+        private String author;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            CatalogGenerator generator = new CatalogGenerator(catalogSize, 42);
+            books = generator.books(catalogSize);
+            half = Arrays.copyOf(books, catalogSize / 2);
+            author = books[0].getAuthor();
+        }
+    }
+
+    /**
+     * Input of removeDuplicates, every book appears about twice.
+     */
+    @State(Scope.Benchmark)
+    public static class DedupState {
+
+        @Param({"1000", "100000", "1000000"})
+        public int dedupSize;
+
+        private Book[] withDuplicates;
+        private Book[][] sortedFeeds;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            withDuplicates = new Book[dedupSize];
+            Book[] source = new CatalogGenerator(dedupSize, 43).books(dedupSize / 2 + 1);
+            for (int i = 0; i < dedupSize; i++) {
+                withDuplicates[i] = source[i % source.length];
+            }
+            sortedFeeds = new Book[8][];
+            for (int f = 0; f < sortedFeeds.length; f++) {
+                sortedFeeds[f] = BookArrayUtils.removeDuplicatesSorted(
+                        Arrays.copyOfRange(withDuplicates, f * dedupSize / 8, (f + 1) * dedupSize / 8));
+            }
+        }
+    }
+
+    @Benchmark
+    public int countBeforeYear(CatalogState c) {
+        return BookArrayUtils.countBeforeYear(c.books, 2000);
+    }
+
+    @Benchmark
+    public int countByAuthor(CatalogState c) {
+        return BookArrayUtils.countByAuthor(c.books, c.author);
+    }
+
+    @Benchmark
+    public Book[] filterPriceAtMost(CatalogState c) {
+        return BookArrayUtils.filterPriceAtMost(c.books, 50.0);
+    }
+
+    @Benchmark
+    public Book[] filterByDecade(CatalogState c) {
+        return BookArrayUtils.filterByDecade(c.books, 1990);
+    }
+
+    @Benchmark
+    public Book[] sortByPrice(CatalogState c) {
+        Book[] copy = c.books.clone();
+        BookArrayUtils.sortByPrice(copy);
+        return copy;
+    }
+
+    @Benchmark
+    public Book[] sortByYear(CatalogState c) {
+        Book[] copy = c.books.clone();
+        BookArrayUtils.sortByYear(copy);
+        return copy;
+    }
+
+    @Benchmark
+    public double averagePrice(CatalogState c) {
+        return BookArrayUtils.averagePrice(c.books);
+    }
+
+    @Benchmark
+    public Book findOldest(CatalogState c) {
+        return BookArrayUtils.findOldest(c.books);
+    }
+
+    @Benchmark
+    public Book[] merge(CatalogState c) {
+        return BookArrayUtils.merge(c.half, c.books);
+    }
+
+    @Benchmark
+    public Book[] removeDuplicates(DedupState state) {
+        return BookArrayUtils.removeDuplicates(state.withDuplicates);
+    }
+
+    @Benchmark
+    public Book[] removeDuplicatesSorted(DedupState state) {
+        return BookArrayUtils.removeDuplicatesSorted(state.withDuplicates);
+    }
+
+    @Benchmark
+    public Book[] mergeUnique(DedupState state) {
+        return BookArrayUtils.mergeUnique(state.sortedFeeds);
+    }
+
+    @Benchmark
+    public Book[] parallelSortByPrice(CatalogState c) {
+        Book[] copy = c.books.clone();
+        ParallelBookArrayUtils.sortByPrice(copy);
+        return copy;
+    }
+
+    @Benchmark
+    public Book[] parallelSortByYear(CatalogState c) {
+        Book[] copy = c.books.clone();
+        ParallelBookArrayUtils.sortByYear(copy);
+        return copy;
+    }
+
+    @Benchmark
+    public int parallelCountBeforeYear(CatalogState c) {
+        return ParallelBookArrayUtils.countBeforeYear(c.books, 2000);
+    }
+
+    @Benchmark
+    public int parallelCountByAuthor(CatalogState c) {
+        return ParallelBookArrayUtils.countByAuthor(c.books, c.author);
+    }
+
+    @Benchmark
+    public Book[] parallelFilterPriceAtMost(CatalogState c) {
+        return ParallelBookArrayUtils.filterPriceAtMost(c.books, 50.0);
+    }
+
+    @Benchmark
+    public Book[] parallelFilterByDecade(CatalogState c) {
+        return ParallelBookArrayUtils.filterByDecade(c.books, 1990);
+    }
+
+    @Benchmark
+    public double parallelAveragePrice(CatalogState c) {
+        return ParallelBookArrayUtils.averagePrice(c.books);
+    }
+
+    @Benchmark
+    public Book parallelFindOldest(CatalogState c) {
+        return ParallelBookArrayUtils.findOldest(c.books);
+    }
+}
@@ -0,0 +1,202 @@
+package com.university.bookstore.benchmark;
+
+import com.university.bookstore.api.BookSnapshot;
+import com.university.bookstore.api.BookstoreAPI;
+import com.university.bookstore.api.BulkAddResult;
+import com.university.bookstore.impl.BookstoreArrayList;
+import com.university.bookstore.impl.BookstoreColumnar;
+import com.university.bookstore.impl.BookstoreConcurrentHashMap;
+import com.university.bookstore.impl.BookstoreCopyOnWrite;
+import com.university.bookstore.impl.BookstoreHashMap;
+import com.university.bookstore.impl.BookstoreOffHeap;
+import com.university.bookstore.model.Book;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks of every {@link BookstoreAPI} operation against every implementation.
+ *
+ * <p>Each trial loads a generated catalog of {@code catalogSize} books into the
+ * implementation under test, then cycles through a fixed set of probes. A share of
+ * {@code hitRatio} of the ISBN, title and author probes match a book in the catalog and
+ * the rest miss, so both the found and not-found paths are measured.</p>
+ *
+ * <p>Run with {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args="BookstoreBenchmark"},
+ * any JMH option can be added to {@code jmh.args}, for example
+ * {@code -p implementation=HashMap -p catalogSize=1000000 -jvmArgs -Xmx8g}.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BookstoreBenchmark {
+
+    private static final int PROBES = 1024;
+
+    @Param({"ArrayList", "HashMap", "ConcurrentHashMap", "CopyOnWrite", "Columnar", "OffHeap"})
+    public String implementation;
+
+    @Param({"1000", "100000", "1000000", "10000000"})
+    public int catalogSize;
+
+    @Param({"0.9", "0.1"})
+    public double hitRatio;
+
+    private BookstoreAPI store;
+    private Book[] books;
+    private String[] isbnProbes;
+    private String[] titleProbes;
+    private String[] authorProbes;
+    private double[] priceProbes;
+    private int[] yearProbes;
+    private Book[] extraBooks;
+    private int cursor;
+
+    /**
+     * Creates an empty store of the named implementation.
+     *
+     * @param implementation the short name of the implementation
+     * @return a new, empty store
+     */
+    static BookstoreAPI create(String implementation) {
+        switch (implementation) {
+            case "ArrayList": return new BookstoreArrayList();
+            case "HashMap": return new BookstoreHashMap();
+            case "ConcurrentHashMap": return new BookstoreConcurrentHashMap();
+            case "CopyOnWrite": return new BookstoreCopyOnWrite();
+            case "Columnar": return new BookstoreColumnar();
+            case "OffHeap": return new BookstoreOffHeap();
+            default: throw new IllegalArgumentException("Unknown implementation: " + implementation);
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        CatalogGenerator generator = new CatalogGenerator(catalogSize, 42);
+        books = generator.books(catalogSize);
+        store = create(implementation);
+        store.addAll(books);
+
+        Random random = new Random(7);
+        isbnProbes = new String[PROBES];
+        titleProbes = new String[PROBES];
+        authorProbes = new String[PROBES];
+        priceProbes = new double[PROBES];
+        yearProbes = new int[PROBES];
+        extraBooks = new Book[PROBES];
+        for (int i = 0; i < PROBES; i++) {
+            boolean hit = random.nextDouble() < hitRatio;
+            isbnProbes[i] = hit
+                    ? books[random.nextInt(books.length)].getIsbn()
+                    : CatalogGenerator.isbn(catalogSize + PROBES + i);
+            titleProbes[i] = hit ? generator.word() : "zq" + generator.word();
+            authorProbes[i] = hit ? generator.author() : "Nobody " + i;
+            priceProbes[i] = 1 + random.nextInt(190);
+            yearProbes[i] = hit ? 1950 + random.nextInt(76) : 1460 + random.nextInt(20);
+            extraBooks[i] = generator.book(catalogSize + i);
+        }
+    }
+
+    private int next() {
+        cursor = (cursor + 1) & (PROBES - 1);
+        return cursor;
+    }
+
+    /**
+     * Adds a book that is not in the catalog, then removes it again so the catalog
+     * keeps its size between invocations.
+     */
+    @Benchmark
+    public boolean addAndRemove() {
+        Book book = extraBooks[next()];
+        store.add(book);
+        return store.removeByIsbn(book.getIsbn());
+    }
+
+    /**
+     * Loads the whole catalog into a new, empty store with a single bulk add.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public BulkAddResult addAll() {
+        return create(implementation).addAll(books);
+    }
+
+    @Benchmark
+    public Book findByIsbn() {
+        return store.findByIsbn(isbnProbes[next()]);
+    }
+
+    @Benchmark
+    public List<Book> findByTitle() {
+        return store.findByTitle(titleProbes[next()]);
+    }
+
+    @Benchmark
+    public List<Book> findByAuthor() {
+        return store.findByAuthor(authorProbes[next()]);
+    }
+
+    @Benchmark
+    public List<Book> findByPriceRange() {
+        double min = priceProbes[next()];
+        return store.findByPriceRange(min, min + 2);
+    }
+
+    @Benchmark
+    public List<Book> findByYear() {
+        return store.findByYear(yearProbes[next()]);
+    }
+
+    @Benchmark
+    public int size() {
+        return store.size();
+    }
+
+    @Benchmark
+    public double inventoryValue() {
+        return store.inventoryValue();
+    }
+
+    @Benchmark
+    public Book getMostExpensive() {
+        return store.getMostExpensive();
+    }
+
+    @Benchmark
+    public Book getMostRecent() {
+        return store.getMostRecent();
+    }
+
+    @Benchmark
+    public Book[] snapshotArray() {
+        return store.snapshotArray();
+    }
+
+    @Benchmark
+    public List<Book> getAllBooks() {
+        return store.getAllBooks();
+    }
+
+    @Benchmark
+    public BookSnapshot snapshot() {
+        return store.snapshot();
+    }
+}
@@ -0,0 +1,151 @@
+package com.university.bookstore.benchmark;
+
+import com.university.bookstore.model.Book;
+
+import java.util.Random;
+
+/**
+ * Generates deterministic, realistic looking catalogs for the benchmarks.
+ *
+ * <p>Titles are built from a vocabulary whose words follow a Zipf distribution, so a
+ * few words such as "the" appear in many titles and most words are rare, like in a
+ * real catalog. Authors are drawn the same way from a pool about twenty times smaller
+ * than the catalog, so popular authors have many titles. Prices are spread between
+ * 1 and 200 and years between 1900 and 2025, with recent years more common.</p>
+ */
+final class CatalogGenerator {
+
+    private static final String[] WORDS = {
+            "the", "of", "and", "a", "in", "to", "war", "love", "night", "house", "city", "king",
+            "secret", "life", "world", "dark", "last", "girl", "man", "time", "story", "river",
+            "shadow", "history", "garden", "stone", "fire", "winter", "summer", "empire", "road",
+            "island", "ocean", "mountain", "kingdom", "dream", "memory", "journey", "silence",
+            "storm", "light", "blood", "crown", "wolf", "sea", "sky", "star", "book", "letters",
+            "daughter", "son", "mother", "father", "game", "hunger", "ring", "lord", "amulet"
+    };
+
+    private static final String[] FIRST_NAMES = {
+            "Jane", "John", "Mary", "Ray", "Samantha", "Gabriel", "Agatha", "Stephen", "Toni",
+            "Haruki", "Isabel", "Ursula", "Neil", "Margaret", "George", "Octavia", "Kazuo", "Chinua"
+    };
+
+    private static final String[] LAST_NAMES = {
+            "Smith", "Doe", "Bradbury", "Garcia", "Christie", "King", "Morrison", "Murakami",
+            "Allende", "Le Guin", "Gaiman", "Atwood", "Orwell", "Butler", "Ishiguro", "Achebe"
+    };
+
+    private final Random random;
+    private final double[] wordWeights;
+    private final String[] authors;
+    private final double[] authorWeights;
+
+    /**
+     * Creates a generator for a catalog of the given size.
+     *
+     * @param catalogSize the number of books the catalog will hold
+     * @param seed        the random seed, the same seed yields the same catalog
+     */
+    CatalogGenerator(int catalogSize, long seed) {
+        this.random = new Random(seed);
+        this.wordWeights = zipf(WORDS.length);
+        int authorCount = Math.max(1, catalogSize / 20);
+        this.authors = new String[authorCount];
+        for (int i = 0; i < authorCount; i++) {
+            authors[i] = FIRST_NAMES[i % FIRST_NAMES.length] + " "
+                    + LAST_NAMES[(i / FIRST_NAMES.length) % LAST_NAMES.length]
+                    + (i >= FIRST_NAMES.length * LAST_NAMES.length ? " " + i : "");
+        }
+        this.authorWeights = zipf(authorCount);
+    }
+
+    /**
+     * Creates the ISBN of the book at the given position, ISBNs never repeat.
+     *
+     * @param index the position of the book
+     * @return a 13 digit ISBN
+     */
+    static String isbn(long index) {
+        return String.valueOf(9780000000000L + index);
+    }
+
+    /**
+     * Generates a catalog of books with unique ISBNs.
+     *
+     * @param count the number of books
+     * @return the generated books
+     */
+    Book[] books(int count) {
+        Book[] books = new Book[count];
+        for (int i = 0; i < count; i++) {
+            books[i] = book(i);
+        }
+        return books;
+    }
+
+    /**
+     * Generates the book at the given position.
+     *
+     * @param index the position, used to build the ISBN
+     * @return a new book
+     */
+    Book book(long index) {
+        int words = 1 + random.nextInt(4);
+        StringBuilder title = new StringBuilder();
+        for (int w = 0; w < words; w++) {
+            if (w > 0) title.append(' ');
+            title.append(word());
+        }
+        double price = Math.round((1 + random.nextDouble() * 199) * 100) / 100.0;
+        int year = 2025 - (int) Math.min(125, Math.abs(random.nextGaussian() * 30));
+        return new Book(isbn(index), title.toString(), author(), price, year);
+    }
+
+    /**
+     * Picks a word using the Zipf weights of the vocabulary.
+     *
+     * @return a vocabulary word
+     */
+    String word() {
+        return WORDS[pick(wordWeights)];
+    }
+
+    /**
+     * Picks an author using the Zipf weights of the author pool.
+     *
+     * @return an author name
+     */
+    String author() {
+        return authors[pick(authorWeights)];
+    }
+
+    /**
+     * Builds the cumulative weights of a Zipf distribution with exponent 1.
+     */
+    private static double[] zipf(int n) {
+        double[] cumulative = new double[n];
+        double total = 0;
+        for (int i = 0; i < n; i++) {
+            total += 1.0 / (i + 1);
+            cumulative[i] = total;
+        }
+        for (int i = 0; i < n; i++) {
+            cumulative[i] /= total;
+        }
+        return cumulative;
+    }
+
+    private int pick(double[] cumulative) {
+        double r = random.nextDouble();
+        int low = 0;
+        int high = cumulative.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cumulative[mid] < r) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,68 @@
+package com.university.bookstore.benchmark;
+
+import com.university.bookstore.api.BookstoreAPI;
+import com.university.bookstore.model.Book;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of a mixed read and write workload shared by many threads, to see how the
+ * thread-safe implementations scale.
+ *
+ * <p>Every operation picks a book of a shared pool at random and looks it up (60%), adds
+ * it (20%) or removes it (20%), so the store stays about half full and writers contend
+ * with readers on the same keys.</p>
+ *
+ * <p>Run with {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args="ConcurrentWorkloadBenchmark -t 1"}
+ * and again with {@code -t 2}, {@code -t 4} and so on, and compare the throughput.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConcurrentWorkloadBenchmark {
+
+    @Param({"ConcurrentHashMap", "CopyOnWrite"})
+    public String implementation;
+
+    @Param({"2000", "100000"})
+    public int poolSize;
+
+    private BookstoreAPI store;
+    private Book[] pool;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        pool = new CatalogGenerator(poolSize, 42).books(poolSize);
+        store = BookstoreBenchmark.create(implementation);
+    }
+
+    @Benchmark
+    public Object mixed() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Book book = pool[random.nextInt(pool.length)];
+        int op = random.nextInt(10);
+        if (op < 6) {
+            return store.findByIsbn(book.getIsbn());
+        } else if (op < 8) {
+            return store.add(book);
+        } else {
+            return store.removeByIsbn(book.getIsbn());
+        }
+    }
+}
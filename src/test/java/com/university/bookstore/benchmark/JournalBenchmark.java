@@ -0,0 +1,109 @@
+package com.university.bookstore.benchmark;
+
+import com.university.bookstore.impl.BookstoreHashMap;
+import com.university.bookstore.impl.BookstoreJournaled;
+import com.university.bookstore.model.Book;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * JMH benchmark of durable adds through {@link BookstoreJournaled} for different group
+ * commit windows.
+ *
+ * <p>Sixteen threads add new books concurrently, and every add returns only once its
+ * journal record is on disk. A window of 0 still shares an fsync between the writers that
+ * arrive while one is running, longer windows make the flushing thread wait to gather
+ * more writers per fsync. Every iteration also reports its number of {@code adds} and
+ * {@code syncs} as secondary results, so adds per fsync is one divided by the other.</p>
+ *
+ * <p>Run with {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args="JournalBenchmark"},
+ * add {@code -t 1} to {@code jmh.args} to see the cost of one fsync per operation.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(16)
+@Fork(1)
+public class JournalBenchmark {
+
+    @Param({"0", "100", "1000", "5000"})
+    public long commitWindowMicros;
+
+    private Path directory;
+    private BookstoreJournaled store;
+    private final AtomicLong next = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("journal-benchmark");
+        store = new BookstoreJournaled(new BookstoreHashMap(), directory,
+                TimeUnit.MICROSECONDS.toNanos(commitWindowMicros));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        store.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    /**
+     * Counts the adds of each thread and the fsyncs of the iteration. JMH sums the counters
+     * of all threads, so only the first thread reports the fsyncs.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Counters {
+        public long adds;
+        public long syncs;
+
+        private boolean reportsSyncs;
+        private long syncsBefore;
+
+        @Setup(Level.Iteration)
+        public void reset(JournalBenchmark benchmark, ThreadParams threads) {
+            adds = 0;
+            syncs = 0;
+            reportsSyncs = threads.getThreadIndex() == 0;
+            syncsBefore = benchmark.store.syncCount();
+        }
+    }
+
+    @Benchmark
+    public boolean durableAdd(Counters counters) {
+        long i = next.getAndIncrement();
+        boolean added = store.add(new Book(CatalogGenerator.isbn(i), "Title " + i, "Author", 9.99, 2020));
+        counters.adds++;
+        if (counters.reportsSyncs) {
+            counters.syncs = store.syncCount() - counters.syncsBefore;
+        }
+        return added;
+    }
+}
@@ -1,8 +1,17 @@
 package com.university.bookstore.impl;
+import com.university.bookstore.api.BookstoreAPI;
+import com.university.bookstore.api.BulkAddResult;
+import com.university.bookstore.api.Page;
 import com.university.bookstore.model.Book;
+import com.university.bookstore.utils.BookStatistics;
 import org.junit.jupiter.api.*;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -11,19 +20,27 @@ import static org.junit.jupiter.api.Assertions.*;
 @DisplayName("BookstoreArrayList Tests")
 class BookstoreArrayListTest {
 
-    private BookstoreArrayList bookstore;
-    private Book book1;
-    private Book book2;
-    private Book book3;
-    private Book book4;
-    private Book book5;
-    private Book book6;
-    private Book duplicate;
+    protected BookstoreAPI bookstore;
+    protected Book book1;
+    protected Book book2;
+    protected Book book3;
+    protected Book book4;
+    protected Book book5;
+    protected Book book6;
+    protected Book duplicate;
+
+    /**
+     * Creates the bookstore under test, other implementations override this
+     * so they are checked against the same contract
+     */
+    protected BookstoreAPI createBookstore() {
+        return new BookstoreArrayList();
+    }
 
 
     @BeforeEach
     void setUp() {
-        bookstore = new BookstoreArrayList();
+        bookstore = createBookstore();
         book1 = new Book("9374859192843", "My book", "John Doe", 29.99, 2012);
         book2 = new Book("9375827462849", "Fahrenheit 451", "Ray Bradbury", 9.99, 2014);
         book3 = new Book("9576818375934", "Hunger Games", "Jane Smith", 10.99, 2015);
@@ -37,7 +54,7 @@ class BookstoreArrayListTest {
     @Order(1)
     @DisplayName("Create an empty bookstore")
     void testCreateEmptyBookstore() {
-        bookstore = new BookstoreArrayList();
+        bookstore = createBookstore();
         assertEquals(0, bookstore.size());
         assertEquals(0.0, bookstore.inventoryValue());
         assertNull(bookstore.getMostExpensive());
@@ -169,6 +186,11 @@ class BookstoreArrayListTest {
         assertEquals(2, smithLastNameBooks.size());
         assertTrue(smithLastNameBooks.contains(book3));
         assertTrue(smithLastNameBooks.contains(book4));
+
+        // partial names match anywhere in the name, not only at the start of a word
+        assertEquals(List.of(book3, book4), bookstore.findByAuthor("mith"));
+        assertEquals(List.of(book3, book4), bookstore.streamByAuthor("MITH").collect(Collectors.toList()));
+        assertEquals(List.of(book3), bookstore.findByAuthor("ne Sm"));
     }
 
     @Test
@@ -340,5 +362,271 @@ class BookstoreArrayListTest {
         List<Book> list2 = bookstore.getAllBooks();
         assertEquals(3, list2.size());
     }
-}
 
+    @Test
+    @Order(30)
+    @DisplayName("Bulk add deduplicates against the inventory and within the batch")
+    void testAddAll() {
+        bookstore.add(book1);
+
+        BulkAddResult result = bookstore.addAll(new Book[]{book2, duplicate, null, book3, book2, book4});
+
+        assertEquals(6, result.size());
+        assertEquals(3, result.acceptedCount());
+        assertEquals(3, result.rejectedCount());
+        assertArrayEquals(new int[]{1, 2, 4}, result.rejectedIndexes());
+        assertTrue(result.isAccepted(0));
+        assertFalse(result.isAccepted(1));
+        assertEquals(List.of(book1, book2, book3, book4), bookstore.getAllBooks());
+        assertEquals(book4, bookstore.findByIsbn(book4.getIsbn()));
+        assertEquals(List.of(book3), bookstore.findByTitle("hunger"));
+        assertEquals(29.99 + 9.99 + 10.99 + 12.99, bookstore.inventoryValue(), 0.001);
+        assertEquals(book1, bookstore.getMostExpensive());
+        assertEquals(book3, bookstore.getMostRecent());
+    }
+
+    @Test
+    @Order(31)
+    @DisplayName("Bulk add accepts collections and streams")
+    void testAddAllCollectionAndStream() {
+        assertEquals(2, bookstore.addAll(List.of(book1, book2)).acceptedCount());
+        assertEquals(1, bookstore.addAll(Stream.of(book2, book5)).acceptedCount());
+        assertEquals(0, bookstore.addAll(new ArrayList<Book>()).size());
+        assertEquals(List.of(book1, book2, book5), bookstore.getAllBooks());
+        assertThrows(IllegalArgumentException.class, () -> bookstore.addAll((Book[]) null));
+    }
+
+    @Test
+    @Order(32)
+    @DisplayName("Bulk add of a large batch matches adding one at a time")
+    void testAddAllLargeBatch() {
+        Book[] batch = new Book[20000];
+        for (int i = 0; i < batch.length; i++) {
+            batch[i] = new Book(String.valueOf(9780000000000L + i % 15000), "Title " + i, "Author " + i % 97,
+                    1 + i % 200, 1950 + i % 70);
+        }
+
+        BulkAddResult result = bookstore.addAll(batch);
+
+        assertEquals(15000, result.acceptedCount());
+        assertEquals(15000, bookstore.size());
+        assertFalse(result.isAccepted(15000));
+        assertEquals(batch[14999], bookstore.findByIsbn(batch[14999].getIsbn()));
+        assertEquals("Title 14999", bookstore.getAllBooks().get(14999).getTitle());
+        assertEquals(bookstore.size(), bookstore.findByPriceRange(0, 1000).size());
+    }
+
+    @Test
+    @Order(33)
+    @DisplayName("Streaming queries return the same books as the list queries")
+    void testStreamQueries() {
+        bookstore.addAll(new Book[]{book1, book2, book3, book4, book5, book6});
+
+        assertEquals(bookstore.getAllBooks(), bookstore.stream().collect(Collectors.toList()));
+        assertEquals(bookstore.findByTitle("hunger"), bookstore.streamByTitle(" HUNGER ").collect(Collectors.toList()));
+        assertEquals(bookstore.findByAuthor("doe"), bookstore.streamByAuthor("doe").collect(Collectors.toList()));
+        assertEquals(bookstore.findByPriceRange(10, 13), bookstore.streamByPriceRange(10, 13).collect(Collectors.toList()));
+        assertEquals(bookstore.findByYear(2015), bookstore.streamByYear(2015).collect(Collectors.toList()));
+        assertEquals(book3, bookstore.streamByYear(2015).findFirst().orElse(null));
+
+        assertEquals(0, bookstore.streamByTitle(null).count());
+        assertEquals(0, bookstore.streamByAuthor("  ").count());
+        assertEquals(0, bookstore.streamByYear(2030).count());
+        assertThrows(IllegalArgumentException.class, () -> bookstore.streamByPriceRange(20, 10));
+        assertThrows(IllegalArgumentException.class, () -> bookstore.streamByPriceRange(-1, 10));
+    }
+
+    @Test
+    @Order(34)
+    @DisplayName("Offset pages split the results without gaps or repeats")
+    void testOffsetPages() {
+        bookstore.addAll(new Book[]{book1, book2, book3, book4, book5, book6});
+
+        Page first = bookstore.pageByPriceRange(0, 100, 0, 4);
+        Page second = bookstore.pageByPriceRange(0, 100, first.nextOffset(), 4);
+        List<Book> all = new ArrayList<>(first.items());
+        all.addAll(second.items());
+
+        assertEquals(4, first.size());
+        assertTrue(first.hasMore());
+        assertEquals(2, second.size());
+        assertFalse(second.hasMore());
+        assertEquals(bookstore.findByPriceRange(0, 100), all);
+        assertEquals(bookstore.findByAuthor("doe").subList(1, 3), bookstore.pageByAuthor("doe", 1, 5).items());
+        assertEquals(List.of(book3), bookstore.pageByTitle("hunger", 0, 1).items());
+        assertTrue(bookstore.pageByYear(2015, 2, 10).isEmpty());
+        assertTrue(bookstore.pageByTitle(null, 0, 10).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> bookstore.pageByYear(2015, -1, 10));
+        assertThrows(IllegalArgumentException.class, () -> bookstore.pageByYear(2015, 0, 0));
+    }
+
+    @Test
+    @Order(35)
+    @DisplayName("Keyset pages walk the results in order and survive removals")
+    void testKeysetPages() {
+        bookstore.addAll(new Book[]{book1, book2, book3, book4, book5, book6});
+        List<Book> expected = bookstore.findByPriceRange(5, 50);
+        expected.sort(Page.PRICE_ORDER);
+
+        List<Book> walked = new ArrayList<>();
+        Page page = bookstore.pageByPriceRange(5, 50, (Book) null, 2);
+        walked.addAll(page.items());
+        bookstore.removeByIsbn(page.last().getIsbn());
+        while (page.hasMore()) {
+            page = bookstore.pageByPriceRange(5, 50, page.last(), 2);
+            walked.addAll(page.items());
+        }
+        assertEquals(expected, walked);
+
+        List<Book> byTitle = bookstore.pageByTitle("a", (Book) null, 10).items();
+        List<Book> sorted = new ArrayList<>(bookstore.findByTitle("a"));
+        sorted.sort(Page.TITLE_ORDER);
+        assertEquals(sorted, byTitle);
+        assertEquals(List.of(book3, book6).stream().sorted(Comparator.comparing(Book::getIsbn)).collect(Collectors.toList()),
+                bookstore.pageByYear(2015, (Book) null, 5).items());
+        assertEquals(List.of(book6, book1), bookstore.pageByAuthor("doe", book5, 5).items());
+    }
+
+    @Test
+    @Order(36)
+    @DisplayName("Pages of a large inventory only read as far as they need")
+    void testPagesOfLargeInventory() {
+        Book[] batch = new Book[20000];
+        for (int i = 0; i < batch.length; i++) {
+            batch[i] = new Book(String.valueOf(9780000000000L + i), "Title " + i, "Author " + i % 97,
+                    1 + i % 200, 1950 + i % 70);
+        }
+        bookstore.addAll(batch);
+
+        Page page = bookstore.pageByTitle("title", 19990, 20);
+        assertEquals(10, page.size());
+        assertFalse(page.hasMore());
+        assertEquals(batch[19999], page.last());
+
+        List<Book> firstTen = new ArrayList<>();
+        assertEquals(10, Page.forEach(bookstore.streamByAuthor("author 1"), 10, firstTen::add));
+        assertEquals(bookstore.findByAuthor("author 1").subList(0, 10), firstTen);
+
+        Page cheapest = bookstore.pageByPriceRange(1, 200, (Book) null, 3);
+        assertEquals(List.of(batch[0], batch[200], batch[400]), cheapest.items());
+        assertTrue(cheapest.hasMore());
+    }
+
+    @Test
+    @Order(37)
+    @DisplayName("Top-k queries order ties like the single-book queries")
+    void testTopK() {
+        assertEquals(List.of(), bookstore.getMostExpensive(3));
+        bookstore.addAll(new Book[]{book1, book2, book3, book4, book5, book6});
+
+        assertEquals(List.of(book6, book1, book4), bookstore.getMostExpensive(3));
+        assertEquals(List.of(book2, book3, book5), bookstore.getCheapest(3));
+        assertEquals(List.of(book3, book6, book2), bookstore.getMostRecent(3));
+        assertEquals(List.of(book4, book5, book2, book3, book6, book1), bookstore.getFirstByTitle(10));
+        assertEquals(List.of(), bookstore.getCheapest(0));
+        assertThrows(IllegalArgumentException.class, () -> bookstore.getMostRecent(-1));
+
+        Book sameAsBook6 = new Book("9111111111111", "Another", "Someone", 45.99, 2015);
+        bookstore.add(sameAsBook6);
+        assertEquals(bookstore.getMostExpensive(), bookstore.getMostExpensive(1).get(0));
+        assertEquals(bookstore.getMostRecent(), bookstore.getMostRecent(1).get(0));
+        assertEquals(List.of(sameAsBook6, book6), bookstore.getMostExpensive(2));
+        assertEquals(List.of(book3, book6, sameAsBook6), bookstore.getMostRecent(3));
+    }
+
+    @Test
+    @Order(38)
+    @DisplayName("Top-k queries of a large inventory match a full sort")
+    void testTopKOfLargeInventory() {
+        List<Book> books = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            books.add(new Book(String.valueOf(9780000000000L + i), "Title " + (i * 7919) % 5000, "Author " + i % 97,
+                    1 + (i * 31) % 300, 1950 + (i * 13) % 70));
+        }
+        bookstore.addAll(books.toArray(new Book[0]));
+        for (int i = 0; i < books.size(); i += 3) {
+            bookstore.removeByIsbn(books.get(i).getIsbn());
+        }
+        books.removeIf(book -> bookstore.findByIsbn(book.getIsbn()) == null);
+
+        List<Book> latestFirst = new ArrayList<>(books);
+        Collections.reverse(latestFirst);
+        assertEquals(sorted(latestFirst, Comparator.comparingDouble(Book::getPrice).reversed(), 25),
+                bookstore.getMostExpensive(25));
+        assertEquals(sorted(books, Comparator.comparingDouble(Book::getPrice), 25), bookstore.getCheapest(25));
+        assertEquals(sorted(books, Comparator.comparingInt(Book::getYear).reversed(), 25), bookstore.getMostRecent(25));
+        assertEquals(sorted(books, Comparator.naturalOrder(), 25), bookstore.getFirstByTitle(25));
+        assertEquals(books.size(), bookstore.getCheapest(books.size() + 10).size());
+    }
+
+    @Test
+    @Order(39)
+    @DisplayName("Statistics agree with the aggregate queries")
+    void testStatistics() {
+        assertEquals(0, bookstore.statistics().getCount());
+        bookstore.addAll(new Book[]{book1, book2, book3, book4, book5, book6});
+        bookstore.removeByIsbn(book2.getIsbn());
+
+        BookStatistics statistics = bookstore.statistics();
+        assertEquals(bookstore.size(), statistics.getCount());
+        assertEquals(bookstore.inventoryValue(), statistics.getPriceSum(), 1e-9);
+        assertEquals(bookstore.getMostExpensive(), statistics.getMostExpensive());
+        assertEquals(bookstore.getMostRecent(), statistics.getMostRecent());
+        assertEquals(book4, statistics.getOldest());
+        assertEquals(10.99, statistics.getMinPrice());
+        assertEquals(2, statistics.countInDecade(2000));
+        assertEquals(3, statistics.countInDecade(2010));
+    }
+
+    @Test
+    @Order(40)
+    @DisplayName("Text queries ignore accents, case and compatibility forms")
+    void testAccentAndCaseFolding() {
+        Book novel = new Book("9780060883287", "Cien Años de Soledad", "Gabriel García Márquez", 17.99, 1967);
+        Book guide = new Book("9783161484100", "Die Straße der ﬁsche", "Jürgen Müller", 12.5, 2001);
+        bookstore.addAll(new Book[]{book1, novel, guide});
+
+        assertEquals(List.of(novel), bookstore.findByAuthor("garcia"));
+        assertEquals(List.of(novel), bookstore.findByAuthor("GARCÍA márquez"));
+        assertEquals(List.of(novel), bookstore.findByTitle("anos"));
+        assertEquals(List.of(novel), bookstore.findByTitle("AÑOS"));
+        assertEquals(List.of(guide), bookstore.findByTitle("strasse"));
+        assertEquals(List.of(guide), bookstore.findByTitle("fische"));
+        assertEquals(List.of(guide), bookstore.findByAuthor("MULLER"));
+        assertEquals(List.of(novel), bookstore.streamByAuthor("Garcia").collect(Collectors.toList()));
+        assertEquals(List.of(guide), bookstore.streamByTitle("STRASSE").collect(Collectors.toList()));
+        assertTrue(bookstore.findByTitle("anoz").isEmpty());
+
+        bookstore.removeByIsbn(novel.getIsbn());
+        assertTrue(bookstore.findByAuthor("garcia").isEmpty());
+        assertEquals(List.of(guide), bookstore.findByAuthor("jurgen"));
+    }
+
+    @Test
+    @Order(41)
+    @DisplayName("Every ISBN a book accepts can be stored, found and removed")
+    void testEveryAcceptedIsbnForm() {
+        Book[] books = {
+                new Book("0012345678", "Ten Digits", "Leading Zeros", 5.0, 1990),
+                new Book("00012345678", "Eleven Digits", "Leading Zeros", 6.0, 1991),
+                new Book("123456789012", "Twelve Digits", "Someone", 7.0, 1992),
+                new Book(" 978-0-13-235088-4 ", "Hyphenated", "Someone", 8.0, 1993)
+        };
+        for (Book book : books) {
+            assertTrue(bookstore.add(book), book.getIsbn());
+        }
+        assertEquals(books.length, bookstore.size());
+        for (Book book : books) {
+            assertEquals(book, bookstore.findByIsbn(book.getIsbn()));
+            assertEquals(book.getIsbn(), bookstore.findByIsbn(book.getIsbn()).getIsbn());
+        }
+        assertTrue(bookstore.removeByIsbn("0012345678"));
+        assertNotNull(bookstore.findByIsbn("00012345678"));
+        assertThrows(IllegalArgumentException.class, () -> new Book(
+                "\u0669\u0667\u0668\u0660\u0661\u0663\u0664\u0666\u0668\u0665", "Title", "Author", 1.0, 2000));
+    }
+
+    private static List<Book> sorted(List<Book> books, Comparator<Book> order, int k) {
+        return books.stream().sorted(order).limit(k).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,125 @@
+package com.university.bookstore.impl;
+import com.university.bookstore.api.BookstoreAPI;
+import com.university.bookstore.model.Book;
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@DisplayName("BookstoreColumnar Tests")
+class BookstoreColumnarTest extends BookstoreArrayListTest {
+
+    @Override
+    protected BookstoreAPI createBookstore() {
+        return new BookstoreColumnar();
+    }
+
+    @Test
+    @Order(20)
+    @DisplayName("ISBN-10 with leading zeros round trips")
+    void testLeadingZeroIsbn() {
+        Book book = new Book("0012345678", "Old Book", "Anon", 5.0, 1950);
+        assertTrue(bookstore.add(book));
+        assertFalse(bookstore.add(new Book("0012345678", "Other", "Anon", 6.0, 1951)));
+
+        Book found = bookstore.findByIsbn("0012345678");
+        assertEquals("0012345678", found.getIsbn());
+        assertEquals("Old Book", found.getTitle());
+        assertNull(bookstore.findByIsbn("12345678"));
+        assertNull(bookstore.findByIsbn("00012345678"));
+    }
+
+    @Test
+    @Order(21)
+    @DisplayName("Returned books hold every field of the added book")
+    void testMaterializedFields() {
+        bookstore.add(book1);
+        Book found = bookstore.findByIsbn(book1.getIsbn());
+
+        assertEquals(book1, found);
+        assertEquals(book1.getTitle(), found.getTitle());
+        assertEquals(book1.getAuthor(), found.getAuthor());
+        assertEquals(book1.getPrice(), found.getPrice());
+        assertEquals(book1.getYear(), found.getYear());
+    }
+
+    @Test
+    @Order(22)
+    @DisplayName("Random adds and removes match BookstoreArrayList, across compactions")
+    void testMatchesArrayList() {
+        Random random = new Random(11);
+        BookstoreAPI reference = new BookstoreArrayList();
+        List<String> isbns = new ArrayList<>();
+        String[] authors = {"Jane Doe", "John Smith", "Ray Bradbury"};
+
+        for (int i = 0; i < 2000; i++) {
+            if (isbns.isEmpty() || random.nextInt(3) > 0) {
+                String isbn = String.valueOf(9780000000000L + random.nextInt(500));
+                Book book = new Book(isbn, "Title " + random.nextInt(40), authors[random.nextInt(authors.length)],
+                        1 + random.nextInt(100), 1990 + random.nextInt(30));
+                assertEquals(reference.add(book), bookstore.add(book));
+                isbns.add(isbn);
+            } else {
+                String isbn = isbns.remove(random.nextInt(isbns.size()));
+                assertEquals(reference.removeByIsbn(isbn), bookstore.removeByIsbn(isbn));
+            }
+        }
+
+        assertEquals(reference.size(), bookstore.size());
+        assertEquals(reference.getAllBooks(), bookstore.getAllBooks());
+        assertEquals(reference.findByTitle("title 1"), bookstore.findByTitle("title 1"));
+        assertEquals(reference.findByAuthor("doe"), bookstore.findByAuthor("doe"));
+        assertEquals(reference.findByPriceRange(10, 20), bookstore.findByPriceRange(10, 20));
+        assertEquals(reference.findByYear(2000), bookstore.findByYear(2000));
+        assertEquals(reference.inventoryValue(), bookstore.inventoryValue(), 1e-6);
+        assertEquals(reference.getMostExpensive(), bookstore.getMostExpensive());
+        assertEquals(reference.getMostRecent(), bookstore.getMostRecent());
+    }
+
+    @Test
+    @Order(23)
+    @DisplayName("The string dictionary keeps every distinct title across growth and compaction")
+    void testManyDistinctTitles() {
+        int count = 5000;
+        for (int i = 0; i < count; i++) {
+            String title = i % 2 == 0 ? "Title " + i : "lower title " + i;
+            bookstore.add(new Book(String.valueOf(9780000000000L + i), title, "Author " + i, 10.0, 2000));
+        }
+        for (int i = 0; i < count; i += 4) {
+            bookstore.removeByIsbn(String.valueOf(9780000000000L + i));
+            bookstore.removeByIsbn(String.valueOf(9780000000001L + i));
+            bookstore.removeByIsbn(String.valueOf(9780000000002L + i));
+        }
+
+        assertEquals(count / 4, bookstore.size());
+        for (int i = 3; i < count; i += 4) {
+            Book found = bookstore.findByIsbn(String.valueOf(9780000000000L + i));
+            assertEquals("lower title " + i, found.getTitle());
+            assertEquals("Author " + i, found.getAuthor());
+        }
+        assertEquals(List.of(bookstore.findByIsbn("9780000004999")), bookstore.findByTitle("LOWER TITLE 4999"));
+        assertEquals(1, bookstore.findByAuthor("author 4999").size());
+        assertTrue(bookstore.findByTitle("Title 4998").isEmpty());
+    }
+
+    @Test
+    @Order(24)
+    @DisplayName("Results reuse the search keys of the dictionary")
+    void testResultsShareDictionaryKeys() {
+        bookstore.add(new Book("9780000000001", "Cien Años de Soledad", "Gabriel García Márquez", 15.0, 1967));
+        bookstore.add(new Book("9780000000002", "Cien Años de Soledad", "Gabriel García Márquez", 12.0, 1970));
+
+        List<Book> found = bookstore.findByAuthor("garcia");
+        assertEquals(2, found.size());
+        assertEquals("cien anos de soledad", found.get(0).getTitleKey());
+        assertEquals("gabriel garcia marquez", found.get(0).getAuthorKey());
+        assertSame(found.get(0).getTitleKey(), found.get(1).getTitleKey());
+        assertSame(found.get(0).getAuthorKey(), found.get(1).getAuthorKey());
+        assertSame(found.get(0).getAuthorKey(), bookstore.findByIsbn("9780000000002").getAuthorKey());
+    }
+}
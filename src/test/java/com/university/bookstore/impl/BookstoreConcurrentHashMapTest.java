@@ -0,0 +1,150 @@
+package com.university.bookstore.impl;
+import com.university.bookstore.api.BookstoreAPI;
+import com.university.bookstore.model.Book;
+import org.junit.jupiter.api.*;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@DisplayName("BookstoreConcurrentHashMap Tests")
+class BookstoreConcurrentHashMapTest extends BookstoreArrayListTest {
+
+    private static final int POOL = 2000;
+    private static final int OPERATIONS_PER_THREAD = 50000;
+
+    @Override
+    protected BookstoreAPI createBookstore() {
+        return new BookstoreConcurrentHashMap();
+    }
+
+    private static Book[] createPool() {
+        Book[] pool = new Book[POOL];
+        for (int i = 0; i < POOL; i++) {
+            pool[i] = new Book(String.valueOf(1000000000000L + i), "Title " + i, "Author " + (i % 50),
+                    1 + (i % 100), 1900 + (i % 100));
+        }
+        return pool;
+    }
+
+    @Test
+    @Order(20)
+    @DisplayName("Racing adds of the same ISBN only succeed once")
+    void testDuplicateRuleUnderRaces() throws Exception {
+        Book[] pool = createPool();
+        int threads = 8;
+        AtomicInteger successes = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            Future<?>[] futures = new Future<?>[threads];
+            for (int t = 0; t < threads; t++) {
+                futures[t] = executor.submit(() -> {
+                    start.await();
+                    for (Book book : pool) {
+                        if (bookstore.add(book)) {
+                            successes.incrementAndGet();
+                        }
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(POOL, successes.get());
+        assertEquals(POOL, bookstore.size());
+        assertEquals(POOL, bookstore.getAllBooks().size());
+        assertEquals(POOL, new HashSet<>(List.of(bookstore.snapshotArray())).size());
+    }
+
+    @Test
+    @Order(21)
+    @DisplayName("Mixed workload stays consistent at every thread count")
+    void testMixedWorkloadConsistency() throws Exception {
+        // throughput is measured by ConcurrentWorkloadBenchmark, this only checks the end state
+        Book[] pool = createPool();
+        int maxThreads = Math.max(2, Math.min(8, Runtime.getRuntime().availableProcessors()));
+        for (int threads = 1; threads <= maxThreads; threads *= 2) {
+            BookstoreConcurrentHashMap store = new BookstoreConcurrentHashMap();
+            runMixedWorkload(store, pool, threads);
+
+            Set<String> isbns = new HashSet<>();
+            double value = 0;
+            for (Book book : store.getAllBooks()) {
+                assertTrue(isbns.add(book.getIsbn()));
+                assertSame(book, store.findByIsbn(book.getIsbn()));
+                value += book.getPrice();
+            }
+            assertEquals(store.size(), isbns.size());
+            assertEquals(value, store.inventoryValue(), 1e-6);
+        }
+    }
+
+    @Test
+    @Order(22)
+    @DisplayName("Inventory value does not drift over many adds and removes")
+    void testInventoryValueDoesNotDrift() {
+        Book cheap = new Book("9780000000001", "Cheap", "Someone", 0.1, 2000);
+        Book dear = new Book("9780000000002", "Dear", "Someone", 1e9 + 0.37, 2000);
+        bookstore.add(cheap);
+        for (int i = 0; i < 100000; i++) {
+            bookstore.add(dear);
+            bookstore.removeByIsbn(dear.getIsbn());
+        }
+        assertEquals(0.1, bookstore.inventoryValue());
+        bookstore.removeByIsbn(cheap.getIsbn());
+        assertEquals(0.0, bookstore.inventoryValue());
+    }
+
+    /**
+     * Runs lookups, adds and removes over a shared pool
+     */
+    private static void runMixedWorkload(BookstoreAPI store, Book[] pool, int threads) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            Future<?>[] futures = new Future<?>[threads];
+            for (int t = 0; t < threads; t++) {
+                futures[t] = executor.submit(() -> {
+                    start.await();
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                        Book book = pool[random.nextInt(pool.length)];
+                        int op = random.nextInt(10);
+                        if (op < 6) {
+                            store.findByIsbn(book.getIsbn());
+                        } else if (op < 8) {
+                            store.add(book);
+                        } else {
+                            store.removeByIsbn(book.getIsbn());
+                        }
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
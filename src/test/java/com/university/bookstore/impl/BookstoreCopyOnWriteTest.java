@@ -0,0 +1,232 @@
+package com.university.bookstore.impl;
+import com.university.bookstore.api.BookSlots;
+import com.university.bookstore.api.BookSnapshot;
+import com.university.bookstore.api.BookstoreAPI;
+import com.university.bookstore.model.Book;
+import org.junit.jupiter.api.*;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@DisplayName("BookstoreCopyOnWrite Tests")
+class BookstoreCopyOnWriteTest extends BookstoreArrayListTest {
+
+    @Override
+    protected BookstoreAPI createBookstore() {
+        return new BookstoreCopyOnWrite();
+    }
+
+    private static List<Book> toList(BookSnapshot snapshot) {
+        List<Book> list = new ArrayList<>();
+        for (Book book : snapshot) {
+            list.add(book);
+        }
+        return list;
+    }
+
+    @Test
+    @Order(20)
+    @DisplayName("Snapshot is not affected by later adds and removes")
+    void testSnapshotIsolation() {
+        bookstore.add(book1);
+        bookstore.add(book2);
+        bookstore.add(book3);
+
+        BookSnapshot before = bookstore.snapshot();
+        bookstore.add(book4);
+        bookstore.removeByIsbn(book2.getIsbn());
+        bookstore.add(book5);
+        BookSnapshot after = bookstore.snapshot();
+
+        assertEquals(List.of(book1, book2, book3), toList(before));
+        assertEquals(3, before.size());
+        assertEquals(List.of(book1, book3, book4, book5), toList(after));
+        assertArrayEquals(new Book[]{book1, book3, book4, book5}, after.toArray());
+        assertTrue(after.version() > before.version());
+    }
+
+    @Test
+    @Order(21)
+    @DisplayName("Snapshots survive compaction")
+    void testSnapshotSurvivesCompaction() {
+        List<Book> all = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            Book book = new Book(String.valueOf(1000000000000L + i), "T" + i, "A", i, 2000);
+            all.add(book);
+            bookstore.add(book);
+        }
+        BookSnapshot full = bookstore.snapshot();
+        for (int i = 0; i < 90; i++) {
+            assertTrue(bookstore.removeByIsbn(all.get(i).getIsbn()));
+        }
+
+        assertEquals(all, toList(full));
+        assertEquals(all.subList(90, 100), bookstore.getAllBooks());
+        assertSame(all.get(95), bookstore.findByIsbn(all.get(95).getIsbn()));
+        assertEquals(10, bookstore.snapshot().stream().count());
+    }
+
+    @Test
+    @Order(22)
+    @DisplayName("Readers iterate snapshots while a writer keeps going")
+    void testReadersWhileWriting() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            Future<?> writer = executor.submit(() -> {
+                for (int i = 0; i < 20000; i++) {
+                    Book book = new Book(String.valueOf(1000000000000L + i), "T" + i, "A", 1.0, 2000);
+                    bookstore.add(book);
+                    if (i % 3 == 0) {
+                        bookstore.removeByIsbn(String.valueOf(1000000000000L + i / 2));
+                    }
+                }
+            });
+            List<Future<?>> readers = new ArrayList<>();
+            for (int r = 0; r < 2; r++) {
+                readers.add(executor.submit(() -> {
+                    while (!writer.isDone()) {
+                        BookSnapshot snapshot = bookstore.snapshot();
+                        int first = countAndCheckOrder(snapshot);
+                        int second = countAndCheckOrder(snapshot);
+                        assertEquals(snapshot.size(), first);
+                        assertEquals(first, second);
+                    }
+                    return null;
+                }));
+            }
+            writer.get(60, TimeUnit.SECONDS);
+            for (Future<?> reader : readers) {
+                reader.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @Order(23)
+    @DisplayName("Queries do not make the next removal copy the array, snapshots do")
+    void testQueriesDoNotShareTheArray() throws Exception {
+        bookstore.addAll(new Book[]{book1, book2, book3, book4, book5, book6});
+        Object before = slots(bookstore);
+
+        bookstore.findByAuthor("Smith");
+        bookstore.inventoryValue();
+        bookstore.getAllBooks();
+        bookstore.statistics();
+        bookstore.getMostExpensive(2);
+        bookstore.streamByTitle("Hunger").count();
+        bookstore.removeByIsbn(book1.getIsbn());
+        assertSame(before, slots(bookstore));
+
+        BookSnapshot snapshot = bookstore.snapshot();
+        bookstore.removeByIsbn(book2.getIsbn());
+        assertNotSame(before, slots(bookstore));
+        assertEquals(5, toList(snapshot).size());
+    }
+
+    @Test
+    @Order(24)
+    @DisplayName("Queries running during removals never see an emptied slot")
+    void testQueriesWhileRemoving() throws Exception {
+        int count = 50000;
+        Book[] books = new Book[count];
+        for (int i = 0; i < count; i++) {
+            books[i] = new Book(String.valueOf(1000000000000L + i), "T" + i, "A", 1.0, 2000);
+        }
+        bookstore.addAll(books);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> writer = executor.submit(() -> {
+                for (int i = 0; i < count; i += 2) {
+                    bookstore.removeByIsbn(books[i].getIsbn());
+                }
+            });
+            Future<?> reader = executor.submit(() -> {
+                while (!writer.isDone()) {
+                    int found = bookstore.findByYear(2000).size();
+                    assertTrue(found >= count / 2 && found <= count);
+                    assertFalse(bookstore.getAllBooks().contains(null));
+                }
+                return null;
+            });
+            writer.get(60, TimeUnit.SECONDS);
+            reader.get(60, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(count / 2, bookstore.findByYear(2000).size());
+    }
+
+    @Test
+    @Order(25)
+    @DisplayName("Exported copies hold the books of a single moment while writers keep going")
+    void testExportsArePointInTime() throws Exception {
+        int window = 1000;
+        int count = 50000;
+        Book[] books = new Book[count];
+        for (int i = 0; i < count; i++) {
+            books[i] = new Book(String.valueOf(1000000000000L + i), "T" + i, "A", 1.0, 2000);
+        }
+        bookstore.addAll(Arrays.copyOf(books, window));
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            // the store always holds a run of window or window + 1 consecutive books
+            Future<?> writer = executor.submit(() -> {
+                for (int i = window; i < count; i++) {
+                    bookstore.add(books[i]);
+                    bookstore.removeByIsbn(books[i - window].getIsbn());
+                }
+            });
+            Future<?> reader = executor.submit(() -> {
+                while (!writer.isDone()) {
+                    Book[] exported = bookstore.snapshotArray();
+                    assertTrue(exported.length == window || exported.length == window + 1);
+                    long first = Long.parseLong(exported[0].getIsbn());
+                    for (int i = 1; i < exported.length; i++) {
+                        assertEquals(first + i, Long.parseLong(exported[i].getIsbn()));
+                    }
+                    int listed = bookstore.getAllBooks().size();
+                    assertTrue(listed == window || listed == window + 1);
+                }
+                return null;
+            });
+            writer.get(60, TimeUnit.SECONDS);
+            reader.get(60, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Object slots(BookstoreAPI store) throws ReflectiveOperationException {
+        Field owner = BookstoreCopyOnWrite.class.getDeclaredField("slots");
+        owner.setAccessible(true);
+        Field slots = BookSlots.class.getDeclaredField("slots");
+        slots.setAccessible(true);
+        return slots.get(owner.get(store));
+    }
+
+    private static int countAndCheckOrder(BookSnapshot snapshot) {
+        int count = 0;
+        long previous = -1;
+        for (Book book : snapshot) {
+            long isbn = Long.parseLong(book.getIsbn());
+            assertTrue(isbn > previous);
+            previous = isbn;
+            count++;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,93 @@
+package com.university.bookstore.impl;
+import com.university.bookstore.api.BookstoreAPI;
+import com.university.bookstore.model.Book;
+import org.junit.jupiter.api.*;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@DisplayName("BookstoreHashMap Tests")
+class BookstoreHashMapTest extends BookstoreArrayListTest {
+
+    @Override
+    protected BookstoreAPI createBookstore() {
+        return new BookstoreHashMap();
+    }
+
+    @Test
+    @Order(20)
+    @DisplayName("Insertion order is kept after removing")
+    void testInsertionOrderAfterRemove() {
+        bookstore.add(book1);
+        bookstore.add(book2);
+        bookstore.add(book3);
+        bookstore.add(book4);
+
+        assertTrue(bookstore.removeByIsbn(book2.getIsbn()));
+        assertFalse(bookstore.removeByIsbn(book2.getIsbn()));
+        bookstore.add(book2);
+
+        Book[] snapshot = bookstore.snapshotArray();
+        assertArrayEquals(new Book[]{book1, book3, book4, book2}, snapshot);
+
+        List<Book> list = bookstore.getAllBooks();
+        assertEquals(List.of(book1, book3, book4, book2), list);
+    }
+
+    @Test
+    @Order(21)
+    @DisplayName("Removed ISBN can be added again")
+    void testReAddAfterRemove() {
+        assertTrue(bookstore.add(book1));
+        assertTrue(bookstore.removeByIsbn(book1.getIsbn()));
+        assertNull(bookstore.findByIsbn(book1.getIsbn()));
+        assertTrue(bookstore.add(duplicate));
+        assertSame(duplicate, bookstore.findByIsbn(book1.getIsbn()));
+        assertFalse(bookstore.add(null));
+        assertEquals(1, bookstore.size());
+    }
+
+    @Test
+    @Order(22)
+    @DisplayName("Running aggregates match a full scan")
+    void testAggregatesMatchScan() {
+        Random random = new Random(11);
+        BookstoreArrayList reference = new BookstoreArrayList();
+        for (int i = 0; i < 2000; i++) {
+            Book book = new Book(String.valueOf(1000000000000L + random.nextInt(400)), "T" + i, "A",
+                    random.nextInt(100) / 4.0, 1990 + random.nextInt(30));
+            if (random.nextInt(3) == 0) {
+                reference.removeByIsbn(book.getIsbn());
+                bookstore.removeByIsbn(book.getIsbn());
+            } else {
+                assertEquals(reference.add(book), bookstore.add(book));
+            }
+            assertSame(reference.getMostExpensive(), bookstore.getMostExpensive());
+            assertSame(reference.getMostRecent(), bookstore.getMostRecent());
+            assertEquals(reference.inventoryValue(), bookstore.inventoryValue(), 1e-6);
+        }
+    }
+
+    @Test
+    @Order(23)
+    @DisplayName("Inventory value does not drift")
+    void testInventoryValueDoesNotDrift() {
+        Book big = new Book("1000000000000", "Big", "A", 1e15, 2000);
+        Book small = new Book("2000000000000", "Small", "A", 0.01, 2000);
+        bookstore.add(big);
+        for (int i = 0; i < 100000; i++) {
+            bookstore.add(small);
+            bookstore.removeByIsbn(small.getIsbn());
+        }
+        bookstore.add(small);
+        bookstore.removeByIsbn(big.getIsbn());
+        assertEquals(0.01, bookstore.inventoryValue(), 1e-12);
+
+        bookstore.removeByIsbn(small.getIsbn());
+        assertEquals(0.0, bookstore.inventoryValue());
+    }
+}
@@ -0,0 +1,243 @@
+package com.university.bookstore.impl;
+import com.university.bookstore.api.BookstoreAPI;
+import com.university.bookstore.api.BulkAddResult;
+import com.university.bookstore.model.Book;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@DisplayName("BookstoreJournaled Tests")
+class BookstoreJournaledTest extends BookstoreArrayListTest {
+
+    @TempDir
+    Path dir;
+
+    private final List<BookstoreJournaled> opened = new ArrayList<>();
+
+    @Override
+    protected BookstoreAPI createBookstore() {
+        return open(dir, 0);
+    }
+
+    private BookstoreJournaled open(Path directory, long commitWindowNanos) {
+        try {
+            BookstoreJournaled store = new BookstoreJournaled(new BookstoreHashMap(), directory, commitWindowNanos);
+            opened.add(store);
+            return store;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @AfterEach
+    void closeStores() throws IOException {
+        for (BookstoreJournaled store : opened) {
+            store.close();
+        }
+    }
+
+    private static List<String> fileNames(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(f -> f.getFileName().toString()).sorted().toList();
+        }
+    }
+
+    @Test
+    @Order(20)
+    @DisplayName("Acknowledged changes survive a crash and are replayed on reopen")
+    void testReplayAfterCrash() {
+        bookstore.add(book1);
+        bookstore.add(book2);
+        bookstore.add(book3);
+        bookstore.removeByIsbn(book2.getIsbn());
+        bookstore.add(book2);
+        assertFalse(bookstore.add(duplicate));
+        assertFalse(bookstore.removeByIsbn(book4.getIsbn()));
+
+        // the first store is never closed, as if the process had died
+        BookstoreAPI recovered = open(dir, 0);
+
+        assertEquals(List.of(book1, book3, book2), recovered.getAllBooks());
+        assertEquals(book2.getTitle(), recovered.findByIsbn(book2.getIsbn()).getTitle());
+    }
+
+    @Test
+    @Order(21)
+    @DisplayName("A torn record at the end of the journal is dropped and truncated")
+    void testTornTailIsTruncated() throws IOException {
+        bookstore.add(book1);
+        bookstore.add(book2);
+        ((BookstoreJournaled) bookstore).close();
+        Path journal = dir.resolve("journal-0.log");
+        long intact = Files.size(journal);
+        Files.write(journal, new byte[]{0, 0, 0, 40, 1, 2, 3}, StandardOpenOption.APPEND);
+
+        BookstoreJournaled recovered = open(dir, 0);
+
+        assertEquals(List.of(book1, book2), recovered.getAllBooks());
+        assertEquals(intact, Files.size(journal));
+        recovered.add(book3);
+        assertEquals(List.of(book1, book2, book3), open(dir, 0).getAllBooks());
+    }
+
+    @Test
+    @Order(22)
+    @DisplayName("Compaction replaces the journal with a snapshot")
+    void testCompaction() throws IOException {
+        BookstoreJournaled store = (BookstoreJournaled) bookstore;
+        store.addAll(new Book[]{book1, book2, book3, book4});
+        store.removeByIsbn(book3.getIsbn());
+        long before = store.journalSize();
+
+        store.compact();
+
+        assertTrue(store.journalSize() < before);
+        assertEquals(List.of("journal-1.log", "snapshot-1.bin"), fileNames(dir));
+        store.add(book5);
+        assertEquals(List.of(book1, book2, book4, book5), open(dir, 0).getAllBooks());
+    }
+
+    @Test
+    @Order(23)
+    @DisplayName("A crash after the compaction snapshot recovers from the snapshot")
+    void testCrashDuringCompaction() throws IOException {
+        BookstoreJournaled store = (BookstoreJournaled) bookstore;
+        store.add(book1);
+        store.add(book2);
+        store.compact();
+        store.add(book3);
+        store.close();
+        // an older journal that was not deleted yet must be ignored
+        Files.copy(dir.resolve("journal-1.log"), dir.resolve("journal-0.log"));
+
+        assertEquals(List.of(book1, book2, book3), open(dir, 0).getAllBooks());
+        assertFalse(Files.exists(dir.resolve("journal-0.log")));
+    }
+
+    @Test
+    @Order(24)
+    @DisplayName("Concurrent writers share fsyncs")
+    void testGroupCommit() throws Exception {
+        BookstoreJournaled store = open(dir.resolve("group"), TimeUnit.MILLISECONDS.toNanos(2));
+        int threads = 8;
+        int perThread = 50;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int id = t;
+            futures.add(pool.submit(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    String isbn = String.valueOf(9780000000000L + id * 1000 + i);
+                    assertTrue(store.add(new Book(isbn, "Title", "Author", 1.0, 2000)));
+                }
+            }));
+        }
+        for (Future<?> f : futures) {
+            f.get(60, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+
+        assertEquals(threads * perThread, store.size());
+        assertTrue(store.syncCount() < threads * perThread, "syncs: " + store.syncCount());
+        assertEquals(threads * perThread, open(dir.resolve("group"), 0).size());
+    }
+
+    @Test
+    @Order(25)
+    @DisplayName("An intact record that cannot be applied fails recovery and keeps the journal")
+    void testUnappliedRecordIsNotTruncated() throws IOException {
+        bookstore.add(book1);
+        bookstore.add(book2);
+        bookstore.add(book3);
+        ((BookstoreJournaled) bookstore).close();
+        Path journal = dir.resolve("journal-0.log");
+        byte[] before = Files.readAllBytes(journal);
+
+        BookstoreAPI failing = new BookstoreHashMap() {
+            @Override
+            public boolean add(Book book) {
+                if (book.getIsbn().equals(book2.getIsbn())) {
+                    throw new IllegalStateException("Rejected " + book.getIsbn());
+                }
+                return super.add(book);
+            }
+        };
+        IOException error = assertThrows(IOException.class, () -> new BookstoreJournaled(failing, dir));
+        assertInstanceOf(IllegalStateException.class, error.getCause());
+
+        assertArrayEquals(before, Files.readAllBytes(journal));
+        assertEquals(List.of(book1, book2, book3), open(dir, 0).getAllBooks());
+    }
+
+    @Test
+    @Order(26)
+    @DisplayName("Reads and changes are refused once the journal has failed")
+    void testFailedJournalRefusesChanges() throws IOException {
+        Path failed = dir.resolve("failed");
+        BookstoreJournaled store = new BookstoreJournaled(new BookstoreHashMap(), failed);
+        store.add(book1);
+        store.close();
+
+        // the journal is closed, so the next flush fails and the failure sticks, with book2
+        // in memory but not on disk
+        assertThrows(UncheckedIOException.class, () -> store.add(book2));
+
+        assertThrows(UncheckedIOException.class, () -> store.findByIsbn(book2.getIsbn()));
+        assertThrows(UncheckedIOException.class, store::size);
+        assertThrows(UncheckedIOException.class, store::getAllBooks);
+        assertThrows(UncheckedIOException.class, () -> store.add(book3));
+        assertThrows(UncheckedIOException.class, () -> store.addAll(new Book[]{book4}));
+        assertThrows(UncheckedIOException.class, () -> store.removeByIsbn(book1.getIsbn()));
+        assertEquals(List.of(book1), open(failed, 0).getAllBooks());
+    }
+
+    @Test
+    @Order(27)
+    @DisplayName("Only changes the wrapped store accepts are reported and journaled")
+    void testAddReturnsDelegateResult() throws IOException {
+        BookstoreAPI refusing = new BookstoreHashMap() {
+            @Override
+            public boolean add(Book book) {
+                return !book.getIsbn().equals(book2.getIsbn()) && super.add(book);
+            }
+
+            @Override
+            public BulkAddResult addAll(Book[] books) {
+                boolean[] accepted = new boolean[books.length];
+                for (int i = 0; i < books.length; i++) {
+                    accepted[i] = add(books[i]);
+                }
+                return new BulkAddResult(accepted);
+            }
+        };
+        BookstoreJournaled store = new BookstoreJournaled(refusing, dir.resolve("refusing"));
+        opened.add(store);
+
+        assertTrue(store.add(book1));
+        assertFalse(store.add(book2));
+        BulkAddResult result = store.addAll(new Book[]{book2, book3});
+        assertFalse(result.isAccepted(0));
+        assertTrue(result.isAccepted(1));
+        assertTrue(store.removeByIsbn(book1.getIsbn()));
+        assertEquals(List.of(book3), store.getAllBooks());
+
+        // refused adds are not journaled, so a store that accepts everything replays the same books
+        assertEquals(List.of(book3), open(dir.resolve("refusing"), 0).getAllBooks());
+    }
+}
@@ -0,0 +1,86 @@
+package com.university.bookstore.impl;
+import com.university.bookstore.api.BookstoreAPI;
+import com.university.bookstore.model.Book;
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@DisplayName("BookstoreOffHeap Tests")
+class BookstoreOffHeapTest extends BookstoreArrayListTest {
+
+    @Override
+    protected BookstoreAPI createBookstore() {
+        return new BookstoreOffHeap();
+    }
+
+    @Test
+    @Order(20)
+    @DisplayName("Non-ASCII titles and authors are stored and matched")
+    void testUnicodeStrings() {
+        Book book = new Book("0012345678", "Cien Años de Soledad", "Gabriel García Márquez", 15.0, 1967);
+        bookstore.add(book);
+        bookstore.add(book2);
+
+        assertEquals(List.of(book), bookstore.findByTitle("años"));
+        assertEquals(List.of(book), bookstore.findByAuthor("GARCÍA"));
+        assertEquals(List.of(book), bookstore.findByAuthor("márq"));
+        assertEquals(List.of(book), bookstore.findByTitle("SOLEDAD"));
+        Book found = bookstore.findByIsbn("0012345678");
+        assertEquals("Gabriel García Márquez", found.getAuthor());
+        assertEquals("0012345678", found.getIsbn());
+        assertEquals("gabriel garcia marquez", found.getAuthorKey());
+        assertEquals("cien anos de soledad", found.getTitleKey());
+        assertEquals("fahrenheit 451", bookstore.findByIsbn(book2.getIsbn()).getTitleKey());
+    }
+
+    @Test
+    @Order(21)
+    @DisplayName("Random adds and removes match BookstoreColumnar, across compactions")
+    void testMatchesColumnar() {
+        Random random = new Random(3);
+        BookstoreAPI reference = new BookstoreColumnar();
+        BookstoreOffHeap store = (BookstoreOffHeap) bookstore;
+        List<String> isbns = new ArrayList<>();
+
+        for (int i = 0; i < 200000; i++) {
+            if (isbns.size() < 70000 || random.nextInt(3) == 0) {
+                String isbn = String.valueOf(9780000000000L + random.nextInt(100000));
+                Book book = new Book(isbn, "Title " + random.nextInt(1000), "Author " + random.nextInt(50),
+                        1 + random.nextInt(100), 1990 + random.nextInt(30));
+                if (reference.findByIsbn(isbn) == null) {
+                    assertTrue(store.add(book));
+                    reference.add(book);
+                    isbns.add(isbn);
+                }
+            } else {
+                String isbn = isbns.remove(random.nextInt(isbns.size()));
+                assertTrue(store.removeByIsbn(isbn));
+                reference.removeByIsbn(isbn);
+            }
+            if (i == 100000) {
+                while (isbns.size() > 1000) {
+                    String isbn = isbns.remove(isbns.size() - 1);
+                    store.removeByIsbn(isbn);
+                    reference.removeByIsbn(isbn);
+                }
+            }
+        }
+
+        assertEquals(reference.size(), store.size());
+        assertEquals(reference.getAllBooks(), store.getAllBooks());
+        assertEquals(reference.findByTitle("title 12"), store.findByTitle("title 12"));
+        assertEquals(reference.findByAuthor("author 7"), store.findByAuthor("author 7"));
+        assertEquals(reference.findByPriceRange(10, 20), store.findByPriceRange(10, 20));
+        assertEquals(reference.findByYear(2000), store.findByYear(2000));
+        assertEquals(reference.inventoryValue(), store.inventoryValue(), 1e-6);
+        assertEquals(reference.getMostExpensive(), store.getMostExpensive());
+        assertEquals(reference.getMostRecent(), store.getMostRecent());
+        assertTrue(store.offHeapBytes() > 0);
+    }
+}
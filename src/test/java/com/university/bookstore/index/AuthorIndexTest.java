@@ -0,0 +1,130 @@
+package com.university.bookstore.index;
+
+import com.university.bookstore.model.Book;
+import com.university.bookstore.utils.BookArrayUtils;
+import org.junit.jupiter.api.*;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class AuthorIndexTest {
+
+    private AuthorIndex index;
+    private Book b1, b2, b3, b4, b5, b6;
+
+    @BeforeEach
+    void setUp() {
+        index = new AuthorIndex();
+        b1 = new Book("1111111111111", "My book", "John Doe", 29.99, 2012);
+        b2 = new Book("2222222222222", "Fahrenheit 451", "Ray Bradbury", 9.99, 2014);
+        b3 = new Book("3333333333333", "Hunger Games", "Jane Smith", 10.99, 2015);
+        b4 = new Book("4444444444444", "Amulet", "Samantha Smith", 12.99, 2005);
+        b5 = new Book("5555555555555", "Amulet Stone", "Jane Doe", 10.99, 2008);
+        b6 = new Book("6666666666666", "Sequel", "Mary-Jane Watson", 45.99, 2015);
+        for (Book b : new Book[]{b1, b2, b3, b4, b5, b6}) {
+            index.add(b);
+        }
+    }
+
+    @Test
+    @Order(1)
+    void testSubstringSearch() {
+        assertEquals(List.of(b3, b5, b6), index.search("jane"));
+        assertEquals(List.of(b3, b4), index.search("SMI"));
+        assertEquals(List.of(b3), index.search("Jane Sm"));
+        assertEquals(List.of(b6), index.search("mary-jane"));
+        assertEquals(List.of(b3, b4), index.search("mith"));
+        assertEquals(List.of(b3), index.search("ne s"));
+        assertEquals(List.of(b6), index.search("-"));
+        assertTrue(index.search("smithers").isEmpty());
+        assertTrue(index.search("   ").isEmpty());
+    }
+
+    @Test
+    @Order(2)
+    void testFindByNameIgnoresCase() {
+        assertEquals(List.of(b5), index.findByName("jane doe"));
+        assertTrue(index.findByName("jane").isEmpty());
+    }
+
+    @Test
+    @Order(3)
+    void testCountByAuthorMatchesArrayUtils() {
+        Book[] all = {b1, b2, b3, b4, b5, b6};
+        for (String author : new String[]{"Jane Doe", "jane doe", "Ray Bradbury", "Nobody", " John Doe"}) {
+            assertEquals(BookArrayUtils.countByAuthor(all, author), index.countByAuthor(author), author);
+        }
+        assertEquals(0, index.countByAuthor(null));
+    }
+
+    @Test
+    @Order(4)
+    void testRemoveDropsPostings() {
+        index.remove(b3);
+        index.remove(b3);
+        index.remove(null);
+        assertEquals(List.of(b4), index.search("smith"));
+        assertEquals(List.of(b5, b6), index.search("jane"));
+        assertEquals(0, index.countByAuthor("Jane Smith"));
+        assertEquals(5, index.size());
+
+        index.remove(b4);
+        assertTrue(index.search("mith").isEmpty());
+        assertEquals(0, index.estimate("mith"));
+        assertEquals(List.of(b5, b6), index.search("ja"));
+    }
+
+    @Test
+    @Order(5)
+    void testResultsKeepInsertionOrder() {
+        Book janet = new Book("7777777777777", "Later", "Janet Early", 1.0, 2000);
+        index.add(janet);
+        index.remove(b3);
+        index.add(b3);
+        assertEquals(List.of(b5, b6, janet, b3), index.search("jan"));
+    }
+
+    @Test
+    @Order(6)
+    void testEstimateCountsPostedBooks() {
+        assertEquals(3, index.estimate("jane"));
+        assertEquals(2, index.estimate("smi"));
+        assertEquals(2, index.estimate("mith"));
+        assertEquals(3, index.estimate("jane doe"));
+        assertEquals(0, index.estimate("zed"));
+        assertEquals(0, index.estimate(null));
+        assertEquals(6, index.estimate("-"));
+    }
+
+    @Test
+    @Order(7)
+    void testStreamMergesPostingsInOrder() {
+        Book twice = new Book("7777777777777", "Twice", "Jane Janeway", 1.0, 2000);
+        index.add(twice);
+        index.remove(b3);
+        index.add(b3);
+
+        assertEquals(List.of(b5, b6, twice, b3), index.stream("jane").toList());
+        assertEquals(List.of(b5), index.stream("jane").limit(1).toList());
+        for (String query : new String[]{"jane", "mith", "Jane Sm", "ne s", "-", "zed", "", null}) {
+            assertEquals(index.search(query), index.stream(query).toList(), query);
+        }
+    }
+
+    @Test
+    @Order(8)
+    void testAddAllMatchesAdd() {
+        AuthorIndex batch = new AuthorIndex();
+        batch.add(b1);
+        batch.addAll(List.of(b2, b3, b4, b5, b6, b3));
+
+        for (String query : new String[]{"jane", "smi", "Jane Sm", "mith", "ne s", "-", "zed"}) {
+            assertEquals(index.search(query), batch.search(query), query);
+            assertEquals(index.estimate(query), batch.estimate(query), query);
+        }
+        assertEquals(index.findByName("jane doe"), batch.findByName("jane doe"));
+        assertEquals(index.size(), batch.size());
+    }
+}
@@ -0,0 +1,147 @@
+package com.university.bookstore.index;
+
+import com.university.bookstore.impl.BookstoreArrayList;
+import com.university.bookstore.model.Book;
+import org.junit.jupiter.api.*;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class PriceIndexTest {
+
+    private PriceIndex index;
+    private Book cheap, mid, expensive, expensiveTie, free;
+
+    @BeforeEach
+    void setUp() {
+        index = new PriceIndex();
+        cheap = new Book("1111111111111", "Alpha", "AuthorA", 5.0, 1999);
+        mid = new Book("2222222222222", "Beta", "AuthorB", 20.0, 2005);
+        expensive = new Book("3333333333333", "Gamma", "AuthorA", 50.0, 2005);
+        expensiveTie = new Book("4444444444444", "Delta", "AuthorC", 50.0, 2010);
+        free = new Book("5555555555555", "Epsilon", "AuthorC", 0.0, 2010);
+    }
+
+    @Test
+    @Order(1)
+    void testEmptyIndex() {
+        assertNull(index.max());
+        assertTrue(index.range(0, 100).isEmpty());
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    @Order(2)
+    void testRangeIsInclusiveAndSorted() {
+        index.add(expensive);
+        index.add(cheap);
+        index.add(mid);
+
+        assertEquals(List.of(cheap, mid), index.range(5.0, 20.0));
+        assertEquals(List.of(mid), index.range(20.0, 20.0));
+        assertEquals(List.of(cheap, mid, expensive), index.range(0, 100));
+        assertTrue(index.range(21.0, 49.0).isEmpty());
+        assertTrue(index.range(30.0, 10.0).isEmpty());
+    }
+
+    @Test
+    @Order(3)
+    void testMaxTiesPickLatestAdded() {
+        index.add(expensive);
+        index.add(expensiveTie);
+        assertSame(expensiveTie, index.max());
+
+        index.remove(expensiveTie);
+        assertSame(expensive, index.max());
+
+        index.add(expensiveTie);
+        assertSame(expensiveTie, index.max());
+    }
+
+    @Test
+    @Order(4)
+    void testDuplicatesAndNullsIgnored() {
+        index.add(null);
+        index.add(mid);
+        index.add(mid);
+        index.remove(null);
+        index.remove(cheap);
+        assertEquals(1, index.size());
+        assertEquals(List.of(mid), index.range(0, 100));
+    }
+
+    @Test
+    @Order(5)
+    void testZeroPriceMatchesScan() {
+        index.add(free);
+        assertSame(free, index.max());
+        assertEquals(List.of(free), index.range(0.0, 1.0));
+    }
+
+    @Test
+    @Order(6)
+    void testMatchesLinearScan() {
+        Random random = new Random(42);
+        BookstoreArrayList reference = new BookstoreArrayList();
+        for (int i = 0; i < 500; i++) {
+            double price = random.nextInt(40) / 2.0;
+            Book book = new Book(String.valueOf(1000000000000L + i), "T" + i, "A", price, 2000);
+            reference.add(book);
+            index.add(book);
+            if (random.nextInt(4) == 0) {
+                Book victim = reference.getAllBooks().get(random.nextInt(reference.size()));
+                reference.removeByIsbn(victim.getIsbn());
+                index.remove(victim);
+            }
+            assertSame(reference.getMostExpensive(), index.max());
+        }
+
+        for (int i = 0; i < 50; i++) {
+            double min = random.nextInt(40) / 2.0;
+            double max = min + random.nextInt(10);
+            List<Book> expected = reference.findByPriceRange(Math.max(min, 0.5), max);
+            List<Book> actual = index.range(Math.max(min, 0.5), max);
+            assertEquals(expected.size(), actual.size());
+            assertTrue(actual.containsAll(expected));
+        }
+    }
+
+    @Test
+    @Order(7)
+    void testEstimateBoundsRange() {
+        for (Book b : new Book[]{cheap, mid, expensive, expensiveTie, free}) {
+            index.add(b);
+        }
+        index.add(new Book("6666666666666", "Zeta", "AuthorD", 10000.0, 2010));
+
+        assertEquals(2, index.estimate(50.0, 50.0));
+        assertEquals(1, index.estimate(19.5, 20.2));
+        assertEquals(index.range(0.0, 60.0).size(), index.estimate(0.0, 60.0));
+        assertEquals(1, index.estimate(5000.0, 20000.0));
+        assertEquals(0, index.estimate(60.0, 40.0));
+        assertTrue(index.estimate(4.5, 5.5) >= index.range(4.5, 5.5).size());
+
+        index.remove(expensive);
+        assertEquals(1, index.estimate(50.0, 50.0));
+    }
+
+    @Test
+    @Order(8)
+    void testAddAllMatchesAdd() {
+        index.add(mid);
+        index.addAll(List.of(expensive, cheap, expensiveTie, free, cheap));
+        PriceIndex oneByOne = new PriceIndex();
+        for (Book b : new Book[]{mid, expensive, cheap, expensiveTie, free}) {
+            oneByOne.add(b);
+        }
+
+        assertEquals(oneByOne.range(0, 100), index.range(0, 100));
+        assertEquals(oneByOne.highest(5), index.highest(5));
+        assertEquals(expensiveTie, index.max());
+        assertEquals(oneByOne.estimate(0, 20), index.estimate(0, 20));
+        assertEquals(5, index.size());
+    }
+}
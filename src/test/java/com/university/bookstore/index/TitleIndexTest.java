@@ -0,0 +1,137 @@
+package com.university.bookstore.index;
+
+import com.university.bookstore.impl.BookstoreArrayList;
+import com.university.bookstore.model.Book;
+import org.junit.jupiter.api.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class TitleIndexTest {
+
+    private TitleIndex index;
+    private Book hunger, sequel, amulet, stone, myBook;
+
+    @BeforeEach
+    void setUp() {
+        index = new TitleIndex();
+        hunger = new Book("1111111111111", "Hunger Games", "Jane Smith", 10.99, 2015);
+        sequel = new Book("2222222222222", "Hunger Games Sequel", "Jane Doe", 45.99, 2015);
+        amulet = new Book("3333333333333", "Amulet", "Samantha Smith", 12.99, 2005);
+        stone = new Book("4444444444444", "Amulet Stone", "Jane Doe", 10.99, 2008);
+        myBook = new Book("5555555555555", "My book", "John Doe", 29.99, 2012);
+        index.add(hunger);
+        index.add(sequel);
+        index.add(amulet);
+        index.add(stone);
+        index.add(myBook);
+    }
+
+    @Test
+    @Order(1)
+    void testSubstringSearchIsCaseInsensitive() {
+        assertEquals(List.of(hunger, sequel), index.search("hunger GAMES"));
+        assertEquals(List.of(amulet, stone), index.search("  amulet "));
+        assertEquals(List.of(myBook), index.search("Book"));
+        assertEquals(List.of(sequel), index.search("es seq"));
+    }
+
+    @Test
+    @Order(2)
+    void testTrigramsPresentButNotAdjacent() {
+        Book banana = new Book("6666666666666", "nana ban", "Someone", 1.0, 2000);
+        index.add(banana);
+        // every trigram of "banana" is in the title, but the title does not contain it
+        assertTrue(index.search("banana").isEmpty());
+        assertEquals(List.of(banana), index.search("ana b"));
+        assertTrue(index.search("zzz").isEmpty());
+    }
+
+    @Test
+    @Order(3)
+    void testShortQueriesFallBackToScan() {
+        assertEquals(List.of(hunger, sequel, amulet, stone), index.search("u"));
+        assertEquals(List.of(myBook), index.search("my"));
+        assertTrue(index.search("   ").isEmpty());
+        assertTrue(index.search(null).isEmpty());
+    }
+
+    @Test
+    @Order(4)
+    void testRemoveClearsPostings() {
+        index.remove(hunger);
+        index.remove(hunger);
+        index.remove(null);
+        assertEquals(List.of(sequel), index.search("Hunger"));
+        index.remove(sequel);
+        assertTrue(index.search("Hunger").isEmpty());
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    @Order(5)
+    void testMatchesLinearScan() {
+        String[] words = {"the", "lord", "rings", "of", "war", "peace", "and", "hobbit", "return", "king"};
+        Random random = new Random(3);
+        TitleIndex fresh = new TitleIndex();
+        BookstoreArrayList reference = new BookstoreArrayList();
+        for (int i = 0; i < 300; i++) {
+            String title = words[random.nextInt(words.length)] + " " + words[random.nextInt(words.length)];
+            Book book = new Book(String.valueOf(1000000000000L + i), title, "A", 1.0, 2000);
+            reference.add(book);
+            fresh.add(book);
+        }
+
+        String[] queries = {"the", "e", "ng", "rings of", "war peace", "hobbit", "ret", "xyz", "of w"};
+        for (String query : queries) {
+            assertEquals(reference.findByTitle(query), fresh.search(query), query);
+        }
+    }
+
+    @Test
+    @Order(6)
+    void testEstimateIsSmallestPosting() {
+        assertEquals(2, index.estimate("hunger games"));
+        assertEquals(0, index.estimate("zzz"));
+        assertEquals(0, index.estimate("  "));
+        assertEquals(5, index.estimate("am"));
+        assertTrue(index.estimate("amulet") >= index.search("amulet").size());
+    }
+
+    @Test
+    @Order(7)
+    void testAddAllMatchesAdd() {
+        TitleIndex batch = new TitleIndex();
+        batch.add(hunger);
+        batch.addAll(List.of(sequel, amulet, stone, myBook, amulet));
+
+        for (String query : new String[]{"hunger", "amulet", "es seq", "book", "ne", "zzz"}) {
+            assertEquals(index.search(query), batch.search(query), query);
+            assertEquals(index.estimate(query), batch.estimate(query), query);
+        }
+        assertEquals(index.size(), batch.size());
+    }
+
+    @Test
+    @Order(8)
+    void testStreamIsLazy() {
+        assertEquals(List.of(hunger, sequel), index.stream("hunger").collect(Collectors.toList()));
+        assertEquals(List.of(amulet), index.stream("amulet").limit(1).collect(Collectors.toList()));
+        assertEquals(List.of(myBook), index.stream("k").collect(Collectors.toList()));
+        assertEquals(0, index.stream("zzz").count());
+        assertEquals(0, index.stream(" ").count());
+
+        Random random = new Random(5);
+        TitleIndex fresh = new TitleIndex();
+        for (int i = 0; i < 300; i++) {
+            fresh.add(new Book(String.valueOf(1000000000000L + i), "Title " + random.nextInt(50), "A", 1.0, 2000));
+        }
+        for (String query : new String[]{"title", "le 1", "e", "title 49"}) {
+            assertEquals(fresh.search(query), fresh.stream(query).collect(Collectors.toList()), query);
+        }
+    }
+}
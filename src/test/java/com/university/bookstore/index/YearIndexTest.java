@@ -0,0 +1,132 @@
+package com.university.bookstore.index;
+
+import com.university.bookstore.impl.BookstoreArrayList;
+import com.university.bookstore.model.Book;
+import com.university.bookstore.utils.BookArrayUtils;
+import org.junit.jupiter.api.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class YearIndexTest {
+
+    private YearIndex index;
+    private Book b1, b2, b3, b4, b5;
+
+    @BeforeEach
+    void setUp() {
+        index = new YearIndex();
+        b1 = new Book("1111111111111", "Alpha", "AuthorA", 20.0, 1999);
+        b2 = new Book("2222222222222", "Beta", "AuthorB", 35.0, 2005);
+        b3 = new Book("3333333333333", "Gamma", "AuthorA", 35.0, 2005);
+        b4 = new Book("4444444444444", "Delta", "AuthorC", 50.0, 2010);
+        b5 = new Book("5555555555555", "Epsilon", "AuthorC", 50.0, 1450);
+    }
+
+    @Test
+    @Order(1)
+    void testEmptyIndex() {
+        assertNull(index.mostRecent());
+        assertTrue(index.findByYear(2005).isEmpty());
+        assertTrue(index.findByDecade(2000).isEmpty());
+        assertEquals(0, index.countBeforeYear(3000));
+    }
+
+    @Test
+    @Order(2)
+    void testFindByYearAndDecade() {
+        index.add(b1);
+        index.add(b2);
+        index.add(b3);
+        index.add(b4);
+
+        assertEquals(List.of(b2, b3), index.findByYear(2005));
+        assertEquals(List.of(b2, b3), index.findByDecade(2000));
+        assertEquals(List.of(b1), index.findByDecade(1995));
+        assertTrue(index.findByYear(1000).isEmpty());
+        assertTrue(index.findByDecade(3000).isEmpty());
+    }
+
+    @Test
+    @Order(3)
+    void testCountBeforeYearBoundaries() {
+        index.add(b1);
+        index.add(b2);
+        index.add(b4);
+        index.add(b5);
+
+        assertEquals(0, index.countBeforeYear(1450));
+        assertEquals(1, index.countBeforeYear(1451));
+        assertEquals(2, index.countBeforeYear(2005));
+        assertEquals(3, index.countBeforeYear(2006));
+        assertEquals(4, index.countBeforeYear(Integer.MAX_VALUE));
+        assertEquals(0, index.countBeforeYear(Integer.MIN_VALUE));
+        assertEquals(3, index.countBetween(1999, 2010));
+    }
+
+    @Test
+    @Order(4)
+    void testMostRecentAfterRemovingNewest() {
+        index.add(b2);
+        index.add(b4);
+        index.add(b3);
+        assertSame(b4, index.mostRecent());
+
+        index.remove(b4);
+        assertSame(b2, index.mostRecent());
+        index.remove(b2);
+        assertSame(b3, index.mostRecent());
+        index.remove(b3);
+        assertNull(index.mostRecent());
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    @Order(5)
+    void testMatchesLinearScan() {
+        Random random = new Random(7);
+        BookstoreArrayList reference = new BookstoreArrayList();
+        for (int i = 0; i < 500; i++) {
+            int year = 1450 + random.nextInt(577);
+            Book book = new Book(String.valueOf(1000000000000L + i), "T" + i, "A", 1.0, year);
+            reference.add(book);
+            index.add(book);
+            if (random.nextInt(3) == 0) {
+                Book victim = reference.getAllBooks().get(random.nextInt(reference.size()));
+                reference.removeByIsbn(victim.getIsbn());
+                index.remove(victim);
+            }
+            assertSame(reference.getMostRecent(), index.mostRecent());
+        }
+
+        Book[] all = reference.snapshotArray();
+        for (int cutoff = 1440; cutoff <= 2030; cutoff += 7) {
+            assertEquals(BookArrayUtils.countBeforeYear(all, cutoff), index.countBeforeYear(cutoff));
+            Book[] expected = BookArrayUtils.filterByDecade(all, cutoff);
+            List<Book> actual = index.findByDecade(cutoff);
+            assertEquals(expected.length, actual.size());
+            assertTrue(actual.containsAll(Arrays.asList(expected)));
+        }
+    }
+
+    @Test
+    @Order(6)
+    void testAddAllMatchesAdd() {
+        index.add(b2);
+        index.addAll(List.of(b4, b1, b3, b5, b1));
+        YearIndex oneByOne = new YearIndex();
+        for (Book b : new Book[]{b2, b4, b1, b3, b5}) {
+            oneByOne.add(b);
+        }
+
+        assertEquals(oneByOne.findByYear(2005), index.findByYear(2005));
+        assertEquals(oneByOne.mostRecent(5), index.mostRecent(5));
+        assertEquals(oneByOne.countBeforeYear(2006), index.countBeforeYear(2006));
+        assertEquals(b4, index.mostRecent());
+        assertEquals(5, index.size());
+    }
+}
@@ -0,0 +1,110 @@
+package com.university.bookstore.io;
+
+import com.university.bookstore.api.BookstoreAPI;
+import com.university.bookstore.impl.BookstoreArrayList;
+import com.university.bookstore.impl.BookstoreHashMap;
+import com.university.bookstore.model.Book;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class BinarySnapshotTest {
+
+    @TempDir
+    Path dir;
+
+    private static void assertSameBooks(Book[] expected, Book[] actual) {
+        assertEquals(expected.length, actual.length);
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i].getIsbn(), actual[i].getIsbn());
+            assertEquals(expected[i].getTitle(), actual[i].getTitle());
+            assertEquals(expected[i].getAuthor(), actual[i].getAuthor());
+            assertEquals(expected[i].getPrice(), actual[i].getPrice());
+            assertEquals(expected[i].getYear(), actual[i].getYear());
+        }
+    }
+
+    @Test
+    @Order(1)
+    void testRoundTripRebuildsStoreAndIndexes() throws IOException {
+        BookstoreAPI store = new BookstoreHashMap();
+        store.add(new Book("9780306406157", "War and Peace", "Leo Tolstoy", 12.99, 1869));
+        store.add(new Book("0012345678", "Cien años de soledad", "Gabriel García Márquez", 0.1, 1967));
+        store.add(new Book("9780140449136", "", "Leo Tolstoy", 45.5, 2025));
+        Path file = dir.resolve("catalog.snap");
+
+        new BinarySnapshotWriter().write(store, file);
+        BookstoreAPI loaded = new BinarySnapshotReader().load(file, new BookstoreHashMap());
+
+        assertSameBooks(store.snapshotArray(), loaded.snapshotArray());
+        assertEquals(2, loaded.findByAuthor("tolstoy").size());
+        assertEquals("0012345678", loaded.findByTitle("años").get(0).getIsbn());
+        assertEquals(store.inventoryValue(), loaded.inventoryValue(), 1e-9);
+        assertEquals(store.getMostRecent(), loaded.getMostRecent());
+        assertSame(loaded.findByIsbn("9780306406157").getAuthor(), loaded.findByIsbn("9780140449136").getAuthor());
+    }
+
+    @Test
+    @Order(2)
+    void testLargeSnapshotRoundTrip() throws IOException {
+        Book[] books = new Book[100000];
+        for (int i = 0; i < books.length; i++) {
+            books[i] = new Book(String.valueOf(9780000000000L + i), "Title " + i, "Author " + i % 500,
+                    (i % 20000) / 100.0, 1900 + i % 126);
+        }
+        Path file = dir.resolve("large.snap");
+
+        new BinarySnapshotWriter().write(books, file);
+        Book[] read = new BinarySnapshotReader().read(file);
+
+        assertSameBooks(books, read);
+        assertEquals(100000, new BinarySnapshotReader().load(file, new BookstoreArrayList()).size());
+    }
+
+    @Test
+    @Order(3)
+    void testEmptySnapshotAndReplace() throws IOException {
+        Path file = dir.resolve("empty.snap");
+        new BinarySnapshotWriter().write(new Book[]{null}, file);
+        assertEquals(0, new BinarySnapshotReader().read(file).length);
+
+        new BinarySnapshotWriter().write(new Book[]{new Book("9780306406157", "A", "B", 1, 2000)}, file);
+        assertEquals(1, new BinarySnapshotReader().read(file).length);
+        try (var files = Files.list(dir)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    @Order(4)
+    void testRejectsCorruptedSnapshots() throws IOException {
+        Path file = dir.resolve("corrupt.snap");
+        new BinarySnapshotWriter().write(new Book[]{new Book("9780306406157", "A", "B", 1, 2000)}, file);
+        byte[] bytes = Files.readAllBytes(file);
+        BinarySnapshotReader reader = new BinarySnapshotReader();
+
+        byte[] flipped = bytes.clone();
+        flipped[flipped.length - 1] ^= 1;
+        Files.write(file, flipped);
+        IOException checksum = assertThrows(IOException.class, () -> reader.read(file));
+        assertTrue(checksum.getMessage().contains("checksum"));
+
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 3));
+        assertThrows(IOException.class, () -> reader.read(file));
+
+        byte[] magic = bytes.clone();
+        magic[0] = 'X';
+        Files.write(file, magic);
+        assertThrows(IOException.class, () -> reader.read(file));
+
+        Files.write(file, new byte[4]);
+        assertThrows(IOException.class, () -> reader.read(file));
+    }
+}
@@ -0,0 +1,207 @@
+package com.university.bookstore.io;
+
+import com.university.bookstore.api.BookstoreAPI;
+import com.university.bookstore.impl.BookstoreArrayList;
+import com.university.bookstore.impl.BookstoreHashMap;
+import com.university.bookstore.model.Book;
+import com.university.bookstore.model.BookFactory;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class CsvCatalogImporterTest {
+
+    @TempDir
+    Path dir;
+
+    private Path write(String content) throws IOException {
+        Path file = dir.resolve("catalog.csv");
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    @Test
+    @Order(1)
+    void testImportsQuotedFieldsHeaderAndBlankLines() throws IOException {
+        Path file = write("isbn,title,author,price,year\r\n"
+                + "9780306406157,\"War, and \"\"Peace\"\"\",Leo Tolstoy,12.99,1869\r\n"
+                + "\r\n"
+                + "978-0-14-044913-6 , Crime and Punishment ,Fyodor Dostoyevsky, 9.5 ,1866\n"
+                + "0306406152,Cien años de soledad,Gabriel García Márquez,10,1967");
+        BookstoreAPI store = new BookstoreArrayList();
+
+        ImportReport report = new CsvCatalogImporter().importFile(file, store);
+
+        assertEquals(3, report.rows());
+        assertEquals(3, report.imported());
+        assertEquals(0, report.malformed());
+        List<Book> books = store.getAllBooks();
+        assertEquals("War, and \"Peace\"", books.get(0).getTitle());
+        assertEquals(12.99, books.get(0).getPrice());
+        assertEquals("9780140449136", books.get(1).getIsbn());
+        assertEquals("Crime and Punishment", books.get(1).getTitle());
+        assertEquals(9.5, books.get(1).getPrice());
+        assertEquals("0306406152", books.get(2).getIsbn());
+        assertEquals("Gabriel García Márquez", books.get(2).getAuthor());
+        assertEquals(10.0, books.get(2).getPrice());
+    }
+
+    @Test
+    @Order(2)
+    void testReportsMalformedRowsAndKeepsGoing() throws IOException {
+        Path file = write("9780306406157,A,B,1.00,2000\n"
+                + "97803064X6157,A,B,1.00,2000\n"
+                + "978030640,A,B,1.00,2000\n"
+                + "9780306406158,A,B,1.00\n"
+                + "9780306406159,A,B,cheap,2000\n"
+                + "9780306406160,A,B,1.00,1200\n"
+                + "9780306406161,\"A,B,1.00,2000\n"
+                + "9780306406162,A,B,-1,2000\n"
+                + "9780306406157,Again,B,2.00,2001\n"
+                + "9780306406163,A,B,3.00,2002\n");
+        BookstoreAPI store = new BookstoreHashMap();
+
+        ImportReport report = new CsvCatalogImporter().importFile(file, store);
+
+        assertEquals(10, report.rows());
+        assertEquals(2, report.imported());
+        assertEquals(1, report.duplicates());
+        assertEquals(7, report.malformed());
+        List<ImportReport.RowError> errors = report.errors();
+        assertEquals(List.of(2L, 3L, 4L, 5L, 6L, 7L, 8L), errors.stream().map(ImportReport.RowError::line).toList());
+        assertEquals("Invalid characters for ISBN", errors.get(0).message());
+        assertEquals("Invalid length for ISBN", errors.get(1).message());
+        assertEquals("Expected 5 fields but found 4", errors.get(2).message());
+        assertEquals("Invalid price", errors.get(3).message());
+        assertEquals("Invalid year", errors.get(4).message());
+        assertEquals("Unterminated quoted field", errors.get(5).message());
+        assertEquals("Invalid price", errors.get(6).message());
+        assertEquals("A", store.findByIsbn("9780306406157").getTitle());
+    }
+
+    @Test
+    @Order(3)
+    void testParallelChunksMatchSequentialImport() throws IOException {
+        StringBuilder csv = new StringBuilder("ISBN,Title,Author,Price,Year\n");
+        for (int i = 0; i < 20000; i++) {
+            if (i % 1000 == 999) {
+                csv.append("broken row ").append(i).append('\n');
+            } else {
+                csv.append(9780000000000L + i % 19000).append(",\"Title, ").append(i).append("\",Author ")
+                        .append(i % 50).append(',').append(i % 300).append('.').append(i % 100).append(',')
+                        .append(1900 + i % 120).append('\n');
+            }
+        }
+        Path file = write(csv.toString());
+
+        BookstoreAPI sequential = new BookstoreArrayList();
+        ImportReport expected = new CsvCatalogImporter(1000, 1 << 20, 1).importFile(file, sequential);
+        BookstoreAPI parallel = new BookstoreArrayList();
+        ImportReport actual = new CsvCatalogImporter(100, 4096, 4).importFile(file, parallel);
+
+        assertEquals(20000, actual.rows());
+        assertEquals(20, actual.malformed());
+        assertEquals(expected.imported(), actual.imported());
+        assertEquals(expected.duplicates(), actual.duplicates());
+        assertEquals(sequential.getAllBooks(), parallel.getAllBooks());
+        for (int i = 0; i < 20; i++) {
+            assertEquals(1000L * i + 1000 + 1, actual.errors().get(i).line());
+        }
+        Book first = parallel.getAllBooks().get(0);
+        assertEquals("Title, 0", first.getTitle());
+    }
+
+    @Test
+    @Order(4)
+    void testEmptyFileAndInvalidArguments() throws IOException {
+        ImportReport report = new CsvCatalogImporter().importFile(write(""), new BookstoreArrayList());
+        assertEquals(0, report.rows());
+        assertThrows(IllegalArgumentException.class, () -> new CsvCatalogImporter(0, 1, 1));
+        assertThrows(IllegalArgumentException.class, () -> new CsvCatalogImporter().importFile(null, new BookstoreArrayList()));
+    }
+
+    @Test
+    @Order(5)
+    void testFactorySharesAuthorsAcrossChunks() throws IOException {
+        StringBuilder csv = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            csv.append(9780000000000L + i).append(",Title ").append(i % 10).append(",Author ")
+                    .append(i % 7).append(",10.00,2000\n");
+        }
+        Path file = write(csv.toString());
+        BookFactory factory = new BookFactory(true, true);
+        BookstoreAPI store = new BookstoreArrayList();
+
+        ImportReport report = new CsvCatalogImporter(100, 4096, 4, factory).importFile(file, store);
+
+        assertEquals(5000, report.imported());
+        List<Book> books = store.getAllBooks();
+        assertSame(books.get(3).getAuthor(), books.get(4994).getAuthor());
+        assertSame(books.get(5).getTitle(), books.get(4995).getTitle());
+        assertEquals(17, factory.internedStrings());
+        assertEquals(5000, factory.cachedBooks());
+    }
+
+    @Test
+    @Order(6)
+    void testIsbnValidationMatchesBook() throws IOException {
+        String[] isbns = {" 978-0-13-235088-4 ", "-9780132350884-", "978 0 13 235088 4", "978-0 132350884",
+                "0-13-235088-2", "97801323508841234", "\t0132350882", "97801323508\u00e98"};
+        StringBuilder csv = new StringBuilder();
+        for (String isbn : isbns) {
+            csv.append(isbn).append(",A,B,1.00,2000\n");
+        }
+        BookstoreAPI store = new BookstoreArrayList();
+
+        ImportReport report = new CsvCatalogImporter().importFile(write(csv.toString()), store);
+
+        List<ImportReport.RowError> errors = report.errors();
+        int error = 0;
+        for (int i = 0; i < isbns.length; i++) {
+            String expected;
+            try {
+                Book book = new Book(isbns[i], "A", "B", 1.00, 2000);
+                assertEquals(book, store.findByIsbn(book.getIsbn()), isbns[i]);
+                continue;
+            } catch (IllegalArgumentException e) {
+                expected = e.getMessage();
+            }
+            assertEquals(i + 1, errors.get(error).line(), isbns[i]);
+            assertEquals(expected, errors.get(error++).message(), isbns[i]);
+        }
+        assertEquals(errors.size(), error);
+        assertEquals(4, report.malformed());
+    }
+
+    @Test
+    @Order(7)
+    void testOnlyPlainDecimalPricesAreAccepted() throws IOException {
+        String[] rejected = {"12d", "1e3", "0x1p3", "12f", "-1", "+5", "NaN", "Infinity", "1.", ".5", "1.2.3", "1,5"};
+        StringBuilder csv = new StringBuilder();
+        for (int i = 0; i < rejected.length; i++) {
+            csv.append(9780000000000L + i).append(",A,B,\"").append(rejected[i]).append("\",2000\n");
+        }
+        csv.append("9780000000100,A,B, 7 ,2000\n");
+        csv.append("9780000000101,A,B,0012.50,2000\n");
+        csv.append("9780000000102,A,B,12345678901234567.25,2000\n");
+        BookstoreAPI store = new BookstoreArrayList();
+
+        ImportReport report = new CsvCatalogImporter().importFile(write(csv.toString()), store);
+
+        assertEquals(rejected.length, report.malformed());
+        for (ImportReport.RowError error : report.errors()) {
+            assertEquals("Invalid price", error.message(), "line " + error.line());
+        }
+        assertEquals(7.0, store.findByIsbn("9780000000100").getPrice());
+        assertEquals(12.5, store.findByIsbn("9780000000101").getPrice());
+        assertEquals(12345678901234567.25, store.findByIsbn("9780000000102").getPrice());
+    }
+}
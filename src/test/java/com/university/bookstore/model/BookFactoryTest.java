@@ -0,0 +1,134 @@
+package com.university.bookstore.model;
+
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class BookFactoryTest {
+
+    @Test
+    @Order(1)
+    void testSharesAuthorsAndTitles() {
+        BookFactory factory = new BookFactory(true, true);
+        Book first = factory.create("9780000000001", "Dune", new String("Frank Herbert"), 9.99, 1965);
+        Book second = factory.create("9780000000002", new String("Dune"), " Frank Herbert ", 12.99, 1984);
+
+        assertSame(first.getAuthor(), second.getAuthor());
+        assertSame(first.getTitle(), second.getTitle());
+        assertEquals("Frank Herbert", second.getAuthor());
+        assertEquals(2, factory.internedStrings());
+    }
+
+    @Test
+    @Order(2)
+    void testRepeatedEntriesReturnTheCachedBook() {
+        BookFactory factory = new BookFactory(false, true);
+        Book book = factory.create("978-0-00-000000-1", "Dune", "Frank Herbert", 9.99, 1965);
+
+        assertSame(book, factory.create("9780000000001", "Dune ", "Frank Herbert", 9.99, 1965));
+        Book repriced = factory.create("9780000000001", "Dune", "Frank Herbert", 11.99, 1965);
+        assertNotSame(book, repriced);
+        assertEquals(11.99, repriced.getPrice());
+        assertSame(repriced, factory.create("9780000000001", "Dune", "Frank Herbert", 11.99, 1965));
+        assertEquals(1, factory.cachedBooks());
+    }
+
+    @Test
+    @Order(3)
+    void testInternBook() {
+        BookFactory factory = new BookFactory(true, true);
+        Book created = factory.create("9780000000001", "Dune", "Frank Herbert", 9.99, 1965);
+        Book loaded = new Book("9780000000002", new String("Dune Messiah"), new String("Frank Herbert"), 9.99, 1969);
+
+        Book interned = factory.intern(loaded);
+        assertEquals(loaded, interned);
+        assertSame(created.getAuthor(), interned.getAuthor());
+        assertSame(interned, factory.intern(loaded));
+        assertSame(created, factory.intern(new Book("9780000000001", "Dune", "Frank Herbert", 9.99, 1965)));
+        assertNull(factory.intern((Book) null));
+        assertNull(factory.intern((String) null));
+    }
+
+    @Test
+    @Order(4)
+    void testDefaultsInternAuthorsOnly() {
+        BookFactory factory = new BookFactory();
+        Book first = factory.create("9780000000001", new String("Dune"), "Frank Herbert", 9.99, 1965);
+        Book second = factory.create("9780000000001", new String("Dune"), "Frank Herbert", 9.99, 1965);
+
+        assertNotSame(first, second);
+        assertNotSame(first.getTitle(), second.getTitle());
+        assertSame(first.getAuthor(), second.getAuthor());
+        assertEquals(1, factory.internedStrings());
+        assertEquals(0, factory.cachedBooks());
+        factory.clear();
+        assertEquals(0, factory.internedStrings());
+    }
+
+    @Test
+    @Order(5)
+    void testValidatesLikeTheConstructor() {
+        BookFactory factory = new BookFactory();
+        assertThrows(NullPointerException.class, () -> factory.create(null, "T", "A", 1, 2000));
+        assertThrows(NullPointerException.class, () -> factory.create("9780000000001", null, "A", 1, 2000));
+        assertThrows(IllegalArgumentException.class, () -> factory.create("97800000", "T", "A", 1, 2000));
+        assertThrows(IllegalArgumentException.class, () -> factory.create("9780000000001", "T", "A", -1, 2000));
+        assertThrows(IllegalArgumentException.class, () -> factory.create("9780000000001", "T", "A", 1, 1200));
+        assertEquals(0, factory.cachedBooks());
+    }
+
+    @Test
+    @Order(6)
+    void testSharedAcrossThreads() throws Exception {
+        BookFactory factory = new BookFactory(true, true);
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<List<Book>>> results = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                results.add(pool.submit(() -> {
+                    List<Book> books = new ArrayList<>();
+                    for (int i = 0; i < 10000; i++) {
+                        books.add(factory.create(String.valueOf(9780000000000L + i), "Title " + i % 100,
+                                "Author " + i % 37, 5.0, 2000));
+                    }
+                    return books;
+                }));
+            }
+            List<Book> first = results.get(0).get();
+            for (Future<List<Book>> result : results) {
+                List<Book> books = result.get();
+                for (int i = 0; i < books.size(); i++) {
+                    assertSame(first.get(i).getAuthor(), books.get(i).getAuthor());
+                    assertSame(first.get(i).getTitle(), books.get(i).getTitle());
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+        assertEquals(137, factory.internedStrings());
+        assertEquals(10000, factory.cachedBooks());
+    }
+
+    @Test
+    @Order(7)
+    @DisplayName("Books of a factory share their search keys")
+    void testSharedSearchKeys() {
+        BookFactory factory = new BookFactory(true, false);
+        Book first = factory.create("9780000000001", "Cien Años de Soledad", "Gabriel García Márquez", 10.0, 1967);
+        Book second = factory.create("9780000000002", " Cien Años de Soledad ", "Gabriel García Márquez", 12.0, 1970);
+
+        assertEquals("gabriel garcia marquez", first.getAuthorKey());
+        assertEquals("cien anos de soledad", first.getTitleKey());
+        assertSame(first.getAuthorKey(), second.getAuthorKey());
+        assertSame(first.getTitleKey(), second.getTitleKey());
+        assertSame(first.getAuthorKey(), factory.intern(new Book("9780000000003", "Other", "Gabriel García Márquez",
+                1.0, 2000)).getAuthorKey());
+    }
+}
@@ -196,4 +196,58 @@ class BookTest {
         assertTrue(str.contains(String.valueOf(validPrice)));
         assertTrue(str.contains(String.valueOf(validYear)));
     }
+
+    @Test
+    @Order(24)
+    void testCanonicalInputIsKeptAsIs() {
+        Book book = new Book(validIsbn13, validTitle, validAuthor, validPrice, validYear);
+        assertSame(validIsbn13, book.getIsbn());
+        assertSame(validTitle, book.getTitle());
+        assertSame(validAuthor, book.getAuthor());
+
+        assertEquals(validIsbn13, new Book(" 978-0134685990", validTitle, validAuthor, validPrice, validYear).getIsbn());
+        assertThrows(IllegalArgumentException.class,
+                () -> new Book("97801346859901234", validTitle, validAuthor, validPrice, validYear));
+    }
+
+    @Test
+    @Order(25)
+    void testISBNWithNonAsciiDigitsThrowsException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new Book("\u0669\u0667\u0668\u0660\u0661\u0663\u0664\u0666\u0668\u0665",
+                        validTitle, validAuthor, validPrice, validYear));
+        assertThrows(IllegalArgumentException.class,
+                () -> new Book("978\uFF10134685990", validTitle, validAuthor, validPrice, validYear));
+    }
+
+    @Test
+    @Order(26)
+    void testSearchKeysAreComputedOnCreation() {
+        Book book = new Book(validIsbn13, "  Cien Años de Soledad ", "Gabriel García Márquez", validPrice, validYear);
+        assertEquals("cien anos de soledad", book.getTitleKey());
+        assertEquals("gabriel garcia marquez", book.getAuthorKey());
+        assertSame(book.getTitleKey(), book.getTitleKey());
+
+        Book lowerCase = new Book(validIsbn13, "dune", "frank herbert", validPrice, validYear);
+        assertSame(lowerCase.getTitle(), lowerCase.getTitleKey());
+        assertSame(lowerCase.getAuthor(), lowerCase.getAuthorKey());
+    }
+
+    @Test
+    @Order(27)
+    void testWithSearchKeysUsesTheGivenKeys() {
+        String titleKey = "cien anos de soledad";
+        String authorKey = "gabriel garcia marquez";
+        Book book = Book.withSearchKeys(validIsbn13, "Cien Años de Soledad", "Gabriel García Márquez",
+                validPrice, validYear, titleKey, authorKey);
+        assertSame(titleKey, book.getTitleKey());
+        assertSame(authorKey, book.getAuthorKey());
+        assertEquals(new Book(validIsbn13, "Cien Años de Soledad", "Gabriel García Márquez", validPrice, validYear), book);
+
+        Book computed = Book.withSearchKeys(validIsbn13, "Dune", "Frank Herbert", validPrice, validYear, null, null);
+        assertEquals("dune", computed.getTitleKey());
+        assertEquals("frank herbert", computed.getAuthorKey());
+        assertThrows(IllegalArgumentException.class, () -> Book.withSearchKeys(validIsbn13, "Dune", "Frank Herbert",
+                -1, validYear, "dune", "frank herbert"));
+    }
 }
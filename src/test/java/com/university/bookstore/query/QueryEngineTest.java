@@ -0,0 +1,183 @@
+package com.university.bookstore.query;
+
+import com.university.bookstore.api.BookstoreAPI;
+import com.university.bookstore.api.Page;
+import com.university.bookstore.impl.BookstoreArrayList;
+import com.university.bookstore.impl.BookstoreColumnar;
+import com.university.bookstore.impl.BookstoreHashMap;
+import com.university.bookstore.model.Book;
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class QueryEngineTest {
+
+    private static Book[] catalog;
+
+    @BeforeAll
+    static void createCatalog() {
+        Random random = new Random(11);
+        String[] words = {"War", "Peace", "Night", "River", "Stone", "Garden", "Winter", "Glass"};
+        String[] authors = {"Jane Smith", "John Doe", "Samantha Smith", "Mary-Jane Watson", "Ray Bradbury", "Jo Smithers"};
+        catalog = new Book[5000];
+        for (int i = 0; i < catalog.length; i++) {
+            String title = words[random.nextInt(words.length)] + " and " + words[random.nextInt(words.length)] + " " + i;
+            catalog[i] = new Book(String.valueOf(9780000000000L + i), title, authors[random.nextInt(authors.length)],
+                    random.nextInt(20000) / 100.0, 1950 + random.nextInt(70));
+        }
+    }
+
+    private static List<Book> scan(BookQuery query) {
+        List<Book> result = new ArrayList<>();
+        for (Book book : catalog) {
+            if (query.matches(book)) {
+                result.add(book);
+            }
+        }
+        return result;
+    }
+
+    private static List<Book> byIsbn(List<Book> books) {
+        return books.stream().sorted(Comparator.comparing(Book::getIsbn)).collect(Collectors.toList());
+    }
+
+    private static List<BookQuery> queries() {
+        return List.of(
+                BookQuery.title("war"),
+                BookQuery.author("smi"),
+                BookQuery.priceBetween(10, 20),
+                BookQuery.year(1999),
+                BookQuery.builder().title("night").author("jane").build(),
+                BookQuery.builder().title("stone").priceBetween(50, 150).year(1980).build(),
+                BookQuery.or(BookQuery.year(1960), BookQuery.year(1961), BookQuery.title("glass and glass")),
+                BookQuery.and(BookQuery.author("doe"), BookQuery.or(BookQuery.year(2000), BookQuery.priceBetween(0.5, 3))),
+                BookQuery.or(BookQuery.title("a"), BookQuery.author("ray")),
+                BookQuery.builder().title("river 12").where(BookQuery.or(BookQuery.author("jo"), BookQuery.author("watson"))).build(),
+                BookQuery.and(BookQuery.title(" "), BookQuery.year(2000)),
+                BookQuery.year(2030));
+    }
+
+    @Test
+    @Order(1)
+    void testSameResultsOnEveryStore() {
+        for (BookstoreAPI store : new BookstoreAPI[]{new BookstoreArrayList(), new BookstoreHashMap(), new BookstoreColumnar()}) {
+            store.addAll(catalog);
+            QueryEngine engine = new QueryEngine(store);
+            for (BookQuery query : queries()) {
+                List<Book> expected = scan(query);
+                List<Book> actual = engine.execute(query);
+                assertEquals(byIsbn(expected), byIsbn(actual), query + " on " + store.getClass().getSimpleName());
+                assertTrue(engine.estimate(query) >= actual.size(), query.toString());
+            }
+        }
+    }
+
+    @Test
+    @Order(2)
+    void testConjunctionDrivesFromMostSelectivePredicate() {
+        BookstoreHashMap store = new BookstoreHashMap();
+        store.addAll(catalog);
+        QueryEngine engine = new QueryEngine(store);
+
+        String plan = engine.explain(BookQuery.builder().author("smith").priceBetween(0.5, 199).year(1999).build());
+        assertTrue(plan.startsWith("and(drive year(1999)~"), plan);
+
+        plan = engine.explain(BookQuery.builder().year(1999).title("4242").build());
+        assertTrue(plan.startsWith("and(drive title(\"4242\")~"), plan);
+
+        plan = engine.explain(BookQuery.builder().year(1999).priceBetween(12.5, 12.6).build());
+        assertTrue(plan.startsWith("and(drive price("), plan);
+
+        long yearOnly = engine.estimate(BookQuery.year(1999));
+        assertEquals(yearOnly, engine.estimate(BookQuery.builder().title("war").author("jane").year(1999).build()));
+    }
+
+    @Test
+    @Order(3)
+    void testDisjunctionMergesOrScans() {
+        BookstoreHashMap store = new BookstoreHashMap();
+        store.addAll(catalog);
+        QueryEngine engine = new QueryEngine(store);
+
+        String plan = engine.explain(BookQuery.or(BookQuery.year(1960), BookQuery.year(1961)));
+        assertTrue(plan.startsWith("or(year(1960)~"), plan);
+        plan = engine.explain(BookQuery.or(BookQuery.title("a"), BookQuery.year(1961)));
+        assertTrue(plan.startsWith("or(scan~5000"), plan);
+
+        List<Book> both = engine.execute(BookQuery.or(BookQuery.year(1960), BookQuery.year(1960), BookQuery.author("doe")));
+        assertEquals(both.size(), both.stream().map(Book::getIsbn).distinct().count());
+
+        BookstoreArrayList scanning = new BookstoreArrayList();
+        scanning.addAll(catalog);
+        assertEquals(5000, new QueryEngine(scanning).estimate(BookQuery.builder().title("war").year(1999).build()));
+    }
+
+    @Test
+    @Order(4)
+    void testPagesStopEarly() {
+        int[] read = {0};
+        BookstoreHashMap store = new BookstoreHashMap() {
+            @Override
+            public List<Book> findByTitle(String title) {
+                throw new AssertionError("title matches collected eagerly");
+            }
+
+            @Override
+            public List<Book> findByAuthor(String author) {
+                throw new AssertionError("author matches collected eagerly");
+            }
+
+            @Override
+            public Stream<Book> streamByAuthor(String author) {
+                return super.streamByAuthor(author).peek(book -> read[0]++);
+            }
+
+            @Override
+            public Stream<Book> streamByPriceRange(double minPrice, double maxPrice) {
+                return super.streamByPriceRange(minPrice, maxPrice).peek(book -> read[0]++);
+            }
+        };
+        store.addAll(catalog);
+        QueryEngine engine = new QueryEngine(store);
+        BookQuery query = BookQuery.builder().author("smith").priceBetween(10, 100).build();
+
+        List<Book> all = engine.execute(query);
+        int total = read[0];
+        read[0] = 0;
+        Page first = engine.page(query, 0, 10);
+        int firstRead = read[0];
+        read[0] = 0;
+        Page second = engine.page(query, first.nextOffset(), 10);
+
+        assertEquals(all.subList(0, 10), first.items());
+        assertEquals(all.subList(10, 20), second.items());
+        assertTrue(second.hasMore());
+        assertTrue(total > 1000, "the query should have many candidates, read " + total);
+        assertTrue(firstRead < 100, "first page read " + firstRead + " of " + total + " candidates");
+        assertTrue(read[0] < 100, "second page read " + read[0] + " of " + total + " candidates");
+
+        read[0] = 0;
+        assertEquals(all.subList(0, 3), engine.stream(query).limit(3).collect(Collectors.toList()));
+        assertTrue(read[0] < 50, "limit(3) read " + read[0] + " of " + total + " candidates");
+    }
+
+    @Test
+    @Order(5)
+    void testInvalidQueries() {
+        assertThrows(IllegalArgumentException.class, () -> BookQuery.priceBetween(5, 1));
+        assertThrows(IllegalArgumentException.class, () -> BookQuery.priceBetween(-1, 1));
+        assertThrows(IllegalArgumentException.class, () -> BookQuery.and());
+        assertThrows(IllegalArgumentException.class, () -> BookQuery.or(BookQuery.year(2000), null));
+        assertThrows(IllegalStateException.class, () -> BookQuery.builder().build());
+        assertThrows(IllegalArgumentException.class, () -> new QueryEngine(null));
+        assertThrows(IllegalArgumentException.class, () -> new QueryEngine(new BookstoreArrayList()).execute(null));
+    }
+}
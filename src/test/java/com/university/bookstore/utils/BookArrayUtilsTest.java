@@ -2,6 +2,19 @@ package com.university.bookstore.utils;
 
 import com.university.bookstore.model.Book;
 import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
@@ -147,4 +160,158 @@ class BookArrayUtilsExtraTest {
         Book[] filtered = BookArrayUtils.filterPriceAtMost(arr, 50);
         assertEquals(3, filtered.length);
     }
+
+    // ======= Deduplication and Merging =======
+
+    @Test
+    @Order(13)
+    void testRemoveDuplicatesKeepsFirstOccurrence() {
+        Book b1Copy = new Book("1111111111111", "Alpha Reprint", "AuthorA", 25.0, 2001);
+        Book[] arr = {b3, null, b1, b3, b1Copy, b2, null, b1};
+
+        assertArrayEquals(new Book[]{b3, b1, b2}, BookArrayUtils.removeDuplicates(arr));
+        assertSame(b1, BookArrayUtils.removeDuplicates(arr)[1]);
+
+        Book[] sorted = BookArrayUtils.removeDuplicatesSorted(arr);
+        assertArrayEquals(new Book[]{b1, b2, b3}, sorted);
+        assertSame(b1, sorted[0]);
+        assertEquals(0, BookArrayUtils.removeDuplicatesSorted(null).length);
+    }
+
+    @Test
+    @Order(14)
+    void testRemoveDuplicatesLargeInput() {
+        Random random = new Random(5);
+        Book[] arr = new Book[200000];
+        Map<String, Book> firsts = new LinkedHashMap<>();
+        for (int i = 0; i < arr.length; i++) {
+            String isbn = String.valueOf(9780000000000L + random.nextInt(60000));
+            arr[i] = new Book(isbn, "Title " + i, "Author", 10.0, 2000);
+            firsts.putIfAbsent(isbn, arr[i]);
+        }
+
+        Book[] unique = BookArrayUtils.removeDuplicates(arr);
+        assertEquals(new ArrayList<>(firsts.values()), Arrays.asList(unique));
+        for (int i = 0; i < unique.length; i++) {
+            assertSame(firsts.get(unique[i].getIsbn()), unique[i]);
+        }
+
+        Book[] sorted = BookArrayUtils.removeDuplicatesSorted(arr);
+        assertEquals(new ArrayList<>(new TreeMap<>(firsts).values()), Arrays.asList(sorted));
+        for (Book book : sorted) {
+            assertSame(firsts.get(book.getIsbn()), book);
+        }
+    }
+
+    @Test
+    @Order(15)
+    void testMergeUniqueOfSortedArrays() {
+        Book b2Copy = new Book("2222222222222", "Beta Reprint", "AuthorB", 30.0, 2006);
+        Book[] first = {b1, null, b3, b5};
+        Book[] second = {b2Copy, b3, b4};
+        Book[] third = {b2, b2, b5};
+
+        Book[] merged = BookArrayUtils.mergeUnique(first, null, second, third);
+        assertArrayEquals(new Book[]{b1, b2, b3, b4, b5}, merged);
+        assertSame(b2Copy, merged[1]);
+        assertSame(b3, merged[2]);
+        assertEquals(0, BookArrayUtils.mergeUnique().length);
+        assertEquals(0, BookArrayUtils.mergeUnique((Book[][]) null).length);
+        assertThrows(IllegalArgumentException.class,
+                () -> BookArrayUtils.mergeUnique(new Book[]{b1}, new Book[]{b3, b2}));
+    }
+
+    @Test
+    @Order(16)
+    void testMergeUniqueStreamsManyInputs() {
+        Random random = new Random(6);
+        List<Book[]> feeds = new ArrayList<>();
+        List<Book> all = new ArrayList<>();
+        for (int f = 0; f < 40; f++) {
+            Book[] feed = new Book[5000];
+            for (int i = 0; i < feed.length; i++) {
+                feed[i] = new Book(String.valueOf(9780000000000L + random.nextInt(100000)), "Feed " + f, "Author", 10.0, 2000);
+            }
+            feed = BookArrayUtils.removeDuplicatesSorted(feed);
+            feeds.add(feed);
+            all.addAll(Arrays.asList(feed));
+        }
+
+        List<Iterator<Book>> inputs = new ArrayList<>();
+        for (Book[] feed : feeds) {
+            inputs.add(Arrays.asList(feed).iterator());
+        }
+        Iterator<Book> merged = BookArrayUtils.mergeUnique(inputs);
+        Book[] expected = BookArrayUtils.removeDuplicatesSorted(all.toArray(new Book[0]));
+        for (Book book : expected) {
+            assertTrue(merged.hasNext());
+            assertSame(book, merged.next());
+        }
+        assertFalse(merged.hasNext());
+        assertThrows(NoSuchElementException.class, merged::next);
+    }
+
+    // ======= Primitive-key Sorting =======
+
+    private static Book[] sortingInput(int size, long seed) {
+        Random random = new Random(seed);
+        Book[] arr = new Book[size];
+        for (int i = 0; i < size; i++) {
+            if (random.nextInt(10) == 0) continue;
+            double price = random.nextInt(4) == 0 ? 0.0 : random.nextInt(100000) / 7.0;
+            arr[i] = new Book(String.valueOf(9780000000000L + i), "Title", "Author", price, 1450 + random.nextInt(577));
+        }
+        return arr;
+    }
+
+    @Test
+    @Order(17)
+    void testSortByPriceMatchesStableComparatorSort() {
+        for (int size : new int[]{0, 1, 63, 64, 1000, 50000}) {
+            Book[] arr = sortingInput(size, size);
+            Book[] expected = arr.clone();
+            Arrays.sort(expected, Comparator.nullsLast(Comparator.comparingDouble(Book::getPrice)));
+
+            BookArrayUtils.sortByPrice(arr);
+            assertArrayEquals(expected, arr);
+            for (int i = 0; i < arr.length; i++) {
+                assertSame(expected[i], arr[i]);
+            }
+        }
+    }
+
+    @Test
+    @Order(18)
+    void testSortByYearMatchesStableComparatorSort() {
+        for (int size : new int[]{0, 1, 63, 64, 1000, 50000}) {
+            Book[] arr = sortingInput(size, size + 1);
+            Book[] expected = arr.clone();
+            Arrays.sort(expected, Comparator.nullsLast(Comparator.comparingInt(Book::getYear)));
+
+            BookArrayUtils.sortByYear(arr);
+            for (int i = 0; i < arr.length; i++) {
+                assertSame(expected[i], arr[i]);
+            }
+        }
+
+        Book[] allNull = new Book[100];
+        BookArrayUtils.sortByYear(allNull);
+        BookArrayUtils.sortByPrice(allNull);
+        assertArrayEquals(new Book[100], allNull);
+    }
+
+    @Test
+    @Order(19)
+    void testRemoveDuplicatesKeepsEveryDistinctIsbn() {
+        Book ten = new Book("0012345678", "T", "A", 1.0, 2000);
+        Book eleven = new Book("00012345678", "T", "A", 1.0, 2000);
+        Book twelve = new Book("000012345678", "T", "A", 1.0, 2000);
+        Book hyphenated = new Book("001-234-5678", "T", "A", 2.0, 2001);
+        Book[] arr = {ten, eleven, null, twelve, hyphenated, eleven};
+
+        assertArrayEquals(new Book[]{ten, eleven, twelve}, BookArrayUtils.removeDuplicates(arr));
+        assertEquals(Arrays.asList(BookArrayUtils.removeDuplicatesSorted(arr)),
+                Arrays.stream(BookArrayUtils.removeDuplicates(arr)).sorted(Comparator.comparing(Book::getIsbn))
+                        .collect(Collectors.toList()));
+    }
 }
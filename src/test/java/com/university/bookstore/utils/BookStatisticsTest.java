@@ -0,0 +1,125 @@
+package com.university.bookstore.utils;
+
+import com.university.bookstore.model.Book;
+import org.junit.jupiter.api.*;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class BookStatisticsTest {
+
+    private static void assertSameStatistics(BookStatistics expected, BookStatistics actual) {
+        assertEquals(expected.getCount(), actual.getCount());
+        assertEquals(expected.getPriceSum(), actual.getPriceSum(), 1e-6);
+        assertEquals(expected.getAveragePrice(), actual.getAveragePrice(), 1e-9);
+        assertEquals(expected.getPriceVariance(), actual.getPriceVariance(), 1e-6);
+        assertEquals(expected.getMinPrice(), actual.getMinPrice());
+        assertEquals(expected.getMaxPrice(), actual.getMaxPrice());
+        assertEquals(expected.getMinYear(), actual.getMinYear());
+        assertEquals(expected.getMaxYear(), actual.getMaxYear());
+        assertEquals(expected.getDecadeCounts(), actual.getDecadeCounts());
+        assertSame(expected.getMostExpensive(), actual.getMostExpensive());
+        assertSame(expected.getMostRecent(), actual.getMostRecent());
+        assertSame(expected.getOldest(), actual.getOldest());
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("One pass gives the same figures as the separate scans")
+    void testMatchesSeparateScans() {
+        Book[] books = TestCatalogs.withGaps(20000, 1);
+        BookStatistics statistics = BookStatistics.of(books);
+
+        long count = Arrays.stream(books).filter(Objects::nonNull).count();
+        double mean = BookArrayUtils.averagePrice(books);
+        double variance = Arrays.stream(books).filter(Objects::nonNull)
+                .mapToDouble(b -> (b.getPrice() - mean) * (b.getPrice() - mean)).sum() / count;
+
+        assertEquals(count, statistics.getCount());
+        assertEquals(mean, statistics.getAveragePrice(), 1e-9);
+        assertEquals(mean * count, statistics.getPriceSum(), 1e-6);
+        assertEquals(variance, statistics.getPriceVariance(), 1e-6);
+        assertEquals(Math.sqrt(variance), statistics.getPriceStandardDeviation(), 1e-6);
+        assertSame(BookArrayUtils.findOldest(books), statistics.getOldest());
+        assertEquals(BookArrayUtils.countBeforeYear(books, 1990), statistics.countBeforeYear(1990));
+        assertEquals(BookArrayUtils.filterByDecade(books, 1950).length, statistics.countInDecade(1950));
+        assertEquals(1900, statistics.getMinYear());
+        assertEquals(2019, statistics.getMaxYear());
+
+        long total = 0;
+        for (Map.Entry<Integer, Long> decade : statistics.getDecadeCounts().entrySet()) {
+            assertEquals(BookArrayUtils.filterByDecade(books, decade.getKey()).length, decade.getValue());
+            total += decade.getValue();
+        }
+        assertEquals(count, total);
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Ties pick the same books as the single-book queries")
+    void testTies() {
+        Book first = new Book("9780000000001", "A", "Someone", 30.0, 2010);
+        Book second = new Book("9780000000002", "B", "Someone", 30.0, 2010);
+        Book third = new Book("9780000000003", "C", "Someone", 10.0, 1990);
+        Book fourth = new Book("9780000000004", "D", "Someone", 10.0, 1990);
+        BookStatistics statistics = BookStatistics.of(new Book[]{first, null, second, third, fourth});
+
+        assertSame(second, statistics.getMostExpensive());
+        assertSame(first, statistics.getMostRecent());
+        assertSame(third, statistics.getOldest());
+        assertEquals(10.0, statistics.getMinPrice());
+        assertEquals(30.0, statistics.getMaxPrice());
+        assertEquals(100.0, statistics.getPriceVariance(), 1e-9);
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Empty statistics report zeros and nulls")
+    void testEmpty() {
+        BookStatistics statistics = BookStatistics.of(null);
+        assertEquals(0, statistics.getCount());
+        assertEquals(0.0, statistics.getAveragePrice());
+        assertEquals(0.0, statistics.getPriceVariance());
+        assertEquals(0.0, statistics.getMinPrice());
+        assertEquals(0, statistics.getMaxYear());
+        assertNull(statistics.getMostExpensive());
+        assertTrue(statistics.getDecadeCounts().isEmpty());
+        assertSameStatistics(BookStatistics.of(new Book[]{null}), statistics.combine(new BookStatistics()));
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Combined partial statistics match a single pass")
+    void testCombine() {
+        Book[] books = TestCatalogs.withGaps(10000, 2);
+        BookStatistics whole = BookStatistics.of(books);
+
+        BookStatistics parts = new BookStatistics();
+        for (int from = 0; from < books.length; from += 997) {
+            parts.combine(new BookStatistics().acceptAll(books, from, Math.min(books.length, from + 997)));
+        }
+        assertSameStatistics(whole, parts);
+        assertSameStatistics(whole, new BookStatistics().combine(whole));
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("Parallel streams and fork/join give the same statistics")
+    void testParallel() {
+        Book[] books = TestCatalogs.withGaps(100000, 3);
+        BookStatistics whole = BookStatistics.of(books);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            assertSameStatistics(whole, ParallelBookArrayUtils.statistics(books, pool));
+        } finally {
+            pool.shutdown();
+        }
+        assertSameStatistics(whole, ParallelBookArrayUtils.statistics(books));
+        assertSameStatistics(whole, Arrays.stream(books).parallel().collect(BookStatistics.collector()));
+    }
+}
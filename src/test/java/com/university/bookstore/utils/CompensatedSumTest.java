@@ -0,0 +1,53 @@
+package com.university.bookstore.utils;
+
+import org.junit.jupiter.api.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class CompensatedSumTest {
+
+    @Test
+    @Order(1)
+    void testEmptySumIsZero() {
+        assertEquals(0.0, new CompensatedSum().value());
+    }
+
+    @Test
+    @Order(2)
+    void testManySmallValuesStayExact() {
+        CompensatedSum sum = new CompensatedSum();
+        double naive = 0.0;
+        for (int i = 0; i < 1000000; i++) {
+            sum.add(0.1);
+            naive += 0.1;
+        }
+        assertEquals(100000.0, sum.value(), 1e-9);
+        assertNotEquals(100000.0, naive, 1e-9);
+    }
+
+    @Test
+    @Order(3)
+    void testAddAndSubtractAroundLargeValue() {
+        CompensatedSum sum = new CompensatedSum();
+        sum.add(1e16);
+        sum.add(1.0);
+        sum.add(1.0);
+        sum.add(-1e16);
+        assertEquals(2.0, sum.value());
+    }
+
+    @Test
+    @Order(4)
+    void testMergeAndReset() {
+        CompensatedSum left = new CompensatedSum();
+        CompensatedSum right = new CompensatedSum();
+        left.add(1.5);
+        right.add(2.25);
+        left.add(right);
+        left.add((CompensatedSum) null);
+        assertEquals(3.75, left.value());
+        left.reset();
+        assertEquals(0.0, left.value());
+    }
+}
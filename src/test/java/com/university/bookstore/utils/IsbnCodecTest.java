@@ -0,0 +1,39 @@
+package com.university.bookstore.utils;
+
+import org.junit.jupiter.api.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class IsbnCodecTest {
+
+    @Test
+    @Order(1)
+    void testRoundTrip() {
+        for (String isbn : new String[]{"9780306406157", "0306406152", "0000000000", "9999999999999", "00123456789"}) {
+            assertEquals(isbn, IsbnCodec.decode(IsbnCodec.encode(isbn)));
+        }
+    }
+
+    @Test
+    @Order(2)
+    void testLeadingZerosAreDistinct() {
+        long ten = IsbnCodec.encode("0012345678");
+        long eleven = IsbnCodec.encode("00012345678");
+        assertNotEquals(ten, eleven);
+        assertEquals(10, IsbnCodec.length(ten));
+        assertEquals(11, IsbnCodec.length(eleven));
+        assertNotEquals(IsbnCodec.INVALID, IsbnCodec.encode("0000000000"));
+    }
+
+    @Test
+    @Order(3)
+    void testInvalidInput() {
+        assertEquals(IsbnCodec.INVALID, IsbnCodec.encode(null));
+        assertEquals(IsbnCodec.INVALID, IsbnCodec.encode("123456789"));
+        assertEquals(IsbnCodec.INVALID, IsbnCodec.encode("12345678901234"));
+        assertEquals(IsbnCodec.INVALID, IsbnCodec.encode("978-0306406"));
+        assertEquals(IsbnCodec.INVALID, IsbnCodec.encode("030640615X"));
+        assertThrows(IllegalArgumentException.class, () -> IsbnCodec.decode(IsbnCodec.INVALID));
+    }
+}
@@ -0,0 +1,68 @@
+package com.university.bookstore.utils;
+
+import org.junit.jupiter.api.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class LongIntHashMapTest {
+
+    @Test
+    @Order(1)
+    void testPutGetRemove() {
+        LongIntHashMap map = new LongIntHashMap();
+        assertEquals(LongIntHashMap.MISSING, map.put(42L, 1));
+        assertEquals(1, map.put(42L, 2));
+        assertEquals(2, map.get(42L));
+        assertTrue(map.containsKey(42L));
+        assertEquals(LongIntHashMap.MISSING, map.get(43L));
+        assertEquals(2, map.remove(42L));
+        assertEquals(LongIntHashMap.MISSING, map.remove(42L));
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    @Order(2)
+    void testReservedKeyAndValue() {
+        LongIntHashMap map = new LongIntHashMap();
+        assertThrows(IllegalArgumentException.class, () -> map.put(0L, 1));
+        assertThrows(IllegalArgumentException.class, () -> map.put(1L, LongIntHashMap.MISSING));
+        assertEquals(LongIntHashMap.MISSING, map.get(0L));
+        assertThrows(IllegalArgumentException.class, () -> new LongIntHashMap(-1));
+    }
+
+    @Test
+    @Order(3)
+    void testMatchesHashMapUnderRandomOperations() {
+        Random random = new Random(5);
+        LongIntHashMap map = new LongIntHashMap(4);
+        Map<Long, Integer> reference = new HashMap<>();
+
+        for (int i = 0; i < 200000; i++) {
+            long key = IsbnCodec.encode(String.valueOf(9780000000000L + random.nextInt(5000)));
+            if (random.nextInt(3) == 0) {
+                Integer expected = reference.remove(key);
+                assertEquals(expected == null ? LongIntHashMap.MISSING : expected, map.remove(key));
+            } else {
+                int value = random.nextInt(Integer.MAX_VALUE);
+                Integer expected = reference.put(key, value);
+                assertEquals(expected == null ? LongIntHashMap.MISSING : expected, map.put(key, value));
+            }
+        }
+
+        assertEquals(reference.size(), map.size());
+        for (int i = 0; i < 5000; i++) {
+            long key = IsbnCodec.encode(String.valueOf(9780000000000L + i));
+            Integer expected = reference.get(key);
+            assertEquals(expected == null ? LongIntHashMap.MISSING : expected, map.get(key));
+        }
+
+        map.clear();
+        assertEquals(0, map.size());
+        assertEquals(LongIntHashMap.MISSING, map.get(IsbnCodec.encode("9780000000001")));
+    }
+}
@@ -0,0 +1,103 @@
+package com.university.bookstore.utils;
+
+import com.university.bookstore.model.Book;
+import org.junit.jupiter.api.*;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class ParallelBookArrayUtilsTest {
+
+    private static ForkJoinPool pool;
+
+    @BeforeAll
+    static void createPool() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    static void shutdownPool() {
+        pool.shutdown();
+    }
+
+    private static void assertSameAsSequential(Book[] books) {
+        assertEquals(BookArrayUtils.countBeforeYear(books, 1990), ParallelBookArrayUtils.countBeforeYear(books, 1990, pool));
+        assertEquals(BookArrayUtils.countByAuthor(books, "Author 7"), ParallelBookArrayUtils.countByAuthor(books, "Author 7", pool));
+        assertArrayEquals(BookArrayUtils.filterPriceAtMost(books, 25.0), ParallelBookArrayUtils.filterPriceAtMost(books, 25.0, pool));
+        assertArrayEquals(BookArrayUtils.filterByDecade(books, 1950), ParallelBookArrayUtils.filterByDecade(books, 1950, pool));
+        assertEquals(BookArrayUtils.averagePrice(books), ParallelBookArrayUtils.averagePrice(books, pool), 1e-9);
+        assertSame(BookArrayUtils.findOldest(books), ParallelBookArrayUtils.findOldest(books, pool));
+    }
+
+    @Test
+    @Order(1)
+    void testNullAndSmallArraysUseSequentialPath() {
+        assertEquals(0, ParallelBookArrayUtils.countBeforeYear(null, 2000));
+        assertEquals(0, ParallelBookArrayUtils.countByAuthor(TestCatalogs.withGaps(10, 1), null));
+        assertEquals(0, ParallelBookArrayUtils.filterPriceAtMost(null, 10.0).length);
+        assertEquals(0, ParallelBookArrayUtils.filterByDecade(null, 1990).length);
+        assertEquals(0.0, ParallelBookArrayUtils.averagePrice(null));
+        assertNull(ParallelBookArrayUtils.findOldest(new Book[3]));
+        assertSameAsSequential(TestCatalogs.withGaps(100, 2));
+    }
+
+    @Test
+    @Order(2)
+    void testMatchesSequentialAroundThreshold() {
+        for (int size : new int[]{ParallelBookArrayUtils.SEQUENTIAL_THRESHOLD - 1, ParallelBookArrayUtils.SEQUENTIAL_THRESHOLD,
+                ParallelBookArrayUtils.SEQUENTIAL_THRESHOLD * 2 + 3}) {
+            assertSameAsSequential(TestCatalogs.withGaps(size, size));
+        }
+    }
+
+    @Test
+    @Order(3)
+    void testMatchesSequentialOnLargeArray() {
+        Book[] books = TestCatalogs.withGaps(500000, 3);
+        assertSameAsSequential(books);
+
+        assertSameAsSequential(new Book[200000]);
+        assertEquals(BookArrayUtils.filterByDecade(books, 1990).length,
+                ParallelBookArrayUtils.filterByDecade(books, 1990).length);
+    }
+
+    @Test
+    @Order(4)
+    void testOldestKeepsFirstOfTies() {
+        Book[] books = TestCatalogs.withGaps(100000, 4);
+        Book first = new Book("1000000000001", "First", "A", 1.0, 1450);
+        Book second = new Book("1000000000002", "Second", "A", 1.0, 1450);
+        books[70000] = first;
+        books[90000] = second;
+
+        assertSame(first, ParallelBookArrayUtils.findOldest(books, pool));
+    }
+
+    @Test
+    @Order(5)
+    void testSortsMatchSequential() {
+        Book[] books = TestCatalogs.withGaps(100000, 11);
+        Book[] byPrice = books.clone();
+        Book[] byYear = books.clone();
+        Book[] expectedByPrice = books.clone();
+        Book[] expectedByYear = books.clone();
+
+        BookArrayUtils.sortByPrice(expectedByPrice);
+        BookArrayUtils.sortByYear(expectedByYear);
+        ParallelBookArrayUtils.sortByPrice(byPrice, pool);
+        ParallelBookArrayUtils.sortByYear(byYear, pool);
+        for (int i = 0; i < books.length; i++) {
+            assertSame(expectedByPrice[i], byPrice[i]);
+            assertSame(expectedByYear[i], byYear[i]);
+        }
+
+        Book[] small = TestCatalogs.withGaps(100, 12);
+        Book[] expected = small.clone();
+        BookArrayUtils.sortByPrice(expected);
+        ParallelBookArrayUtils.sortByPrice(small);
+        assertArrayEquals(expected, small);
+        ParallelBookArrayUtils.sortByYear(null);
+    }
+}
@@ -0,0 +1,45 @@
+package com.university.bookstore.utils;
+
+import org.junit.jupiter.api.*;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class SearchKeysTest {
+
+    @Test
+    @Order(1)
+    @DisplayName("Plain ASCII is only trimmed and lower-cased")
+    void testAscii() {
+        String key = "the hobbit";
+        assertSame(key, SearchKeys.normalize(key));
+        assertEquals("the hobbit", SearchKeys.normalize("  The HOBBIT "));
+        assertEquals("", SearchKeys.normalize(null));
+        assertEquals("", SearchKeys.normalize("   "));
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Accents, ligatures and case are folded")
+    void testUnicodeFolding() {
+        assertEquals("gabriel garcia marquez", SearchKeys.normalize("Gabriel García Márquez"));
+        assertEquals("gabriel garcia marquez", SearchKeys.normalize("GABRIEL GARCÍA MÁRQUEZ"));
+        assertEquals("strasse", SearchKeys.normalize("Straße"));
+        assertEquals("fiance", SearchKeys.normalize("ﬁancé"));
+        assertEquals("bronte", SearchKeys.normalize("Brontë"));
+        assertEquals("2", SearchKeys.normalize("²"));
+        assertEquals("ελληνικα", SearchKeys.normalize("ΕΛΛΗΝΙΚΆ"));
+        assertEquals("東京", SearchKeys.normalize("東京"));
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Keys are split into words")
+    void testTokens() {
+        assertEquals(List.of("jean", "paul", "sartre"), SearchKeys.tokens(SearchKeys.normalize("Jean-Paul Sartre")));
+        assertEquals(List.of(), SearchKeys.tokens(" - "));
+        assertEquals(List.of(), SearchKeys.tokens(null));
+    }
+}
@@ -0,0 +1,38 @@
+package com.university.bookstore.utils;
+
+import com.university.bookstore.model.Book;
+
+import java.util.Random;
+
+/**
+ * Plain catalogs with gaps for the array utility tests, which compare two ways of
+ * computing the same result.
+ */
+final class TestCatalogs {
+
+    private TestCatalogs() {
+    }
+
+    /**
+     * Generates a plain catalog with gaps. About one slot in twenty is null. Titles are
+     * "Title 0" to "Title 499" and authors "Author 0" to "Author 39", so both repeat.
+     * Prices are whole cents below 100, and years run from 1900 to 2019, so prices and
+     * years tie often.
+     *
+     * @param size the length of the array
+     * @param seed the random seed, the same seed yields the same catalog
+     * @return the books, with null elements, and ISBNs unique by position
+     */
+    static Book[] withGaps(int size, long seed) {
+        Random random = new Random(seed);
+        Book[] books = new Book[size];
+        for (int i = 0; i < size; i++) {
+            if (random.nextInt(20) == 0) {
+                continue;
+            }
+            books[i] = new Book(String.valueOf(9780000000000L + i), "Title " + random.nextInt(500),
+                    "Author " + random.nextInt(40), random.nextInt(10000) / 100.0, 1900 + random.nextInt(120));
+        }
+        return books;
+    }
+}
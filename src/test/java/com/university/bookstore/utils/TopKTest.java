@@ -0,0 +1,76 @@
+package com.university.bookstore.utils;
+
+import com.university.bookstore.model.Book;
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class TopKTest {
+
+    private static List<Book> sorted(List<Book> books, Comparator<Book> order, int k) {
+        return books.stream().sorted(order).limit(k).collect(Collectors.toList());
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Array selection matches a stable full sort, ties included")
+    void testArraysMatchSort() {
+        Book[] books = TestCatalogs.withGaps(20000, 1);
+        List<Book> present = Arrays.stream(books).filter(Objects::nonNull).collect(Collectors.toList());
+        List<Book> reversed = new ArrayList<>(present);
+        Collections.reverse(reversed);
+
+        for (int k : new int[]{1, 10, 500}) {
+            assertEquals(sorted(reversed, TopK.PRICE_DESCENDING, k), TopK.mostExpensive(books, k));
+            assertEquals(sorted(present, TopK.PRICE_ASCENDING, k), TopK.cheapest(books, k));
+            assertEquals(sorted(present, TopK.YEAR_DESCENDING, k), TopK.mostRecent(books, k));
+            assertEquals(sorted(present, TopK.TITLE_ASCENDING, k), TopK.firstByTitle(books, k));
+        }
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Small, null and empty inputs")
+    void testEdgeCases() {
+        Book cheap = new Book("9780000000001", "B", "Someone", 5.0, 2000);
+        Book dear = new Book("9780000000002", "A", "Someone", 50.0, 1990);
+
+        assertEquals(List.of(), TopK.mostExpensive(null, 3));
+        assertEquals(List.of(), TopK.cheapest(new Book[0], 3));
+        assertEquals(List.of(), TopK.mostRecent(new Book[]{cheap, dear}, 0));
+        assertEquals(List.of(dear, cheap), TopK.mostExpensive(new Book[]{null, cheap, null, dear}, 5));
+        assertEquals(List.of(dear), TopK.firstByTitle(new Book[]{cheap, dear}, 1));
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Invalid arguments are rejected")
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> TopK.cheapest(new Book[0], -1));
+        assertThrows(IllegalArgumentException.class, () -> TopK.mostRecent(-1));
+        assertThrows(IllegalArgumentException.class, () -> TopK.select(new Book[0], null, false, 1));
+        assertThrows(IllegalArgumentException.class, () -> TopK.collector(null, true, 1));
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Collectors give the same result on sequential and parallel streams")
+    void testCollectors() {
+        Book[] books = TestCatalogs.withGaps(50000, 2);
+
+        assertEquals(TopK.mostExpensive(books, 100), Arrays.stream(books).collect(TopK.mostExpensive(100)));
+        assertEquals(TopK.mostExpensive(books, 100), Arrays.stream(books).parallel().collect(TopK.mostExpensive(100)));
+        assertEquals(TopK.cheapest(books, 100), Arrays.stream(books).parallel().collect(TopK.cheapest(100)));
+        assertEquals(TopK.mostRecent(books, 100), Arrays.stream(books).parallel().collect(TopK.mostRecent(100)));
+        assertEquals(TopK.firstByTitle(books, 100), Arrays.stream(books).parallel().collect(TopK.firstByTitle(100)));
+    }
+}